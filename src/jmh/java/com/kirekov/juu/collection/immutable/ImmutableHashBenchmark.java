@@ -0,0 +1,177 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@linkplain ImmutableHashMap}, {@linkplain ImmutablePerfectHashMap} and {@linkplain
+ * ImmutableHashSet} against {@linkplain HashMap} and {@linkplain HashSet} wrapped with unmodifiable
+ * views.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImmutableHashBenchmark {
+
+  @Param({"10", "1000", "100000"})
+  private int size;
+
+  private List<String> keys;
+  private Map<String, Integer> source;
+  private Map<String, Integer> jdkMap;
+  private ImmutableMap<String, Integer> immutableMap;
+  private ImmutableMap<String, Integer> staticMap;
+  private ImmutableMap<String, Integer> filteredMap;
+  private Set<String> jdkSet;
+  private ImmutableSet<String> immutableSet;
+  private String missing;
+  private int index;
+
+  /**
+   * Fills collections with {@code size} string keys.
+   */
+  @Setup
+  public void setUp() {
+    keys = new ArrayList<>(size);
+    source = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      final String key = "key" + i;
+      keys.add(key);
+      source.put(key, i);
+    }
+    jdkMap = Collections.unmodifiableMap(new HashMap<>(source));
+    immutableMap = Immutable.mapOf(source);
+    staticMap = Immutable.staticMapOf(source);
+    filteredMap = ImmutableHashMap.withBloomFilter(source, 0.01);
+    jdkSet = Collections.unmodifiableSet(new HashSet<>(keys));
+    immutableSet = Immutable.setOf(keys);
+    missing = "missing";
+  }
+
+  @Benchmark
+  public ImmutableMap<String, Integer> constructMapImmutable() {
+    return Immutable.mapOf(source);
+  }
+
+  @Benchmark
+  public Map<String, Integer> constructMapJdk() {
+    return Collections.unmodifiableMap(new HashMap<>(source));
+  }
+
+  @Benchmark
+  public Integer getImmutable() {
+    return immutableMap.get(nextKey());
+  }
+
+  @Benchmark
+  public Integer getStatic() {
+    return staticMap.get(nextKey());
+  }
+
+  @Benchmark
+  public Integer getJdk() {
+    return jdkMap.get(nextKey());
+  }
+
+  @Benchmark
+  public boolean containsKeyMissImmutable() {
+    return immutableMap.containsKey(missing);
+  }
+
+  @Benchmark
+  public boolean containsKeyMissStatic() {
+    return staticMap.containsKey(missing);
+  }
+
+  @Benchmark
+  public boolean containsKeyMissFiltered() {
+    return filteredMap.containsKey(missing);
+  }
+
+  @Benchmark
+  public boolean containsKeyMissJdk() {
+    return jdkMap.containsKey(missing);
+  }
+
+  @Benchmark
+  public ImmutableMap<String, Integer> collectMapImmutable() {
+    return keys.stream().collect(ImmutableCollectors.toMap(Function.identity(), String::length));
+  }
+
+  @Benchmark
+  public Map<String, Integer> collectMapJdk() {
+    return keys.stream().collect(Collectors.toMap(Function.identity(), String::length));
+  }
+
+  @Benchmark
+  public ImmutableSet<String> constructSetImmutable() {
+    return Immutable.setOf(keys);
+  }
+
+  @Benchmark
+  public Set<String> constructSetJdk() {
+    return Collections.unmodifiableSet(new HashSet<>(keys));
+  }
+
+  @Benchmark
+  public boolean containsImmutable() {
+    return immutableSet.contains(nextKey());
+  }
+
+  @Benchmark
+  public boolean containsJdk() {
+    return jdkSet.contains(nextKey());
+  }
+
+  @Benchmark
+  public ImmutableSet<Integer> mapFilterSetImmutable() {
+    return immutableSet.map(String::length).filter(x -> x % 2 == 0);
+  }
+
+  @Benchmark
+  public Set<Integer> mapFilterSetJdk() {
+    return jdkSet.stream().map(String::length).filter(x -> x % 2 == 0).collect(Collectors.toSet());
+  }
+
+  @Benchmark
+  public ImmutableSet<String> concatWithSetImmutable() {
+    return immutableSet.concatWith(Collections.singletonList(missing));
+  }
+
+  /**
+   * Concatenates with the equivalent of {@linkplain ImmutableSet#concatWith(Iterable)}.
+   */
+  @Benchmark
+  public Set<String> concatWithSetJdk() {
+    final Set<String> result = new HashSet<>(jdkSet);
+    result.add(missing);
+    return Collections.unmodifiableSet(result);
+  }
+
+  private String nextKey() {
+    index = index + 1 == size ? 0 : index + 1;
+    return keys.get(index);
+  }
+}
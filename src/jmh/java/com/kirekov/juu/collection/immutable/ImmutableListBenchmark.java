@@ -0,0 +1,127 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@linkplain ImmutableArrayList} against {@linkplain ArrayList} wrapped with {@linkplain
+ * Collections#unmodifiableList(List)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImmutableListBenchmark {
+
+  @Param({"10", "1000", "100000"})
+  private int size;
+
+  private List<Integer> source;
+  private List<Integer> jdkList;
+  private ImmutableList<Integer> immutableList;
+  private Integer middle;
+  private int index;
+
+  /**
+   * Fills collections with {@code size} sequential numbers.
+   */
+  @Setup
+  public void setUp() {
+    final Integer[] values = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = i;
+    }
+    source = Arrays.asList(values);
+    jdkList = Collections.unmodifiableList(new ArrayList<>(source));
+    immutableList = Immutable.listOf(source);
+    middle = size / 2;
+  }
+
+  @Benchmark
+  public ImmutableList<Integer> constructImmutable() {
+    return Immutable.listOf(source);
+  }
+
+  @Benchmark
+  public List<Integer> constructJdk() {
+    return Collections.unmodifiableList(new ArrayList<>(source));
+  }
+
+  @Benchmark
+  public Integer getImmutable() {
+    return immutableList.get(nextIndex());
+  }
+
+  @Benchmark
+  public Integer getJdk() {
+    return jdkList.get(nextIndex());
+  }
+
+  @Benchmark
+  public boolean containsImmutable() {
+    return immutableList.contains(middle);
+  }
+
+  @Benchmark
+  public boolean containsJdk() {
+    return jdkList.contains(middle);
+  }
+
+  @Benchmark
+  public ImmutableList<Integer> mapFilterImmutable() {
+    return immutableList.map(x -> x * 2).filter(x -> x % 3 == 0);
+  }
+
+  @Benchmark
+  public List<Integer> mapFilterJdk() {
+    return jdkList.stream().map(x -> x * 2).filter(x -> x % 3 == 0).collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public ImmutableList<Integer> concatWithImmutable() {
+    return immutableList.concatWith(source);
+  }
+
+  /**
+   * Concatenates with the equivalent of {@linkplain ImmutableList#concatWith(Iterable)}.
+   */
+  @Benchmark
+  public List<Integer> concatWithJdk() {
+    final List<Integer> result = new ArrayList<>(jdkList.size() + source.size());
+    result.addAll(jdkList);
+    result.addAll(source);
+    return Collections.unmodifiableList(result);
+  }
+
+  @Benchmark
+  public ImmutableList<Integer> collectImmutable() {
+    return source.stream().collect(ImmutableCollectors.toList());
+  }
+
+  @Benchmark
+  public List<Integer> collectJdk() {
+    return source.stream().collect(Collectors.toList());
+  }
+
+  private int nextIndex() {
+    index = index + 1 == size ? 0 : index + 1;
+    return index;
+  }
+}
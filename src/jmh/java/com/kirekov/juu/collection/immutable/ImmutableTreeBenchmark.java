@@ -0,0 +1,152 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@linkplain ImmutableTreeMap} and {@linkplain ImmutableTreeSet} against {@linkplain
+ * TreeMap} and {@linkplain TreeSet} wrapped with unmodifiable views. Keys are even numbers, so odd
+ * queries exercise navigation between keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImmutableTreeBenchmark {
+
+  @Param({"10", "1000", "100000"})
+  private int size;
+
+  private List<Integer> keys;
+  private Map<Integer, Integer> source;
+  private NavigableMap<Integer, Integer> jdkMap;
+  private ImmutableNavigableMap<Integer, Integer> immutableMap;
+  private NavigableSet<Integer> jdkSet;
+  private ImmutableNavigableSet<Integer> immutableSet;
+  private Integer middle;
+  private int query;
+
+  /**
+   * Fills collections with {@code size} even numbers.
+   */
+  @Setup
+  public void setUp() {
+    keys = new ArrayList<>(size);
+    source = new TreeMap<>();
+    for (int i = 0; i < size; i++) {
+      keys.add(i * 2);
+      source.put(i * 2, i);
+    }
+    jdkMap = Collections.unmodifiableNavigableMap(new TreeMap<>(source));
+    immutableMap = ImmutableTreeMap.of(source);
+    jdkSet = Collections.unmodifiableNavigableSet(new TreeSet<>(keys));
+    immutableSet = ImmutableTreeSet.of(keys);
+    middle = size;
+  }
+
+  @Benchmark
+  public ImmutableNavigableMap<Integer, Integer> constructMapImmutable() {
+    return ImmutableTreeMap.of(source);
+  }
+
+  @Benchmark
+  public NavigableMap<Integer, Integer> constructMapJdk() {
+    return Collections.unmodifiableNavigableMap(new TreeMap<>(source));
+  }
+
+  @Benchmark
+  public Integer getImmutable() {
+    return immutableMap.get(nextQuery());
+  }
+
+  @Benchmark
+  public Integer getJdk() {
+    return jdkMap.get(nextQuery());
+  }
+
+  @Benchmark
+  public Optional<Integer> floorKeyImmutable() {
+    return immutableMap.floorKey(nextQuery());
+  }
+
+  @Benchmark
+  public Integer floorKeyJdk() {
+    return jdkMap.floorKey(nextQuery());
+  }
+
+  @Benchmark
+  public Optional<Integer> ceilingKeyImmutable() {
+    return immutableMap.ceilingKey(nextQuery());
+  }
+
+  @Benchmark
+  public Integer ceilingKeyJdk() {
+    return jdkMap.ceilingKey(nextQuery());
+  }
+
+  @Benchmark
+  public ImmutableNavigableMap<Integer, Integer> headMapImmutable() {
+    return immutableMap.headMap(middle, true);
+  }
+
+  @Benchmark
+  public NavigableMap<Integer, Integer> headMapJdk() {
+    return jdkMap.headMap(middle, true);
+  }
+
+  @Benchmark
+  public ImmutableNavigableSet<Integer> constructSetImmutable() {
+    return ImmutableTreeSet.of(keys);
+  }
+
+  @Benchmark
+  public NavigableSet<Integer> constructSetJdk() {
+    return Collections.unmodifiableNavigableSet(new TreeSet<>(keys));
+  }
+
+  @Benchmark
+  public Optional<Integer> floorImmutable() {
+    return immutableSet.floor(nextQuery());
+  }
+
+  @Benchmark
+  public Integer floorJdk() {
+    return jdkSet.floor(nextQuery());
+  }
+
+  @Benchmark
+  public ImmutableNavigableSet<Integer> tailSetImmutable() {
+    return immutableSet.tailSet(middle, false);
+  }
+
+  @Benchmark
+  public NavigableSet<Integer> tailSetJdk() {
+    return jdkSet.tailSet(middle, false);
+  }
+
+  private Integer nextQuery() {
+    query = query + 1 == size * 2 ? 0 : query + 1;
+    return query;
+  }
+}
@@ -0,0 +1,112 @@
+package com.kirekov.juu.monad;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares chains of {@linkplain Try#map} of the given depth against the same computation with
+ * plain try-catch. The failing chains throw a preallocated exception, so the cost of filling the
+ * stack trace does not hide the overhead of the monad.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryBenchmark {
+
+  private static final IllegalStateException FAILURE = new IllegalStateException("failure");
+
+  @Param({"1", "4", "16"})
+  private int depth;
+
+  private int seed;
+  private boolean fail;
+
+  /**
+   * Prepares the input that cannot be constant folded.
+   */
+  @Setup
+  public void setUp() {
+    seed = 42;
+    fail = true;
+  }
+
+  /**
+   * Maps the successful value {@code depth} times.
+   */
+  @Benchmark
+  public Integer successChainTry() {
+    Try<Integer> result = Try.success(seed);
+    for (int i = 0; i < depth; i++) {
+      result = result.map(x -> x + 1);
+    }
+    return result.orElse(0);
+  }
+
+  /**
+   * Increments the value {@code depth} times inside try-catch.
+   */
+  @Benchmark
+  public Integer successChainJdk() {
+    try {
+      int result = seed;
+      for (int i = 0; i < depth; i++) {
+        result = increment(result);
+      }
+      return result;
+    } catch (IllegalStateException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * Fails at the start and passes the failure through {@code depth} mappings.
+   */
+  @Benchmark
+  public Integer failureChainTry() {
+    Try<Integer> result = Try.of(this::failingSeed);
+    for (int i = 0; i < depth; i++) {
+      result = result.map(x -> x + 1);
+    }
+    return result.orElse(0);
+  }
+
+  /**
+   * Fails at the start inside try-catch.
+   */
+  @Benchmark
+  public Integer failureChainJdk() {
+    try {
+      int result = failingSeed();
+      for (int i = 0; i < depth; i++) {
+        result = increment(result);
+      }
+      return result;
+    } catch (IllegalStateException e) {
+      return 0;
+    }
+  }
+
+  private int failingSeed() {
+    if (fail) {
+      throw FAILURE;
+    }
+    return seed;
+  }
+
+  private static int increment(int value) {
+    return value + 1;
+  }
+}
@@ -0,0 +1,132 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A blocked Bloom filter over hash codes of elements which guards lookups into large immutable
+ * collections. All probes of an element fall into one block of 512 bits, i.e. one cache line, so
+ * {@linkplain BloomFilter#mightContain(Object)} costs at most one cache miss. The filter never
+ * returns false for an element which was added, because equal elements have equal hash codes.
+ */
+final class BloomFilter {
+
+  private static final int BLOCK_WORDS = 8;
+  private static final int BLOCK_BITS = BLOCK_WORDS * Long.SIZE;
+  private static final int WORD_SHIFT = 6;
+  private static final int BLOCK_MASK = BLOCK_BITS - 1;
+  private static final int MAX_PROBES = 16;
+  private static final int STEP_SHIFT = 16;
+  /**
+   * Blocking puts more elements into some blocks than into others, so the filter takes more bits
+   * than a classic Bloom filter to keep the same false positive rate.
+   */
+  private static final double BLOCKING_OVERHEAD = 1.2;
+  private static final double LN2 = Math.log(2);
+
+  private final long[] words;
+  private final int blocks;
+  private final int probes;
+  private final LongAdder hits;
+
+  private BloomFilter(int blocks, int probes, boolean countHits) {
+    this.words = new long[blocks * BLOCK_WORDS];
+    this.blocks = blocks;
+    this.probes = probes;
+    this.hits = countHits ? new LongAdder() : null;
+  }
+
+  /**
+   * Creates new filter of the elements.
+   *
+   * @param elements          the elements
+   * @param size              the count of the elements
+   * @param falsePositiveRate the expected share of absent elements which pass the filter
+   * @param countHits         whether {@linkplain BloomFilter#recordHit()} counts hits
+   * @return filter
+   * @throws IllegalArgumentException if {@code falsePositiveRate} is not between 0 and 1 exclusive
+   */
+  static BloomFilter of(Iterable<?> elements, int size, double falsePositiveRate,
+      boolean countHits) {
+    if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+      throw new IllegalArgumentException(String.format(
+          "False positive rate should be between 0 and 1 exclusive, but was %s",
+          falsePositiveRate));
+    }
+    final double bitsPerElement = -Math.log(falsePositiveRate) / (LN2 * LN2) * BLOCKING_OVERHEAD;
+    final long bits = (long) Math.ceil(Math.max(1, size) * bitsPerElement);
+    final int blocks = (int) Math.min(Integer.MAX_VALUE / BLOCK_WORDS, bits / BLOCK_BITS + 1);
+    final int probes = (int) Math.max(1, Math.min(MAX_PROBES,
+        Math.round(-Math.log(falsePositiveRate) / LN2)));
+    final BloomFilter filter = new BloomFilter(blocks, probes, countHits);
+    for (final Object element : elements) {
+      filter.add(element);
+    }
+    return filter;
+  }
+
+  private void add(Object element) {
+    final long hash = mix(Objects.hashCode(element));
+    final int offset = blockOf(hash) * BLOCK_WORDS;
+    final int first = (int) hash;
+    final int step = (int) (hash >>> STEP_SHIFT) | 1;
+    for (int i = 0; i < probes; i++) {
+      final int bit = (first + i * step) & BLOCK_MASK;
+      words[offset + (bit >>> WORD_SHIFT)] |= 1L << bit;
+    }
+  }
+
+  /**
+   * Whether the element might have been added to the filter.
+   *
+   * @param element the element
+   * @return false if the element was definitely not added, otherwise true
+   */
+  boolean mightContain(Object element) {
+    final long hash = mix(Objects.hashCode(element));
+    final int offset = blockOf(hash) * BLOCK_WORDS;
+    final int first = (int) hash;
+    final int step = (int) (hash >>> STEP_SHIFT) | 1;
+    for (int i = 0; i < probes; i++) {
+      final int bit = (first + i * step) & BLOCK_MASK;
+      if ((words[offset + (bit >>> WORD_SHIFT)] & 1L << bit) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Counts the lookup which was answered by the filter if the filter counts hits.
+   */
+  void recordHit() {
+    if (hits != null) {
+      hits.increment();
+    }
+  }
+
+  /**
+   * Gets the count of lookups which were answered by the filter. Always 0 if the filter does not
+   * count hits.
+   */
+  long hits() {
+    return hits == null ? 0 : hits.sum();
+  }
+
+  private int blockOf(long hash) {
+    return (int) ((hash >>> Integer.SIZE) * blocks >>> Integer.SIZE);
+  }
+
+  /**
+   * The finalizer of MurmurHash3 which spreads the hash code over 64 bits.
+   */
+  private static long mix(int hashCode) {
+    long h = hashCode * 0x9E3779B97F4A7C15L;
+    h ^= h >>> 33;
+    h *= 0xFF51AFD7ED558CCDL;
+    h ^= h >>> 33;
+    h *= 0xC4CEB9FE1A85EC53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,88 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * {@linkplain ImmutableMap} view of {@linkplain ImmutableInt2ObjectMap}. Keys are boxed only when
+ * they are read from the view.
+ *
+ * @param <V> the type of the value
+ */
+final class BoxedInt2ObjectMap<V> implements ImmutableMap<Integer, V> {
+
+  private final ImmutableInt2ObjectMap<V> map;
+
+  BoxedInt2ObjectMap(ImmutableInt2ObjectMap<V> map) {
+    this.map = map;
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof Integer && map.containsKey((Integer) key);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    return map.containsValue(value);
+  }
+
+  @Override
+  public V get(Object key) {
+    return key instanceof Integer ? map.get((Integer) key) : null;
+  }
+
+  @Override
+  public ImmutableSet<Integer> keySet() {
+    return map.keySet().boxed();
+  }
+
+  @Override
+  public ImmutableList<V> values() {
+    return map.values();
+  }
+
+  @Override
+  public ImmutableSet<Pair<Integer, V>> pairSet() {
+    final Set<Pair<Integer, V>> pairs = new HashSet<>(map.size());
+    map.forEach((key, value) -> pairs.add(Pair.of(key, value)));
+    return new ImmutableHashSet<>(pairs);
+  }
+
+  @Override
+  public Map<Integer, V> toMutableMap() {
+    final Map<Integer, V> hashMap = new HashMap<>(map.size());
+    map.forEach(hashMap::put);
+    return hashMap;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super Integer, ? super V> action) {
+    Objects.requireNonNull(action);
+    map.forEach(action::accept);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return ImmutableEquality.mapEquals(this, o);
+  }
+
+  @Override
+  public int hashCode() {
+    return map.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return map.toString();
+  }
+}
@@ -0,0 +1,98 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * {@linkplain ImmutableMap} view of {@linkplain ImmutableLong2LongMap}. Keys and values are boxed
+ * only when they are read from the view.
+ */
+final class BoxedLong2LongMap implements ImmutableMap<Long, Long> {
+
+  private final ImmutableLong2LongMap map;
+
+  BoxedLong2LongMap(ImmutableLong2LongMap map) {
+    this.map = map;
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof Long && map.containsKey((Long) key);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    return value instanceof Long && map.containsValue((Long) value);
+  }
+
+  @Override
+  public Long get(Object key) {
+    if (key instanceof Long) {
+      final long primitive = (Long) key;
+      if (map.containsKey(primitive)) {
+        return map.get(primitive);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public ImmutableSet<Long> keySet() {
+    return map.keySet().boxed();
+  }
+
+  @Override
+  public ImmutableList<Long> values() {
+    final List<Long> list = new ArrayList<>(map.size());
+    for (final long value : map.values()) {
+      list.add(value);
+    }
+    return Immutable.listOf(list);
+  }
+
+  @Override
+  public ImmutableSet<Pair<Long, Long>> pairSet() {
+    final Set<Pair<Long, Long>> pairs = new HashSet<>(map.size());
+    map.forEach((key, value) -> pairs.add(Pair.of(key, value)));
+    return new ImmutableHashSet<>(pairs);
+  }
+
+  @Override
+  public Map<Long, Long> toMutableMap() {
+    final Map<Long, Long> hashMap = new HashMap<>(map.size());
+    map.forEach(hashMap::put);
+    return hashMap;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super Long, ? super Long> action) {
+    Objects.requireNonNull(action);
+    map.forEach(action::accept);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return ImmutableEquality.mapEquals(this, o);
+  }
+
+  @Override
+  public int hashCode() {
+    return map.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return map.toString();
+  }
+}
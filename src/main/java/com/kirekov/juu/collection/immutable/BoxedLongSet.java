@@ -0,0 +1,106 @@
+package com.kirekov.juu.collection.immutable;
+
+import com.kirekov.juu.collection.immutable.abstraction.AbstractImmutableSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * {@linkplain ImmutableSet} view of {@linkplain ImmutableLongSet}. Values are boxed only when they
+ * are read from the view. Transformations return regular {@linkplain ImmutableHashSet} because
+ * their results may not be longs.
+ */
+final class BoxedLongSet extends AbstractImmutableSet<Long> {
+
+  private final ImmutableLongSet set;
+
+  BoxedLongSet(ImmutableLongSet set) {
+    super();
+    this.set = set;
+  }
+
+  @Override
+  public int size() {
+    return set.size();
+  }
+
+  @Override
+  public boolean contains(Object element) {
+    return element instanceof Long && set.contains((Long) element);
+  }
+
+  @Override
+  public ImmutableSet<Long> concatWith(Iterable<Long> iterable) {
+    Objects.requireNonNull(iterable, "iterable to concat with cannot be null");
+    final Set<Long> newHashSet = toMutableSet();
+    for (final Long element : iterable) {
+      newHashSet.add(element);
+    }
+    return new ImmutableHashSet<>(newHashSet);
+  }
+
+  @Override
+  public <R> ImmutableSet<R> map(Function<? super Long, ? extends R> mapper) {
+    Objects.requireNonNull(mapper, "mapper function cannot be null");
+    final Set<R> newHashSet = new HashSet<>(size());
+    set.forEach(value -> newHashSet.add(mapper.apply(value)));
+    return new ImmutableHashSet<>(newHashSet);
+  }
+
+  @Override
+  public <R> ImmutableSet<R> flatMap(Function<? super Long, ? extends Iterable<R>> mapper) {
+    Objects.requireNonNull(mapper, "flat mapper function cannot be null");
+    final Set<R> newHashSet = new HashSet<>(size());
+    set.forEach(value -> mapper.apply(value).forEach(newHashSet::add));
+    return new ImmutableHashSet<>(newHashSet);
+  }
+
+  @Override
+  public ImmutableSet<Long> filter(Predicate<? super Long> predicate) {
+    Objects.requireNonNull(predicate, "filtering predicate cannot be null");
+    return ImmutableLongHashSet.of(set.stream().filter(predicate::test).toArray()).boxed();
+  }
+
+  @Override
+  public ImmutableList<Long> toList() {
+    final List<Long> list = new ArrayList<>(size());
+    set.forEach(list::add);
+    return Immutable.listOf(list);
+  }
+
+  @Override
+  public ImmutableSet<Long> toSet() {
+    return this;
+  }
+
+  @Override
+  public Stream<Long> stream() {
+    return set.stream().boxed();
+  }
+
+  @Override
+  public Stream<Long> parallelStream() {
+    return stream().parallel();
+  }
+
+  @Override
+  public Iterator<Long> iterator() {
+    return set.iterator();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return ImmutableEquality.setEquals(this, o);
+  }
+
+  @Override
+  public int hashCode() {
+    return set.hashCode();
+  }
+}
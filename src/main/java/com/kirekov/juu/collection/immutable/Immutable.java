@@ -1,11 +1,14 @@
 package com.kirekov.juu.collection.immutable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Static class for retrieving empty sets and lists or instantiating immutable collections. The
@@ -85,13 +88,24 @@ public final class Immutable {
   @SafeVarargs
   @SuppressWarnings("varargs")
   public static <T> ImmutableList<T> listOf(T... elements) {
-    return listOf(Arrays.stream(elements).collect(Collectors.toList()));
+    Objects.requireNonNull(elements);
+    switch (elements.length) {
+      case 0:
+        return emptyList();
+      case 1:
+        return new SmallImmutableList.List1<>(elements[0]);
+      case 2:
+        return new SmallImmutableList.List2<>(elements[0], elements[1]);
+      default:
+        return new ImmutableArrayList<>(Arrays.asList(elements));
+    }
   }
 
   /**
    * Creates new immutable list from given elements. If iterable has no elements, returns {@link
-   * Immutable#emptyList()}. This is the preferred way of creating immutable lists, unless you need
-   * particular implementation.
+   * Immutable#emptyList()}. If iterable is an immutable list or its {@linkplain
+   * ImmutableList#asJavaList()} view, returns the list without copying. This is the preferred way
+   * of creating immutable lists, unless you need particular implementation.
    *
    * @param elements iterable elements
    * @param <T>      the type of the element
@@ -100,9 +114,31 @@ public final class Immutable {
    */
   public static <T> ImmutableList<T> listOf(Iterable<T> elements) {
     Objects.requireNonNull(elements);
-    if (!elements.iterator().hasNext()) {
+    if (elements instanceof ImmutableList) {
+      return (ImmutableList<T>) elements;
+    }
+    if (elements instanceof JavaListView) {
+      return ((JavaListView<T>) elements).source();
+    }
+    final Iterator<T> iterator = elements.iterator();
+    if (!iterator.hasNext()) {
       return emptyList();
     }
+    if (elements instanceof Collection && ((Collection<T>) elements).size() <= 2) {
+      final T first = iterator.next();
+      if (!iterator.hasNext()) {
+        return new SmallImmutableList.List1<>(first);
+      }
+      final T second = iterator.next();
+      if (!iterator.hasNext()) {
+        return new SmallImmutableList.List2<>(first, second);
+      }
+      final List<T> list = new ArrayList<>();
+      list.add(first);
+      list.add(second);
+      iterator.forEachRemaining(list::add);
+      return new ImmutableArrayList<>(list);
+    }
     return new ImmutableArrayList<>(elements);
   }
 
@@ -120,13 +156,17 @@ public final class Immutable {
   @SuppressWarnings({"varargs", "PMD.LinguisticNaming"})
   public static <T> ImmutableSet<T> setOf(T... elements) {
     Objects.requireNonNull(elements);
-    return setOf(Arrays.stream(elements).collect(Collectors.toSet()));
+    if (elements.length <= SmallImmutableSet.MAX_SIZE) {
+      return smallSetOf(elements.clone());
+    }
+    return new ImmutableHashSet<>(Arrays.asList(elements));
   }
 
   /**
    * Creates new immutable set from given elements. If iterable has no elements, returns {@link
-   * Immutable#emptySet()}. This is the preferred way of creating immutable sets, unless you need
-   * particular implementation.
+   * Immutable#emptySet()}. If iterable is an immutable set or its {@linkplain
+   * ImmutableSet#asJavaSet()} view, returns the set without copying. This is the preferred way of
+   * creating immutable sets, unless you need particular implementation.
    *
    * @param elements iterable elements
    * @param <T>      the type of the element
@@ -136,15 +176,86 @@ public final class Immutable {
   @SuppressWarnings("PMD.LinguisticNaming")
   public static <T> ImmutableSet<T> setOf(Iterable<T> elements) {
     Objects.requireNonNull(elements);
+    if (elements instanceof ImmutableSet) {
+      return (ImmutableSet<T>) elements;
+    }
+    if (elements instanceof JavaSetView) {
+      return ((JavaSetView<T>) elements).source();
+    }
+    if (elements instanceof Collection
+        && ((Collection<T>) elements).size() <= SmallImmutableSet.MAX_SIZE) {
+      final Object[] snapshot = ((Collection<T>) elements).toArray();
+      if (snapshot.length <= SmallImmutableSet.MAX_SIZE) {
+        return smallSetOf(snapshot);
+      }
+      @SuppressWarnings("unchecked")
+      final List<T> list = (List<T>) Arrays.asList(snapshot);
+      return new ImmutableHashSet<>(list);
+    }
     if (!elements.iterator().hasNext()) {
       return emptySet();
     }
     return new ImmutableHashSet<>(elements);
   }
 
+  /**
+   * Creates new set of the elements removing repeated ones. The array is reused by the set.
+   */
+  private static <T> ImmutableSet<T> smallSetOf(Object[] elements) {
+    int size = 0;
+    for (final Object element : elements) {
+      if (!containsElement(elements, size, element)) {
+        elements[size++] = element;
+      }
+    }
+    if (size == 0) {
+      return emptySet();
+    }
+    return SmallImmutableSet.ofDistinct(elements, size);
+  }
+
+  private static boolean containsElement(Object[] elements, int size, Object element) {
+    for (int i = 0; i < size; i++) {
+      if (Objects.equals(elements[i], element)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Creates new immutable set of primitive {@code int} values. Unlike {@code setOf(Integer...)} the
+   * values are not boxed.
+   *
+   * @param values array of values
+   * @return immutable int set
+   * @throws NullPointerException if {@code values} is null
+   * @see ImmutableIntHashSet
+   * @since 2.1
+   */
+  public static ImmutableIntSet intSetOf(int... values) {
+    return ImmutableIntHashSet.of(values);
+  }
+
+  /**
+   * Creates new immutable set of primitive {@code long} values. Unlike {@code setOf(Long...)} the
+   * values are not boxed.
+   *
+   * @param values array of values
+   * @return immutable long set
+   * @throws NullPointerException if {@code values} is null
+   * @see ImmutableLongHashSet
+   * @since 2.1
+   */
+  public static ImmutableLongSet longSetOf(long... values) {
+    return ImmutableLongHashSet.of(values);
+  }
+
   /**
    * Creates {@linkplain ImmutableMap} from regular java {@linkplain Map}. The values are copied
-   * from the source. So, {@code map} modifying does not affect the resulted immutable one.
+   * from the source. So, {@code map} modifying does not affect the resulted immutable one. If
+   * {@code map} is a {@linkplain ImmutableMap#asJavaMap()} view, returns the viewed map without
+   * copying.
    *
    * @param map source to build {@linkplain ImmutableMap}
    * @param <K> type of key
@@ -154,9 +265,41 @@ public final class Immutable {
    */
   public static <K, V> ImmutableMap<K, V> mapOf(Map<K, V> map) {
     Objects.requireNonNull(map);
+    if (map instanceof JavaMapView) {
+      return ((JavaMapView<K, V>) map).source();
+    }
+    if (map.size() <= SmallImmutableMap.MAX_SIZE) {
+      final EntryBuffer<K, V> buffer = new EntryBuffer<>();
+      for (final Map.Entry<K, V> entry : map.entrySet()) {
+        buffer.put(entry.getKey(), entry.getValue());
+      }
+      return buffer.build();
+    }
     return new ImmutableHashMap<>(map);
   }
 
+  /**
+   * Creates {@linkplain ImmutableMap} for read-only lookup tables from regular java {@linkplain
+   * Map}. The map is backed by a minimal perfect hash function, so {@code get} compares a single
+   * key. Building is one to two orders of magnitude slower than {@linkplain Immutable#mapOf(Map)},
+   * so build tables once and keep this call off request paths.
+   *
+   * @param map source to build {@linkplain ImmutableMap}
+   * @param <K> type of key
+   * @param <V> type of value
+   * @return immutable map
+   * @throws NullPointerException if {@code map} is null or contains null key
+   * @see ImmutablePerfectHashMap
+   * @since 2.1
+   */
+  public static <K, V> ImmutableMap<K, V> staticMapOf(Map<K, V> map) {
+    Objects.requireNonNull(map);
+    if (map.isEmpty()) {
+      return emptyMap();
+    }
+    return ImmutablePerfectHashMap.of(map);
+  }
+
   /**
    * Creates {@linkplain ImmutableMap} from {@linkplain Iterable} of {@linkplain Pair}.
    *
@@ -168,14 +311,11 @@ public final class Immutable {
    */
   public static <K, V> ImmutableMap<K, V> mapOf(Iterable<Pair<K, V>> pairs) {
     Objects.requireNonNull(pairs);
-    if (!pairs.iterator().hasNext()) {
-      return emptyMap();
-    }
-    final HashMap<K, V> hashMap = new HashMap<>();
+    final EntryBuffer<K, V> buffer = new EntryBuffer<>();
     for (final Pair<K, V> p : pairs) {
-      hashMap.put(p.getKey(), p.getValue());
+      buffer.put(p.getKey(), p.getValue());
     }
-    return new ImmutableHashMap<>(hashMap);
+    return buffer.build();
   }
 
   /**
@@ -189,7 +329,7 @@ public final class Immutable {
    * @see Immutable#mapOf(Iterable)
    */
   public static <K, V> ImmutableMap<K, V> mapOf(K k, V v) {
-    return mapOf(Collections.singletonList(Pair.of(k, v)));
+    return SmallImmutableMap.of(new Object[]{k, v});
   }
 
   /**
@@ -205,7 +345,7 @@ public final class Immutable {
    * @see Immutable#mapOf(Iterable)
    */
   public static <K, V> ImmutableMap<K, V> mapOf(K k1, V v1, K k2, V v2) {
-    return mapOf(Arrays.asList(Pair.of(k1, v1), Pair.of(k2, v2)));
+    return SmallImmutableMap.of(new Object[]{k1, v1, k2, v2});
   }
 
   /**
@@ -223,7 +363,7 @@ public final class Immutable {
    * @see Immutable#mapOf(Iterable)
    */
   public static <K, V> ImmutableMap<K, V> mapOf(K k1, V v1, K k2, V v2, K k3, V v3) {
-    return mapOf(Arrays.asList(Pair.of(k1, v1), Pair.of(k2, v2), Pair.of(k3, v3)));
+    return SmallImmutableMap.of(new Object[]{k1, v1, k2, v2, k3, v3});
   }
 
   /**
@@ -243,7 +383,7 @@ public final class Immutable {
    * @see Immutable#mapOf(Iterable)
    */
   public static <K, V> ImmutableMap<K, V> mapOf(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4) {
-    return mapOf(Arrays.asList(Pair.of(k1, v1), Pair.of(k2, v2), Pair.of(k3, v3), Pair.of(k4, v4)));
+    return SmallImmutableMap.of(new Object[]{k1, v1, k2, v2, k3, v3, k4, v4});
   }
 
   /**
@@ -267,12 +407,45 @@ public final class Immutable {
   public static <K, V> ImmutableMap<K, V> mapOf(
       K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5
   ) {
-    return mapOf(
-        Arrays.asList(
-            Pair.of(k1, v1),
-            Pair.of(k2, v2),
-            Pair.of(k3, v3),
-            Pair.of(k4, v4),
-            Pair.of(k5, v5)));
+    return SmallImmutableMap.of(new Object[]{k1, v1, k2, v2, k3, v3, k4, v4, k5, v5});
+  }
+
+  /**
+   * Collects map entries into an array while there are at most {@linkplain
+   * SmallImmutableMap#MAX_SIZE} of them and into a {@linkplain HashMap} after that. So the kind of
+   * the map is chosen by the count of iterated entries rather than by {@code size()}, which is only
+   * an estimate for concurrent maps.
+   */
+  private static final class EntryBuffer<K, V> {
+
+    private final Object[] entries = new Object[SmallImmutableMap.MAX_SIZE * 2];
+    private int length;
+    private HashMap<K, V> hashMap;
+
+    @SuppressWarnings("unchecked")
+    void put(K key, V value) {
+      if (hashMap != null) {
+        hashMap.put(key, value);
+      } else if (length < entries.length) {
+        entries[length++] = key;
+        entries[length++] = value;
+      } else {
+        hashMap = new HashMap<>();
+        for (int i = 0; i < length; i += 2) {
+          hashMap.put((K) entries[i], (V) entries[i + 1]);
+        }
+        hashMap.put(key, value);
+      }
+    }
+
+    ImmutableMap<K, V> build() {
+      if (hashMap != null) {
+        return new ImmutableHashMap<>(hashMap);
+      }
+      if (length == 0) {
+        return emptyMap();
+      }
+      return SmallImmutableMap.of(Arrays.copyOf(entries, length));
+    }
   }
 }
@@ -2,6 +2,7 @@ package com.kirekov.juu.collection.immutable;
 
 import com.kirekov.juu.collection.immutable.abstraction.AbstractImmutableList;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -26,6 +27,7 @@ import java.util.stream.Stream;
 public final class ImmutableArrayList<T> extends AbstractImmutableList<T> {
 
   private final List<T> arrayList;
+  private int hash;
 
   /**
    * Constructor.
@@ -34,7 +36,9 @@ public final class ImmutableArrayList<T> extends AbstractImmutableList<T> {
    */
   public ImmutableArrayList(Iterable<T> iterable) {
     super();
-    arrayList = new ArrayList<>();
+    arrayList = iterable instanceof Collection
+        ? new ArrayList<>(((Collection<T>) iterable).size())
+        : new ArrayList<>();
     for (final T element : iterable) {
       arrayList.add(element);
     }
@@ -285,19 +289,21 @@ public final class ImmutableArrayList<T> extends AbstractImmutableList<T> {
 
   @Override
   public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
+    if (o instanceof ImmutableArrayList
+        && ImmutableEquality.cachedHashesDiffer(hash, ((ImmutableArrayList<?>) o).hash)) {
       return false;
     }
-    final ImmutableArrayList<?> that = (ImmutableArrayList<?>) o;
-    return arrayList.equals(that.arrayList);
+    return ImmutableEquality.listEquals(this, o);
   }
 
   @Override
   public int hashCode() {
-    return arrayList.hashCode();
+    int h = hash;
+    if (h == 0) {
+      h = arrayList.hashCode();
+      hash = h;
+    }
+    return h;
   }
 
   private int normalizeIndex(int index) {
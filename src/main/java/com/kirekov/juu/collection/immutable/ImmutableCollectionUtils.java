@@ -1,8 +1,8 @@
 package com.kirekov.juu.collection.immutable;
 
-import com.kirekov.juu.monad.Try;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 class ImmutableCollectionUtils {
@@ -10,10 +10,31 @@ class ImmutableCollectionUtils {
   private ImmutableCollectionUtils() {
   }
 
+  /**
+   * Gets the element or empty if the underlying collection throws. Plain try-catch is used instead
+   * of {@linkplain com.kirekov.juu.monad.Try} so that lookups allocate nothing but the result.
+   */
   static <T> Optional<T> tryGetElement(Supplier<T> supplier) {
     Objects.requireNonNull(supplier);
-    return Try.of(supplier::get)
-        .map(Optional::ofNullable)
-        .orElse(Optional.empty());
+    try {
+      return Optional.ofNullable(supplier.get());
+    } catch (RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Same as {@linkplain ImmutableCollectionUtils#tryGetElement(Supplier)} for lookups by argument.
+   * The getter does not capture anything, so hot lookups like {@code floorKey} do not allocate a
+   * lambda on every call.
+   */
+  static <C, A, T> Optional<T> tryGetElement(C collection, A argument,
+      BiFunction<? super C, ? super A, ? extends T> getter) {
+    Objects.requireNonNull(getter);
+    try {
+      return Optional.ofNullable(getter.apply(collection, argument));
+    } catch (RuntimeException e) {
+      return Optional.empty();
+    }
   }
 }
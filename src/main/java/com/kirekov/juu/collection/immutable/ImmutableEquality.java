@@ -0,0 +1,120 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Implements the contract of {@linkplain Object#equals(Object)} and {@linkplain Object#hashCode()}
+ * for {@linkplain ImmutableList}, {@linkplain ImmutableSet} and {@linkplain ImmutableMap} through
+ * their public API, so that all implementations of the same interface agree with each other. The
+ * hash codes follow {@linkplain java.util.List#hashCode()}, {@linkplain java.util.Set#hashCode()}
+ * and {@linkplain java.util.Map#hashCode()}.
+ */
+final class ImmutableEquality {
+
+  private ImmutableEquality() {
+  }
+
+  /**
+   * Whether both hash codes are cached and differ. The value 0 means that the hash code has not
+   * been computed yet.
+   */
+  static boolean cachedHashesDiffer(int hash, int otherHash) {
+    return hash != 0 && otherHash != 0 && hash != otherHash;
+  }
+
+  static boolean listEquals(ImmutableList<?> list, Object o) {
+    if (list == o) {
+      return true;
+    }
+    if (!(o instanceof ImmutableList)) {
+      return false;
+    }
+    final ImmutableList<?> that = (ImmutableList<?>) o;
+    if (list.size() != that.size()) {
+      return false;
+    }
+    final Iterator<?> iterator = list.iterator();
+    final Iterator<?> thatIterator = that.iterator();
+    while (iterator.hasNext()) {
+      if (!Objects.equals(iterator.next(), thatIterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static int listHashCode(Iterable<?> list) {
+    int hash = 1;
+    for (final Object element : list) {
+      hash = 31 * hash + Objects.hashCode(element);
+    }
+    return hash;
+  }
+
+  static boolean setEquals(ImmutableSet<?> set, Object o) {
+    if (set == o) {
+      return true;
+    }
+    if (!(o instanceof ImmutableSet)) {
+      return false;
+    }
+    final ImmutableSet<?> that = (ImmutableSet<?>) o;
+    if (set.size() != that.size()) {
+      return false;
+    }
+    for (final Object element : set) {
+      if (that.notContains(element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static int setHashCode(Iterable<?> set) {
+    int hash = 0;
+    for (final Object element : set) {
+      hash += Objects.hashCode(element);
+    }
+    return hash;
+  }
+
+  static boolean mapEquals(ImmutableMap<?, ?> map, Object o) {
+    if (map == o) {
+      return true;
+    }
+    if (!(o instanceof ImmutableMap)) {
+      return false;
+    }
+    final ImmutableMap<?, ?> that = (ImmutableMap<?, ?>) o;
+    if (map.size() != that.size()) {
+      return false;
+    }
+    for (final Pair<?, ?> pair : map.pairSet()) {
+      if (!containsEntry(that, pair.getKey(), pair.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static int mapHashCode(ImmutableMap<?, ?> map) {
+    int hash = 0;
+    for (final Pair<?, ?> pair : map.pairSet()) {
+      hash += entryHashCode(pair.getKey(), pair.getValue());
+    }
+    return hash;
+  }
+
+  /**
+   * Whether the map maps the key to the value. Lets maps that store entries in arrays compare them
+   * without creating pairs.
+   */
+  static boolean containsEntry(ImmutableMap<?, ?> map, Object key, Object value) {
+    return Objects.equals(value, map.get(key)) && (value != null || map.containsKey(key));
+  }
+
+  static int entryHashCode(Object key, Object value) {
+    return Objects.hashCode(key) ^ Objects.hashCode(value);
+  }
+}
@@ -2,10 +2,15 @@ package com.kirekov.juu.collection.immutable;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * An immutable implementation of java native {@link HashMap}.
  *
+ * <p>Maps which mostly answer {@code false} to {@linkplain ImmutableHashMap#containsKey(Object)}
+ * can be created with {@linkplain ImmutableHashMap#withBloomFilter(Map, double)}. Such a map keeps
+ * a Bloom filter of its keys and rejects most absent keys without touching the table.</p>
+ *
  * @param <K> the type of the key
  * @param <V> the type of the value
  * @see ImmutableMap
@@ -18,6 +23,8 @@ public final class ImmutableHashMap<K, V> implements ImmutableMap<K, V> {
   private final ImmutableSet<K> keys;
   private final ImmutableList<V> values;
   private final ImmutableSet<Pair<K, V>> pairs;
+  private final BloomFilter bloomFilter;
+  private int hash;
 
   /**
    * Creates new {@linkplain ImmutableHashMap} instance from regular java {@linkplain Map}. The
@@ -30,6 +37,84 @@ public final class ImmutableHashMap<K, V> implements ImmutableMap<K, V> {
     this.keys = Immutable.setOf(hashMap.keySet());
     this.values = Immutable.listOf(hashMap.values());
     this.pairs = ImmutableMapUtils.toPairSet(hashMap.entrySet());
+    this.bloomFilter = null;
+  }
+
+  private ImmutableHashMap(Map<K, V> map, double falsePositiveRate, boolean countHits) {
+    this.hashMap = new HashMap<>(map);
+    this.keys = Immutable.setOf(hashMap.keySet());
+    this.values = Immutable.listOf(hashMap.values());
+    this.pairs = ImmutableMapUtils.toPairSet(hashMap.entrySet());
+    this.bloomFilter =
+        BloomFilter.of(hashMap.keySet(), hashMap.size(), falsePositiveRate, countHits);
+  }
+
+  /**
+   * Creates new map guarded by a Bloom filter of keys. {@linkplain
+   * ImmutableHashMap#containsKey(Object)} and {@linkplain ImmutableHashMap#get(Object)} check the
+   * filter first and return without probing the map if the filter rejects the key. The filter
+   * takes about 12 bits per key for 1% false positive rate. Filter hits are not counted.
+   *
+   * @param map               source map. Cannot be null
+   * @param falsePositiveRate the expected share of absent keys which pass the filter and probe the
+   *                          map, e.g. {@code 0.01}
+   * @param <K>               the type of the key
+   * @param <V>               the type of the value
+   * @return immutable hash map
+   * @throws NullPointerException     if {@code map} is null
+   * @throws IllegalArgumentException if {@code falsePositiveRate} is not between 0 and 1 exclusive
+   * @since 2.1
+   */
+  public static <K, V> ImmutableHashMap<K, V> withBloomFilter(Map<K, V> map,
+      double falsePositiveRate) {
+    return withBloomFilter(map, falsePositiveRate, false);
+  }
+
+  /**
+   * Creates new map guarded by a Bloom filter of keys which optionally counts the keys it rejects.
+   *
+   * <p>Counting hits updates a shared {@linkplain java.util.concurrent.atomic.LongAdder} on every
+   * rejected key. Under contention that is a CAS on a shared cell per lookup, which may cost as
+   * much as the probe the filter saves, so hits are counted only if {@code countHits} is true.
+   * Enable it to tune the false positive rate and disable it in production.</p>
+   *
+   * @param map               source map. Cannot be null
+   * @param falsePositiveRate the expected share of absent keys which pass the filter and probe the
+   *                          map, e.g. {@code 0.01}
+   * @param countHits         whether {@linkplain ImmutableHashMap#getBloomFilterHits()} is counted
+   * @param <K>               the type of the key
+   * @param <V>               the type of the value
+   * @return immutable hash map
+   * @throws NullPointerException     if {@code map} is null
+   * @throws IllegalArgumentException if {@code falsePositiveRate} is not between 0 and 1 exclusive
+   * @see ImmutableHashMap#withBloomFilter(Map, double)
+   * @since 2.1
+   */
+  public static <K, V> ImmutableHashMap<K, V> withBloomFilter(Map<K, V> map,
+      double falsePositiveRate, boolean countHits) {
+    Objects.requireNonNull(map, "map cannot be null");
+    return new ImmutableHashMap<>(map, falsePositiveRate, countHits);
+  }
+
+  /**
+   * Gets the count of {@linkplain ImmutableHashMap#containsKey(Object)} and {@linkplain
+   * ImmutableHashMap#get(Object)} calls which were answered by the Bloom filter without probing
+   * the map.
+   *
+   * @return count of filter hits. Always 0 if the map has no filter or does not count hits
+   * @see ImmutableHashMap#withBloomFilter(Map, double, boolean)
+   * @since 2.1
+   */
+  public long getBloomFilterHits() {
+    return bloomFilter == null ? 0 : bloomFilter.hits();
+  }
+
+  private boolean rejectedByFilter(Object key) {
+    if (bloomFilter != null && !bloomFilter.mightContain(key)) {
+      bloomFilter.recordHit();
+      return true;
+    }
+    return false;
   }
 
   @Override
@@ -39,7 +124,7 @@ public final class ImmutableHashMap<K, V> implements ImmutableMap<K, V> {
 
   @Override
   public boolean containsKey(Object key) {
-    return hashMap.containsKey(key);
+    return !rejectedByFilter(key) && hashMap.containsKey(key);
   }
 
   @Override
@@ -49,7 +134,7 @@ public final class ImmutableHashMap<K, V> implements ImmutableMap<K, V> {
 
   @Override
   public V get(Object key) {
-    return hashMap.get(key);
+    return rejectedByFilter(key) ? null : hashMap.get(key);
   }
 
   @Override
@@ -74,18 +159,20 @@ public final class ImmutableHashMap<K, V> implements ImmutableMap<K, V> {
 
   @Override
   public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
+    if (o instanceof ImmutableHashMap
+        && ImmutableEquality.cachedHashesDiffer(hash, ((ImmutableHashMap<?, ?>) o).hash)) {
       return false;
     }
-    final ImmutableHashMap<?, ?> that = (ImmutableHashMap<?, ?>) o;
-    return hashMap.equals(that.hashMap);
+    return ImmutableEquality.mapEquals(this, o);
   }
 
   @Override
   public int hashCode() {
-    return hashMap.hashCode();
+    int h = hash;
+    if (h == 0) {
+      h = hashMap.hashCode();
+      hash = h;
+    }
+    return h;
   }
 }
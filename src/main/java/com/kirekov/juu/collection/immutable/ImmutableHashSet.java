@@ -12,6 +12,10 @@ import java.util.stream.Stream;
 /**
  * An immutable implementation of java native {@link HashSet}.
  *
+ * <p>Sets which mostly answer {@code false} to {@linkplain ImmutableHashSet#contains(Object)} can
+ * be created with {@linkplain ImmutableHashSet#withBloomFilter(Iterable, double)}. Such a set keeps
+ * a Bloom filter of its elements and rejects most absent elements without touching the table.</p>
+ *
  * @param <T> the type of the content
  * @see ImmutableSet
  * @see Set
@@ -21,6 +25,8 @@ import java.util.stream.Stream;
 public final class ImmutableHashSet<T> extends AbstractImmutableSet<T> {
 
   private final Set<T> hashSet;
+  private final BloomFilter bloomFilter;
+  private int hash;
 
   /**
    * Constructor.
@@ -33,6 +39,74 @@ public final class ImmutableHashSet<T> extends AbstractImmutableSet<T> {
     for (final T element : iterable) {
       hashSet.add(element);
     }
+    bloomFilter = null;
+  }
+
+  private ImmutableHashSet(Iterable<T> iterable, double falsePositiveRate, boolean countHits) {
+    super();
+    hashSet = new HashSet<>();
+    for (final T element : iterable) {
+      hashSet.add(element);
+    }
+    bloomFilter = BloomFilter.of(hashSet, hashSet.size(), falsePositiveRate, countHits);
+  }
+
+  /**
+   * Creates new set guarded by a Bloom filter. {@linkplain ImmutableHashSet#contains(Object)}
+   * checks the filter first and returns false without probing the set if the filter rejects the
+   * element. The filter takes about 12 bits per element for 1% false positive rate. Sets derived
+   * from this one via {@code map}, {@code filter} etc. do not have the filter. Filter hits are not
+   * counted.
+   *
+   * @param iterable          the source of elements. Cannot be null
+   * @param falsePositiveRate the expected share of absent elements which pass the filter and probe
+   *                          the set, e.g. {@code 0.01}
+   * @param <T>               the type of the content
+   * @return immutable hash set
+   * @throws NullPointerException     if {@code iterable} is null
+   * @throws IllegalArgumentException if {@code falsePositiveRate} is not between 0 and 1 exclusive
+   * @since 2.1
+   */
+  public static <T> ImmutableHashSet<T> withBloomFilter(Iterable<T> iterable,
+      double falsePositiveRate) {
+    return withBloomFilter(iterable, falsePositiveRate, false);
+  }
+
+  /**
+   * Creates new set guarded by a Bloom filter which optionally counts the elements it rejects.
+   *
+   * <p>Counting hits updates a shared {@linkplain java.util.concurrent.atomic.LongAdder} on every
+   * rejected element. Under contention that is a CAS on a shared cell per lookup, which may cost as
+   * much as the probe the filter saves, so hits are counted only if {@code countHits} is true.
+   * Enable it to tune the false positive rate and disable it in production.</p>
+   *
+   * @param iterable          the source of elements. Cannot be null
+   * @param falsePositiveRate the expected share of absent elements which pass the filter and probe
+   *                          the set, e.g. {@code 0.01}
+   * @param countHits         whether {@linkplain ImmutableHashSet#getBloomFilterHits()} is counted
+   * @param <T>               the type of the content
+   * @return immutable hash set
+   * @throws NullPointerException     if {@code iterable} is null
+   * @throws IllegalArgumentException if {@code falsePositiveRate} is not between 0 and 1 exclusive
+   * @see ImmutableHashSet#withBloomFilter(Iterable, double)
+   * @since 2.1
+   */
+  public static <T> ImmutableHashSet<T> withBloomFilter(Iterable<T> iterable,
+      double falsePositiveRate, boolean countHits) {
+    Objects.requireNonNull(iterable, "iterable cannot be null");
+    return new ImmutableHashSet<>(iterable, falsePositiveRate, countHits);
+  }
+
+  /**
+   * Gets the count of {@linkplain ImmutableHashSet#contains(Object)} calls which were answered by
+   * the Bloom filter without probing the set.
+   *
+   * @return count of filter hits. Always 0 if the set has no filter or does not count hits
+   * @see ImmutableHashSet#withBloomFilter(Iterable, double, boolean)
+   * @since 2.1
+   */
+  public long getBloomFilterHits() {
+    return bloomFilter == null ? 0 : bloomFilter.hits();
   }
 
   @Override
@@ -85,6 +159,10 @@ public final class ImmutableHashSet<T> extends AbstractImmutableSet<T> {
 
   @Override
   public boolean contains(Object element) {
+    if (bloomFilter != null && !bloomFilter.mightContain(element)) {
+      bloomFilter.recordHit();
+      return false;
+    }
     return hashSet.contains(element);
   }
 
@@ -115,18 +193,20 @@ public final class ImmutableHashSet<T> extends AbstractImmutableSet<T> {
 
   @Override
   public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
+    if (o instanceof ImmutableHashSet
+        && ImmutableEquality.cachedHashesDiffer(hash, ((ImmutableHashSet<?>) o).hash)) {
       return false;
     }
-    final ImmutableHashSet<?> that = (ImmutableHashSet<?>) o;
-    return hashSet.equals(that.hashSet);
+    return ImmutableEquality.setEquals(this, o);
   }
 
   @Override
   public int hashCode() {
-    return hashSet.hashCode();
+    int h = hash;
+    if (h == 0) {
+      h = hashSet.hashCode();
+      hash = h;
+    }
+    return h;
   }
 }
@@ -0,0 +1,279 @@
+package com.kirekov.juu.collection.immutable;
+
+import com.kirekov.juu.lambda.IntObjectConsumer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable map with {@code int} keys backed by an open addressing table. Keys are stored in a
+ * plain {@code int[]} which is at most half full and values are stored in a parallel array, so
+ * {@linkplain ImmutableInt2ObjectHashMap#get(int)} never allocates. Null values are permitted.
+ *
+ * <pre>{@code
+ * ImmutableInt2ObjectMap<User> users = ImmutableInt2ObjectHashMap.of(usersById);
+ * User user = users.get(userId);
+ * }</pre>
+ *
+ * @param <V> the type of the value
+ * @see ImmutableInt2ObjectMap
+ * @since 2.1
+ */
+public final class ImmutableInt2ObjectHashMap<V> implements ImmutableInt2ObjectMap<V> {
+
+  private final int[] keys;
+  private final Object[] values;
+  private final int shift;
+  private final boolean containsZeroKey;
+  private final Object zeroKeyValue;
+  private final int size;
+
+  private ImmutableInt2ObjectHashMap(Map<Integer, ? extends V> map) {
+    final int length = PrimitiveHashing.tableLength(map.size());
+    final int mask = length - 1;
+    this.keys = new int[length];
+    this.values = new Object[length];
+    this.shift = PrimitiveHashing.intShift(length);
+    boolean zero = false;
+    Object zeroValue = null;
+    for (final Map.Entry<Integer, ? extends V> entry : map.entrySet()) {
+      final int key = Objects.requireNonNull(entry.getKey(), "key cannot be null");
+      if (key == 0) {
+        zero = true;
+        zeroValue = entry.getValue();
+        continue;
+      }
+      int index = PrimitiveHashing.index(key, shift);
+      while (keys[index] != 0) {
+        index = (index + 1) & mask;
+      }
+      keys[index] = key;
+      values[index] = entry.getValue();
+    }
+    this.containsZeroKey = zero;
+    this.zeroKeyValue = zeroValue;
+    this.size = map.size();
+  }
+
+  /**
+   * Creates new map from regular java {@linkplain Map}. The entries are copied from the source.
+   *
+   * @param map the source map. Cannot be null or contain null keys
+   * @param <V> the type of the value
+   * @return immutable map
+   * @throws NullPointerException     if {@code map} is null or contains null key
+   * @throws IllegalArgumentException if there are more than 2^29 entries
+   */
+  public static <V> ImmutableInt2ObjectHashMap<V> of(Map<Integer, ? extends V> map) {
+    Objects.requireNonNull(map, "map cannot be null");
+    return new ImmutableInt2ObjectHashMap<>(map);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(int key) {
+    if (key == 0) {
+      return containsZeroKey;
+    }
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    if (containsZeroKey && Objects.equals(zeroKeyValue, value)) {
+      return true;
+    }
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != 0 && Objects.equals(values[i], value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public V get(int key) {
+    return getOrDefault(key, null);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V getOrDefault(int key, V defaultValue) {
+    if (key == 0) {
+      return containsZeroKey ? (V) zeroKeyValue : defaultValue;
+    }
+    final int index = indexOf(key);
+    return index >= 0 ? (V) values[index] : defaultValue;
+  }
+
+  @Override
+  public ImmutableIntSet keySet() {
+    return new KeySet();
+  }
+
+  @Override
+  public ImmutableList<V> values() {
+    final List<V> list = new ArrayList<>(size);
+    forEach((key, value) -> list.add(value));
+    return Immutable.listOf(list);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(IntObjectConsumer<? super V> action) {
+    Objects.requireNonNull(action, "action cannot be null");
+    if (containsZeroKey) {
+      action.accept(0, (V) zeroKeyValue);
+    }
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != 0) {
+        action.accept(keys[i], (V) values[i]);
+      }
+    }
+  }
+
+  private int indexOf(int key) {
+    final int mask = keys.length - 1;
+    int index = PrimitiveHashing.index(key, shift);
+    int element = keys[index];
+    while (element != 0) {
+      if (element == key) {
+        return index;
+      }
+      index = (index + 1) & mask;
+      element = keys[index];
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ImmutableInt2ObjectMap)) {
+      return false;
+    }
+    final ImmutableInt2ObjectMap<?> that = (ImmutableInt2ObjectMap<?>) o;
+    if (size != that.size()) {
+      return false;
+    }
+    if (containsZeroKey
+        && !(that.containsKey(0) && Objects.equals(zeroKeyValue, that.get(0)))) {
+      return false;
+    }
+    for (int i = 0; i < keys.length; i++) {
+      final int key = keys[i];
+      if (key != 0 && !(that.containsKey(key) && Objects.equals(values[i], that.get(key)))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = containsZeroKey ? Objects.hashCode(zeroKeyValue) : 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != 0) {
+        hash += keys[i] ^ Objects.hashCode(values[i]);
+      }
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder("{");
+    forEach((key, value) -> {
+      if (builder.length() > 1) {
+        builder.append(", ");
+      }
+      builder.append(key).append('=').append(value);
+    });
+    return builder.append('}').toString();
+  }
+
+  private final class KeySet implements ImmutableIntSet {
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean contains(int value) {
+      return containsKey(value);
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+      Objects.requireNonNull(action, "action cannot be null");
+      ImmutableInt2ObjectHashMap.this.forEach((key, value) -> action.accept(key));
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+      return new KeyIterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return PrimitiveSets.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+      return PrimitiveSets.hashCode(this);
+    }
+
+    @Override
+    public String toString() {
+      return PrimitiveSets.toString(iterator());
+    }
+  }
+
+  private final class KeyIterator implements PrimitiveIterator.OfInt {
+
+    private boolean zeroPending = containsZeroKey;
+    private int index = -1;
+
+    private KeyIterator() {
+      advance();
+    }
+
+    private void advance() {
+      index++;
+      while (index < keys.length && keys[index] == 0) {
+        index++;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return zeroPending || index < keys.length;
+    }
+
+    @Override
+    public int nextInt() {
+      if (zeroPending) {
+        zeroPending = false;
+        return 0;
+      }
+      if (index >= keys.length) {
+        throw new NoSuchElementException();
+      }
+      final int key = keys[index];
+      advance();
+      return key;
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.kirekov.juu.collection.immutable;
+
+import com.kirekov.juu.lambda.IntObjectConsumer;
+
+/**
+ * Defines an immutable map with primitive {@code int} keys. Unlike
+ * {@code ImmutableMap<Integer, V>} it does not box keys, so lookups do not allocate.
+ *
+ * <p>Two maps are equal if they contain the same keys mapped to equal values, whatever the
+ * implementation is. The hash code is the same as the one of {@code java.util.Map<Integer, V>} with
+ * these entries.</p>
+ *
+ * @param <V> the type of the value
+ * @see ImmutableInt2ObjectHashMap
+ * @see ImmutableMap
+ * @since 2.1
+ */
+public interface ImmutableInt2ObjectMap<V> {
+
+  /**
+   * Gets the count of entries.
+   *
+   * @return size
+   */
+  int size();
+
+  /**
+   * Whether the map has no entries.
+   *
+   * @return true if empty, otherwise false
+   */
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Whether the map has entries.
+   *
+   * @return true if not empty, otherwise false
+   */
+  default boolean isNotEmpty() {
+    return !isEmpty();
+  }
+
+  /**
+   * Whether the map contains the key.
+   *
+   * @param key the key to look for
+   * @return true if contains, otherwise false
+   */
+  boolean containsKey(int key);
+
+  /**
+   * Whether the map does not contain the key.
+   *
+   * @param key the key to look for
+   * @return true if does not contain, otherwise false
+   */
+  default boolean notContainsKey(int key) {
+    return !containsKey(key);
+  }
+
+  /**
+   * Whether the map contains the value. The lookup takes linear time.
+   *
+   * @param value the value to look for
+   * @return true if contains, otherwise false
+   */
+  boolean containsValue(Object value);
+
+  /**
+   * Gets the value mapped to the key.
+   *
+   * @param key the key
+   * @return value or null if there is no such key
+   */
+  V get(int key);
+
+  /**
+   * Gets the value mapped to the key or the default one.
+   *
+   * @param key          the key
+   * @param defaultValue the value returned if there is no such key
+   * @return value or {@code defaultValue}
+   */
+  V getOrDefault(int key, V defaultValue);
+
+  /**
+   * Gets the keys of the map.
+   *
+   * @return set of keys
+   */
+  ImmutableIntSet keySet();
+
+  /**
+   * Gets the values of the map. The order is the same as the order of {@linkplain
+   * ImmutableInt2ObjectMap#keySet()}.
+   *
+   * @return list of values
+   */
+  ImmutableList<V> values();
+
+  /**
+   * Performs the action for each entry. The order is not specified.
+   *
+   * @param action the action. Cannot be null
+   * @throws NullPointerException if {@code action} is null
+   */
+  void forEach(IntObjectConsumer<? super V> action);
+
+  /**
+   * Gets the view of this map as {@linkplain ImmutableMap}. The view is created in constant time
+   * and boxes keys only when they are read from it.
+   *
+   * @return boxed view
+   */
+  default ImmutableMap<Integer, V> boxed() {
+    return new BoxedInt2ObjectMap<>(this);
+  }
+
+  @Override
+  boolean equals(Object o);
+
+  @Override
+  int hashCode();
+}
@@ -0,0 +1,529 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable compressed bitmap of {@code int} values. Values are split into chunks of 65536 by
+ * their higher 16 bits and every chunk keeps its lower 16 bits in the smallest of three containers:
+ * a sorted array for sparse chunks, a plain bitmap for dense ones or a list of runs for clustered
+ * ones. So dense or clustered id sets take from a few bits per value down to a few bytes per chunk.
+ *
+ * <p>Besides {@linkplain ImmutableIntBitmapSet#contains(int)} the set supports
+ * {@linkplain ImmutableIntBitmapSet#rank(int)} and {@linkplain ImmutableIntBitmapSet#select(int)}
+ * and set algebra which is computed chunk by chunk. Values are iterated in ascending order.</p>
+ *
+ * <pre>{@code
+ * ImmutableIntBitmapSet adults = ImmutableIntBitmapSet.of(adultIds);
+ * ImmutableIntBitmapSet subscribers = ImmutableIntBitmapSet.of(subscriberIds);
+ * ImmutableIntBitmapSet audience = adults.and(subscribers);
+ * }</pre>
+ *
+ * <p>The set can be written to a compact little-endian binary form with
+ * {@linkplain ImmutableIntBitmapSet#writeTo(ByteBuffer)} and read back with
+ * {@linkplain ImmutableIntBitmapSet#read(ByteBuffer)}, e.g. from a memory-mapped file. The size of
+ * the set cannot exceed {@linkplain Integer#MAX_VALUE}.</p>
+ *
+ * @see ImmutableIntSet
+ * @since 2.1
+ */
+public final class ImmutableIntBitmapSet implements ImmutableIntSet {
+
+  private static final int MAGIC = 0x4A554253;
+  private static final int HEADER_BYTES = 2 * Integer.BYTES;
+  private static final int DESCRIPTOR_BYTES = 8;
+  private static final int CHUNK_BITS = 16;
+  private static final int LOW_MASK = 0xFFFF;
+  private static final int SIGN_FLIP = 0x8000;
+
+  private static final ImmutableIntBitmapSet EMPTY =
+      new ImmutableIntBitmapSet(new char[0], new IntContainer[0]);
+
+  private final char[] keys;
+  private final IntContainer[] containers;
+  private final int[] offsets;
+  private int hash;
+
+  @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+  private ImmutableIntBitmapSet(char[] keys, IntContainer[] containers) {
+    this.keys = keys;
+    this.containers = containers;
+    this.offsets = new int[containers.length + 1];
+    long count = 0;
+    for (int i = 0; i < containers.length; i++) {
+      count += containers[i].cardinality();
+      if (count > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException(
+            String.format("Bitmap set cannot contain more than %s values", Integer.MAX_VALUE));
+      }
+      offsets[i + 1] = (int) count;
+    }
+  }
+
+  /**
+   * Creates new set from the given values. Duplicates are ignored.
+   *
+   * @param values the values. Cannot be null
+   * @return immutable bitmap set
+   * @throws NullPointerException if {@code values} is null
+   */
+  public static ImmutableIntBitmapSet of(int... values) {
+    Objects.requireNonNull(values, "values cannot be null");
+    if (values.length == 0) {
+      return EMPTY;
+    }
+    final int[] sorted = values.clone();
+    Arrays.sort(sorted);
+    final int capacity = Math.min(sorted.length, LOW_MASK + 1);
+    final char[] keys = new char[capacity];
+    final IntContainer[] containers = new IntContainer[capacity];
+    final char[] lows = new char[capacity];
+    int chunks = 0;
+    int from = 0;
+    while (from < sorted.length) {
+      final char key = keyOf(sorted[from]);
+      int count = 0;
+      int to = from;
+      while (to < sorted.length && keyOf(sorted[to]) == key) {
+        if (to == from || sorted[to] != sorted[to - 1]) {
+          lows[count++] = (char) sorted[to];
+        }
+        to++;
+      }
+      keys[chunks] = key;
+      containers[chunks] = IntContainer.of(lows, count);
+      chunks++;
+      from = to;
+    }
+    return new ImmutableIntBitmapSet(
+        Arrays.copyOf(keys, chunks),
+        Arrays.copyOf(containers, chunks)
+    );
+  }
+
+  /**
+   * Creates new set from the given boxed values, e.g. from {@linkplain ImmutableSet}. Duplicates
+   * are ignored.
+   *
+   * @param values the values. Cannot be null or contain null
+   * @return immutable bitmap set
+   * @throws NullPointerException if {@code values} is null or contains null
+   */
+  public static ImmutableIntBitmapSet of(Iterable<Integer> values) {
+    Objects.requireNonNull(values, "values cannot be null");
+    int[] array = new int[16];
+    int count = 0;
+    for (final Integer value : values) {
+      if (count == array.length) {
+        array = Arrays.copyOf(array, count * 2);
+      }
+      array[count++] = Objects.requireNonNull(value, "value cannot be null");
+    }
+    return of(Arrays.copyOf(array, count));
+  }
+
+  /**
+   * Creates new set from the values of another int set.
+   *
+   * @param set the source set. Cannot be null
+   * @return immutable bitmap set
+   * @throws NullPointerException if {@code set} is null
+   */
+  public static ImmutableIntBitmapSet of(ImmutableIntSet set) {
+    Objects.requireNonNull(set, "set cannot be null");
+    if (set instanceof ImmutableIntBitmapSet) {
+      return (ImmutableIntBitmapSet) set;
+    }
+    return of(set.toArray());
+  }
+
+  /**
+   * Creates new set of all values from {@code fromInclusive} to {@code toExclusive}. Every full
+   * chunk of the range takes a few bytes.
+   *
+   * @param fromInclusive the first value
+   * @param toExclusive   the value after the last one
+   * @return immutable bitmap set. Empty if {@code fromInclusive >= toExclusive}
+   * @throws IllegalArgumentException if the range is longer than {@linkplain Integer#MAX_VALUE}
+   */
+  public static ImmutableIntBitmapSet range(int fromInclusive, int toExclusive) {
+    if (fromInclusive >= toExclusive) {
+      return EMPTY;
+    }
+    final int last = toExclusive - 1;
+    final int firstKey = keyOf(fromInclusive);
+    final int lastKey = keyOf(last);
+    final char[] keys = new char[lastKey - firstKey + 1];
+    final IntContainer[] containers = new IntContainer[keys.length];
+    for (int key = firstKey; key <= lastKey; key++) {
+      final int low = key == firstKey ? fromInclusive & LOW_MASK : 0;
+      final int high = key == lastKey ? last & LOW_MASK : LOW_MASK;
+      keys[key - firstKey] = (char) key;
+      containers[key - firstKey] = IntContainer.Run.ofRange(low, high);
+    }
+    return new ImmutableIntBitmapSet(keys, containers);
+  }
+
+  /**
+   * Reads the set written by {@linkplain ImmutableIntBitmapSet#writeTo(ByteBuffer)}. The data is
+   * read from the current position of the buffer with bulk copies, so reading from a
+   * {@linkplain java.nio.MappedByteBuffer} is cheap. On success the position is moved past the
+   * data.
+   *
+   * @param buffer the buffer. Cannot be null
+   * @return immutable bitmap set
+   * @throws NullPointerException     if {@code buffer} is null
+   * @throws IllegalArgumentException if the data is malformed or truncated
+   */
+  public static ImmutableIntBitmapSet read(ByteBuffer buffer) {
+    Objects.requireNonNull(buffer, "buffer cannot be null");
+    final ByteBuffer data = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      if (data.getInt() != MAGIC) {
+        throw new IllegalArgumentException("Data is not a serialized bitmap set");
+      }
+      final int count = data.getInt();
+      if (count < 0 || count > LOW_MASK + 1) {
+        throw new IllegalArgumentException(
+            String.format("Container count is out of range: %s", count));
+      }
+      final char[] keys = new char[count];
+      final byte[] types = new byte[count];
+      final int[] lengths = new int[count];
+      for (int i = 0; i < count; i++) {
+        keys[i] = data.getChar();
+        types[i] = data.get();
+        data.get();
+        lengths[i] = data.getInt();
+        if (i > 0 && keys[i] <= keys[i - 1]) {
+          throw new IllegalArgumentException("Container keys are not ascending");
+        }
+      }
+      final IntContainer[] containers = new IntContainer[count];
+      for (int i = 0; i < count; i++) {
+        containers[i] = IntContainer.read(types[i], lengths[i], data);
+      }
+      buffer.position(data.position());
+      return count == 0 ? EMPTY : new ImmutableIntBitmapSet(keys, containers);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Serialized bitmap set is truncated", e);
+    }
+  }
+
+  @Override
+  public int size() {
+    return offsets[containers.length];
+  }
+
+  @Override
+  public boolean contains(int value) {
+    final int index = Arrays.binarySearch(keys, keyOf(value));
+    return index >= 0 && containers[index].contains((char) value);
+  }
+
+  /**
+   * Gets the count of values that are less than or equal to the given one.
+   *
+   * @param value the value
+   * @return rank
+   */
+  public int rank(int value) {
+    final int index = Arrays.binarySearch(keys, keyOf(value));
+    if (index < 0) {
+      return offsets[-index - 1];
+    }
+    return offsets[index] + containers[index].rank((char) value);
+  }
+
+  /**
+   * Gets the value at the given position in ascending order. It is the inverse of
+   * {@linkplain ImmutableIntBitmapSet#rank(int)}: {@code rank(select(i)) == i + 1}.
+   *
+   * @param index the zero-based position
+   * @return value
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than the size
+   */
+  public int select(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException(
+          String.format("Index %s is out of bounds for size %s", index, size()));
+    }
+    int from = 0;
+    int to = containers.length - 1;
+    while (from < to) {
+      final int middle = (from + to + 1) >>> 1;
+      if (offsets[middle] <= index) {
+        from = middle;
+      } else {
+        to = middle - 1;
+      }
+    }
+    return baseOf(keys[from]) | containers[from].select(index - offsets[from]);
+  }
+
+  /**
+   * Gets the intersection of this set and the other one.
+   *
+   * @param other the other set. Cannot be null
+   * @return values contained in both sets
+   * @throws NullPointerException if {@code other} is null
+   */
+  public ImmutableIntBitmapSet and(ImmutableIntBitmapSet other) {
+    Objects.requireNonNull(other, "other cannot be null");
+    final int capacity = Math.min(keys.length, other.keys.length);
+    final char[] resultKeys = new char[capacity];
+    final IntContainer[] resultContainers = new IntContainer[capacity];
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < keys.length && j < other.keys.length) {
+      if (keys[i] < other.keys[j]) {
+        i++;
+      } else if (keys[i] > other.keys[j]) {
+        j++;
+      } else {
+        final IntContainer container = IntContainer.and(containers[i], other.containers[j]);
+        if (container != null) {
+          resultKeys[count] = keys[i];
+          resultContainers[count] = container;
+          count++;
+        }
+        i++;
+        j++;
+      }
+    }
+    return newSet(resultKeys, resultContainers, count);
+  }
+
+  /**
+   * Gets the union of this set and the other one.
+   *
+   * @param other the other set. Cannot be null
+   * @return values contained in any of the sets
+   * @throws NullPointerException     if {@code other} is null
+   * @throws IllegalArgumentException if the union contains more than {@linkplain
+   *                                  Integer#MAX_VALUE} values
+   */
+  public ImmutableIntBitmapSet or(ImmutableIntBitmapSet other) {
+    Objects.requireNonNull(other, "other cannot be null");
+    return merge(other, false);
+  }
+
+  /**
+   * Gets the values of this set which the other one does not contain.
+   *
+   * @param other the other set. Cannot be null
+   * @return difference of the sets
+   * @throws NullPointerException if {@code other} is null
+   */
+  public ImmutableIntBitmapSet andNot(ImmutableIntBitmapSet other) {
+    Objects.requireNonNull(other, "other cannot be null");
+    final char[] resultKeys = new char[keys.length];
+    final IntContainer[] resultContainers = new IntContainer[keys.length];
+    int count = 0;
+    int j = 0;
+    for (int i = 0; i < keys.length; i++) {
+      while (j < other.keys.length && other.keys[j] < keys[i]) {
+        j++;
+      }
+      final IntContainer container;
+      if (j < other.keys.length && other.keys[j] == keys[i]) {
+        container = IntContainer.andNot(containers[i], other.containers[j]);
+      } else {
+        container = containers[i];
+      }
+      if (container != null) {
+        resultKeys[count] = keys[i];
+        resultContainers[count] = container;
+        count++;
+      }
+    }
+    return newSet(resultKeys, resultContainers, count);
+  }
+
+  /**
+   * Gets the symmetric difference of this set and the other one.
+   *
+   * @param other the other set. Cannot be null
+   * @return values contained in exactly one of the sets
+   * @throws NullPointerException     if {@code other} is null
+   * @throws IllegalArgumentException if the result contains more than {@linkplain
+   *                                  Integer#MAX_VALUE} values
+   */
+  public ImmutableIntBitmapSet xor(ImmutableIntBitmapSet other) {
+    Objects.requireNonNull(other, "other cannot be null");
+    return merge(other, true);
+  }
+
+  /**
+   * Gets the count of bytes written by {@linkplain ImmutableIntBitmapSet#writeTo(ByteBuffer)}.
+   *
+   * @return serialized size
+   */
+  public int serializedSizeInBytes() {
+    int bytes = HEADER_BYTES + containers.length * DESCRIPTOR_BYTES;
+    for (final IntContainer container : containers) {
+      bytes += container.serializedPayloadBytes();
+    }
+    return bytes;
+  }
+
+  /**
+   * Writes the set to the buffer starting at its current position and moves the position past the
+   * data. The data is little-endian whatever the order of the buffer is.
+   *
+   * @param buffer the buffer. Cannot be null
+   * @throws NullPointerException             if {@code buffer} is null
+   * @throws java.nio.BufferOverflowException if there are less than {@linkplain
+   *                                          ImmutableIntBitmapSet#serializedSizeInBytes()}
+   *                                          bytes remaining
+   */
+  public void writeTo(ByteBuffer buffer) {
+    Objects.requireNonNull(buffer, "buffer cannot be null");
+    final ByteBuffer data = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    data.putInt(MAGIC).putInt(containers.length);
+    for (int i = 0; i < containers.length; i++) {
+      data.putChar(keys[i])
+          .put(containers[i].type())
+          .put((byte) 0)
+          .putInt(containers[i].payloadLength());
+    }
+    for (final IntContainer container : containers) {
+      container.writePayload(data);
+    }
+    buffer.position(data.position());
+  }
+
+  /**
+   * Gets the serialized form of the set.
+   *
+   * @return bytes written by {@linkplain ImmutableIntBitmapSet#writeTo(ByteBuffer)}
+   */
+  public byte[] toByteArray() {
+    final byte[] bytes = new byte[serializedSizeInBytes()];
+    writeTo(ByteBuffer.wrap(bytes));
+    return bytes;
+  }
+
+  @Override
+  public void forEach(IntConsumer action) {
+    Objects.requireNonNull(action, "action cannot be null");
+    for (int i = 0; i < containers.length; i++) {
+      containers[i].forEach(baseOf(keys[i]), action);
+    }
+  }
+
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    return new ContainerIterator();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return PrimitiveSets.equals(this, o);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = hash;
+    if (result == 0) {
+      result = PrimitiveSets.hashCode(this);
+      hash = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return PrimitiveSets.toString(iterator());
+  }
+
+  private ImmutableIntBitmapSet merge(ImmutableIntBitmapSet other, boolean exclusive) {
+    final int capacity = keys.length + other.keys.length;
+    final char[] resultKeys = new char[capacity];
+    final IntContainer[] resultContainers = new IntContainer[capacity];
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < keys.length || j < other.keys.length) {
+      final char key;
+      final IntContainer container;
+      if (j == other.keys.length || i < keys.length && keys[i] < other.keys[j]) {
+        key = keys[i];
+        container = containers[i++];
+      } else if (i == keys.length || other.keys[j] < keys[i]) {
+        key = other.keys[j];
+        container = other.containers[j++];
+      } else {
+        key = keys[i];
+        container = exclusive
+            ? IntContainer.xor(containers[i++], other.containers[j++])
+            : IntContainer.or(containers[i++], other.containers[j++]);
+      }
+      if (container != null) {
+        resultKeys[count] = key;
+        resultContainers[count] = container;
+        count++;
+      }
+    }
+    return newSet(resultKeys, resultContainers, count);
+  }
+
+  private static ImmutableIntBitmapSet newSet(char[] keys, IntContainer[] containers, int count) {
+    if (count == 0) {
+      return EMPTY;
+    }
+    return new ImmutableIntBitmapSet(
+        Arrays.copyOf(keys, count),
+        Arrays.copyOf(containers, count)
+    );
+  }
+
+  /**
+   * Gets the key of the chunk. The sign bit is flipped, so the order of keys is the same as the
+   * order of values.
+   */
+  private static char keyOf(int value) {
+    return (char) (value >>> CHUNK_BITS ^ SIGN_FLIP);
+  }
+
+  private static int baseOf(char key) {
+    return (key ^ SIGN_FLIP) << CHUNK_BITS;
+  }
+
+  private final class ContainerIterator implements PrimitiveIterator.OfInt {
+
+    private int container = -1;
+    private int base;
+    private char[] values = new char[0];
+    private int index;
+
+    @Override
+    public boolean hasNext() {
+      while (index == values.length) {
+        if (container + 1 == containers.length) {
+          return false;
+        }
+        container++;
+        base = baseOf(keys[container]);
+        values = containers[container].toChars();
+        index = 0;
+      }
+      return true;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return base | values[index++];
+    }
+  }
+}
@@ -0,0 +1,208 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable set of {@code int} values backed by an open addressing table. The table is a plain
+ * {@code int[]} which is at most half full, so {@linkplain ImmutableIntHashSet#contains(int)} reads
+ * one or two adjacent slots on average and never allocates.
+ *
+ * <pre>{@code
+ * ImmutableIntSet allowed = ImmutableIntHashSet.of(ids);
+ * if (allowed.contains(userId)) {
+ *   ...
+ * }
+ * }</pre>
+ *
+ * @see ImmutableIntSet
+ * @since 2.1
+ */
+public final class ImmutableIntHashSet implements ImmutableIntSet {
+
+  private static final ImmutableIntHashSet EMPTY = new ImmutableIntHashSet(new int[0]);
+
+  private final int[] table;
+  private final int shift;
+  private final boolean containsZero;
+  private final int size;
+  private final int hash;
+
+  private ImmutableIntHashSet(int[] values) {
+    final int length = PrimitiveHashing.tableLength(values.length);
+    final int mask = length - 1;
+    this.table = new int[length];
+    this.shift = PrimitiveHashing.intShift(length);
+    boolean zero = false;
+    int count = 0;
+    int sum = 0;
+    for (final int value : values) {
+      if (value == 0) {
+        if (!zero) {
+          zero = true;
+          count++;
+        }
+        continue;
+      }
+      int index = PrimitiveHashing.index(value, shift);
+      while (table[index] != 0 && table[index] != value) {
+        index = (index + 1) & mask;
+      }
+      if (table[index] == 0) {
+        table[index] = value;
+        count++;
+        sum += value;
+      }
+    }
+    this.containsZero = zero;
+    this.size = count;
+    this.hash = sum;
+  }
+
+  /**
+   * Creates new set from the given values. Duplicates are ignored.
+   *
+   * @param values the values. Cannot be null
+   * @return immutable set
+   * @throws NullPointerException     if {@code values} is null
+   * @throws IllegalArgumentException if there are more than 2^29 values
+   */
+  public static ImmutableIntHashSet of(int... values) {
+    Objects.requireNonNull(values, "values cannot be null");
+    if (values.length == 0) {
+      return EMPTY;
+    }
+    return new ImmutableIntHashSet(values);
+  }
+
+  /**
+   * Creates new set from the given boxed values. Duplicates are ignored.
+   *
+   * @param values the values. Cannot be null or contain null
+   * @return immutable set
+   * @throws NullPointerException     if {@code values} is null or contains null
+   * @throws IllegalArgumentException if there are more than 2^29 values
+   */
+  public static ImmutableIntHashSet of(Iterable<Integer> values) {
+    Objects.requireNonNull(values, "values cannot be null");
+    int[] array = new int[16];
+    int count = 0;
+    for (final Integer value : values) {
+      if (count == array.length) {
+        array = Arrays.copyOf(array, count * 2);
+      }
+      array[count++] = Objects.requireNonNull(value, "value cannot be null");
+    }
+    return of(Arrays.copyOf(array, count));
+  }
+
+  /**
+   * Creates new set from the values of another int set.
+   *
+   * @param set the source set. Cannot be null
+   * @return immutable hash set
+   * @throws NullPointerException if {@code set} is null
+   */
+  public static ImmutableIntHashSet of(ImmutableIntSet set) {
+    Objects.requireNonNull(set, "set cannot be null");
+    if (set instanceof ImmutableIntHashSet) {
+      return (ImmutableIntHashSet) set;
+    }
+    return of(set.toArray());
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(int value) {
+    if (value == 0) {
+      return containsZero;
+    }
+    final int mask = table.length - 1;
+    int index = PrimitiveHashing.index(value, shift);
+    int element = table[index];
+    while (element != 0) {
+      if (element == value) {
+        return true;
+      }
+      index = (index + 1) & mask;
+      element = table[index];
+    }
+    return false;
+  }
+
+  @Override
+  public void forEach(IntConsumer action) {
+    Objects.requireNonNull(action, "action cannot be null");
+    if (containsZero) {
+      action.accept(0);
+    }
+    for (final int element : table) {
+      if (element != 0) {
+        action.accept(element);
+      }
+    }
+  }
+
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    return new TableIterator();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return PrimitiveSets.equals(this, o);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return PrimitiveSets.toString(iterator());
+  }
+
+  private final class TableIterator implements PrimitiveIterator.OfInt {
+
+    private boolean zeroPending = containsZero;
+    private int index = -1;
+
+    private TableIterator() {
+      advance();
+    }
+
+    private void advance() {
+      index++;
+      while (index < table.length && table[index] == 0) {
+        index++;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return zeroPending || index < table.length;
+    }
+
+    @Override
+    public int nextInt() {
+      if (zeroPending) {
+        zeroPending = false;
+        return 0;
+      }
+      if (index >= table.length) {
+        throw new NoSuchElementException();
+      }
+      final int value = table[index];
+      advance();
+      return value;
+    }
+  }
+}
@@ -14,6 +14,9 @@ import java.util.function.Predicate;
  * Defines an immutable list. Unlike native {@link List} this interface does not have any methods
  * that can mutate its content. So it can be safely injected to any methods or objects.
  *
+ * <p>Two lists are equal if they contain equal elements in the same order, whatever their
+ * implementations are. The hash code is computed as {@linkplain List#hashCode()} does.</p>
+ *
  * @param <T> the type of the object, that list contains
  * @see ImmutableCollection
  * @see List
@@ -308,4 +311,18 @@ public interface ImmutableList<T> extends ImmutableCollection<T> {
   default ImmutableList<T> reversed() {
     return step(-1);
   }
+
+  /**
+   * Gets read-only {@linkplain List} view of the list. Unlike {@linkplain
+   * ImmutableList#toMutableList()} the view does not copy elements, so it can be passed to APIs
+   * which take {@linkplain List} in constant time. Mutating methods of the view throw {@linkplain
+   * UnsupportedOperationException}. Passing the view to {@linkplain Immutable#listOf(Iterable)}
+   * returns this list back.
+   *
+   * @return read-only list view
+   * @since 2.1
+   */
+  default List<T> asJavaList() {
+    return new JavaListView<>(this);
+  }
 }
@@ -0,0 +1,326 @@
+package com.kirekov.juu.collection.immutable;
+
+import com.kirekov.juu.lambda.LongLongConsumer;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * An immutable map with {@code long} keys and values backed by an open addressing table. Keys and
+ * values are stored in two parallel {@code long[]} arrays which are at most half full, so
+ * {@linkplain ImmutableLong2LongHashMap#get(long)} never allocates.
+ *
+ * <pre>{@code
+ * ImmutableLong2LongMap parents = ImmutableLong2LongHashMap.of(childIds, parentIds);
+ * long parent = parents.getOrDefault(childId, -1);
+ * }</pre>
+ *
+ * @see ImmutableLong2LongMap
+ * @since 2.1
+ */
+public final class ImmutableLong2LongHashMap implements ImmutableLong2LongMap {
+
+  private final long[] keys;
+  private final long[] values;
+  private final int shift;
+  private final boolean containsZeroKey;
+  private final long zeroKeyValue;
+  private final int size;
+
+  private ImmutableLong2LongHashMap(long[] keys, long[] values) {
+    final int length = PrimitiveHashing.tableLength(keys.length);
+    final int mask = length - 1;
+    this.keys = new long[length];
+    this.values = new long[length];
+    this.shift = PrimitiveHashing.longShift(length);
+    boolean zero = false;
+    long zeroValue = 0;
+    int count = 0;
+    for (int i = 0; i < keys.length; i++) {
+      final long key = keys[i];
+      if (key == 0) {
+        if (!zero) {
+          zero = true;
+          count++;
+        }
+        zeroValue = values[i];
+        continue;
+      }
+      int index = PrimitiveHashing.index(key, shift);
+      while (this.keys[index] != 0 && this.keys[index] != key) {
+        index = (index + 1) & mask;
+      }
+      if (this.keys[index] == 0) {
+        this.keys[index] = key;
+        count++;
+      }
+      this.values[index] = values[i];
+    }
+    this.containsZeroKey = zero;
+    this.zeroKeyValue = zeroValue;
+    this.size = count;
+  }
+
+  /**
+   * Creates new map from the parallel arrays of keys and values. If a key repeats, the last value
+   * wins.
+   *
+   * @param keys   the keys. Cannot be null
+   * @param values the values. Cannot be null and must have the same length as {@code keys}
+   * @return immutable map
+   * @throws NullPointerException     if {@code keys} or {@code values} is null
+   * @throws IllegalArgumentException if the arrays have different lengths or there are more than
+   *                                  2^29 keys
+   */
+  public static ImmutableLong2LongHashMap of(long[] keys, long[] values) {
+    Objects.requireNonNull(keys, "keys cannot be null");
+    Objects.requireNonNull(values, "values cannot be null");
+    if (keys.length != values.length) {
+      throw new IllegalArgumentException(String.format(
+          "Keys and values have different lengths: %s and %s", keys.length, values.length));
+    }
+    return new ImmutableLong2LongHashMap(keys, values);
+  }
+
+  /**
+   * Creates new map from regular java {@linkplain Map}. The entries are copied from the source.
+   *
+   * @param map the source map. Cannot be null or contain null keys or values
+   * @return immutable map
+   * @throws NullPointerException     if {@code map} is null or contains null key or value
+   * @throws IllegalArgumentException if there are more than 2^29 entries
+   */
+  public static ImmutableLong2LongHashMap of(Map<Long, Long> map) {
+    Objects.requireNonNull(map, "map cannot be null");
+    final long[] keys = new long[map.size()];
+    final long[] values = new long[map.size()];
+    int i = 0;
+    for (final Map.Entry<Long, Long> entry : map.entrySet()) {
+      keys[i] = Objects.requireNonNull(entry.getKey(), "key cannot be null");
+      values[i] = Objects.requireNonNull(entry.getValue(), "value cannot be null");
+      i++;
+    }
+    return new ImmutableLong2LongHashMap(keys, values);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(long key) {
+    if (key == 0) {
+      return containsZeroKey;
+    }
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(long value) {
+    if (containsZeroKey && zeroKeyValue == value) {
+      return true;
+    }
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != 0 && values[i] == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public long get(long key) {
+    if (key == 0) {
+      if (containsZeroKey) {
+        return zeroKeyValue;
+      }
+      throw new NoSuchElementException(String.format("No value for key %s", key));
+    }
+    final int index = indexOf(key);
+    if (index < 0) {
+      throw new NoSuchElementException(String.format("No value for key %s", key));
+    }
+    return values[index];
+  }
+
+  @Override
+  public long getOrDefault(long key, long defaultValue) {
+    if (key == 0) {
+      return containsZeroKey ? zeroKeyValue : defaultValue;
+    }
+    final int index = indexOf(key);
+    return index >= 0 ? values[index] : defaultValue;
+  }
+
+  @Override
+  public ImmutableLongSet keySet() {
+    return new KeySet();
+  }
+
+  @Override
+  public long[] values() {
+    final long[] array = new long[size];
+    int count = 0;
+    if (containsZeroKey) {
+      array[count++] = zeroKeyValue;
+    }
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != 0) {
+        array[count++] = values[i];
+      }
+    }
+    return array;
+  }
+
+  @Override
+  public void forEach(LongLongConsumer action) {
+    Objects.requireNonNull(action, "action cannot be null");
+    if (containsZeroKey) {
+      action.accept(0, zeroKeyValue);
+    }
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != 0) {
+        action.accept(keys[i], values[i]);
+      }
+    }
+  }
+
+  private int indexOf(long key) {
+    final int mask = keys.length - 1;
+    int index = PrimitiveHashing.index(key, shift);
+    long element = keys[index];
+    while (element != 0) {
+      if (element == key) {
+        return index;
+      }
+      index = (index + 1) & mask;
+      element = keys[index];
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ImmutableLong2LongMap)) {
+      return false;
+    }
+    final ImmutableLong2LongMap that = (ImmutableLong2LongMap) o;
+    if (size != that.size()) {
+      return false;
+    }
+    if (containsZeroKey && !(that.containsKey(0) && that.get(0) == zeroKeyValue)) {
+      return false;
+    }
+    for (int i = 0; i < keys.length; i++) {
+      final long key = keys[i];
+      if (key != 0 && !(that.containsKey(key) && that.get(key) == values[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = containsZeroKey ? Long.hashCode(zeroKeyValue) : 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != 0) {
+        hash += Long.hashCode(keys[i]) ^ Long.hashCode(values[i]);
+      }
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder("{");
+    forEach((key, value) -> {
+      if (builder.length() > 1) {
+        builder.append(", ");
+      }
+      builder.append(key).append('=').append(value);
+    });
+    return builder.append('}').toString();
+  }
+
+  private final class KeySet implements ImmutableLongSet {
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean contains(long value) {
+      return containsKey(value);
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+      Objects.requireNonNull(action, "action cannot be null");
+      ImmutableLong2LongHashMap.this.forEach((key, value) -> action.accept(key));
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+      return new KeyIterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return PrimitiveSets.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+      return PrimitiveSets.hashCode(this);
+    }
+
+    @Override
+    public String toString() {
+      return PrimitiveSets.toString(iterator());
+    }
+  }
+
+  private final class KeyIterator implements PrimitiveIterator.OfLong {
+
+    private boolean zeroPending = containsZeroKey;
+    private int index = -1;
+
+    private KeyIterator() {
+      advance();
+    }
+
+    private void advance() {
+      index++;
+      while (index < keys.length && keys[index] == 0) {
+        index++;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return zeroPending || index < keys.length;
+    }
+
+    @Override
+    public long nextLong() {
+      if (zeroPending) {
+        zeroPending = false;
+        return 0;
+      }
+      if (index >= keys.length) {
+        throw new NoSuchElementException();
+      }
+      final long key = keys[index];
+      advance();
+      return key;
+    }
+  }
+}
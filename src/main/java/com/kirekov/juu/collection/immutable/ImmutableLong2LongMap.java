@@ -0,0 +1,127 @@
+package com.kirekov.juu.collection.immutable;
+
+import com.kirekov.juu.lambda.LongLongConsumer;
+import java.util.NoSuchElementException;
+
+/**
+ * Defines an immutable map with primitive {@code long} keys and values. Unlike
+ * {@code ImmutableMap<Long, Long>} it boxes neither keys nor values, so lookups do not allocate.
+ *
+ * <p>Two maps are equal if they contain the same keys mapped to the same values, whatever the
+ * implementation is. The hash code is the same as the one of {@code java.util.Map<Long, Long>} with
+ * these entries.</p>
+ *
+ * @see ImmutableLong2LongHashMap
+ * @see ImmutableMap
+ * @since 2.1
+ */
+public interface ImmutableLong2LongMap {
+
+  /**
+   * Gets the count of entries.
+   *
+   * @return size
+   */
+  int size();
+
+  /**
+   * Whether the map has no entries.
+   *
+   * @return true if empty, otherwise false
+   */
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Whether the map has entries.
+   *
+   * @return true if not empty, otherwise false
+   */
+  default boolean isNotEmpty() {
+    return !isEmpty();
+  }
+
+  /**
+   * Whether the map contains the key.
+   *
+   * @param key the key to look for
+   * @return true if contains, otherwise false
+   */
+  boolean containsKey(long key);
+
+  /**
+   * Whether the map does not contain the key.
+   *
+   * @param key the key to look for
+   * @return true if does not contain, otherwise false
+   */
+  default boolean notContainsKey(long key) {
+    return !containsKey(key);
+  }
+
+  /**
+   * Whether the map contains the value. The lookup takes linear time.
+   *
+   * @param value the value to look for
+   * @return true if contains, otherwise false
+   */
+  boolean containsValue(long value);
+
+  /**
+   * Gets the value mapped to the key.
+   *
+   * @param key the key
+   * @return value
+   * @throws NoSuchElementException if there is no such key
+   */
+  long get(long key);
+
+  /**
+   * Gets the value mapped to the key or the default one.
+   *
+   * @param key          the key
+   * @param defaultValue the value returned if there is no such key
+   * @return value or {@code defaultValue}
+   */
+  long getOrDefault(long key, long defaultValue);
+
+  /**
+   * Gets the keys of the map.
+   *
+   * @return set of keys
+   */
+  ImmutableLongSet keySet();
+
+  /**
+   * Copies the values of the map into new array. The order is the same as the order of {@linkplain
+   * ImmutableLong2LongMap#keySet()}.
+   *
+   * @return array of values
+   */
+  long[] values();
+
+  /**
+   * Performs the action for each entry. The order is not specified.
+   *
+   * @param action the action. Cannot be null
+   * @throws NullPointerException if {@code action} is null
+   */
+  void forEach(LongLongConsumer action);
+
+  /**
+   * Gets the view of this map as {@linkplain ImmutableMap}. The view is created in constant time
+   * and boxes keys and values only when they are read from it.
+   *
+   * @return boxed view
+   */
+  default ImmutableMap<Long, Long> boxed() {
+    return new BoxedLong2LongMap(this);
+  }
+
+  @Override
+  boolean equals(Object o);
+
+  @Override
+  int hashCode();
+}
@@ -0,0 +1,208 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * An immutable set of {@code long} values backed by an open addressing table. The table is a plain
+ * {@code long[]} which is at most half full, so {@linkplain ImmutableLongHashSet#contains(long)}
+ * reads one or two adjacent slots on average and never allocates.
+ *
+ * <pre>{@code
+ * ImmutableLongSet allowed = ImmutableLongHashSet.of(ids);
+ * if (allowed.contains(userId)) {
+ *   ...
+ * }
+ * }</pre>
+ *
+ * @see ImmutableLongSet
+ * @since 2.1
+ */
+public final class ImmutableLongHashSet implements ImmutableLongSet {
+
+  private static final ImmutableLongHashSet EMPTY = new ImmutableLongHashSet(new long[0]);
+
+  private final long[] table;
+  private final int shift;
+  private final boolean containsZero;
+  private final int size;
+  private final int hash;
+
+  private ImmutableLongHashSet(long[] values) {
+    final int length = PrimitiveHashing.tableLength(values.length);
+    final int mask = length - 1;
+    this.table = new long[length];
+    this.shift = PrimitiveHashing.longShift(length);
+    boolean zero = false;
+    int count = 0;
+    int sum = 0;
+    for (final long value : values) {
+      if (value == 0) {
+        if (!zero) {
+          zero = true;
+          count++;
+        }
+        continue;
+      }
+      int index = PrimitiveHashing.index(value, shift);
+      while (table[index] != 0 && table[index] != value) {
+        index = (index + 1) & mask;
+      }
+      if (table[index] == 0) {
+        table[index] = value;
+        count++;
+        sum += Long.hashCode(value);
+      }
+    }
+    this.containsZero = zero;
+    this.size = count;
+    this.hash = sum;
+  }
+
+  /**
+   * Creates new set from the given values. Duplicates are ignored.
+   *
+   * @param values the values. Cannot be null
+   * @return immutable set
+   * @throws NullPointerException     if {@code values} is null
+   * @throws IllegalArgumentException if there are more than 2^29 values
+   */
+  public static ImmutableLongHashSet of(long... values) {
+    Objects.requireNonNull(values, "values cannot be null");
+    if (values.length == 0) {
+      return EMPTY;
+    }
+    return new ImmutableLongHashSet(values);
+  }
+
+  /**
+   * Creates new set from the given boxed values. Duplicates are ignored.
+   *
+   * @param values the values. Cannot be null or contain null
+   * @return immutable set
+   * @throws NullPointerException     if {@code values} is null or contains null
+   * @throws IllegalArgumentException if there are more than 2^29 values
+   */
+  public static ImmutableLongHashSet of(Iterable<Long> values) {
+    Objects.requireNonNull(values, "values cannot be null");
+    long[] array = new long[16];
+    int count = 0;
+    for (final Long value : values) {
+      if (count == array.length) {
+        array = Arrays.copyOf(array, count * 2);
+      }
+      array[count++] = Objects.requireNonNull(value, "value cannot be null");
+    }
+    return of(Arrays.copyOf(array, count));
+  }
+
+  /**
+   * Creates new set from the values of another long set.
+   *
+   * @param set the source set. Cannot be null
+   * @return immutable hash set
+   * @throws NullPointerException if {@code set} is null
+   */
+  public static ImmutableLongHashSet of(ImmutableLongSet set) {
+    Objects.requireNonNull(set, "set cannot be null");
+    if (set instanceof ImmutableLongHashSet) {
+      return (ImmutableLongHashSet) set;
+    }
+    return of(set.toArray());
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(long value) {
+    if (value == 0) {
+      return containsZero;
+    }
+    final int mask = table.length - 1;
+    int index = PrimitiveHashing.index(value, shift);
+    long element = table[index];
+    while (element != 0) {
+      if (element == value) {
+        return true;
+      }
+      index = (index + 1) & mask;
+      element = table[index];
+    }
+    return false;
+  }
+
+  @Override
+  public void forEach(LongConsumer action) {
+    Objects.requireNonNull(action, "action cannot be null");
+    if (containsZero) {
+      action.accept(0);
+    }
+    for (final long element : table) {
+      if (element != 0) {
+        action.accept(element);
+      }
+    }
+  }
+
+  @Override
+  public PrimitiveIterator.OfLong iterator() {
+    return new TableIterator();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return PrimitiveSets.equals(this, o);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return PrimitiveSets.toString(iterator());
+  }
+
+  private final class TableIterator implements PrimitiveIterator.OfLong {
+
+    private boolean zeroPending = containsZero;
+    private int index = -1;
+
+    private TableIterator() {
+      advance();
+    }
+
+    private void advance() {
+      index++;
+      while (index < table.length && table[index] == 0) {
+        index++;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return zeroPending || index < table.length;
+    }
+
+    @Override
+    public long nextLong() {
+      if (zeroPending) {
+        zeroPending = false;
+        return 0;
+      }
+      if (index >= table.length) {
+        throw new NoSuchElementException();
+      }
+      final long value = table[index];
+      advance();
+      return value;
+    }
+  }
+}
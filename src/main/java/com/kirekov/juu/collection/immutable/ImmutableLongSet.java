@@ -0,0 +1,128 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Defines an immutable set of primitive {@code long} values. Unlike {@code ImmutableSet<Long>} it
+ * does not box values, so lookups do not allocate and the set takes several times less memory.
+ *
+ * <p>Two long sets are equal if they contain the same values, whatever the implementation is. The
+ * hash code is the sum of {@linkplain Long#hashCode(long)} of the values, which is the same as the
+ * hash code of {@code java.util.Set<Long>} with these values.</p>
+ *
+ * @see ImmutableLongHashSet
+ * @see ImmutableSet
+ * @since 2.1
+ */
+public interface ImmutableLongSet {
+
+  /**
+   * Gets the count of values.
+   *
+   * @return size
+   */
+  int size();
+
+  /**
+   * Whether the set has no values.
+   *
+   * @return true if empty, otherwise false
+   */
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Whether the set has values.
+   *
+   * @return true if not empty, otherwise false
+   */
+  default boolean isNotEmpty() {
+    return !isEmpty();
+  }
+
+  /**
+   * Whether the set contains the value.
+   *
+   * @param value the value to look for
+   * @return true if contains, otherwise false
+   */
+  boolean contains(long value);
+
+  /**
+   * Whether the set does not contain the value.
+   *
+   * @param value the value to look for
+   * @return true if does not contain, otherwise false
+   */
+  default boolean notContains(long value) {
+    return !contains(value);
+  }
+
+  /**
+   * Performs the action for each value. The order is not specified.
+   *
+   * @param action the action. Cannot be null
+   * @throws NullPointerException if {@code action} is null
+   */
+  void forEach(LongConsumer action);
+
+  /**
+   * Gets the iterator over the values. The order is the same as in {@linkplain
+   * ImmutableLongSet#forEach(LongConsumer)}.
+   *
+   * @return iterator that does not support removal
+   */
+  PrimitiveIterator.OfLong iterator();
+
+  /**
+   * Gets the stream of the values.
+   *
+   * @return sequential stream
+   */
+  default LongStream stream() {
+    return StreamSupport.longStream(
+        Spliterators.spliterator(
+            iterator(),
+            size(),
+            Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE
+        ),
+        false
+    );
+  }
+
+  /**
+   * Copies the values into new array.
+   *
+   * @return array of the values
+   */
+  default long[] toArray() {
+    final long[] array = new long[size()];
+    final PrimitiveIterator.OfLong iterator = iterator();
+    for (int i = 0; i < array.length; i++) {
+      array[i] = iterator.nextLong();
+    }
+    return array;
+  }
+
+  /**
+   * Gets the view of this set as {@linkplain ImmutableSet}. The view is created in constant time
+   * and boxes values only when they are read from it.
+   *
+   * @return boxed view
+   */
+  default ImmutableSet<Long> boxed() {
+    return new BoxedLongSet(this);
+  }
+
+  @Override
+  boolean equals(Object o);
+
+  @Override
+  int hashCode();
+}
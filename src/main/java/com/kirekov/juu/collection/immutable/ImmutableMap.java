@@ -197,7 +197,8 @@ public interface ImmutableMap<K, V> {
   Map<K, V> toMutableMap();
 
   /**
-   * Overrides method from {@link Object#equals(Object)}. Must be implemented.
+   * Overrides method from {@link Object#equals(Object)}. Must be implemented. Two maps are equal
+   * if they contain the same keys mapped to equal values, whatever their implementations are.
    *
    * @param o the reference object with which to compare
    * @return true if two objects are equal and false otherwise
@@ -206,7 +207,8 @@ public interface ImmutableMap<K, V> {
   boolean equals(Object o);
 
   /**
-   * Overrides method from {@link Object#hashCode()}. Must be implemented.
+   * Overrides method from {@link Object#hashCode()}. Must be implemented. The hash code is
+   * computed as {@linkplain Map#hashCode()} does.
    *
    * @return a hash code value for this object
    */
@@ -237,4 +239,18 @@ public interface ImmutableMap<K, V> {
       action.accept(k, v);
     }
   }
+
+  /**
+   * Gets read-only {@linkplain Map} view of the map. Unlike {@linkplain
+   * ImmutableMap#toMutableMap()} the view does not copy entries, so it can be passed to APIs which
+   * take {@linkplain Map} in constant time. Mutating methods of the view throw {@linkplain
+   * UnsupportedOperationException}. Passing the view to {@linkplain Immutable#mapOf(Map)} returns
+   * this map back.
+   *
+   * @return read-only map view
+   * @since 2.1
+   */
+  default Map<K, V> asJavaMap() {
+    return new JavaMapView<>(this);
+  }
 }
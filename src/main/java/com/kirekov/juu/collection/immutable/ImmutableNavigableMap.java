@@ -187,4 +187,17 @@ public interface ImmutableNavigableMap<K, V> extends ImmutableSortedMap<K, V> {
    * @return new mutable navigable map
    */
   NavigableMap<K, V> toMutableNavigableMap();
+
+  /**
+   * Gets read-only {@linkplain NavigableMap} view of the map. Mutating methods of the view throw
+   * {@linkplain UnsupportedOperationException}. The default implementation copies the map once via
+   * {@linkplain ImmutableNavigableMap#toMutableNavigableMap()}, while {@linkplain ImmutableTreeMap}
+   * returns the view in constant time.
+   *
+   * @return read-only navigable map view
+   * @since 2.1
+   */
+  default NavigableMap<K, V> asJavaNavigableMap() {
+    return new JavaNavigableMapView<>(this, toMutableNavigableMap());
+  }
 }
@@ -1,5 +1,6 @@
 package com.kirekov.juu.collection.immutable;
 
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -7,6 +8,10 @@ import java.util.function.Predicate;
  * Defines an immutable set. Unlike native {@link java.util.Set} this interface does not have any
  * methods that can mutate its content. So it can be safely injected to any methods or objects.
  *
+ * <p>Two sets are equal if they have the same size and every element of one set is contained in
+ * the other one, whatever their implementations are. The hash code is computed as {@linkplain
+ * Set#hashCode()} does.</p>
+ *
  * @param <T> the type of the object, that set contains
  * @see ImmutableCollection
  * @see java.util.Set
@@ -37,4 +42,18 @@ public interface ImmutableSet<T> extends ImmutableCollection<T> {
    */
   @Override
   ImmutableSet<T> filter(Predicate<? super T> predicate);
+
+  /**
+   * Gets read-only {@linkplain Set} view of the set. Unlike {@linkplain
+   * ImmutableSet#toMutableSet()} the view does not copy elements, so it can be passed to APIs which
+   * take {@linkplain Set} in constant time. Mutating methods of the view throw {@linkplain
+   * UnsupportedOperationException}. Passing the view to {@linkplain Immutable#setOf(Iterable)}
+   * returns this set back.
+   *
+   * @return read-only set view
+   * @since 2.1
+   */
+  default Set<T> asJavaSet() {
+    return new JavaSetView<>(this);
+  }
 }
@@ -28,6 +28,7 @@ public final class ImmutableTreeMap<K, V> implements ImmutableNavigableMap<K, V>
   private final ImmutableSet<K> keys;
   private final ImmutableList<V> values;
   private final ImmutableSet<Pair<K, V>> pairs;
+  private int hash;
 
   /**
    * Creates new {@linkplain ImmutableTreeMap} from the given {@linkplain Map} and {@linkplain
@@ -74,46 +75,46 @@ public final class ImmutableTreeMap<K, V> implements ImmutableNavigableMap<K, V>
 
   @Override
   public Optional<Pair<K, V>> lowerPair(K key) {
-    return ImmutableCollectionUtils.tryGetElement(() -> navigableMap.lowerEntry(key))
+    return ImmutableCollectionUtils.tryGetElement(navigableMap, key, NavigableMap::lowerEntry)
         .map(Pair::of);
   }
 
   @Override
   public Optional<K> lowerKey(K key) {
-    return ImmutableCollectionUtils.tryGetElement(() -> navigableMap.lowerKey(key));
+    return ImmutableCollectionUtils.tryGetElement(navigableMap, key, NavigableMap::lowerKey);
   }
 
   @Override
   public Optional<Pair<K, V>> floorPair(K key) {
-    return ImmutableCollectionUtils.tryGetElement(() -> navigableMap.floorEntry(key))
+    return ImmutableCollectionUtils.tryGetElement(navigableMap, key, NavigableMap::floorEntry)
         .map(Pair::of);
   }
 
   @Override
   public Optional<K> floorKey(K key) {
-    return ImmutableCollectionUtils.tryGetElement(() -> navigableMap.floorKey(key));
+    return ImmutableCollectionUtils.tryGetElement(navigableMap, key, NavigableMap::floorKey);
   }
 
   @Override
   public Optional<Pair<K, V>> ceilingPair(K key) {
-    return ImmutableCollectionUtils.tryGetElement(() -> navigableMap.ceilingEntry(key))
+    return ImmutableCollectionUtils.tryGetElement(navigableMap, key, NavigableMap::ceilingEntry)
         .map(Pair::of);
   }
 
   @Override
   public Optional<K> ceilingKey(K key) {
-    return ImmutableCollectionUtils.tryGetElement(() -> navigableMap.ceilingKey(key));
+    return ImmutableCollectionUtils.tryGetElement(navigableMap, key, NavigableMap::ceilingKey);
   }
 
   @Override
   public Optional<Pair<K, V>> higherPair(K key) {
-    return ImmutableCollectionUtils.tryGetElement(() -> navigableMap.higherEntry(key))
+    return ImmutableCollectionUtils.tryGetElement(navigableMap, key, NavigableMap::higherEntry)
         .map(Pair::of);
   }
 
   @Override
   public Optional<K> higherKey(K key) {
-    return ImmutableCollectionUtils.tryGetElement(() -> navigableMap.higherKey(key));
+    return ImmutableCollectionUtils.tryGetElement(navigableMap, key, NavigableMap::higherKey);
   }
 
   @Override
@@ -202,6 +203,11 @@ public final class ImmutableTreeMap<K, V> implements ImmutableNavigableMap<K, V>
     return new TreeMap<>(navigableMap);
   }
 
+  @Override
+  public NavigableMap<K, V> asJavaNavigableMap() {
+    return new JavaNavigableMapView<>(this, navigableMap);
+  }
+
   @Override
   public Comparator<? super K> comparator() {
     return navigableMap.comparator();
@@ -267,18 +273,20 @@ public final class ImmutableTreeMap<K, V> implements ImmutableNavigableMap<K, V>
 
   @Override
   public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
+    if (o instanceof ImmutableTreeMap
+        && ImmutableEquality.cachedHashesDiffer(hash, ((ImmutableTreeMap<?, ?>) o).hash)) {
       return false;
     }
-    final ImmutableTreeMap<?, ?> that = (ImmutableTreeMap<?, ?>) o;
-    return navigableMap.equals(that.navigableMap);
+    return ImmutableEquality.mapEquals(this, o);
   }
 
   @Override
   public int hashCode() {
-    return navigableMap.hashCode();
+    int h = hash;
+    if (h == 0) {
+      h = navigableMap.hashCode();
+      hash = h;
+    }
+    return h;
   }
 }
@@ -28,6 +28,7 @@ public final class ImmutableTreeSet<T>
     extends AbstractImmutableSet<T> implements ImmutableNavigableSet<T> {
 
   private final NavigableSet<T> navigableSet;
+  private int hash;
 
   /**
    * Creates new {@linkplain ImmutableTreeSet}.
@@ -114,22 +115,22 @@ public final class ImmutableTreeSet<T>
 
   @Override
   public Optional<T> lower(T t) {
-    return ImmutableCollectionUtils.tryGetElement(() -> navigableSet.lower(t));
+    return ImmutableCollectionUtils.tryGetElement(navigableSet, t, NavigableSet::lower);
   }
 
   @Override
   public Optional<T> floor(T t) {
-    return ImmutableCollectionUtils.tryGetElement(() -> navigableSet.floor(t));
+    return ImmutableCollectionUtils.tryGetElement(navigableSet, t, NavigableSet::floor);
   }
 
   @Override
   public Optional<T> ceiling(T t) {
-    return ImmutableCollectionUtils.tryGetElement(() -> navigableSet.ceiling(t));
+    return ImmutableCollectionUtils.tryGetElement(navigableSet, t, NavigableSet::ceiling);
   }
 
   @Override
   public Optional<T> higher(T t) {
-    return ImmutableCollectionUtils.tryGetElement(() -> navigableSet.higher(t));
+    return ImmutableCollectionUtils.tryGetElement(navigableSet, t, NavigableSet::higher);
   }
 
   @Override
@@ -302,19 +303,21 @@ public final class ImmutableTreeSet<T>
 
   @Override
   public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
+    if (o instanceof ImmutableTreeSet
+        && ImmutableEquality.cachedHashesDiffer(hash, ((ImmutableTreeSet<?>) o).hash)) {
       return false;
     }
-    final ImmutableTreeSet<?> that = (ImmutableTreeSet<?>) o;
-    return navigableSet.equals(that.navigableSet);
+    return ImmutableEquality.setEquals(this, o);
   }
 
   @Override
   public int hashCode() {
-    return navigableSet.hashCode();
+    int h = hash;
+    if (h == 0) {
+      h = navigableSet.hashCode();
+      hash = h;
+    }
+    return h;
   }
 
   private ImmutableNavigableSet<T> tryGetSubSet(Supplier<ImmutableNavigableSet<T>> supplier) {
@@ -0,0 +1,628 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A container of the lower 16 bits of values of {@linkplain ImmutableIntBitmapSet} that share the
+ * same higher 16 bits. There are three representations, and every container uses the smallest one
+ * for its content:
+ * <ul>
+ *   <li>{@linkplain Array} is a sorted array of values. It holds at most 4096 values.</li>
+ *   <li>{@linkplain Bitmap} is a bitmap of 65536 bits, i.e. 8 KB.</li>
+ *   <li>{@linkplain Run} is a sorted array of runs of consecutive values.</li>
+ * </ul>
+ *
+ * <p>Containers are immutable and never empty. Binary operations return null if the result is
+ * empty.</p>
+ */
+abstract class IntContainer {
+
+  static final byte ARRAY = 0;
+  static final byte BITMAP = 1;
+  static final byte RUN = 2;
+
+  static final int MAX_ARRAY_SIZE = 4096;
+  static final int BITMAP_WORDS = 1024;
+
+  private static final int BITMAP_BYTES = BITMAP_WORDS * Long.BYTES;
+  private static final int WORD_SHIFT = 6;
+  private static final int WORD_MASK = 63;
+  private static final int LOW_MASK = 0xFFFF;
+
+  abstract int cardinality();
+
+  abstract boolean contains(char low);
+
+  /**
+   * Gets the count of values that are less than or equal to {@code low}.
+   */
+  abstract int rank(char low);
+
+  /**
+   * Gets the value at the given position in ascending order.
+   */
+  abstract char select(int index);
+
+  /**
+   * Performs the action for every value in ascending order.
+   *
+   * @param base   the higher 16 bits of the values
+   * @param action the action
+   */
+  abstract void forEach(int base, IntConsumer action);
+
+  /**
+   * Gets values in ascending order. The result must not be modified.
+   */
+  abstract char[] toChars();
+
+  /**
+   * Gets values as new bitmap.
+   */
+  abstract long[] toWords();
+
+  abstract byte type();
+
+  /**
+   * Gets the length of the serialized payload in chars for arrays and runs or in longs for
+   * bitmaps.
+   */
+  abstract int payloadLength();
+
+  abstract void writePayload(ByteBuffer buffer);
+
+  final int serializedPayloadBytes() {
+    return type() == BITMAP ? payloadLength() * Long.BYTES : payloadLength() * Character.BYTES;
+  }
+
+  /**
+   * Creates the smallest container for the sorted distinct values.
+   */
+  static IntContainer of(char[] sorted, int count) {
+    final int runs = countRuns(sorted, count);
+    final int arrayBytes = count <= MAX_ARRAY_SIZE ? count * Character.BYTES : Integer.MAX_VALUE;
+    if (runs * 2 * Character.BYTES < Math.min(arrayBytes, BITMAP_BYTES)) {
+      return Run.of(sorted, count, runs);
+    }
+    if (arrayBytes <= BITMAP_BYTES) {
+      return new Array(Arrays.copyOf(sorted, count));
+    }
+    final long[] words = new long[BITMAP_WORDS];
+    for (int i = 0; i < count; i++) {
+      words[sorted[i] >>> WORD_SHIFT] |= 1L << sorted[i];
+    }
+    return new Bitmap(words, count);
+  }
+
+  /**
+   * Creates the smallest container for the bitmap or returns null if the bitmap is empty.
+   */
+  static IntContainer ofWords(long[] words) {
+    int cardinality = 0;
+    int runs = 0;
+    long previous = 0;
+    for (final long word : words) {
+      cardinality += Long.bitCount(word);
+      runs += Long.bitCount(word & ~(word << 1 | previous >>> WORD_MASK));
+      previous = word;
+    }
+    if (cardinality == 0) {
+      return null;
+    }
+    final int arrayBytes =
+        cardinality <= MAX_ARRAY_SIZE ? cardinality * Character.BYTES : Integer.MAX_VALUE;
+    if (runs * 2 * Character.BYTES < Math.min(arrayBytes, BITMAP_BYTES)
+        || arrayBytes <= BITMAP_BYTES) {
+      return of(charsOf(words, cardinality), cardinality);
+    }
+    return new Bitmap(words, cardinality);
+  }
+
+  static IntContainer and(IntContainer first, IntContainer second) {
+    if (first instanceof Array && second instanceof Array) {
+      final char[] a = first.toChars();
+      final char[] b = second.toChars();
+      final char[] result = new char[Math.min(a.length, b.length)];
+      int i = 0;
+      int j = 0;
+      int count = 0;
+      while (i < a.length && j < b.length) {
+        if (a[i] < b[j]) {
+          i++;
+        } else if (a[i] > b[j]) {
+          j++;
+        } else {
+          result[count++] = a[i];
+          i++;
+          j++;
+        }
+      }
+      return count == 0 ? null : of(result, count);
+    }
+    if (first instanceof Array) {
+      return filter(first, second, true);
+    }
+    if (second instanceof Array) {
+      return filter(second, first, true);
+    }
+    final long[] words = first.toWords();
+    final long[] other = second.toWords();
+    for (int i = 0; i < BITMAP_WORDS; i++) {
+      words[i] &= other[i];
+    }
+    return ofWords(words);
+  }
+
+  static IntContainer or(IntContainer first, IntContainer second) {
+    if (first instanceof Array && second instanceof Array) {
+      return merge(first.toChars(), second.toChars(), false);
+    }
+    final long[] words = first.toWords();
+    final long[] other = second.toWords();
+    for (int i = 0; i < BITMAP_WORDS; i++) {
+      words[i] |= other[i];
+    }
+    return ofWords(words);
+  }
+
+  static IntContainer andNot(IntContainer first, IntContainer second) {
+    if (first instanceof Array) {
+      return filter(first, second, false);
+    }
+    final long[] words = first.toWords();
+    final long[] other = second.toWords();
+    for (int i = 0; i < BITMAP_WORDS; i++) {
+      words[i] &= ~other[i];
+    }
+    return ofWords(words);
+  }
+
+  static IntContainer xor(IntContainer first, IntContainer second) {
+    if (first instanceof Array && second instanceof Array) {
+      return merge(first.toChars(), second.toChars(), true);
+    }
+    final long[] words = first.toWords();
+    final long[] other = second.toWords();
+    for (int i = 0; i < BITMAP_WORDS; i++) {
+      words[i] ^= other[i];
+    }
+    return ofWords(words);
+  }
+
+  /**
+   * Reads the container written by {@linkplain IntContainer#writePayload(ByteBuffer)}.
+   *
+   * @throws IllegalArgumentException if the payload is malformed
+   */
+  static IntContainer read(byte type, int length, ByteBuffer buffer) {
+    switch (type) {
+      case ARRAY:
+        if (length <= 0 || length > MAX_ARRAY_SIZE) {
+          throw new IllegalArgumentException(
+              String.format("Array container size is out of range: %s", length));
+        }
+        final char[] values = new char[length];
+        buffer.asCharBuffer().get(values);
+        buffer.position(buffer.position() + length * Character.BYTES);
+        checkAscending(values);
+        return new Array(values);
+      case BITMAP:
+        if (length != BITMAP_WORDS) {
+          throw new IllegalArgumentException(
+              String.format("Bitmap container size is out of range: %s", length));
+        }
+        final long[] words = new long[BITMAP_WORDS];
+        buffer.asLongBuffer().get(words);
+        buffer.position(buffer.position() + BITMAP_BYTES);
+        int cardinality = 0;
+        for (final long word : words) {
+          cardinality += Long.bitCount(word);
+        }
+        if (cardinality == 0) {
+          throw new IllegalArgumentException("Bitmap container is empty");
+        }
+        return new Bitmap(words, cardinality);
+      case RUN:
+        if (length <= 0 || length > 2 * (LOW_MASK + 1) || length % 2 != 0) {
+          throw new IllegalArgumentException(
+              String.format("Run container size is out of range: %s", length));
+        }
+        final char[] runs = new char[length];
+        buffer.asCharBuffer().get(runs);
+        buffer.position(buffer.position() + length * Character.BYTES);
+        return Run.checked(runs);
+      default:
+        throw new IllegalArgumentException(String.format("Unknown container type: %s", type));
+    }
+  }
+
+  private static IntContainer filter(IntContainer array, IntContainer other, boolean keep) {
+    final char[] values = array.toChars();
+    final char[] result = new char[values.length];
+    int count = 0;
+    for (final char value : values) {
+      if (other.contains(value) == keep) {
+        result[count++] = value;
+      }
+    }
+    return count == 0 ? null : of(result, count);
+  }
+
+  private static IntContainer merge(char[] a, char[] b, boolean exclusive) {
+    final char[] result = new char[a.length + b.length];
+    int i = 0;
+    int j = 0;
+    int count = 0;
+    while (i < a.length || j < b.length) {
+      if (j == b.length || i < a.length && a[i] < b[j]) {
+        result[count++] = a[i++];
+      } else if (i == a.length || b[j] < a[i]) {
+        result[count++] = b[j++];
+      } else {
+        if (!exclusive) {
+          result[count++] = a[i];
+        }
+        i++;
+        j++;
+      }
+    }
+    return count == 0 ? null : of(result, count);
+  }
+
+  private static int countRuns(char[] sorted, int count) {
+    int runs = 0;
+    for (int i = 0; i < count; i++) {
+      if (i == 0 || sorted[i] != sorted[i - 1] + 1) {
+        runs++;
+      }
+    }
+    return runs;
+  }
+
+  private static char[] charsOf(long[] words, int cardinality) {
+    final char[] values = new char[cardinality];
+    int count = 0;
+    for (int i = 0; i < words.length; i++) {
+      long word = words[i];
+      while (word != 0) {
+        values[count++] = (char) (i << WORD_SHIFT | Long.numberOfTrailingZeros(word));
+        word &= word - 1;
+      }
+    }
+    return values;
+  }
+
+  private static void checkAscending(char[] values) {
+    for (int i = 1; i < values.length; i++) {
+      if (values[i] <= values[i - 1]) {
+        throw new IllegalArgumentException("Container values are not ascending");
+      }
+    }
+  }
+
+  /**
+   * Sorted array of values.
+   */
+  static final class Array extends IntContainer {
+
+    private final char[] values;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    Array(char[] values) {
+      super();
+      this.values = values;
+    }
+
+    @Override
+    int cardinality() {
+      return values.length;
+    }
+
+    @Override
+    boolean contains(char low) {
+      return Arrays.binarySearch(values, low) >= 0;
+    }
+
+    @Override
+    int rank(char low) {
+      final int index = Arrays.binarySearch(values, low);
+      return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    @Override
+    char select(int index) {
+      return values[index];
+    }
+
+    @Override
+    void forEach(int base, IntConsumer action) {
+      for (final char value : values) {
+        action.accept(base | value);
+      }
+    }
+
+    @Override
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    char[] toChars() {
+      return values;
+    }
+
+    @Override
+    long[] toWords() {
+      final long[] words = new long[BITMAP_WORDS];
+      for (final char value : values) {
+        words[value >>> WORD_SHIFT] |= 1L << value;
+      }
+      return words;
+    }
+
+    @Override
+    byte type() {
+      return ARRAY;
+    }
+
+    @Override
+    int payloadLength() {
+      return values.length;
+    }
+
+    @Override
+    void writePayload(ByteBuffer buffer) {
+      buffer.asCharBuffer().put(values);
+      buffer.position(buffer.position() + values.length * Character.BYTES);
+    }
+  }
+
+  /**
+   * Bitmap of all 65536 possible values.
+   */
+  static final class Bitmap extends IntContainer {
+
+    private final long[] words;
+    private final int cardinality;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    Bitmap(long[] words, int cardinality) {
+      super();
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(char low) {
+      return (words[low >>> WORD_SHIFT] & 1L << low) != 0;
+    }
+
+    @Override
+    int rank(char low) {
+      final int wordIndex = low >>> WORD_SHIFT;
+      int rank = 0;
+      for (int i = 0; i < wordIndex; i++) {
+        rank += Long.bitCount(words[i]);
+      }
+      return rank + Long.bitCount(words[wordIndex] & -1L >>> (WORD_MASK - (low & WORD_MASK)));
+    }
+
+    @Override
+    char select(int index) {
+      int remaining = index;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        final int bits = Long.bitCount(words[i]);
+        if (remaining < bits) {
+          long word = words[i];
+          for (int j = 0; j < remaining; j++) {
+            word &= word - 1;
+          }
+          return (char) (i << WORD_SHIFT | Long.numberOfTrailingZeros(word));
+        }
+        remaining -= bits;
+      }
+      throw new IndexOutOfBoundsException(String.valueOf(index));
+    }
+
+    @Override
+    void forEach(int base, IntConsumer action) {
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        long word = words[i];
+        while (word != 0) {
+          action.accept(base | i << WORD_SHIFT | Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+    }
+
+    @Override
+    char[] toChars() {
+      return charsOf(words, cardinality);
+    }
+
+    @Override
+    long[] toWords() {
+      return words.clone();
+    }
+
+    @Override
+    byte type() {
+      return BITMAP;
+    }
+
+    @Override
+    int payloadLength() {
+      return BITMAP_WORDS;
+    }
+
+    @Override
+    void writePayload(ByteBuffer buffer) {
+      buffer.asLongBuffer().put(words);
+      buffer.position(buffer.position() + BITMAP_BYTES);
+    }
+  }
+
+  /**
+   * Sorted runs of consecutive values. Every run is stored as the pair of its start and its length
+   * minus one.
+   */
+  static final class Run extends IntContainer {
+
+    private final char[] runs;
+    private final int cardinality;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    private Run(char[] runs, int cardinality) {
+      super();
+      this.runs = runs;
+      this.cardinality = cardinality;
+    }
+
+    static Run of(char[] sorted, int count, int runCount) {
+      final char[] runs = new char[runCount * 2];
+      int run = -1;
+      for (int i = 0; i < count; i++) {
+        if (i == 0 || sorted[i] != sorted[i - 1] + 1) {
+          run++;
+          runs[run * 2] = sorted[i];
+        }
+        runs[run * 2 + 1] = (char) (sorted[i] - runs[run * 2]);
+      }
+      return new Run(runs, count);
+    }
+
+    static Run ofRange(int fromInclusive, int toInclusive) {
+      return new Run(
+          new char[]{(char) fromInclusive, (char) (toInclusive - fromInclusive)},
+          toInclusive - fromInclusive + 1
+      );
+    }
+
+    static Run checked(char[] runs) {
+      int cardinality = 0;
+      int previousEnd = -2;
+      for (int i = 0; i < runs.length; i += 2) {
+        final int start = runs[i];
+        final int end = start + runs[i + 1];
+        if (start <= previousEnd + 1 || end > LOW_MASK) {
+          throw new IllegalArgumentException("Container runs overlap or are not ascending");
+        }
+        cardinality += end - start + 1;
+        previousEnd = end;
+      }
+      return new Run(runs, cardinality);
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(char low) {
+      int from = 0;
+      int to = runs.length / 2 - 1;
+      while (from <= to) {
+        final int middle = (from + to) >>> 1;
+        final char start = runs[middle * 2];
+        if (low < start) {
+          to = middle - 1;
+        } else if (low - start > runs[middle * 2 + 1]) {
+          from = middle + 1;
+        } else {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    int rank(char low) {
+      int rank = 0;
+      for (int i = 0; i < runs.length; i += 2) {
+        final char start = runs[i];
+        if (low < start) {
+          break;
+        }
+        rank += Math.min(low - start, runs[i + 1]) + 1;
+      }
+      return rank;
+    }
+
+    @Override
+    char select(int index) {
+      int remaining = index;
+      for (int i = 0; i < runs.length; i += 2) {
+        final int length = runs[i + 1] + 1;
+        if (remaining < length) {
+          return (char) (runs[i] + remaining);
+        }
+        remaining -= length;
+      }
+      throw new IndexOutOfBoundsException(String.valueOf(index));
+    }
+
+    @Override
+    void forEach(int base, IntConsumer action) {
+      for (int i = 0; i < runs.length; i += 2) {
+        final int end = runs[i] + runs[i + 1];
+        for (int value = runs[i]; value <= end; value++) {
+          action.accept(base | value);
+        }
+      }
+    }
+
+    @Override
+    char[] toChars() {
+      final char[] values = new char[cardinality];
+      int count = 0;
+      for (int i = 0; i < runs.length; i += 2) {
+        final int end = runs[i] + runs[i + 1];
+        for (int value = runs[i]; value <= end; value++) {
+          values[count++] = (char) value;
+        }
+      }
+      return values;
+    }
+
+    @Override
+    long[] toWords() {
+      final long[] words = new long[BITMAP_WORDS];
+      for (int i = 0; i < runs.length; i += 2) {
+        final int start = runs[i];
+        final int end = start + runs[i + 1];
+        final int firstWord = start >>> WORD_SHIFT;
+        final int lastWord = end >>> WORD_SHIFT;
+        final long firstMask = -1L << start;
+        final long lastMask = -1L >>> (WORD_MASK - (end & WORD_MASK));
+        if (firstWord == lastWord) {
+          words[firstWord] |= firstMask & lastMask;
+        } else {
+          words[firstWord] |= firstMask;
+          Arrays.fill(words, firstWord + 1, lastWord, -1L);
+          words[lastWord] |= lastMask;
+        }
+      }
+      return words;
+    }
+
+    @Override
+    byte type() {
+      return RUN;
+    }
+
+    @Override
+    int payloadLength() {
+      return runs.length;
+    }
+
+    @Override
+    void writePayload(ByteBuffer buffer) {
+      buffer.asCharBuffer().put(runs);
+      buffer.position(buffer.position() + runs.length * Character.BYTES);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Read-only {@linkplain java.util.List} view of {@linkplain ImmutableList}. The view does not copy
+ * elements and delegates lookups to the source, so creating it takes constant time. Mutating
+ * methods throw {@linkplain UnsupportedOperationException}.
+ *
+ * @param <T> the type of the element
+ * @see ImmutableList#asJavaList()
+ */
+final class JavaListView<T> extends AbstractList<T> implements RandomAccess {
+
+  private final ImmutableList<T> source;
+
+  JavaListView(ImmutableList<T> source) {
+    super();
+    this.source = Objects.requireNonNull(source, "source cannot be null");
+  }
+
+  /**
+   * Gets the list which is viewed.
+   */
+  ImmutableList<T> source() {
+    return source;
+  }
+
+  @Override
+  public T get(int index) {
+    if (index < 0 || index >= source.size()) {
+      throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds", index));
+    }
+    return source.get(index);
+  }
+
+  @Override
+  public int size() {
+    return source.size();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return source.contains(o);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new UnmodifiableIterator<>(source.iterator());
+  }
+}
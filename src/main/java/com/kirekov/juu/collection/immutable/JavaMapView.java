@@ -0,0 +1,111 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Read-only {@linkplain Map} view of {@linkplain ImmutableMap}. The view does not copy entries and
+ * delegates lookups to the source, so creating it takes constant time. Mutating methods throw
+ * {@linkplain UnsupportedOperationException}.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ * @see ImmutableMap#asJavaMap()
+ */
+class JavaMapView<K, V> extends AbstractMap<K, V> {
+
+  private final ImmutableMap<K, V> source;
+
+  JavaMapView(ImmutableMap<K, V> source) {
+    super();
+    this.source = Objects.requireNonNull(source, "source cannot be null");
+  }
+
+  /**
+   * Gets the map which is viewed.
+   */
+  ImmutableMap<K, V> source() {
+    return source;
+  }
+
+  @Override
+  public int size() {
+    return source.size();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return source.containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    return source.containsValue(value);
+  }
+
+  @Override
+  public V get(Object key) {
+    return source.get(key);
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return source.keySet().asJavaSet();
+  }
+
+  @Override
+  public Collection<V> values() {
+    return source.values().asJavaList();
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    source.forEach(action);
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+    @Override
+    public int size() {
+      return source.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      final Entry<?, ?> entry = (Entry<?, ?>) o;
+      return source.containsKey(entry.getKey())
+          && Objects.equals(source.get(entry.getKey()), entry.getValue());
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      final Iterator<Pair<K, V>> pairs = source.pairSet().iterator();
+      return new Iterator<Entry<K, V>>() {
+        @Override
+        public boolean hasNext() {
+          return pairs.hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+          final Pair<K, V> pair = pairs.next();
+          return new SimpleImmutableEntry<>(pair.getKey(), pair.getValue());
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * Read-only {@linkplain NavigableMap} view of {@linkplain ImmutableNavigableMap}. Navigation is
+ * delegated to an unmodifiable wrapper of the backing {@linkplain NavigableMap}, so creating the
+ * view takes constant time. Lookups go to the backing map directly too, but keys it cannot compare
+ * are treated as absent like {@linkplain ImmutableTreeMap#get(Object)} does. Mutating methods throw
+ * {@linkplain UnsupportedOperationException}.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ * @see ImmutableNavigableMap#asJavaNavigableMap()
+ */
+final class JavaNavigableMapView<K, V> extends JavaMapView<K, V> implements NavigableMap<K, V> {
+
+  private final NavigableMap<K, V> navigableMap;
+
+  /**
+   * Creates new view.
+   *
+   * @param source       the immutable map
+   * @param navigableMap the map which backs the source. It is wrapped and never mutated
+   */
+  JavaNavigableMapView(ImmutableNavigableMap<K, V> source, NavigableMap<K, V> navigableMap) {
+    super(source);
+    Objects.requireNonNull(navigableMap, "navigable map cannot be null");
+    this.navigableMap = Collections.unmodifiableNavigableMap(navigableMap);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    try {
+      return navigableMap.containsKey(key);
+    } catch (ClassCastException | NullPointerException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public V get(Object key) {
+    try {
+      return navigableMap.get(key);
+    } catch (ClassCastException | NullPointerException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return navigableMap.keySet();
+  }
+
+  @Override
+  public Collection<V> values() {
+    return navigableMap.values();
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return navigableMap.entrySet();
+  }
+
+  @Override
+  public Entry<K, V> lowerEntry(K key) {
+    return navigableMap.lowerEntry(key);
+  }
+
+  @Override
+  public K lowerKey(K key) {
+    return navigableMap.lowerKey(key);
+  }
+
+  @Override
+  public Entry<K, V> floorEntry(K key) {
+    return navigableMap.floorEntry(key);
+  }
+
+  @Override
+  public K floorKey(K key) {
+    return navigableMap.floorKey(key);
+  }
+
+  @Override
+  public Entry<K, V> ceilingEntry(K key) {
+    return navigableMap.ceilingEntry(key);
+  }
+
+  @Override
+  public K ceilingKey(K key) {
+    return navigableMap.ceilingKey(key);
+  }
+
+  @Override
+  public Entry<K, V> higherEntry(K key) {
+    return navigableMap.higherEntry(key);
+  }
+
+  @Override
+  public K higherKey(K key) {
+    return navigableMap.higherKey(key);
+  }
+
+  @Override
+  public Entry<K, V> firstEntry() {
+    return navigableMap.firstEntry();
+  }
+
+  @Override
+  public Entry<K, V> lastEntry() {
+    return navigableMap.lastEntry();
+  }
+
+  @Override
+  public Entry<K, V> pollFirstEntry() {
+    return navigableMap.pollFirstEntry();
+  }
+
+  @Override
+  public Entry<K, V> pollLastEntry() {
+    return navigableMap.pollLastEntry();
+  }
+
+  @Override
+  public NavigableMap<K, V> descendingMap() {
+    return navigableMap.descendingMap();
+  }
+
+  @Override
+  public NavigableSet<K> navigableKeySet() {
+    return navigableMap.navigableKeySet();
+  }
+
+  @Override
+  public NavigableSet<K> descendingKeySet() {
+    return navigableMap.descendingKeySet();
+  }
+
+  @Override
+  public NavigableMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey,
+      boolean toInclusive) {
+    return navigableMap.subMap(fromKey, fromInclusive, toKey, toInclusive);
+  }
+
+  @Override
+  public NavigableMap<K, V> headMap(K toKey, boolean inclusive) {
+    return navigableMap.headMap(toKey, inclusive);
+  }
+
+  @Override
+  public NavigableMap<K, V> tailMap(K fromKey, boolean inclusive) {
+    return navigableMap.tailMap(fromKey, inclusive);
+  }
+
+  @Override
+  public Comparator<? super K> comparator() {
+    return navigableMap.comparator();
+  }
+
+  @Override
+  public SortedMap<K, V> subMap(K fromKey, K toKey) {
+    return navigableMap.subMap(fromKey, toKey);
+  }
+
+  @Override
+  public SortedMap<K, V> headMap(K toKey) {
+    return navigableMap.headMap(toKey);
+  }
+
+  @Override
+  public SortedMap<K, V> tailMap(K fromKey) {
+    return navigableMap.tailMap(fromKey);
+  }
+
+  @Override
+  public K firstKey() {
+    return navigableMap.firstKey();
+  }
+
+  @Override
+  public K lastKey() {
+    return navigableMap.lastKey();
+  }
+}
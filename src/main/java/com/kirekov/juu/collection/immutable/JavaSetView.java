@@ -0,0 +1,45 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Read-only {@linkplain java.util.Set} view of {@linkplain ImmutableSet}. The view does not copy
+ * elements and delegates lookups to the source, so creating it takes constant time. Mutating
+ * methods throw {@linkplain UnsupportedOperationException}.
+ *
+ * @param <T> the type of the element
+ * @see ImmutableSet#asJavaSet()
+ */
+final class JavaSetView<T> extends AbstractSet<T> {
+
+  private final ImmutableSet<T> source;
+
+  JavaSetView(ImmutableSet<T> source) {
+    super();
+    this.source = Objects.requireNonNull(source, "source cannot be null");
+  }
+
+  /**
+   * Gets the set which is viewed.
+   */
+  ImmutableSet<T> source() {
+    return source;
+  }
+
+  @Override
+  public int size() {
+    return source.size();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return source.contains(o);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new UnmodifiableIterator<>(source.iterator());
+  }
+}
@@ -0,0 +1,49 @@
+package com.kirekov.juu.collection.immutable;
+
+/**
+ * Helpers for open addressing tables of primitive keys. Keys are spread with Fibonacci hashing: the
+ * key is multiplied by the golden ratio and the highest bits of the product are taken as the slot
+ * index. Collisions are resolved with linear probing. Zero marks a free slot, so the zero key is
+ * kept outside the table.
+ */
+final class PrimitiveHashing {
+
+  private static final int INT_PHI = 0x9E3779B9;
+  private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+  private static final int MAX_TABLE_LENGTH = 1 << 30;
+
+  private PrimitiveHashing() {
+  }
+
+  /**
+   * Gets the length of the table that holds the given count of keys with the load factor not above
+   * one half. The length is a power of two.
+   *
+   * @param expectedSize the count of keys
+   * @return table length
+   * @throws IllegalArgumentException if the table would be too large
+   */
+  static int tableLength(int expectedSize) {
+    if (expectedSize > MAX_TABLE_LENGTH / 2) {
+      throw new IllegalArgumentException(
+          String.format("Too many elements for a primitive hash table: %s", expectedSize));
+    }
+    return Math.max(2, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+  }
+
+  static int intShift(int tableLength) {
+    return Integer.SIZE - Integer.numberOfTrailingZeros(tableLength);
+  }
+
+  static int longShift(int tableLength) {
+    return Long.SIZE - Integer.numberOfTrailingZeros(tableLength);
+  }
+
+  static int index(int key, int shift) {
+    return (key * INT_PHI) >>> shift;
+  }
+
+  static int index(long key, int shift) {
+    return (int) ((key * LONG_PHI) >>> shift);
+  }
+}
@@ -0,0 +1,83 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Implements the contract of {@linkplain Object#equals(Object)}, {@linkplain Object#hashCode()} and
+ * {@linkplain Object#toString()} for {@linkplain ImmutableIntSet} and {@linkplain ImmutableLongSet}
+ * through their public API, so that all implementations agree with each other.
+ */
+final class PrimitiveSets {
+
+  private PrimitiveSets() {
+  }
+
+  static boolean equals(ImmutableIntSet set, Object o) {
+    if (set == o) {
+      return true;
+    }
+    if (!(o instanceof ImmutableIntSet)) {
+      return false;
+    }
+    final ImmutableIntSet that = (ImmutableIntSet) o;
+    if (set.size() != that.size()) {
+      return false;
+    }
+    final PrimitiveIterator.OfInt iterator = set.iterator();
+    while (iterator.hasNext()) {
+      if (that.notContains(iterator.nextInt())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static boolean equals(ImmutableLongSet set, Object o) {
+    if (set == o) {
+      return true;
+    }
+    if (!(o instanceof ImmutableLongSet)) {
+      return false;
+    }
+    final ImmutableLongSet that = (ImmutableLongSet) o;
+    if (set.size() != that.size()) {
+      return false;
+    }
+    final PrimitiveIterator.OfLong iterator = set.iterator();
+    while (iterator.hasNext()) {
+      if (that.notContains(iterator.nextLong())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static int hashCode(ImmutableIntSet set) {
+    int hash = 0;
+    final PrimitiveIterator.OfInt iterator = set.iterator();
+    while (iterator.hasNext()) {
+      hash += iterator.nextInt();
+    }
+    return hash;
+  }
+
+  static int hashCode(ImmutableLongSet set) {
+    int hash = 0;
+    final PrimitiveIterator.OfLong iterator = set.iterator();
+    while (iterator.hasNext()) {
+      hash += Long.hashCode(iterator.nextLong());
+    }
+    return hash;
+  }
+
+  static String toString(PrimitiveIterator<?, ?> iterator) {
+    final StringBuilder builder = new StringBuilder("{");
+    while (iterator.hasNext()) {
+      builder.append(iterator.next());
+      if (iterator.hasNext()) {
+        builder.append(", ");
+      }
+    }
+    return builder.append('}').toString();
+  }
+}
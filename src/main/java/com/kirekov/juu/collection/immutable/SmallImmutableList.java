@@ -0,0 +1,280 @@
+package com.kirekov.juu.collection.immutable;
+
+import com.kirekov.juu.collection.immutable.abstraction.AbstractImmutableList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable list of one or two elements kept in fields, so the list is a single object. Lookups
+ * are answered directly, and operations which build new lists are delegated to a temporary
+ * {@linkplain ImmutableArrayList}, so that the behaviour is the same.
+ *
+ * @param <T> the type of the content
+ * @see Immutable#listOf(Object[])
+ */
+abstract class SmallImmutableList<T> extends AbstractImmutableList<T> {
+
+  /**
+   * Gets the element by the non-negative index which is less than size.
+   */
+  abstract T element(int index);
+
+  @Override
+  public final T get(int index) {
+    final int normalized = index >= 0 ? index : size() + index;
+    if (normalized < 0 || normalized >= size()) {
+      throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds", normalized));
+    }
+    return element(normalized);
+  }
+
+  @Override
+  public OptionalInt indexOf(T element) {
+    for (int i = 0; i < size(); i++) {
+      if (Objects.equals(element, element(i))) {
+        return OptionalInt.of(i);
+      }
+    }
+    return OptionalInt.empty();
+  }
+
+  @Override
+  public OptionalInt lastIndexOf(T element) {
+    for (int i = size() - 1; i >= 0; i--) {
+      if (Objects.equals(element, element(i))) {
+        return OptionalInt.of(i);
+      }
+    }
+    return OptionalInt.empty();
+  }
+
+  @Override
+  public boolean contains(Object element) {
+    for (int i = 0; i < size(); i++) {
+      if (Objects.equals(element, element(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public ImmutableList<T> slice(int fromIndex) {
+    return toArrayList().slice(fromIndex);
+  }
+
+  @Override
+  public ImmutableList<T> slice(int fromIndex, int toIndex) {
+    return toArrayList().slice(fromIndex, toIndex);
+  }
+
+  @Override
+  public ImmutableList<T> slice(int fromIndex, int toIndex, int stepSize) {
+    return toArrayList().slice(fromIndex, toIndex, stepSize);
+  }
+
+  @Override
+  public ImmutableList<T> step(int fromIndex, int stepSize) {
+    return toArrayList().step(fromIndex, stepSize);
+  }
+
+  @Override
+  public <R> ImmutableList<Pair<T, R>> zipWith(ImmutableList<R> list) {
+    return toArrayList().zipWith(list);
+  }
+
+  @Override
+  public ImmutableList<Pair<T, T>> zipWithNext() {
+    return toArrayList().zipWithNext();
+  }
+
+  @Override
+  public ImmutableList<T> concatWith(Iterable<T> iterable) {
+    return toArrayList().concatWith(iterable);
+  }
+
+  @Override
+  public <R> ImmutableList<R> map(Function<? super T, ? extends R> mapper) {
+    return toArrayList().map(mapper);
+  }
+
+  @Override
+  public <R> ImmutableList<R> flatMap(Function<? super T, ? extends Iterable<R>> mapper) {
+    return toArrayList().flatMap(mapper);
+  }
+
+  @Override
+  public ImmutableList<T> filter(Predicate<? super T> predicate) {
+    return toArrayList().filter(predicate);
+  }
+
+  @Override
+  public <R> ImmutableList<R> mapIndexed(BiFunction<Integer, ? super T, ? extends R> mapper) {
+    return toArrayList().mapIndexed(mapper);
+  }
+
+  @Override
+  public <R> ImmutableList<R> flatMapIndexed(
+      BiFunction<Integer, ? super T, ? extends Iterable<R>> mapper
+  ) {
+    return toArrayList().flatMapIndexed(mapper);
+  }
+
+  @Override
+  public ImmutableList<T> filterIndexed(BiPredicate<Integer, ? super T> predicate) {
+    return toArrayList().filterIndexed(predicate);
+  }
+
+  @Override
+  public void forEachIndexed(BiConsumer<Integer, ? super T> action) {
+    Objects.requireNonNull(action, "indexed for-each consumer cannot be null");
+    for (int i = 0; i < size(); i++) {
+      action.accept(i, element(i));
+    }
+  }
+
+  @Override
+  public ImmutableList<T> sorted(Comparator<? super T> comparator) {
+    return toArrayList().sorted(comparator);
+  }
+
+  @Override
+  public ImmutableList<T> limit(int size) {
+    return toArrayList().limit(size);
+  }
+
+  @Override
+  public ImmutableList<T> skip(int size) {
+    return toArrayList().skip(size);
+  }
+
+  @Override
+  public ImmutableList<T> toList() {
+    return this;
+  }
+
+  @Override
+  public ImmutableSet<T> toSet() {
+    return Immutable.setOf(this);
+  }
+
+  @Override
+  public Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  @Override
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  @Override
+  public Spliterator<T> spliterator() {
+    return Spliterators.spliterator(
+        iterator(),
+        size(),
+        Spliterator.ORDERED | Spliterator.IMMUTABLE
+    );
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new IndexIterator();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return ImmutableEquality.listEquals(this, o);
+  }
+
+  @Override
+  public int hashCode() {
+    return ImmutableEquality.listHashCode(this);
+  }
+
+  private ImmutableArrayList<T> toArrayList() {
+    return new ImmutableArrayList<>(this);
+  }
+
+  private final class IndexIterator implements Iterator<T> {
+
+    private int index;
+
+    @Override
+    public boolean hasNext() {
+      return index < size();
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return element(index++);
+    }
+  }
+
+  /**
+   * List of one element.
+   *
+   * @param <T> the type of the content
+   */
+  static final class List1<T> extends SmallImmutableList<T> {
+
+    private final T e0;
+
+    List1(T e0) {
+      super();
+      this.e0 = e0;
+    }
+
+    @Override
+    T element(int index) {
+      return e0;
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+  }
+
+  /**
+   * List of two elements.
+   *
+   * @param <T> the type of the content
+   */
+  static final class List2<T> extends SmallImmutableList<T> {
+
+    private final T e0;
+    private final T e1;
+
+    List2(T e0, T e1) {
+      super();
+      this.e0 = e0;
+      this.e1 = e1;
+    }
+
+    @Override
+    T element(int index) {
+      return index == 0 ? e0 : e1;
+    }
+
+    @Override
+    public int size() {
+      return 2;
+    }
+  }
+}
@@ -0,0 +1,268 @@
+package com.kirekov.juu.collection.immutable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable map of at most {@linkplain SmallImmutableMap#MAX_SIZE} entries. The map keeps entries
+ * in fields or in a plain array and looks keys up with a linear scan, which is faster than hashing
+ * for so few entries and takes one or two objects instead of a {@linkplain HashMap} with its table
+ * and nodes. Key set, values and pairs are created on demand. Entries are iterated in the
+ * insertion order.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ * @see Immutable#mapOf(Object, Object)
+ */
+abstract class SmallImmutableMap<K, V> implements ImmutableMap<K, V> {
+
+  /**
+   * The maximum size of the map. Larger maps are backed by {@linkplain ImmutableHashMap}.
+   */
+  static final int MAX_SIZE = 8;
+
+  /**
+   * Creates new map of the keys and values which are interleaved in the array. Repeated keys are
+   * replaced by the last value.
+   *
+   * @param entries interleaved keys and values. The array may be reused by the map
+   */
+  static <K, V> ImmutableMap<K, V> of(Object[] entries) {
+    int size = 0;
+    for (int i = 0; i < entries.length; i += 2) {
+      final int index = indexOf(entries, size, entries[i]);
+      if (index < 0) {
+        entries[size * 2] = entries[i];
+        entries[size * 2 + 1] = entries[i + 1];
+        size++;
+      } else {
+        entries[index * 2 + 1] = entries[i + 1];
+      }
+    }
+    if (size == 1) {
+      return new Map1<>(entries[0], entries[1]);
+    }
+    final Object[] distinct = new Object[size * 2];
+    System.arraycopy(entries, 0, distinct, 0, distinct.length);
+    return new MapN<>(distinct);
+  }
+
+  private static int indexOf(Object[] entries, int size, Object key) {
+    for (int i = 0; i < size; i++) {
+      if (Objects.equals(entries[i * 2], key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the key by the non-negative index which is less than size.
+   */
+  abstract K keyAt(int index);
+
+  /**
+   * Gets the value by the non-negative index which is less than size.
+   */
+  abstract V valueAt(int index);
+
+  /**
+   * Gets the index of the key or -1 if there is no such key.
+   */
+  abstract int indexOfKey(Object key);
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOfKey(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    for (int i = 0; i < size(); i++) {
+      if (Objects.equals(valueAt(i), value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public V get(Object key) {
+    final int index = indexOfKey(key);
+    return index >= 0 ? valueAt(index) : null;
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    final int index = indexOfKey(key);
+    return index >= 0 ? valueAt(index) : defaultValue;
+  }
+
+  @Override
+  public ImmutableSet<K> keySet() {
+    final Object[] keys = new Object[size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = keyAt(i);
+    }
+    return SmallImmutableSet.ofDistinct(keys, keys.length);
+  }
+
+  @Override
+  public ImmutableList<V> values() {
+    final List<V> values = new ArrayList<>(size());
+    for (int i = 0; i < size(); i++) {
+      values.add(valueAt(i));
+    }
+    return Immutable.listOf(values);
+  }
+
+  @Override
+  public ImmutableSet<Pair<K, V>> pairSet() {
+    final Object[] pairs = new Object[size()];
+    for (int i = 0; i < pairs.length; i++) {
+      pairs[i] = Pair.of(keyAt(i), valueAt(i));
+    }
+    return SmallImmutableSet.ofDistinct(pairs, pairs.length);
+  }
+
+  @Override
+  public Map<K, V> toMutableMap() {
+    final Map<K, V> map = new HashMap<>();
+    for (int i = 0; i < size(); i++) {
+      map.put(keyAt(i), valueAt(i));
+    }
+    return map;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    Objects.requireNonNull(action);
+    for (int i = 0; i < size(); i++) {
+      action.accept(keyAt(i), valueAt(i));
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ImmutableMap)) {
+      return false;
+    }
+    final ImmutableMap<?, ?> that = (ImmutableMap<?, ?>) o;
+    if (size() != that.size()) {
+      return false;
+    }
+    for (int i = 0; i < size(); i++) {
+      if (!ImmutableEquality.containsEntry(that, keyAt(i), valueAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 0;
+    for (int i = 0; i < size(); i++) {
+      hash += ImmutableEquality.entryHashCode(keyAt(i), valueAt(i));
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder("{");
+    for (int i = 0; i < size(); i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append(keyAt(i)).append('=').append(valueAt(i));
+    }
+    return builder.append('}').toString();
+  }
+
+  /**
+   * Map of one entry.
+   *
+   * @param <K> the type of the key
+   * @param <V> the type of the value
+   */
+  static final class Map1<K, V> extends SmallImmutableMap<K, V> {
+
+    private final Object k0;
+    private final Object v0;
+
+    Map1(Object k0, Object v0) {
+      super();
+      this.k0 = k0;
+      this.v0 = v0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    K keyAt(int index) {
+      return (K) k0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    V valueAt(int index) {
+      return (V) v0;
+    }
+
+    @Override
+    int indexOfKey(Object key) {
+      return Objects.equals(k0, key) ? 0 : -1;
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+  }
+
+  /**
+   * Map of several entries which are kept in an array of interleaved keys and values.
+   *
+   * @param <K> the type of the key
+   * @param <V> the type of the value
+   */
+  static final class MapN<K, V> extends SmallImmutableMap<K, V> {
+
+    private final Object[] entries;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    MapN(Object[] entries) {
+      super();
+      this.entries = entries;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    K keyAt(int index) {
+      return (K) entries[index * 2];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    V valueAt(int index) {
+      return (V) entries[index * 2 + 1];
+    }
+
+    @Override
+    int indexOfKey(Object key) {
+      return indexOf(entries, size(), key);
+    }
+
+    @Override
+    public int size() {
+      return entries.length / 2;
+    }
+  }
+}
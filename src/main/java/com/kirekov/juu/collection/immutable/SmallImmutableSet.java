@@ -0,0 +1,201 @@
+package com.kirekov.juu.collection.immutable;
+
+import com.kirekov.juu.collection.immutable.abstraction.AbstractImmutableSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable set of at most {@linkplain SmallImmutableSet#MAX_SIZE} elements. The set keeps
+ * elements in a field or in a plain array and looks them up with a linear scan, which is faster
+ * than hashing for so few elements and takes one or two objects instead of a {@linkplain
+ * java.util.HashSet} with its table and nodes. Operations which build new sets are delegated to
+ * a temporary {@linkplain ImmutableHashSet}, so that the behaviour is the same. Elements are
+ * iterated in the insertion order.
+ *
+ * @param <T> the type of the content
+ * @see Immutable#setOf(Object[])
+ */
+abstract class SmallImmutableSet<T> extends AbstractImmutableSet<T> {
+
+  /**
+   * The maximum size of the set. Larger sets are backed by {@linkplain ImmutableHashSet}.
+   */
+  static final int MAX_SIZE = 8;
+
+  /**
+   * Creates new set of the distinct elements. The array must not be modified afterwards.
+   */
+  static <T> ImmutableSet<T> ofDistinct(Object[] elements, int size) {
+    if (size == 1) {
+      return new Set1<>(elements[0]);
+    }
+    return new SetN<>(elements.length == size ? elements : Arrays.copyOf(elements, size));
+  }
+
+  /**
+   * Gets the element by the non-negative index which is less than size.
+   */
+  abstract T element(int index);
+
+  @Override
+  public ImmutableSet<T> concatWith(Iterable<T> iterable) {
+    return toHashSet().concatWith(iterable);
+  }
+
+  @Override
+  public <R> ImmutableSet<R> map(Function<? super T, ? extends R> mapper) {
+    return toHashSet().map(mapper);
+  }
+
+  @Override
+  public <R> ImmutableSet<R> flatMap(Function<? super T, ? extends Iterable<R>> mapper) {
+    return toHashSet().flatMap(mapper);
+  }
+
+  @Override
+  public ImmutableSet<T> filter(Predicate<? super T> predicate) {
+    return toHashSet().filter(predicate);
+  }
+
+  @Override
+  public ImmutableList<T> toList() {
+    return Immutable.listOf(this);
+  }
+
+  @Override
+  public ImmutableSet<T> toSet() {
+    return this;
+  }
+
+  @Override
+  public Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  @Override
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  @Override
+  public Spliterator<T> spliterator() {
+    return Spliterators.spliterator(
+        iterator(),
+        size(),
+        Spliterator.DISTINCT | Spliterator.IMMUTABLE
+    );
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new IndexIterator();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return ImmutableEquality.setEquals(this, o);
+  }
+
+  @Override
+  public int hashCode() {
+    return ImmutableEquality.setHashCode(this);
+  }
+
+  private ImmutableHashSet<T> toHashSet() {
+    return new ImmutableHashSet<>(this);
+  }
+
+  private final class IndexIterator implements Iterator<T> {
+
+    private int index;
+
+    @Override
+    public boolean hasNext() {
+      return index < size();
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return element(index++);
+    }
+  }
+
+  /**
+   * Set of one element.
+   *
+   * @param <T> the type of the content
+   */
+  static final class Set1<T> extends SmallImmutableSet<T> {
+
+    private final Object e0;
+
+    Set1(Object e0) {
+      super();
+      this.e0 = e0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    T element(int index) {
+      return (T) e0;
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+      return Objects.equals(e0, element);
+    }
+  }
+
+  /**
+   * Set of several elements which are kept in an array.
+   *
+   * @param <T> the type of the content
+   */
+  static final class SetN<T> extends SmallImmutableSet<T> {
+
+    private final Object[] elements;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    SetN(Object[] elements) {
+      super();
+      this.elements = elements;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    T element(int index) {
+      return (T) elements[index];
+    }
+
+    @Override
+    public int size() {
+      return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+      for (final Object e : elements) {
+        if (Objects.equals(e, element)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,189 @@
+package com.kirekov.juu.lambda;
+
+import com.kirekov.juu.collection.immutable.Immutable;
+import com.kirekov.juu.collection.immutable.ImmutableList;
+import com.kirekov.juu.collection.immutable.ImmutableMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Implementation for {@linkplain Function} which coalesces individual calls into bulk calls. Keys
+ * requested by different threads are collected into a batch that is resolved with a single
+ * invocation of the bulk loader. The batch is flushed either when it reaches {@code maxBatchSize}
+ * distinct keys or when {@code maxDelay} has passed since the first key was added. Each key is
+ * requested only once per batch, callers asking for the same key share the result.
+ *
+ * <p>If the bulk loader returns no value for the key, {@linkplain BatchingFunction#apply(Object)}
+ * returns null. If the bulk loader throws an exception, every caller of the batch receives it.</p>
+ *
+ * <p>The class is thread-safe. The time window is tracked by a single daemon thread which is
+ * released by {@linkplain BatchingFunction#close()}. A batch which is flushed by size cancels its
+ * scheduled flush, so the scheduler queue holds at most one task.</p>
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ * @since 2.1
+ */
+public final class BatchingFunction<K, V> implements Function<K, V>, AutoCloseable {
+
+  private final Function<ImmutableList<K>, ImmutableMap<K, V>> bulkLoader;
+  private final int maxBatchSize;
+  private final long maxDelayNanos;
+  private final ScheduledThreadPoolExecutor scheduler;
+
+  private final Object lock = new Object();
+  private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+  private long generation;
+  private ScheduledFuture<?> scheduledFlush;
+
+  /**
+   * Creates new {@linkplain BatchingFunction}.
+   *
+   * @param bulkLoader   function that resolves a batch of distinct keys. Cannot be null
+   * @param maxBatchSize the count of distinct keys that triggers the flush. Must be positive
+   * @param maxDelay     the maximum time the first key of the batch waits for the flush
+   * @param unit         the unit of {@code maxDelay}. Cannot be null
+   * @throws NullPointerException     if {@code bulkLoader} or {@code unit} is null
+   * @throws IllegalArgumentException if {@code maxBatchSize} is not positive or {@code maxDelay}
+   *                                  is negative
+   */
+  public BatchingFunction(
+      Function<ImmutableList<K>, ImmutableMap<K, V>> bulkLoader,
+      int maxBatchSize,
+      long maxDelay,
+      TimeUnit unit
+  ) {
+    this.bulkLoader = Objects.requireNonNull(bulkLoader, "bulk loader cannot be null");
+    Objects.requireNonNull(unit, "time unit cannot be null");
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Max batch size is not positive: %s", maxBatchSize));
+    }
+    if (maxDelay < 0) {
+      throw new IllegalArgumentException(
+          String.format("Max delay is less than zero: %s", maxDelay));
+    }
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayNanos = unit.toNanos(maxDelay);
+    this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      final Thread thread = new Thread(runnable, "batching-function-flusher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.scheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Adds the key to the current batch and waits until the batch is resolved.
+   *
+   * @param key the key to resolve
+   * @return the value that the bulk loader associated with the key, or null if there is none
+   * @throws IllegalStateException if the function has been closed
+   */
+  @Override
+  public V apply(K key) {
+    final CompletableFuture<V> future;
+    Map<K, CompletableFuture<V>> batchToFlush = null;
+    synchronized (lock) {
+      if (scheduler.isShutdown()) {
+        throw new IllegalStateException("Batching function has been closed");
+      }
+      final CompletableFuture<V> existing = pending.get(key);
+      if (existing == null) {
+        future = new CompletableFuture<>();
+        pending.put(key, future);
+        if (pending.size() >= maxBatchSize) {
+          batchToFlush = takeBatch();
+        } else if (pending.size() == 1) {
+          scheduleFlush(generation);
+        }
+      } else {
+        future = existing;
+      }
+    }
+    if (batchToFlush != null) {
+      flush(batchToFlush);
+    }
+    return await(future);
+  }
+
+  /**
+   * Flushes the keys that are still pending and stops the flushing thread. Subsequent calls of
+   * {@linkplain BatchingFunction#apply(Object)} throw {@linkplain IllegalStateException}.
+   */
+  @Override
+  public void close() {
+    final Map<K, CompletableFuture<V>> batch;
+    synchronized (lock) {
+      scheduler.shutdownNow();
+      batch = takeBatch();
+    }
+    flush(batch);
+  }
+
+  /**
+   * Gets the count of flushes which are waiting in the scheduler queue.
+   */
+  int scheduledFlushes() {
+    return scheduler.getQueue().size();
+  }
+
+  private void scheduleFlush(long batchGeneration) {
+    scheduledFlush = scheduler.schedule(() -> {
+      final Map<K, CompletableFuture<V>> batch;
+      synchronized (lock) {
+        if (generation != batchGeneration) {
+          return;
+        }
+        batch = takeBatch();
+      }
+      flush(batch);
+    }, maxDelayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private Map<K, CompletableFuture<V>> takeBatch() {
+    final Map<K, CompletableFuture<V>> batch = pending;
+    pending = new LinkedHashMap<>();
+    generation++;
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+    return batch;
+  }
+
+  private void flush(Map<K, CompletableFuture<V>> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      final ImmutableMap<K, V> values = bulkLoader.apply(Immutable.listOf(batch.keySet()));
+      Objects.requireNonNull(values, "bulk loader returned null");
+      batch.forEach((key, future) -> future.complete(values.get(key)));
+    } catch (RuntimeException | Error e) {
+      batch.values().forEach(future -> future.completeExceptionally(e));
+    }
+  }
+
+  private static <V> V await(CompletableFuture<V> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.kirekov.juu.lambda;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Represents an operation that accepts a primitive {@code int} and an object and returns nothing.
+ * This is the {@code int}-key specialization of {@linkplain BiConsumer}.
+ *
+ * @param <T> the type of the object argument
+ * @see BiConsumer
+ * @since 2.1
+ */
+@FunctionalInterface
+public interface IntObjectConsumer<T> {
+
+  void accept(int key, T value);
+}
@@ -0,0 +1,187 @@
+package com.kirekov.juu.lambda;
+
+import com.kirekov.juu.collection.immutable.Immutable;
+import com.kirekov.juu.collection.immutable.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Implementation for {@linkplain Supplier} which calculates value only once and may depend on other
+ * {@linkplain Lazy} values. Unlike {@linkplain CachedResultSupplier} this implementation is
+ * thread-safe. Dependencies are forced before the value itself, so the supplier can safely call
+ * {@linkplain Lazy#get()} on them.
+ *
+ * <p>Dependencies can be declared in any order before the value is calculated, which allows to
+ * describe the whole graph first and force it later with {@linkplain LazyInitializer}. If the
+ * dependencies form a cycle, {@linkplain Lazy#get()} throws {@linkplain IllegalStateException}
+ * instead of recursing infinitely.</p>
+ *
+ * <p>The cycle check walks the dependency graph before anything is forced, and dependencies are
+ * forced without holding the monitor of the dependent value. The monitor is held only while the
+ * supplier runs, so threads that force the same cycle from different ends fail instead of waiting
+ * for each other.</p>
+ *
+ * @param <T> the type of the return value
+ * @see LazyInitializer
+ * @since 2.1
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+  private final String name;
+  private final Supplier<T> supplier;
+  private final List<Lazy<?>> dependencies = new ArrayList<>();
+
+  private volatile boolean initialized;
+  private boolean calculating;
+  private T value;
+
+  private Lazy(String name, Supplier<T> supplier) {
+    this.name = name;
+    this.supplier = supplier;
+  }
+
+  /**
+   * Creates new {@linkplain Lazy} value.
+   *
+   * @param name     the name that is used in reports and error messages. Cannot be null
+   * @param supplier the function that calculates value. Cannot be null
+   * @param <T>      the type of the value
+   * @return lazy value
+   * @throws NullPointerException if {@code name} or {@code supplier} is null
+   */
+  public static <T> Lazy<T> of(String name, Supplier<T> supplier) {
+    Objects.requireNonNull(name, "name cannot be null");
+    Objects.requireNonNull(supplier, "supplier cannot be null");
+    return new Lazy<>(name, supplier);
+  }
+
+  /**
+   * Declares the values that have to be calculated before this one.
+   *
+   * @param lazies the dependencies. Cannot be null or contain null
+   * @return this value
+   * @throws NullPointerException  if {@code lazies} is null or contains null
+   * @throws IllegalStateException if this value has been already calculated
+   */
+  public synchronized Lazy<T> dependsOn(Lazy<?>... lazies) {
+    Objects.requireNonNull(lazies, "dependencies cannot be null");
+    if (initialized) {
+      throw new IllegalStateException(
+          String.format("Lazy '%s' has been already initialized", name));
+    }
+    for (final Lazy<?> lazy : lazies) {
+      dependencies.add(Objects.requireNonNull(lazy, "dependency cannot be null"));
+    }
+    return this;
+  }
+
+  /**
+   * Gets the name of the value.
+   *
+   * @return name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the declared dependencies.
+   *
+   * @return immutable list of dependencies
+   */
+  public synchronized ImmutableList<Lazy<?>> getDependencies() {
+    return Immutable.listOf(dependencies);
+  }
+
+  /**
+   * Whether the value has been calculated.
+   *
+   * @return true if value is calculated, otherwise false
+   */
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  /**
+   * Forces the dependencies and calculates the value if it has not been calculated yet.
+   *
+   * @return the value
+   * @throws IllegalStateException if the dependencies form a cycle
+   */
+  @Override
+  public T get() {
+    if (!initialized) {
+      initialize();
+    }
+    return value;
+  }
+
+  private void initialize() {
+    checkNoCycle(this, newIdentitySet(), newIdentitySet());
+    List<Lazy<?>> forced;
+    do {
+      forced = dependencySnapshot();
+      for (final Lazy<?> dependency : forced) {
+        dependency.get();
+      }
+    } while (!calculate(forced.size()));
+  }
+
+  /**
+   * Calculates the value unless dependencies were added after the given number of them has been
+   * forced.
+   *
+   * @return false if there are dependencies that have not been forced yet, otherwise true
+   */
+  private synchronized boolean calculate(int forcedDependencies) {
+    if (initialized) {
+      return true;
+    }
+    if (calculating) {
+      throw new IllegalStateException(String.format("Cyclic dependency on lazy '%s'", name));
+    }
+    if (dependencies.size() != forcedDependencies) {
+      return false;
+    }
+    calculating = true;
+    try {
+      value = supplier.get();
+      initialized = true;
+    } finally {
+      calculating = false;
+    }
+    return true;
+  }
+
+  private synchronized List<Lazy<?>> dependencySnapshot() {
+    return new ArrayList<>(dependencies);
+  }
+
+  private static void checkNoCycle(Lazy<?> lazy, Set<Lazy<?>> path, Set<Lazy<?>> checked) {
+    if (lazy.initialized || checked.contains(lazy)) {
+      return;
+    }
+    if (!path.add(lazy)) {
+      throw new IllegalStateException(String.format("Cyclic dependency on lazy '%s'", lazy.name));
+    }
+    for (final Lazy<?> dependency : lazy.dependencySnapshot()) {
+      checkNoCycle(dependency, path, checked);
+    }
+    path.remove(lazy);
+    checked.add(lazy);
+  }
+
+  private static Set<Lazy<?>> newIdentitySet() {
+    return Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  @Override
+  public String toString() {
+    return "Lazy[" + name + "]";
+  }
+}
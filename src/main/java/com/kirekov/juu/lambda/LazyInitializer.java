@@ -0,0 +1,132 @@
+package com.kirekov.juu.lambda;
+
+import com.kirekov.juu.collection.immutable.Immutable;
+import com.kirekov.juu.collection.immutable.ImmutableMap;
+import com.kirekov.juu.measure.ExecutionResult;
+import com.kirekov.juu.measure.Measure;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Forces the graph of {@linkplain Lazy} values in parallel. The initializer collects all values
+ * reachable from the given roots, checks that their dependencies do not form a cycle and then
+ * calculates every value on the given {@linkplain Executor} as soon as all its dependencies are
+ * calculated. So, independent values are calculated simultaneously.
+ *
+ * <p>The time spent on every value is measured with {@linkplain Measure} in
+ * {@linkplain com.kirekov.juu.measure.MeasureUnit#NANOS}. The time does not include the time of
+ * dependencies calculation.</p>
+ *
+ * @see Lazy
+ * @since 2.1
+ */
+public final class LazyInitializer {
+
+  private final Executor executor;
+
+  /**
+   * Creates new {@linkplain LazyInitializer}.
+   *
+   * @param executor the executor that calculates values. Cannot be null
+   * @throws NullPointerException if {@code executor} is null
+   */
+  public LazyInitializer(Executor executor) {
+    this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+  }
+
+  /**
+   * Calculates the given values and all their dependencies. Blocks until every value is calculated
+   * or any of them fails.
+   *
+   * @param roots the values to calculate. Cannot be null or contain null
+   * @return the execution result of every calculated value
+   * @throws NullPointerException  if {@code roots} is null or contains null
+   * @throws IllegalStateException if the dependencies form a cycle
+   */
+  public ImmutableMap<Lazy<?>, ExecutionResult<?>> initialize(Lazy<?>... roots) {
+    Objects.requireNonNull(roots, "roots cannot be null");
+    final List<Lazy<?>> order = topologicalOrder(Arrays.asList(roots));
+    final Map<Lazy<?>, CompletableFuture<ExecutionResult<?>>> futures = new IdentityHashMap<>();
+    for (final Lazy<?> lazy : order) {
+      final CompletableFuture<?>[] dependencies = lazy.getDependencies()
+          .stream()
+          .map(futures::get)
+          .toArray(CompletableFuture<?>[]::new);
+      futures.put(
+          lazy,
+          CompletableFuture.allOf(dependencies)
+              .thenApplyAsync(v -> Measure.executionTime(lazy).inNanos(), executor)
+      );
+    }
+    final Map<Lazy<?>, ExecutionResult<?>> results = new LinkedHashMap<>();
+    for (final Lazy<?> lazy : order) {
+      results.put(lazy, await(futures.get(lazy)));
+    }
+    return Immutable.mapOf(results);
+  }
+
+  private static List<Lazy<?>> topologicalOrder(List<Lazy<?>> roots) {
+    final List<Lazy<?>> order = new ArrayList<>();
+    final Map<Lazy<?>, Boolean> visited = new IdentityHashMap<>();
+    final List<Lazy<?>> path = new ArrayList<>();
+    for (final Lazy<?> root : roots) {
+      visit(Objects.requireNonNull(root, "root cannot be null"), visited, path, order);
+    }
+    return order;
+  }
+
+  /**
+   * Depth-first traversal. {@code visited} maps a value to false while it is on the current path
+   * and to true when all its dependencies are already in {@code order}.
+   */
+  private static void visit(
+      Lazy<?> lazy,
+      Map<Lazy<?>, Boolean> visited,
+      List<Lazy<?>> path,
+      List<Lazy<?>> order
+  ) {
+    final Boolean state = visited.get(lazy);
+    if (Boolean.TRUE.equals(state)) {
+      return;
+    }
+    path.add(lazy);
+    if (Boolean.FALSE.equals(state)) {
+      final String cycle = path.subList(path.indexOf(lazy), path.size())
+          .stream()
+          .map(Lazy::getName)
+          .collect(Collectors.joining(" -> "));
+      throw new IllegalStateException(String.format("Cyclic dependency: %s", cycle));
+    }
+    visited.put(lazy, Boolean.FALSE);
+    for (final Lazy<?> dependency : lazy.getDependencies()) {
+      visit(dependency, visited, path, order);
+    }
+    visited.put(lazy, Boolean.TRUE);
+    path.remove(path.size() - 1);
+    order.add(lazy);
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+}
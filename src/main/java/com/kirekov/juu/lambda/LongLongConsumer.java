@@ -0,0 +1,16 @@
+package com.kirekov.juu.lambda;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Represents an operation that accepts two primitive {@code long} values and returns nothing. This
+ * is the {@code long} specialization of {@linkplain BiConsumer}.
+ *
+ * @see BiConsumer
+ * @since 2.1
+ */
+@FunctionalInterface
+public interface LongLongConsumer {
+
+  void accept(long key, long value);
+}
@@ -0,0 +1,21 @@
+package com.kirekov.juu.measure;
+
+/**
+ * Consumes values so that JIT compiler cannot consider the computation that produced them as dead
+ * code. The condition in {@linkplain Blackhole#consume(Object)} never holds, but the compiler
+ * cannot prove it because both fields are volatile.
+ */
+final class Blackhole {
+
+  private volatile Object bait1 = new Object();
+  private volatile Object bait2 = new Object();
+
+  @SuppressWarnings({"unused", "PMD.SingularField"})
+  private Object leaked;
+
+  void consume(Object value) {
+    if (value == bait1 && value == bait2) {
+      leaked = value;
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.kirekov.juu.measure;
+
+import com.kirekov.juu.collection.immutable.Immutable;
+import com.kirekov.juu.collection.immutable.ImmutableList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mutable node of the call tree that is built by {@linkplain ScopedProfiler}. Nodes are modified
+ * only under the lock of the owning thread state.
+ */
+final class CallNode {
+
+  private static final String PATH_SEPARATOR = "/";
+
+  private final String name;
+  private final CallNode parent;
+  private final Map<String, CallNode> children = new LinkedHashMap<>();
+  private final Map<String, CallNode> laps = new LinkedHashMap<>();
+
+  private ProfilerScope scope;
+  private long count;
+  private long totalNanos;
+  private long maxNanos;
+
+  CallNode(String name, CallNode parent) {
+    this.name = name;
+    this.parent = parent;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  CallNode getParent() {
+    return parent;
+  }
+
+  CallNode child(String childName) {
+    return children.computeIfAbsent(childName, n -> new CallNode(n, this));
+  }
+
+  CallNode lap(String lapName) {
+    return laps.computeIfAbsent(lapName, n -> new CallNode(n, this));
+  }
+
+  ProfilerScope scope(ScopedProfiler.ThreadState state) {
+    if (scope == null) {
+      scope = new ProfilerScope(state, this);
+    }
+    return scope;
+  }
+
+  void record(long nanos) {
+    count++;
+    totalNanos += nanos;
+    maxNanos = Math.max(maxNanos, nanos);
+  }
+
+  void mergeFrom(CallNode other) {
+    count += other.count;
+    totalNanos += other.totalNanos;
+    maxNanos = Math.max(maxNanos, other.maxNanos);
+    other.children.forEach((childName, child) -> child(childName).mergeFrom(child));
+    other.laps.forEach((lapName, lapNode) -> lap(lapName).mergeFrom(lapNode));
+  }
+
+  void clear() {
+    count = 0;
+    totalNanos = 0;
+    maxNanos = 0;
+    children.values().forEach(CallNode::clear);
+    laps.values().forEach(CallNode::clear);
+  }
+
+  ImmutableList<CallTreeNode> childrenToTree(String parentPath) {
+    return toTree(children.values(), parentPath);
+  }
+
+  private CallTreeNode toTree(String parentPath) {
+    final String path = parentPath.isEmpty() ? name : parentPath + PATH_SEPARATOR + name;
+    final ImmutableList<CallTreeNode> childNodes = childrenToTree(path);
+    long childrenNanos = 0;
+    for (final CallTreeNode child : childNodes) {
+      childrenNanos += child.getTotalNanos();
+    }
+    return new CallTreeNode(
+        name,
+        path,
+        count,
+        totalNanos,
+        Math.max(0, totalNanos - childrenNanos),
+        maxNanos,
+        childNodes,
+        toTree(laps.values(), path)
+    );
+  }
+
+  private static ImmutableList<CallTreeNode> toTree(Iterable<CallNode> nodes, String parentPath) {
+    final List<CallTreeNode> result = new ArrayList<>();
+    for (final CallNode node : nodes) {
+      final CallTreeNode tree = node.toTree(parentPath);
+      if (tree.getCount() > 0 || tree.getChildren().isNotEmpty() || tree.getLaps().isNotEmpty()) {
+        result.add(tree);
+      }
+    }
+    return Immutable.listOf(result);
+  }
+}
@@ -0,0 +1,152 @@
+package com.kirekov.juu.measure;
+
+import com.kirekov.juu.collection.immutable.Immutable;
+import com.kirekov.juu.collection.immutable.ImmutableList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable call tree aggregated by {@linkplain ScopedProfiler} across all threads. The tree can be
+ * printed with {@linkplain CallTree#toString()} or exported as CSV with {@linkplain
+ * CallTree#writeCsv(Appendable)}.
+ *
+ * @see CallTreeNode
+ * @since 2.1
+ */
+public final class CallTree {
+
+  private static final String INDENT = "  ";
+
+  private final ImmutableList<CallTreeNode> roots;
+
+  CallTree(ImmutableList<CallTreeNode> roots) {
+    this.roots = roots;
+  }
+
+  /**
+   * Gets the top-level scopes.
+   *
+   * @return root nodes
+   */
+  public ImmutableList<CallTreeNode> getRoots() {
+    return roots;
+  }
+
+  /**
+   * Finds the node by the names of scopes from the root.
+   *
+   * @param names names of scopes. Cannot be null
+   * @return the node if it is present, otherwise empty
+   * @throws NullPointerException if {@code names} is null
+   */
+  public Optional<CallTreeNode> find(String... names) {
+    Objects.requireNonNull(names, "names cannot be null");
+    ImmutableList<CallTreeNode> level = roots;
+    CallTreeNode found = null;
+    for (final String name : names) {
+      final Optional<CallTreeNode> node = level.findFirst(n -> n.getName().equals(name));
+      if (!node.isPresent()) {
+        return Optional.empty();
+      }
+      found = node.get();
+      level = found.getChildren();
+    }
+    return Optional.ofNullable(found);
+  }
+
+  /**
+   * Gets all nodes of the tree in depth-first order. Laps are not included.
+   *
+   * @return list of nodes
+   */
+  public ImmutableList<CallTreeNode> flatten() {
+    final List<CallTreeNode> result = new ArrayList<>();
+    flatten(roots, result);
+    return Immutable.listOf(result);
+  }
+
+  /**
+   * Writes all nodes and laps in CSV format with header {@code
+   * path,count,total_nanos,self_nanos,max_nanos}. Laps are written with {@code @} before the lap
+   * name.
+   *
+   * @param appendable the destination. Cannot be null
+   * @throws NullPointerException if {@code appendable} is null
+   * @throws IOException          if {@code appendable} throws it
+   */
+  public void writeCsv(Appendable appendable) throws IOException {
+    Objects.requireNonNull(appendable, "appendable cannot be null");
+    appendable.append("path,count,total_nanos,self_nanos,max_nanos\n");
+    for (final CallTreeNode node : flatten()) {
+      writeCsvRow(appendable, node.getPath(), node);
+      for (final CallTreeNode lap : node.getLaps()) {
+        writeCsvRow(appendable, node.getPath() + "@" + lap.getName(), lap);
+      }
+    }
+  }
+
+  /**
+   * Returns the tree as an indented table.
+   *
+   * @return printable tree
+   */
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    try {
+      print(builder, roots, 0);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return builder.toString();
+  }
+
+  private static void print(Appendable appendable, ImmutableList<CallTreeNode> nodes, int depth)
+      throws IOException {
+    for (final CallTreeNode node : nodes) {
+      appendLine(appendable, depth, node.getName(), node);
+      for (final CallTreeNode lap : node.getLaps()) {
+        appendLine(appendable, depth + 1, "@" + lap.getName(), lap);
+      }
+      print(appendable, node.getChildren(), depth + 1);
+    }
+  }
+
+  private static void appendLine(Appendable appendable, int depth, String name, CallTreeNode node)
+      throws IOException {
+    for (int i = 0; i < depth; i++) {
+      appendable.append(INDENT);
+    }
+    appendable.append(String.format(
+        "%s count=%d total=%dns self=%dns max=%dns%n",
+        name, node.getCount(), node.getTotalNanos(), node.getSelfNanos(), node.getMaxNanos()
+    ));
+  }
+
+  private static void writeCsvRow(Appendable appendable, String path, CallTreeNode node)
+      throws IOException {
+    appendable.append(escapeCsv(path)).append(',')
+        .append(Long.toString(node.getCount())).append(',')
+        .append(Long.toString(node.getTotalNanos())).append(',')
+        .append(Long.toString(node.getSelfNanos())).append(',')
+        .append(Long.toString(node.getMaxNanos())).append('\n');
+  }
+
+  private static String escapeCsv(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+
+  private static void flatten(ImmutableList<CallTreeNode> nodes, List<CallTreeNode> result) {
+    for (final CallTreeNode node : nodes) {
+      result.add(node);
+      flatten(node.getChildren(), result);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.kirekov.juu.measure;
+
+import com.kirekov.juu.collection.immutable.ImmutableList;
+
+/**
+ * Aggregated statistics of the profiling scope at some path of the call tree. All times are
+ * measured in {@linkplain MeasureUnit#NANOS}.
+ *
+ * @see CallTree
+ * @see ScopedProfiler
+ * @since 2.1
+ */
+public final class CallTreeNode {
+
+  private final String name;
+  private final String path;
+  private final long count;
+  private final long totalNanos;
+  private final long selfNanos;
+  private final long maxNanos;
+  private final ImmutableList<CallTreeNode> children;
+  private final ImmutableList<CallTreeNode> laps;
+
+  CallTreeNode(
+      String name,
+      String path,
+      long count,
+      long totalNanos,
+      long selfNanos,
+      long maxNanos,
+      ImmutableList<CallTreeNode> children,
+      ImmutableList<CallTreeNode> laps
+  ) {
+    this.name = name;
+    this.path = path;
+    this.count = count;
+    this.totalNanos = totalNanos;
+    this.selfNanos = selfNanos;
+    this.maxNanos = maxNanos;
+    this.children = children;
+    this.laps = laps;
+  }
+
+  /**
+   * Gets the name of the scope.
+   *
+   * @return scope name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets names of the scope and all its parents separated with slash, e.g. {@code request/db}.
+   *
+   * @return scope path
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Gets how many times the scope has been closed.
+   *
+   * @return calls count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Gets the total time spent in the scope including nested scopes.
+   *
+   * @return total time
+   */
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  /**
+   * Gets the time spent in the scope excluding nested scopes.
+   *
+   * @return self time
+   */
+  public long getSelfNanos() {
+    return selfNanos;
+  }
+
+  /**
+   * Gets the longest time of a single call.
+   *
+   * @return max time
+   */
+  public long getMaxNanos() {
+    return maxNanos;
+  }
+
+  /**
+   * Gets the nested scopes.
+   *
+   * @return children nodes
+   */
+  public ImmutableList<CallTreeNode> getChildren() {
+    return children;
+  }
+
+  /**
+   * Gets the laps marked inside the scope. Every lap holds the time between the mark and the
+   * previous one or the scope start. Laps have neither children nor laps.
+   *
+   * @return lap nodes
+   */
+  public ImmutableList<CallTreeNode> getLaps() {
+    return laps;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "CallTreeNode{path=%s, count=%d, total=%d, self=%d, max=%d}",
+        path, count, totalNanos, selfNanos, maxNanos
+    );
+  }
+}
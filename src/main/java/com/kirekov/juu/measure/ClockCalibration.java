@@ -0,0 +1,135 @@
+package com.kirekov.juu.measure;
+
+import java.util.Arrays;
+
+/**
+ * The cost and the granularity of {@linkplain System#nanoTime()} on this JVM. Every measurement
+ * includes the cost of reading the clock once, and the clock cannot tell apart durations shorter
+ * than its granularity. Both are measured once, on the first call of {@linkplain
+ * ClockCalibration#get()}, which takes about a millisecond.
+ *
+ * <pre>{@code
+ * ExecutionResult<Integer> result = Measure.executionTime(() -> list.get(5)).inNanos();
+ * if (result.isBelowResolution()) {
+ *   // repeat the operation with Measure.repeat(...).operationsPerInvocation(1000)
+ * }
+ * long corrected = ClockCalibration.get().correct(result.getTime());
+ * }</pre>
+ *
+ * @see ExecutionResult#isBelowResolution()
+ * @since 2.1
+ */
+public final class ClockCalibration {
+
+  private static final int OVERHEAD_ROUNDS = 5;
+  private static final int OVERHEAD_CALLS = 10_000;
+  private static final int GRANULARITY_SAMPLES = 51;
+  private static final long GRANULARITY_TIMEOUT_NANOS = 50_000_000L;
+  private static final int RELIABLE_FACTOR = 10;
+
+  private final long overheadNanos;
+  private final long granularityNanos;
+
+  ClockCalibration(long overheadNanos, long granularityNanos) {
+    this.overheadNanos = overheadNanos;
+    this.granularityNanos = granularityNanos;
+  }
+
+  /**
+   * Gets the calibration of the clock. It is measured on the first call and cached.
+   *
+   * @return calibration
+   */
+  public static ClockCalibration get() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Gets the cost of a single {@linkplain System#nanoTime()} call. It is the time that a
+   * measurement of an empty function reports.
+   *
+   * @return overhead in nanos
+   */
+  public long getOverheadNanos() {
+    return overheadNanos;
+  }
+
+  /**
+   * Gets the smallest observable difference between two readings of the clock.
+   *
+   * @return granularity in nanos
+   */
+  public long getGranularityNanos() {
+    return granularityNanos;
+  }
+
+  /**
+   * Gets the shortest duration that is measured with an error below 10%. It is ten times the
+   * larger of the overhead and the granularity.
+   *
+   * @return resolution in nanos
+   */
+  public long getResolutionNanos() {
+    return RELIABLE_FACTOR * Math.max(1, Math.max(overheadNanos, granularityNanos));
+  }
+
+  /**
+   * Whether the measured duration is too short to be trusted.
+   *
+   * @param nanos measured duration in nanos
+   * @return true if {@code nanos} is below {@linkplain ClockCalibration#getResolutionNanos()}
+   */
+  public boolean isBelowResolution(long nanos) {
+    return nanos < getResolutionNanos();
+  }
+
+  /**
+   * Subtracts the clock overhead from the measured duration.
+   *
+   * @param nanos measured duration in nanos
+   * @return corrected duration, not less than zero
+   */
+  public long correct(long nanos) {
+    return Math.max(0, nanos - overheadNanos);
+  }
+
+  static ClockCalibration calibrate() {
+    long overhead = Long.MAX_VALUE;
+    for (int round = 0; round < OVERHEAD_ROUNDS; round++) {
+      final long start = System.nanoTime();
+      for (int i = 0; i < OVERHEAD_CALLS; i++) {
+        System.nanoTime();
+      }
+      overhead = Math.min(overhead, (System.nanoTime() - start) / OVERHEAD_CALLS);
+    }
+    final long[] increments = new long[GRANULARITY_SAMPLES];
+    int count = 0;
+    final long deadline = System.nanoTime() + GRANULARITY_TIMEOUT_NANOS;
+    while (count < GRANULARITY_SAMPLES) {
+      final long first = System.nanoTime();
+      long next = System.nanoTime();
+      while (next == first) {
+        next = System.nanoTime();
+      }
+      increments[count++] = next - first;
+      if (next - deadline > 0) {
+        break;
+      }
+    }
+    Arrays.sort(increments, 0, count);
+    return new ClockCalibration(overhead, increments[count / 2]);
+  }
+
+  @Override
+  public String toString() {
+    return "ClockCalibration{"
+        + "overheadNanos=" + overheadNanos
+        + ", granularityNanos=" + granularityNanos
+        + '}';
+  }
+
+  private static final class Holder {
+
+    private static final ClockCalibration INSTANCE = calibrate();
+  }
+}
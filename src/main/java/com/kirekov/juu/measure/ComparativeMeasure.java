@@ -0,0 +1,212 @@
+package com.kirekov.juu.measure;
+
+import java.util.function.Supplier;
+
+/**
+ * A class for comparing the execution time of two functions. Iterations of the baseline and the
+ * candidate are interleaved and the order alternates on every iteration, so that slow drift of the
+ * machine state (frequency scaling, background load, GC pressure) affects both functions equally.
+ * Each iteration invokes the function {@code operationsPerInvocation} times and produces one time
+ * sample and one allocation sample per operation. The {@linkplain ClockCalibration clock overhead}
+ * is subtracted from every time sample.
+ *
+ * <pre>{@code
+ * ComparisonResult result = Measure.compare(this::oldParser, this::newParser)
+ *     .measurementIterations(30)
+ *     .operationsPerInvocation(1000)
+ *     .run();
+ * assertTrue(result.isCandidateFaster(), result.toString());
+ * }</pre>
+ *
+ * <p>Instances are immutable. Every configuration method returns new object.</p>
+ *
+ * @see Measure#compare(Supplier, Supplier)
+ * @see ComparisonResult
+ * @since 2.1
+ */
+public final class ComparativeMeasure {
+
+  private static final int DEFAULT_WARMUP_ITERATIONS = 5;
+  private static final int DEFAULT_MEASUREMENT_ITERATIONS = 20;
+  private static final double DEFAULT_CONFIDENCE_LEVEL = 0.99;
+  private static final int ALLOCATION_CALIBRATION_READS = 16;
+
+  private final Supplier<?> baseline;
+  private final Supplier<?> candidate;
+  private final int warmupIterations;
+  private final int measurementIterations;
+  private final int operationsPerInvocation;
+  private final double confidenceLevel;
+
+  ComparativeMeasure(Supplier<?> baseline, Supplier<?> candidate) {
+    this(baseline, candidate, DEFAULT_WARMUP_ITERATIONS, DEFAULT_MEASUREMENT_ITERATIONS, 1,
+        DEFAULT_CONFIDENCE_LEVEL);
+  }
+
+  private ComparativeMeasure(
+      Supplier<?> baseline,
+      Supplier<?> candidate,
+      int warmupIterations,
+      int measurementIterations,
+      int operationsPerInvocation,
+      double confidenceLevel
+  ) {
+    this.baseline = baseline;
+    this.candidate = candidate;
+    this.warmupIterations = warmupIterations;
+    this.measurementIterations = measurementIterations;
+    this.operationsPerInvocation = operationsPerInvocation;
+    this.confidenceLevel = confidenceLevel;
+  }
+
+  /**
+   * Sets the count of warmup iterations of each function. Default value is 5.
+   *
+   * @param iterations warmup iterations count. Cannot be negative
+   * @return new measure with the given setting
+   * @throws IllegalArgumentException if {@code iterations} is negative
+   */
+  public ComparativeMeasure warmupIterations(int iterations) {
+    if (iterations < 0) {
+      throw new IllegalArgumentException(
+          String.format("Warmup iterations count is less than zero: %s", iterations));
+    }
+    return new ComparativeMeasure(baseline, candidate, iterations, measurementIterations,
+        operationsPerInvocation, confidenceLevel);
+  }
+
+  /**
+   * Sets the count of measurement iterations of each function. Default value is 20. The
+   * significance test needs at least 6 iterations to ever reject the hypothesis at 0.99 level.
+   *
+   * @param iterations measurement iterations count. Must be positive
+   * @return new measure with the given setting
+   * @throws IllegalArgumentException if {@code iterations} is not positive
+   */
+  public ComparativeMeasure measurementIterations(int iterations) {
+    if (iterations <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Measurement iterations count is not positive: %s", iterations));
+    }
+    return new ComparativeMeasure(baseline, candidate, warmupIterations, iterations,
+        operationsPerInvocation, confidenceLevel);
+  }
+
+  /**
+   * Sets how many times the function is invoked during one iteration. Default value is 1. Increase
+   * it if a single invocation is too short to be measured precisely.
+   *
+   * @param operations operations count. Must be positive
+   * @return new measure with the given setting
+   * @throws IllegalArgumentException if {@code operations} is not positive
+   */
+  public ComparativeMeasure operationsPerInvocation(int operations) {
+    if (operations <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Operations per invocation count is not positive: %s", operations));
+    }
+    return new ComparativeMeasure(baseline, candidate, warmupIterations, measurementIterations,
+        operations, confidenceLevel);
+  }
+
+  /**
+   * Sets the confidence level of the speedup interval and the significance test. Default value is
+   * 0.99.
+   *
+   * @param level the confidence level. Must be between 0 and 1 exclusively
+   * @return new measure with the given setting
+   * @throws IllegalArgumentException if {@code level} is out of range
+   */
+  public ComparativeMeasure confidenceLevel(double level) {
+    if (!(level > 0 && level < 1)) {
+      throw new IllegalArgumentException(
+          String.format("Confidence level is out of range: %s", level));
+    }
+    return new ComparativeMeasure(baseline, candidate, warmupIterations, measurementIterations,
+        operationsPerInvocation, level);
+  }
+
+  /**
+   * Executes warmup and measurement iterations of both functions and compares them. Times are
+   * measured in {@linkplain MeasureUnit#NANOS} per operation.
+   *
+   * @return comparison of the candidate against the baseline
+   * @throws IllegalArgumentException if an iteration of a function takes no more time than the
+   *                                  clock overhead, so that {@code operationsPerInvocation} has
+   *                                  to be increased
+   */
+  public ComparisonResult run() {
+    final Blackhole blackhole = new Blackhole();
+    final long allocationOverhead = allocationOverhead();
+    final double[] sink = new double[2];
+    for (int i = 0; i < warmupIterations; i++) {
+      iteration(baseline, blackhole, allocationOverhead, sink, 0);
+      iteration(candidate, blackhole, allocationOverhead, sink, 1);
+    }
+    final double[] baselineTimes = new double[measurementIterations];
+    final double[] candidateTimes = new double[measurementIterations];
+    final double[] baselineBytes = new double[measurementIterations];
+    final double[] candidateBytes = new double[measurementIterations];
+    for (int i = 0; i < measurementIterations; i++) {
+      if (i % 2 == 0) {
+        baselineTimes[i] = iteration(baseline, blackhole, allocationOverhead, baselineBytes, i);
+        candidateTimes[i] = iteration(candidate, blackhole, allocationOverhead, candidateBytes, i);
+      } else {
+        candidateTimes[i] = iteration(candidate, blackhole, allocationOverhead, candidateBytes, i);
+        baselineTimes[i] = iteration(baseline, blackhole, allocationOverhead, baselineBytes, i);
+      }
+    }
+    return ComparisonResult.of(
+        ExecutionStatistics.of(baselineTimes, MeasureUnit.NANOS),
+        ExecutionStatistics.of(candidateTimes, MeasureUnit.NANOS),
+        mean(baselineBytes),
+        mean(candidateBytes),
+        confidenceLevel
+    );
+  }
+
+  private double iteration(
+      Supplier<?> supplier,
+      Blackhole blackhole,
+      long allocationOverhead,
+      double[] bytes,
+      int index
+  ) {
+    final long allocatedBefore = ThreadResources.allocatedBytes();
+    final long start = System.nanoTime();
+    for (int i = 0; i < operationsPerInvocation; i++) {
+      blackhole.consume(supplier.get());
+    }
+    final long elapsed = ClockCalibration.get().correct(System.nanoTime() - start);
+    final long allocatedAfter = ThreadResources.allocatedBytes();
+    if (allocatedBefore == ResourceUsage.UNSUPPORTED) {
+      bytes[index] = Double.NaN;
+    } else {
+      final long allocated = Math.max(0, allocatedAfter - allocatedBefore - allocationOverhead);
+      bytes[index] = (double) allocated / operationsPerInvocation;
+    }
+    return (double) elapsed / operationsPerInvocation;
+  }
+
+  /**
+   * Gets the bytes allocated by reading the allocation counter itself, so they are not attributed
+   * to the measured function.
+   */
+  private static long allocationOverhead() {
+    long overhead = Long.MAX_VALUE;
+    for (int i = 0; i < ALLOCATION_CALIBRATION_READS; i++) {
+      final long before = ThreadResources.allocatedBytes();
+      final long after = ThreadResources.allocatedBytes();
+      overhead = Math.min(overhead, after - before);
+    }
+    return Math.max(0, overhead);
+  }
+
+  private static double mean(double[] values) {
+    double sum = 0;
+    for (final double value : values) {
+      sum += value;
+    }
+    return sum / values.length;
+  }
+}
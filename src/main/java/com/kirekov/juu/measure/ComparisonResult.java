@@ -0,0 +1,341 @@
+package com.kirekov.juu.measure;
+
+import com.kirekov.juu.collection.immutable.Pair;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * The result of comparing a candidate function against a baseline one.
+ *
+ * <p>The speedup is the ratio of the baseline median time to the candidate median time, so values
+ * above 1 mean that the candidate is faster. Medians are used instead of means because they are not
+ * affected by rare outliers such as GC pauses. The confidence interval of the speedup is estimated
+ * with the percentile bootstrap. The significance of the difference is checked with the two-sided
+ * Mann-Whitney U test which does not assume normally distributed samples.</p>
+ *
+ * @see ComparativeMeasure
+ * @since 2.1
+ */
+public final class ComparisonResult {
+
+  private static final int BOOTSTRAP_RESAMPLES = 2000;
+  private static final long BOOTSTRAP_SEED = 0x5DEECE66DL;
+
+  private final ExecutionStatistics baseline;
+  private final ExecutionStatistics candidate;
+  private final double baselineAllocatedBytes;
+  private final double candidateAllocatedBytes;
+  private final double confidenceLevel;
+  private final double speedup;
+  private final Pair<Double, Double> speedupInterval;
+  private final double pValue;
+
+  private ComparisonResult(
+      ExecutionStatistics baseline,
+      ExecutionStatistics candidate,
+      double baselineAllocatedBytes,
+      double candidateAllocatedBytes,
+      double confidenceLevel
+  ) {
+    this.baseline = baseline;
+    this.candidate = candidate;
+    this.baselineAllocatedBytes = baselineAllocatedBytes;
+    this.candidateAllocatedBytes = candidateAllocatedBytes;
+    this.confidenceLevel = confidenceLevel;
+    this.speedup = baseline.getP50() / candidate.getP50();
+    this.speedupInterval = bootstrapSpeedupInterval(
+        baseline.getSamples(), candidate.getSamples(), confidenceLevel);
+    this.pValue = mannWhitneyPValue(baseline.getSamples(), candidate.getSamples());
+  }
+
+  /**
+   * Creates the comparison of the measured statistics.
+   *
+   * @param baseline                the statistics of the baseline. Cannot be null
+   * @param candidate               the statistics of the candidate. Cannot be null
+   * @param baselineAllocatedBytes  bytes allocated by the baseline per operation or {@linkplain
+   *                                Double#NaN} if unknown
+   * @param candidateAllocatedBytes bytes allocated by the candidate per operation or {@linkplain
+   *                                Double#NaN} if unknown
+   * @param confidenceLevel         the confidence level. Must be between 0 and 1 exclusively
+   * @return comparison result
+   * @throws NullPointerException     if {@code baseline} or {@code candidate} is null
+   * @throws IllegalArgumentException if {@code confidenceLevel} is out of range, statistics are
+   *                                  measured in different units or contain a time that is not
+   *                                  positive
+   */
+  public static ComparisonResult of(
+      ExecutionStatistics baseline,
+      ExecutionStatistics candidate,
+      double baselineAllocatedBytes,
+      double candidateAllocatedBytes,
+      double confidenceLevel
+  ) {
+    Objects.requireNonNull(baseline, "baseline cannot be null");
+    Objects.requireNonNull(candidate, "candidate cannot be null");
+    if (!(confidenceLevel > 0 && confidenceLevel < 1)) {
+      throw new IllegalArgumentException(
+          String.format("Confidence level is out of range: %s", confidenceLevel));
+    }
+    if (baseline.getMeasureUnit() != candidate.getMeasureUnit()) {
+      throw new IllegalArgumentException(String.format(
+          "Measure units are different: %s and %s",
+          baseline.getMeasureUnit(), candidate.getMeasureUnit()));
+    }
+    checkPositive(baseline, "baseline");
+    checkPositive(candidate, "candidate");
+    return new ComparisonResult(
+        baseline, candidate, baselineAllocatedBytes, candidateAllocatedBytes, confidenceLevel);
+  }
+
+  /**
+   * Gets the time statistics of the baseline.
+   *
+   * @return baseline statistics
+   */
+  public ExecutionStatistics getBaseline() {
+    return baseline;
+  }
+
+  /**
+   * Gets the time statistics of the candidate.
+   *
+   * @return candidate statistics
+   */
+  public ExecutionStatistics getCandidate() {
+    return candidate;
+  }
+
+  /**
+   * Gets the mean count of bytes allocated by the baseline per operation.
+   *
+   * @return allocated bytes or {@linkplain Double#NaN} if the JVM does not support allocation
+   *     counting
+   */
+  public double getBaselineAllocatedBytes() {
+    return baselineAllocatedBytes;
+  }
+
+  /**
+   * Gets the mean count of bytes allocated by the candidate per operation.
+   *
+   * @return allocated bytes or {@linkplain Double#NaN} if the JVM does not support allocation
+   *     counting
+   */
+  public double getCandidateAllocatedBytes() {
+    return candidateAllocatedBytes;
+  }
+
+  /**
+   * Gets the confidence level of the speedup interval and the significance test.
+   *
+   * @return confidence level
+   */
+  public double getConfidenceLevel() {
+    return confidenceLevel;
+  }
+
+  /**
+   * Gets how many times the candidate is faster than the baseline.
+   *
+   * @return the ratio of the baseline median to the candidate median
+   */
+  public double getSpeedup() {
+    return speedup;
+  }
+
+  /**
+   * Gets the bootstrap confidence interval of {@linkplain ComparisonResult#getSpeedup()}.
+   *
+   * @return pair of lower and upper bound
+   */
+  public Pair<Double, Double> getSpeedupConfidenceInterval() {
+    return speedupInterval;
+  }
+
+  /**
+   * Gets the two-sided p-value of the Mann-Whitney U test. It is the probability to observe such a
+   * difference between the samples if both functions were equally fast.
+   *
+   * @return p-value from 0 to 1
+   */
+  public double getPValue() {
+    return pValue;
+  }
+
+  /**
+   * Whether the difference between the functions is statistically significant at {@linkplain
+   * ComparisonResult#getConfidenceLevel()}.
+   *
+   * @return true if significant, otherwise false
+   */
+  public boolean isSignificant() {
+    return pValue < 1 - confidenceLevel;
+  }
+
+  /**
+   * Whether the candidate is significantly faster than the baseline.
+   *
+   * @return true if the difference is significant and the whole speedup interval is above 1
+   */
+  public boolean isCandidateFaster() {
+    return isSignificant() && speedupInterval.getKey() > 1;
+  }
+
+  /**
+   * Whether the candidate is significantly slower than the baseline.
+   *
+   * @return true if the difference is significant and the whole speedup interval is below 1
+   */
+  public boolean isCandidateSlower() {
+    return isSignificant() && speedupInterval.getValue() < 1;
+  }
+
+  /**
+   * Speedups divide by medians of samples and of their resamples, so a single zero time could make
+   * them infinite or undefined. Such times appear when the function is faster than the clock
+   * overhead subtracted from each sample.
+   */
+  private static void checkPositive(ExecutionStatistics statistics, String name) {
+    if (!(statistics.getMin() > 0)) {
+      throw new IllegalArgumentException(String.format(
+          "The %s has time samples that are not positive: %s. The function is too fast to be "
+              + "measured, increase ComparativeMeasure.operationsPerInvocation",
+          name, statistics.getMin()));
+    }
+  }
+
+  private static Pair<Double, Double> bootstrapSpeedupInterval(
+      double[] baseline,
+      double[] candidate,
+      double confidenceLevel
+  ) {
+    final SplittableRandom random = new SplittableRandom(BOOTSTRAP_SEED);
+    final double[] baselineResample = new double[baseline.length];
+    final double[] candidateResample = new double[candidate.length];
+    final double[] ratios = new double[BOOTSTRAP_RESAMPLES];
+    for (int i = 0; i < BOOTSTRAP_RESAMPLES; i++) {
+      resample(baseline, baselineResample, random);
+      resample(candidate, candidateResample, random);
+      ratios[i] = median(baselineResample) / median(candidateResample);
+    }
+    Arrays.sort(ratios);
+    final double tail = (1 - confidenceLevel) / 2;
+    return Pair.of(percentile(ratios, tail), percentile(ratios, 1 - tail));
+  }
+
+  private static void resample(double[] source, double[] target, SplittableRandom random) {
+    for (int i = 0; i < target.length; i++) {
+      target[i] = source[random.nextInt(source.length)];
+    }
+  }
+
+  private static double median(double[] values) {
+    Arrays.sort(values);
+    return percentile(values, 0.5);
+  }
+
+  private static double percentile(double[] sorted, double fraction) {
+    final double rank = fraction * (sorted.length - 1);
+    final int lower = (int) Math.floor(rank);
+    final int upper = (int) Math.ceil(rank);
+    return sorted[lower] + (sorted[upper] - sorted[lower]) * (rank - lower);
+  }
+
+  /**
+   * Computes the two-sided p-value of the Mann-Whitney U test with the normal approximation, tie
+   * correction and continuity correction.
+   */
+  static double mannWhitneyPValue(double[] first, double[] second) {
+    final int n1 = first.length;
+    final int n2 = second.length;
+    final int n = n1 + n2;
+    final double[] values = new double[n];
+    final boolean[] fromFirst = new boolean[n];
+    final Integer[] order = new Integer[n];
+    for (int i = 0; i < n; i++) {
+      values[i] = i < n1 ? first[i] : second[i - n1];
+      fromFirst[i] = i < n1;
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+    double firstRankSum = 0;
+    double tieCorrection = 0;
+    int i = 0;
+    while (i < n) {
+      int j = i;
+      while (j + 1 < n && values[order[j + 1]] == values[order[i]]) {
+        j++;
+      }
+      final double rank = (i + j) / 2.0 + 1;
+      for (int k = i; k <= j; k++) {
+        if (fromFirst[order[k]]) {
+          firstRankSum += rank;
+        }
+      }
+      final double ties = j - i + 1;
+      tieCorrection += ties * ties * ties - ties;
+      i = j + 1;
+    }
+    final double u = firstRankSum - n1 * (n1 + 1) / 2.0;
+    final double mean = n1 * (double) n2 / 2;
+    final double variance =
+        n1 * (double) n2 / 12 * ((n + 1) - tieCorrection / ((double) n * (n - 1)));
+    if (variance <= 0) {
+      return 1;
+    }
+    final double z = Math.max(0, Math.abs(u - mean) - 0.5) / Math.sqrt(variance);
+    return Math.min(1, 2 * (1 - normalCdf(z)));
+  }
+
+  /**
+   * Approximates the cumulative distribution function of the standard normal distribution with
+   * Abramowitz and Stegun 7.1.26. Absolute error is less than 1.5e-7.
+   */
+  static double normalCdf(double x) {
+    final double z = Math.abs(x) / Math.sqrt(2);
+    final double t = 1 / (1 + 0.3275911 * z);
+    final double poly = ((((1.061405429 * t - 1.453152027) * t + 1.421413741) * t - 0.284496736)
+        * t + 0.254829592) * t;
+    final double erf = 1 - poly * Math.exp(-z * z);
+    return x >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ComparisonResult that = (ComparisonResult) o;
+    return Double.compare(that.baselineAllocatedBytes, baselineAllocatedBytes) == 0
+        && Double.compare(that.candidateAllocatedBytes, candidateAllocatedBytes) == 0
+        && Double.compare(that.confidenceLevel, confidenceLevel) == 0
+        && baseline.equals(that.baseline)
+        && candidate.equals(that.candidate);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = baseline.hashCode();
+    result = 31 * result + candidate.hashCode();
+    result = 31 * result + Double.hashCode(baselineAllocatedBytes);
+    result = 31 * result + Double.hashCode(candidateAllocatedBytes);
+    result = 31 * result + Double.hashCode(confidenceLevel);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "ComparisonResult{speedup=%.3f [%.3f, %.3f] (%s), p=%.4f, baselineP50=%.3f %s, "
+            + "candidateP50=%.3f %s, baselineBytes=%.1f, candidateBytes=%.1f}",
+        speedup, speedupInterval.getKey(), speedupInterval.getValue(), confidenceLevel, pValue,
+        baseline.getP50(), baseline.getMeasureUnit(), candidate.getP50(),
+        candidate.getMeasureUnit(), baselineAllocatedBytes, candidateAllocatedBytes
+    );
+  }
+}
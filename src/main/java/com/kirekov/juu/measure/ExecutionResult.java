@@ -1,6 +1,8 @@
 package com.kirekov.juu.measure;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * A class which contains the result of function execution and time spent for it.
@@ -15,6 +17,8 @@ public final class ExecutionResult<T> {
   private final T result;
   private final long time;
   private final MeasureUnit measureUnit;
+  private final ResourceUsage resourceUsage;
+  private final long elapsedNanos;
 
   /**
    * Instantiates object.
@@ -25,9 +29,38 @@ public final class ExecutionResult<T> {
    * @throws NullPointerException if measureUnit is null
    */
   public ExecutionResult(T result, long time, MeasureUnit measureUnit) {
+    this(result, time, measureUnit, null);
+  }
+
+  /**
+   * Instantiates object with resources consumed by the execution.
+   *
+   * @param result        result of calculation, can be null
+   * @param time          time spent
+   * @param measureUnit   measure units, cannot be null
+   * @param resourceUsage resources consumed by the thread, can be null
+   * @throws NullPointerException if measureUnit is null
+   * @since 2.1
+   */
+  public ExecutionResult(T result, long time, MeasureUnit measureUnit,
+      ResourceUsage resourceUsage) {
+    this(result, time, Objects.requireNonNull(measureUnit), resourceUsage,
+        measureUnit.toNanos(time));
+  }
+
+  private ExecutionResult(T result, long time, MeasureUnit measureUnit,
+      ResourceUsage resourceUsage, long elapsedNanos) {
     this.result = result;
     this.time = time;
-    this.measureUnit = Objects.requireNonNull(measureUnit);
+    this.measureUnit = measureUnit;
+    this.resourceUsage = resourceUsage;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  static <T> ExecutionResult<T> ofNanos(T result, long elapsedNanos, MeasureUnit measureUnit,
+      ResourceUsage resourceUsage) {
+    return new ExecutionResult<>(result, measureUnit.fromNanos(elapsedNanos), measureUnit,
+        resourceUsage, elapsedNanos);
   }
 
   /**
@@ -48,6 +81,38 @@ public final class ExecutionResult<T> {
     return time;
   }
 
+  /**
+   * Gets time spent for the calculation in {@linkplain ExecutionResult#getMeasureUnit()} without
+   * truncating the fractional part, e.g. 1.25 millis instead of 1.
+   *
+   * @return time spent
+   * @since 2.1
+   */
+  public double getFractionalTime() {
+    return measureUnit.fromNanosFractional(elapsedNanos);
+  }
+
+  /**
+   * Gets time spent for the calculation. It keeps the nanosecond precision of the measurement
+   * regardless of {@linkplain ExecutionResult#getMeasureUnit()}.
+   *
+   * @return time spent
+   * @since 2.1
+   */
+  public Duration getDuration() {
+    return Duration.ofNanos(elapsedNanos);
+  }
+
+  /**
+   * Whether the time spent is too short to be measured precisely by the clock of this JVM.
+   *
+   * @return true if the time is below {@linkplain ClockCalibration#getResolutionNanos()}
+   * @since 2.1
+   */
+  public boolean isBelowResolution() {
+    return ClockCalibration.get().isBelowResolution(elapsedNanos);
+  }
+
   /**
    * Gets {@linkplain MeasureUnit} that was used to measure calculation time.
    *
@@ -57,6 +122,17 @@ public final class ExecutionResult<T> {
     return measureUnit;
   }
 
+  /**
+   * Gets resources consumed by the thread during the calculation.
+   *
+   * @return resource usage if it has been measured, otherwise empty
+   * @see Measure#inNanosWithResourceUsage()
+   * @since 2.1
+   */
+  public Optional<ResourceUsage> getResourceUsage() {
+    return Optional.ofNullable(resourceUsage);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -67,12 +143,14 @@ public final class ExecutionResult<T> {
     }
     final ExecutionResult<?> that = (ExecutionResult<?>) o;
     return time == that.time
+        && elapsedNanos == that.elapsedNanos
         && Objects.equals(result, that.result)
-        && measureUnit == that.measureUnit;
+        && measureUnit == that.measureUnit
+        && Objects.equals(resourceUsage, that.resourceUsage);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(result, time, measureUnit);
+    return Objects.hash(result, time, measureUnit, resourceUsage, elapsedNanos);
   }
 }
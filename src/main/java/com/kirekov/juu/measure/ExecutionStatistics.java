@@ -0,0 +1,403 @@
+package com.kirekov.juu.measure;
+
+import com.kirekov.juu.collection.immutable.Pair;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A class which contains the statistics of repeated measurements. Every sample is the time spent
+ * on a single operation.
+ *
+ * @see RepeatedMeasure
+ * @see MeasureUnit
+ * @since 2.1
+ */
+public final class ExecutionStatistics {
+
+  private static final double PERCENT = 100.0;
+
+  private final double[] samples;
+  private final MeasureUnit measureUnit;
+  private final double mean;
+  private final double standardDeviation;
+
+  private ExecutionStatistics(double[] samples, MeasureUnit measureUnit) {
+    this.samples = samples;
+    this.measureUnit = measureUnit;
+    this.mean = Arrays.stream(samples).average().orElse(0);
+    if (samples.length > 1) {
+      double squares = 0;
+      for (final double sample : samples) {
+        squares += (sample - mean) * (sample - mean);
+      }
+      this.standardDeviation = Math.sqrt(squares / (samples.length - 1));
+    } else {
+      this.standardDeviation = 0;
+    }
+  }
+
+  /**
+   * Creates statistics from the given samples. The array is copied.
+   *
+   * @param samples     the measured samples. Cannot be null or empty
+   * @param measureUnit measure units of samples. Cannot be null
+   * @return statistics of samples
+   * @throws NullPointerException     if {@code samples} or {@code measureUnit} is null
+   * @throws IllegalArgumentException if {@code samples} is empty
+   */
+  public static ExecutionStatistics of(double[] samples, MeasureUnit measureUnit) {
+    Objects.requireNonNull(samples, "samples cannot be null");
+    Objects.requireNonNull(measureUnit, "measure unit cannot be null");
+    if (samples.length == 0) {
+      throw new IllegalArgumentException("Samples cannot be empty");
+    }
+    final double[] sorted = samples.clone();
+    Arrays.sort(sorted);
+    return new ExecutionStatistics(sorted, measureUnit);
+  }
+
+  /**
+   * Gets {@linkplain MeasureUnit} that was used to measure samples.
+   *
+   * @return measure unit
+   */
+  public MeasureUnit getMeasureUnit() {
+    return measureUnit;
+  }
+
+  /**
+   * Gets the count of samples.
+   *
+   * @return samples count
+   */
+  public int getSampleCount() {
+    return samples.length;
+  }
+
+  /**
+   * Gets samples in ascending order.
+   *
+   * @return copy of samples
+   */
+  public double[] getSamples() {
+    return samples.clone();
+  }
+
+  /**
+   * Gets the minimum sample.
+   *
+   * @return minimum
+   */
+  public double getMin() {
+    return samples[0];
+  }
+
+  /**
+   * Gets the maximum sample.
+   *
+   * @return maximum
+   */
+  public double getMax() {
+    return samples[samples.length - 1];
+  }
+
+  /**
+   * Gets the arithmetic mean of samples.
+   *
+   * @return mean
+   */
+  public double getMean() {
+    return mean;
+  }
+
+  /**
+   * Gets the sample standard deviation. Returns zero if there is only one sample.
+   *
+   * @return standard deviation
+   */
+  public double getStandardDeviation() {
+    return standardDeviation;
+  }
+
+  /**
+   * Gets the percentile of samples. Interpolates linearly between the closest ranks.
+   *
+   * @param percentile the percentile from 0 to 100
+   * @return the value below which the given percent of samples fall
+   * @throws IllegalArgumentException if {@code percentile} is out of range
+   */
+  public double getPercentile(double percentile) {
+    if (percentile < 0 || percentile > PERCENT || Double.isNaN(percentile)) {
+      throw new IllegalArgumentException(
+          String.format("Percentile is out of range: %s", percentile));
+    }
+    final double rank = percentile / PERCENT * (samples.length - 1);
+    final int lower = (int) Math.floor(rank);
+    final int upper = (int) Math.ceil(rank);
+    return samples[lower] + (samples[upper] - samples[lower]) * (rank - lower);
+  }
+
+  /**
+   * Gets the median.
+   *
+   * @return 50th percentile
+   */
+  public double getP50() {
+    return getPercentile(50);
+  }
+
+  /**
+   * Gets the 90th percentile.
+   *
+   * @return 90th percentile
+   */
+  public double getP90() {
+    return getPercentile(90);
+  }
+
+  /**
+   * Gets the 99th percentile.
+   *
+   * @return 99th percentile
+   */
+  public double getP99() {
+    return getPercentile(99);
+  }
+
+  /**
+   * Gets the 99.9th percentile.
+   *
+   * @return 99.9th percentile
+   */
+  public double getP999() {
+    return getPercentile(99.9);
+  }
+
+  /**
+   * Gets the confidence interval of the mean. The interval is based on Student's t-distribution,
+   * whose quantile is calculated by inverting the distribution function rather than approximated,
+   * so the interval keeps its confidence level for small sample counts too.
+   *
+   * @param confidenceLevel the confidence level, e.g. 0.99. Must be between 0 and 1 exclusively
+   * @return pair of lower and upper bound
+   * @throws IllegalArgumentException if {@code confidenceLevel} is out of range
+   */
+  public Pair<Double, Double> getConfidenceInterval(double confidenceLevel) {
+    final double error = getMeanError(confidenceLevel);
+    return Pair.of(mean - error, mean + error);
+  }
+
+  /**
+   * Gets the half width of the confidence interval of the mean.
+   *
+   * @param confidenceLevel the confidence level, e.g. 0.99. Must be between 0 and 1 exclusively
+   * @return the error of the mean
+   * @throws IllegalArgumentException if {@code confidenceLevel} is out of range
+   * @see ExecutionStatistics#getConfidenceInterval(double)
+   */
+  public double getMeanError(double confidenceLevel) {
+    if (!(confidenceLevel > 0 && confidenceLevel < 1)) {
+      throw new IllegalArgumentException(
+          String.format("Confidence level is out of range: %s", confidenceLevel));
+    }
+    if (samples.length < 2) {
+      return Double.NaN;
+    }
+    final double quantile = studentQuantile(1 - (1 - confidenceLevel) / 2, samples.length - 1);
+    return quantile * standardDeviation / Math.sqrt(samples.length);
+  }
+
+  /**
+   * Approximates the quantile of the standard normal distribution with Acklam's algorithm.
+   * Relative error is less than 1.15e-9.
+   */
+  static double normalQuantile(double p) {
+    final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+        1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+    final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+        6.680131188771972e+01, -1.328068155288572e+01};
+    final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+        -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+    final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+        3.754408661907416e+00};
+    final double low = 0.02425;
+    if (p < low) {
+      final double q = Math.sqrt(-2 * Math.log(p));
+      return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+          / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+    }
+    if (p > 1 - low) {
+      return -normalQuantile(1 - p);
+    }
+    final double q = p - 0.5;
+    final double r = q * q;
+    return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+        / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+  }
+
+  /**
+   * Calculates the quantile of Student's t-distribution. One and two degrees of freedom have closed
+   * forms. Otherwise the upper tail probability, which is the regularized incomplete beta function,
+   * is inverted with Newton's method that starts from the Cornish-Fisher expansion (Abramowitz and
+   * Stegun 26.7.5) and falls back to bisection when a step leaves the bracket.
+   */
+  static double studentQuantile(double p, int degreesOfFreedom) {
+    if (p < 0.5) {
+      return -studentQuantile(1 - p, degreesOfFreedom);
+    }
+    if (degreesOfFreedom == 1) {
+      return Math.tan(Math.PI * (p - 0.5));
+    }
+    if (degreesOfFreedom == 2) {
+      return (2 * p - 1) / Math.sqrt(2 * p * (1 - p));
+    }
+    final double tail = 1 - p;
+    double lower = 0;
+    double upper = Math.max(1, 2 * cornishFisherQuantile(p, degreesOfFreedom));
+    while (studentUpperTail(upper, degreesOfFreedom) > tail) {
+      lower = upper;
+      upper *= 2;
+    }
+    double t = Math.min(Math.max(cornishFisherQuantile(p, degreesOfFreedom), lower), upper);
+    for (int i = 0; i < 100; i++) {
+      final double difference = studentUpperTail(t, degreesOfFreedom) - tail;
+      if (difference > 0) {
+        lower = t;
+      } else {
+        upper = t;
+      }
+      double next = t + difference / studentDensity(t, degreesOfFreedom);
+      if (!(next > lower && next < upper)) {
+        next = (lower + upper) / 2;
+      }
+      if (Math.abs(next - t) <= 1e-12 * Math.max(1, t)) {
+        return next;
+      }
+      t = next;
+    }
+    return t;
+  }
+
+  private static double cornishFisherQuantile(double p, int degreesOfFreedom) {
+    final double z = normalQuantile(p);
+    final double n = degreesOfFreedom;
+    final double z2 = z * z;
+    final double g1 = (z2 + 1) * z / 4;
+    final double g2 = ((5 * z2 + 16) * z2 + 3) * z / 96;
+    final double g3 = (((3 * z2 + 19) * z2 + 17) * z2 - 15) * z / 384;
+    final double g4 = ((((79 * z2 + 776) * z2 + 1482) * z2 - 1920) * z2 - 945) * z / 92160;
+    return z + g1 / n + g2 / (n * n) + g3 / (n * n * n) + g4 / (n * n * n * n);
+  }
+
+  /**
+   * Gets P(T &gt; t) for non-negative t, which equals I(n / (n + t^2); n / 2, 1 / 2) / 2.
+   */
+  static double studentUpperTail(double t, int degreesOfFreedom) {
+    final double n = degreesOfFreedom;
+    final double t2 = t * t;
+    return regularizedBeta(n / (n + t2), t2 / (n + t2), n / 2, 0.5) / 2;
+  }
+
+  private static double studentDensity(double t, int degreesOfFreedom) {
+    final double n = degreesOfFreedom;
+    final double logNorm = logGamma((n + 1) / 2) - logGamma(n / 2) - 0.5 * Math.log(n * Math.PI);
+    return Math.exp(logNorm - (n + 1) / 2 * Math.log1p(t * t / n));
+  }
+
+  /**
+   * Calculates the regularized incomplete beta function I(x; a, b). The complement {@code 1 - x}
+   * is passed separately to keep precision when x is close to 1.
+   */
+  private static double regularizedBeta(double x, double complement, double a, double b) {
+    if (x <= 0) {
+      return 0;
+    }
+    if (complement <= 0) {
+      return 1;
+    }
+    final double front = Math.exp(
+        logGamma(a + b) - logGamma(a) - logGamma(b) + a * Math.log(x) + b * Math.log(complement));
+    if (x < (a + 1) / (a + b + 2)) {
+      return front * betaContinuedFraction(x, a, b) / a;
+    }
+    return 1 - front * betaContinuedFraction(complement, b, a) / b;
+  }
+
+  /**
+   * Evaluates the continued fraction of the incomplete beta function with modified Lentz's method.
+   */
+  private static double betaContinuedFraction(double x, double a, double b) {
+    final double tiny = 1e-300;
+    double c = 1;
+    double d = 1 - (a + b) * x / (a + 1);
+    d = 1 / (Math.abs(d) < tiny ? tiny : d);
+    double result = d;
+    for (int m = 1; m <= 300; m++) {
+      final int m2 = 2 * m;
+      final double even = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+      d = 1 + even * d;
+      d = 1 / (Math.abs(d) < tiny ? tiny : d);
+      c = 1 + even / c;
+      c = Math.abs(c) < tiny ? tiny : c;
+      result *= d * c;
+      final double odd = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+      d = 1 + odd * d;
+      d = 1 / (Math.abs(d) < tiny ? tiny : d);
+      c = 1 + odd / c;
+      c = Math.abs(c) < tiny ? tiny : c;
+      final double delta = d * c;
+      result *= delta;
+      if (Math.abs(delta - 1) < 1e-15) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Calculates the logarithm of the gamma function with Lanczos approximation (g = 7, n = 9).
+   */
+  private static double logGamma(double x) {
+    final double[] coefficients = {0.99999999999980993, 676.5203681218851, -1259.1392167224028,
+        771.32342877765313, -176.61502916214059, 12.507343278686905, -0.13857109526572012,
+        9.9843695780195716e-6, 1.5056327351493116e-7};
+    if (x < 0.5) {
+      return Math.log(Math.PI / Math.abs(Math.sin(Math.PI * x))) - logGamma(1 - x);
+    }
+    final double shifted = x - 1;
+    double sum = coefficients[0];
+    for (int i = 1; i < coefficients.length; i++) {
+      sum += coefficients[i] / (shifted + i);
+    }
+    final double base = shifted + 7.5;
+    return 0.5 * Math.log(2 * Math.PI) + (shifted + 0.5) * Math.log(base) - base + Math.log(sum);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ExecutionStatistics that = (ExecutionStatistics) o;
+    return Arrays.equals(samples, that.samples)
+        && measureUnit == that.measureUnit;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(samples) + measureUnit.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "ExecutionStatistics{unit=%s, samples=%d, min=%.3f, max=%.3f, mean=%.3f +- %.3f (99%%), "
+            + "stdDev=%.3f, p50=%.3f, p90=%.3f, p99=%.3f, p99.9=%.3f}",
+        measureUnit, samples.length, getMin(), getMax(), mean, getMeanError(0.99),
+        standardDeviation, getP50(), getP90(), getP99(), getP999()
+    );
+  }
+}
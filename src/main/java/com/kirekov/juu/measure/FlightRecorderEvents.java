@@ -0,0 +1,38 @@
+package com.kirekov.juu.measure;
+
+/**
+ * Emits Java Flight Recorder events for executions measured by {@linkplain Measure}, {@linkplain
+ * Profiler} and {@linkplain ScopedProfiler}. The JFR API is available since Java 11, so this Java 8
+ * version does nothing and is inlined away by JIT. The multi-release jar replaces the class with
+ * the implementation from {@code src/main/java11} when running on Java 11 or newer.
+ */
+final class FlightRecorderEvents {
+
+  static final String MEASURE = "Measure";
+  static final String PROFILER = "Profiler";
+  static final String SCOPED_PROFILER = "ScopedProfiler";
+
+  private FlightRecorderEvents() {
+  }
+
+  /**
+   * Starts the execution event if JFR is recording it.
+   *
+   * @return the started event or null if the event is disabled
+   */
+  static Object beginExecution() {
+    return null;
+  }
+
+  /**
+   * Commits the event started by {@linkplain FlightRecorderEvents#beginExecution()}.
+   *
+   * @param event   the started event or null
+   * @param source  the measuring class
+   * @param name    the name of the execution or null
+   * @param success whether the execution completed normally
+   */
+  static void commitExecution(Object event, String source, String name, boolean success) {
+    // JFR is not available on Java 8
+  }
+}
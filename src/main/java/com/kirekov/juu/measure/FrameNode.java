@@ -0,0 +1,71 @@
+package com.kirekov.juu.measure;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mutable node of the frame trie that is built by {@linkplain SamplingProfiler}. The path from the
+ * root to the node is the stack from the outermost frame to the innermost one. Nodes are modified
+ * only under the lock of the owning profiler.
+ */
+final class FrameNode {
+
+  private static final char FRAME_SEPARATOR = ';';
+
+  private final String frame;
+  private final Map<String, FrameNode> children = new HashMap<>();
+
+  private long selfSamples;
+
+  FrameNode(String frame) {
+    this.frame = frame;
+  }
+
+  FrameNode child(String childFrame) {
+    return children.get(childFrame);
+  }
+
+  FrameNode addChild(String childFrame) {
+    final FrameNode child = new FrameNode(childFrame);
+    children.put(childFrame, child);
+    return child;
+  }
+
+  void addSample() {
+    selfSamples++;
+  }
+
+  /**
+   * Writes the stacks of the subtree in the collapsed format, one stack per line.
+   *
+   * @param appendable  the destination
+   * @param parentStack the collapsed stack of the parent or null for the root
+   */
+  void writeCollapsed(Appendable appendable, String parentStack) throws IOException {
+    final String stack = parentStack == null ? frame : parentStack + FRAME_SEPARATOR + frame;
+    if (selfSamples > 0) {
+      appendable.append(stack).append(' ').append(Long.toString(selfSamples)).append('\n');
+    }
+    final List<String> names = new ArrayList<>(children.keySet());
+    names.sort(null);
+    for (final String name : names) {
+      children.get(name).writeCollapsed(appendable, stack);
+    }
+  }
+
+  void writeChildrenCollapsed(Appendable appendable) throws IOException {
+    final List<String> names = new ArrayList<>(children.keySet());
+    names.sort(null);
+    for (final String name : names) {
+      children.get(name).writeCollapsed(appendable, null);
+    }
+  }
+
+  void clear() {
+    children.clear();
+    selfSamples = 0;
+  }
+}
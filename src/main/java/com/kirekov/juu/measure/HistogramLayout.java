@@ -0,0 +1,101 @@
+package com.kirekov.juu.measure;
+
+/**
+ * Log-linear bucket layout of {@linkplain LatencyHistogram}. Values are split into buckets by the
+ * power of two and every bucket is split into equal sub-buckets. The count of sub-buckets is chosen
+ * so that any value is distinguished from its neighbours with the given count of significant
+ * decimal digits. The layout is the same as in HdrHistogram with the lowest discernible value equal
+ * to 1.
+ */
+final class HistogramLayout {
+
+  private static final int MAX_SIGNIFICANT_DIGITS = 5;
+
+  private final long highestTrackableValue;
+  private final int significantDigits;
+  private final int subBucketHalfCountMagnitude;
+  private final int subBucketHalfCount;
+  private final long subBucketMask;
+  private final int leadingZeroCountBase;
+  private final int length;
+
+  HistogramLayout(long highestTrackableValue, int significantDigits) {
+    if (highestTrackableValue < 2) {
+      throw new IllegalArgumentException(
+          String.format("Highest trackable value is less than 2: %s", highestTrackableValue));
+    }
+    if (significantDigits < 1 || significantDigits > MAX_SIGNIFICANT_DIGITS) {
+      throw new IllegalArgumentException(
+          String.format("Significant digits count is out of range [1, %s]: %s",
+              MAX_SIGNIFICANT_DIGITS, significantDigits));
+    }
+    this.highestTrackableValue = highestTrackableValue;
+    this.significantDigits = significantDigits;
+    final long largestSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+    final int subBucketCountMagnitude =
+        (int) Math.ceil(Math.log(largestSingleUnitResolution) / Math.log(2));
+    this.subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+    final int subBucketCount = 1 << subBucketCountMagnitude;
+    this.subBucketHalfCount = subBucketCount / 2;
+    this.subBucketMask = subBucketCount - 1;
+    this.leadingZeroCountBase = Long.SIZE - 1 - subBucketHalfCountMagnitude;
+    long smallestUntrackableValue = subBucketCount;
+    int bucketCount = 1;
+    while (smallestUntrackableValue <= highestTrackableValue) {
+      if (smallestUntrackableValue > Long.MAX_VALUE / 2) {
+        bucketCount++;
+        break;
+      }
+      smallestUntrackableValue <<= 1;
+      bucketCount++;
+    }
+    this.length = (bucketCount + 1) * subBucketHalfCount;
+  }
+
+  long getHighestTrackableValue() {
+    return highestTrackableValue;
+  }
+
+  int getSignificantDigits() {
+    return significantDigits;
+  }
+
+  int length() {
+    return length;
+  }
+
+  /**
+   * Gets the index of the sub-bucket that holds the value. The value must be in range.
+   */
+  int indexOf(long value) {
+    final int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+    final int subBucketIndex = (int) (value >>> bucketIndex);
+    return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + subBucketIndex - subBucketHalfCount;
+  }
+
+  /**
+   * Gets the lowest value that is stored in the sub-bucket with the given index.
+   */
+  long lowestValueAt(int index) {
+    int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+    int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+    if (bucketIndex < 0) {
+      subBucketIndex -= subBucketHalfCount;
+      bucketIndex = 0;
+    }
+    return ((long) subBucketIndex) << bucketIndex;
+  }
+
+  /**
+   * Gets the highest value that is stored in the sub-bucket with the given index.
+   */
+  long highestValueAt(int index) {
+    final int bucketIndex = Math.max((index >> subBucketHalfCountMagnitude) - 1, 0);
+    return lowestValueAt(index) + (1L << bucketIndex) - 1;
+  }
+
+  boolean isCompatibleWith(HistogramLayout other) {
+    return highestTrackableValue == other.highestTrackableValue
+        && significantDigits == other.significantDigits;
+  }
+}
@@ -0,0 +1,189 @@
+package com.kirekov.juu.measure;
+
+import java.util.Objects;
+
+/**
+ * An immutable state of {@linkplain LatencyHistogram} at some point. Snapshots of histograms with
+ * the same settings can be merged or subtracted from each other.
+ *
+ * <p>All values returned by the snapshot are precise up to the configured count of significant
+ * digits.</p>
+ *
+ * @see LatencyHistogram
+ * @since 2.1
+ */
+public final class HistogramSnapshot {
+
+  private static final double PERCENT = 100.0;
+
+  private final HistogramLayout layout;
+  private final long[] counts;
+  private final long totalCount;
+
+  HistogramSnapshot(HistogramLayout layout, long[] counts) {
+    this.layout = layout;
+    this.counts = counts;
+    long total = 0;
+    for (final long count : counts) {
+      total += count;
+    }
+    this.totalCount = total;
+  }
+
+  /**
+   * Gets the count of recorded values.
+   *
+   * @return total count
+   */
+  public long getTotalCount() {
+    return totalCount;
+  }
+
+  /**
+   * Whether no values have been recorded.
+   *
+   * @return true if total count is zero, otherwise false
+   */
+  public boolean isEmpty() {
+    return totalCount == 0;
+  }
+
+  /**
+   * Gets the lowest recorded value.
+   *
+   * @return the lowest value or zero if snapshot is empty
+   */
+  public long getMin() {
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] != 0) {
+        return layout.lowestValueAt(i);
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Gets the highest recorded value.
+   *
+   * @return the highest value or zero if snapshot is empty
+   */
+  public long getMax() {
+    for (int i = counts.length - 1; i >= 0; i--) {
+      if (counts[i] != 0) {
+        return layout.highestValueAt(i);
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Gets the arithmetic mean of recorded values.
+   *
+   * @return the mean or zero if snapshot is empty
+   */
+  public double getMean() {
+    if (totalCount == 0) {
+      return 0;
+    }
+    double sum = 0;
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] != 0) {
+        final double median = (layout.lowestValueAt(i) + layout.highestValueAt(i)) / 2.0;
+        sum += median * counts[i];
+      }
+    }
+    return sum / totalCount;
+  }
+
+  /**
+   * Gets the value below which the given percent of recorded values fall.
+   *
+   * @param percentile the percentile from 0 to 100
+   * @return the value at percentile or zero if snapshot is empty
+   * @throws IllegalArgumentException if {@code percentile} is out of range
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (percentile < 0 || percentile > PERCENT || Double.isNaN(percentile)) {
+      throw new IllegalArgumentException(
+          String.format("Percentile is out of range: %s", percentile));
+    }
+    if (totalCount == 0) {
+      return 0;
+    }
+    final long countAtPercentile = Math.max(1, Math.round(percentile / PERCENT * totalCount));
+    long cumulative = 0;
+    for (int i = 0; i < counts.length; i++) {
+      cumulative += counts[i];
+      if (cumulative >= countAtPercentile) {
+        return layout.highestValueAt(i);
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Gets the count of values that are equivalent to the given one within the precision of the
+   * histogram.
+   *
+   * @param value the value
+   * @return the count of equivalent values
+   */
+  public long getCountAtValue(long value) {
+    if (value < 0 || value > layout.getHighestTrackableValue()) {
+      return 0;
+    }
+    return counts[layout.indexOf(value)];
+  }
+
+  /**
+   * Creates new snapshot that contains values of both this snapshot and the given one.
+   *
+   * @param other the snapshot to merge with. Cannot be null
+   * @return merged snapshot
+   * @throws NullPointerException     if {@code other} is null
+   * @throws IllegalArgumentException if histograms have different settings
+   */
+  public HistogramSnapshot merge(HistogramSnapshot other) {
+    checkCompatible(other);
+    final long[] merged = new long[counts.length];
+    for (int i = 0; i < counts.length; i++) {
+      merged[i] = counts[i] + other.counts[i];
+    }
+    return new HistogramSnapshot(layout, merged);
+  }
+
+  /**
+   * Creates new snapshot that contains values of this snapshot which are absent in the given one.
+   * If the given snapshot is an earlier state of the same histogram, the result contains values
+   * recorded between two snapshots.
+   *
+   * @param earlier the snapshot to subtract. Cannot be null
+   * @return delta snapshot
+   * @throws NullPointerException     if {@code earlier} is null
+   * @throws IllegalArgumentException if histograms have different settings
+   */
+  public HistogramSnapshot minus(HistogramSnapshot earlier) {
+    checkCompatible(earlier);
+    final long[] delta = new long[counts.length];
+    for (int i = 0; i < counts.length; i++) {
+      delta[i] = Math.max(0, counts[i] - earlier.counts[i]);
+    }
+    return new HistogramSnapshot(layout, delta);
+  }
+
+  private void checkCompatible(HistogramSnapshot other) {
+    Objects.requireNonNull(other, "snapshot cannot be null");
+    if (!layout.isCompatibleWith(other.layout)) {
+      throw new IllegalArgumentException("Snapshots of histograms with different settings");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "HistogramSnapshot{count=%d, min=%d, max=%d, mean=%.1f, p50=%d, p90=%d, p99=%d, p99.9=%d}",
+        totalCount, getMin(), getMax(), getMean(), getValueAtPercentile(50),
+        getValueAtPercentile(90), getValueAtPercentile(99), getValueAtPercentile(99.9)
+    );
+  }
+}
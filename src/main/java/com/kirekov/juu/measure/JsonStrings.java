@@ -0,0 +1,65 @@
+package com.kirekov.juu.measure;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * Writes JSON string literals straight into a {@linkplain Writer}. Shared by the JSON exporters of
+ * metrics and traces, so they escape names and values the same way.
+ *
+ * @since 2.1
+ */
+public final class JsonStrings {
+
+  private static final String HEX_DIGITS = "0123456789abcdef";
+  private static final int HEX_SHIFT = 4;
+  private static final int HEX_MASK = 0xF;
+
+  private JsonStrings() {
+  }
+
+  /**
+   * Writes the value as a quoted JSON string. Quotes, backslashes and control characters are
+   * escaped, other characters are written as is.
+   *
+   * @param writer the destination. Cannot be null
+   * @param value  the value. Cannot be null
+   * @throws IOException          if the writer fails
+   * @throws NullPointerException if {@code writer} or {@code value} is null
+   */
+  public static void write(Writer writer, String value) throws IOException {
+    Objects.requireNonNull(writer, "writer cannot be null");
+    Objects.requireNonNull(value, "value cannot be null");
+    writer.write('"');
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          writer.write("\\\"");
+          break;
+        case '\\':
+          writer.write("\\\\");
+          break;
+        case '\n':
+          writer.write("\\n");
+          break;
+        case '\r':
+          writer.write("\\r");
+          break;
+        case '\t':
+          writer.write("\\t");
+          break;
+        default:
+          if (c < ' ') {
+            writer.write("\\u00");
+            writer.write(HEX_DIGITS.charAt(c >> HEX_SHIFT & HEX_MASK));
+            writer.write(HEX_DIGITS.charAt(c & HEX_MASK));
+          } else {
+            writer.write(c);
+          }
+      }
+    }
+    writer.write('"');
+  }
+}
@@ -0,0 +1,152 @@
+package com.kirekov.juu.measure;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of non-negative values, e.g. latencies, with log-linear buckets. The histogram does not
+ * store raw values, so its memory footprint depends only on the highest trackable value, the count
+ * of significant digits and the count of stripes. Values are stored with the relative precision of
+ * the given count of significant decimal digits.
+ *
+ * <p>The class is thread-safe. Recording is lock-free and allocation-free. In order to reduce
+ * contention, counts are striped: every thread increments its own copy of buckets which are summed
+ * up on taking a snapshot.</p>
+ *
+ * <p>The histogram is unit agnostic. It is recommended to record values in
+ * {@linkplain MeasureUnit#NANOS}.</p>
+ *
+ * @see HistogramSnapshot
+ * @since 2.1
+ */
+public final class LatencyHistogram implements LatencyRecorder {
+
+  private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+  private static final int MAX_DEFAULT_STRIPES = 8;
+
+  private final HistogramLayout layout;
+  private final AtomicLongArray[] stripes;
+  private final int stripeMask;
+
+  private HistogramSnapshot lastIntervalSnapshot;
+
+  /**
+   * Creates new histogram with a stripe per available processor but no more than 8 stripes. Every
+   * stripe is a full copy of buckets, so hosts with many processors would otherwise pay megabytes
+   * per histogram for contention that rarely involves more than a few threads at once.
+   *
+   * @param highestTrackableValue the highest value that can be distinguished. Values above are
+   *                              recorded as this one. Must be at least 2
+   * @param significantDigits     the count of significant decimal digits. Must be between 1 and 5
+   * @throws IllegalArgumentException if any argument is out of range
+   */
+  public LatencyHistogram(long highestTrackableValue, int significantDigits) {
+    this(
+        highestTrackableValue,
+        significantDigits,
+        Math.min(MAX_DEFAULT_STRIPES, Runtime.getRuntime().availableProcessors())
+    );
+  }
+
+  /**
+   * Creates new histogram.
+   *
+   * @param highestTrackableValue the highest value that can be distinguished. Values above are
+   *                              recorded as this one. Must be at least 2
+   * @param significantDigits     the count of significant decimal digits. Must be between 1 and 5
+   * @param stripes               the count of bucket copies. It is rounded up to the power of two.
+   *                              Must be positive
+   * @throws IllegalArgumentException if any argument is out of range
+   */
+  public LatencyHistogram(long highestTrackableValue, int significantDigits, int stripes) {
+    if (stripes <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Stripes count is not positive: %s", stripes));
+    }
+    this.layout = new HistogramLayout(highestTrackableValue, significantDigits);
+    final int stripesCount = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    this.stripes = new AtomicLongArray[stripesCount];
+    for (int i = 0; i < stripesCount; i++) {
+      this.stripes[i] = new AtomicLongArray(layout.length());
+    }
+    this.stripeMask = stripesCount - 1;
+    this.lastIntervalSnapshot = new HistogramSnapshot(layout, new long[layout.length()]);
+  }
+
+  /**
+   * Records the value.
+   *
+   * @param value the value to record. Cannot be negative
+   * @throws IllegalArgumentException if {@code value} is negative
+   */
+  @Override
+  public void record(long value) {
+    record(value, 1);
+  }
+
+  /**
+   * Records the value several times.
+   *
+   * @param value the value to record. Cannot be negative
+   * @param count how many times the value is recorded
+   * @throws IllegalArgumentException if {@code value} is negative
+   */
+  public void record(long value, long count) {
+    if (value < 0) {
+      throw new IllegalArgumentException(String.format("Value is less than zero: %s", value));
+    }
+    final long clamped = Math.min(value, layout.getHighestTrackableValue());
+    currentStripe().addAndGet(layout.indexOf(clamped), count);
+  }
+
+  /**
+   * Gets the highest value that can be distinguished.
+   *
+   * @return highest trackable value
+   */
+  public long getHighestTrackableValue() {
+    return layout.getHighestTrackableValue();
+  }
+
+  /**
+   * Gets the count of significant decimal digits.
+   *
+   * @return significant digits
+   */
+  public int getSignificantDigits() {
+    return layout.getSignificantDigits();
+  }
+
+  /**
+   * Takes the snapshot of all values recorded since the histogram creation. Values that are
+   * recorded concurrently may or may not be included.
+   *
+   * @return snapshot
+   */
+  public HistogramSnapshot snapshot() {
+    final long[] counts = new long[layout.length()];
+    for (final AtomicLongArray stripe : stripes) {
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] += stripe.get(i);
+      }
+    }
+    return new HistogramSnapshot(layout, counts);
+  }
+
+  /**
+   * Takes the snapshot of values recorded since the previous call of this method or since the
+   * histogram creation if it is the first call.
+   *
+   * @return delta snapshot
+   */
+  public synchronized HistogramSnapshot intervalSnapshot() {
+    final HistogramSnapshot current = snapshot();
+    final HistogramSnapshot interval = current.minus(lastIntervalSnapshot);
+    lastIntervalSnapshot = current;
+    return interval;
+  }
+
+  private AtomicLongArray currentStripe() {
+    final long threadId = Thread.currentThread().getId();
+    return stripes[(int) ((threadId * GOLDEN_RATIO) >>> Integer.SIZE) & stripeMask];
+  }
+}
@@ -0,0 +1,22 @@
+package com.kirekov.juu.measure;
+
+/**
+ * Destination of measured time. {@linkplain Measure}, {@linkplain Profiler} and
+ * {@linkplain Stopwatch} can record results into any implementation.
+ *
+ * <p>Implementations must be thread-safe and should not allocate memory while recording.</p>
+ *
+ * @see LatencyHistogram
+ * @since 2.1
+ */
+@FunctionalInterface
+public interface LatencyRecorder {
+
+  /**
+   * Records the value.
+   *
+   * @param value the value to record. Cannot be negative
+   * @throws IllegalArgumentException if {@code value} is negative
+   */
+  void record(long value);
+}
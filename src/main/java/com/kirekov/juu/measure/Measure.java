@@ -1,7 +1,6 @@
 package com.kirekov.juu.measure;
 
-import static com.kirekov.juu.measure.MeasureConverter.millisToSeconds;
-
+import com.kirekov.juu.collection.mutable.MutableLong;
 import com.kirekov.juu.lambda.Action;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -54,14 +53,137 @@ public final class Measure<T> {
   }
 
   /**
-   * Gets execution result measured in {@linkplain MeasureUnit#MILLIS}.
+   * Executes the function and writes the time spent in {@linkplain MeasureUnit#NANOS} into the
+   * given holder. Unlike {@link Measure#inNanos()} does not allocate memory.
+   *
+   * @param supplier lambda function which needs to be executed. Cannot be null
+   * @param time     the holder of the time spent. Cannot be null
+   * @param <T>      function return type
+   * @return function result
+   * @throws NullPointerException if supplier or time is null
+   * @since 2.1
+   */
+  public static <T> T executionTimeInNanos(Supplier<T> supplier, MutableLong time) {
+    Objects.requireNonNull(supplier);
+    Objects.requireNonNull(time);
+    final long start = System.nanoTime();
+    final T result = execute(supplier);
+    time.setValue(System.nanoTime() - start);
+    return result;
+  }
+
+  /**
+   * Executes the procedure and returns the time spent in {@linkplain MeasureUnit#NANOS}. Unlike
+   * {@link Measure#inNanos()} does not allocate memory.
+   *
+   * @param action lambda procedure which needs to be executed. Cannot be {@code null}
+   * @return time spent
+   * @throws NullPointerException if action is null
+   * @since 2.1
+   */
+  public static long executionTimeInNanos(Action action) {
+    Objects.requireNonNull(action);
+    final long start = System.nanoTime();
+    execute(action);
+    return System.nanoTime() - start;
+  }
+
+  /**
+   * Creates an instance of {@link RepeatedMeasure} class with function that will be executed
+   * repeatedly. Function will not be executed until {@link RepeatedMeasure#run()} will be called.
+   *
+   * @param supplier lambda function which needs to be executed. Cannot be null
+   * @param <T>      function return type
+   * @return repeated measure with default settings
+   * @throws NullPointerException if supplier is null
+   * @since 2.1
+   */
+  public static <T> RepeatedMeasure<T> repeat(Supplier<T> supplier) {
+    Objects.requireNonNull(supplier);
+    return new RepeatedMeasure<>(supplier);
+  }
+
+  /**
+   * Creates an instance of {@link RepeatedMeasure} class with procedure that will be executed
+   * repeatedly. Procedure will not be executed until {@link RepeatedMeasure#run()} will be called.
+   *
+   * @param action lambda procedure which needs to be executed. Cannot be {@code null}
+   * @return repeated measure with default settings
+   * @throws NullPointerException if action is null
+   * @since 2.1
+   */
+  public static RepeatedMeasure<Void> repeat(Action action) {
+    Objects.requireNonNull(action);
+    return new RepeatedMeasure<>(
+        () -> {
+          action.execute();
+          return null;
+        });
+  }
+
+  /**
+   * Creates an instance of {@link ComparativeMeasure} class that compares the candidate function
+   * against the baseline one. Functions will not be executed until {@link
+   * ComparativeMeasure#run()} will be called.
+   *
+   * @param baseline  the function to compare against. Cannot be null
+   * @param candidate the function which is compared. Cannot be null
+   * @return comparative measure with default settings
+   * @throws NullPointerException if baseline or candidate is null
+   * @since 2.1
+   */
+  public static ComparativeMeasure compare(Supplier<?> baseline, Supplier<?> candidate) {
+    Objects.requireNonNull(baseline);
+    Objects.requireNonNull(candidate);
+    return new ComparativeMeasure(baseline, candidate);
+  }
+
+  /**
+   * Creates an instance of {@link ComparativeMeasure} class that compares the candidate procedure
+   * against the baseline one. Procedures will not be executed until {@link
+   * ComparativeMeasure#run()} will be called.
+   *
+   * @param baseline  the procedure to compare against. Cannot be null
+   * @param candidate the procedure which is compared. Cannot be null
+   * @return comparative measure with default settings
+   * @throws NullPointerException if baseline or candidate is null
+   * @since 2.1
+   */
+  public static ComparativeMeasure compare(Action baseline, Action candidate) {
+    Objects.requireNonNull(baseline);
+    Objects.requireNonNull(candidate);
+    return new ComparativeMeasure(
+        () -> {
+          baseline.execute();
+          return null;
+        },
+        () -> {
+          candidate.execute();
+          return null;
+        });
+  }
+
+  /**
+   * Gets execution result measured in {@linkplain MeasureUnit#MILLIS}. The time is measured with
+   * the monotonic {@linkplain System#nanoTime()} clock and truncated to millis.
    *
    * @return execution result measured in millis.
+   * @see ExecutionResult#getFractionalTime()
    */
   public ExecutionResult<T> inMillis() {
-    final long time = System.currentTimeMillis();
-    final T result = supplier.get();
-    return new ExecutionResult<>(result, System.currentTimeMillis() - time, MeasureUnit.MILLIS);
+    return in(MeasureUnit.MILLIS);
+  }
+
+  /**
+   * Gets execution result measured in {@linkplain MeasureUnit#MICROS}. The time is measured with
+   * the monotonic {@linkplain System#nanoTime()} clock and truncated to micros.
+   *
+   * @return execution result measured in micros
+   * @see ExecutionResult#getFractionalTime()
+   * @since 2.1
+   */
+  public ExecutionResult<T> inMicros() {
+    return in(MeasureUnit.MICROS);
   }
 
   /**
@@ -70,21 +192,84 @@ public final class Measure<T> {
    * @return execution result measured in nanos.
    */
   public ExecutionResult<T> inNanos() {
+    return in(MeasureUnit.NANOS);
+  }
+
+  /**
+   * Gets execution result measured in {@linkplain MeasureUnit#NANOS} together with CPU time, user
+   * time and bytes allocated by the current thread. The counters which are not supported by the JVM
+   * are set to {@linkplain ResourceUsage#UNSUPPORTED}.
+   *
+   * @return execution result with resource usage
+   * @see ExecutionResult#getResourceUsage()
+   * @since 2.1
+   */
+  public ExecutionResult<T> inNanosWithResourceUsage() {
+    final ResourceUsage before = ResourceUsage.current();
+    final long time = System.nanoTime();
+    final T result = execute(supplier);
+    final long elapsed = System.nanoTime() - time;
+    final ResourceUsage usage = ResourceUsage.current().since(before);
+    return ExecutionResult.ofNanos(result, elapsed, MeasureUnit.NANOS, usage);
+  }
+
+  /**
+   * Executes the function and records the time spent in {@linkplain MeasureUnit#NANOS} into the
+   * given recorder. Unlike {@link Measure#inNanos()} does not create {@link ExecutionResult}.
+   *
+   * @param recorder the recorder to record time into, e.g. {@linkplain LatencyHistogram}. Cannot
+   *                 be null
+   * @return function result
+   * @throws NullPointerException if recorder is null
+   * @since 2.1
+   */
+  public T recordInto(LatencyRecorder recorder) {
+    Objects.requireNonNull(recorder);
     final long time = System.nanoTime();
-    final T result = supplier.get();
-    return new ExecutionResult<>(result, System.nanoTime() - time, MeasureUnit.NANOS);
+    final T result = execute(supplier);
+    recorder.record(System.nanoTime() - time);
+    return result;
   }
 
   /**
-   * Gets execution result measure in {@linkplain MeasureUnit#SECONDS}.
+   * Gets execution result measure in {@linkplain MeasureUnit#SECONDS}. The time is measured with
+   * the monotonic {@linkplain System#nanoTime()} clock and truncated to seconds.
    *
    * @return execution result measured in seconds
+   * @see ExecutionResult#getFractionalTime()
    * @since 1.1
    */
   public ExecutionResult<T> inSeconds() {
-    final long start = System.currentTimeMillis();
-    final T result = supplier.get();
-    final long finish = System.currentTimeMillis();
-    return new ExecutionResult<>(result, millisToSeconds(finish - start), MeasureUnit.SECONDS);
+    return in(MeasureUnit.SECONDS);
+  }
+
+  private ExecutionResult<T> in(MeasureUnit measureUnit) {
+    final long start = System.nanoTime();
+    final T result = execute(supplier);
+    final long elapsed = System.nanoTime() - start;
+    return ExecutionResult.ofNanos(result, elapsed, measureUnit, null);
+  }
+
+  private static <T> T execute(Supplier<T> supplier) {
+    final Object event = FlightRecorderEvents.beginExecution();
+    boolean success = false;
+    try {
+      final T result = supplier.get();
+      success = true;
+      return result;
+    } finally {
+      FlightRecorderEvents.commitExecution(event, FlightRecorderEvents.MEASURE, null, success);
+    }
+  }
+
+  private static void execute(Action action) {
+    final Object event = FlightRecorderEvents.beginExecution();
+    boolean success = false;
+    try {
+      action.execute();
+      success = true;
+    } finally {
+      FlightRecorderEvents.commitExecution(event, FlightRecorderEvents.MEASURE, null, success);
+    }
   }
 }
@@ -75,4 +75,26 @@ public final class MeasureConverter {
   public static long secondsToNanos(long seconds) {
     return seconds * KILO_COEFFICIENT * MEGA_COEFFICIENT;
   }
+
+  /**
+   * Converts nanos to micros.
+   *
+   * @param nanos time in nanos
+   * @return time in micros
+   * @since 2.1
+   */
+  public static long nanosToMicros(long nanos) {
+    return nanos / KILO_COEFFICIENT;
+  }
+
+  /**
+   * Converts micros to nanos.
+   *
+   * @param micros time in micros
+   * @return time in nanos
+   * @since 2.1
+   */
+  public static long microsToNanos(long micros) {
+    return micros * KILO_COEFFICIENT;
+  }
 }
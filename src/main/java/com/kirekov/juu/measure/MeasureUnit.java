@@ -1,12 +1,70 @@
 package com.kirekov.juu.measure;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Represents unit of measuring.
  *
  * @since 0.1
  */
 public enum MeasureUnit {
-  MILLIS,
-  NANOS,
-  SECONDS
+  MILLIS(TimeUnit.MILLISECONDS),
+  NANOS(TimeUnit.NANOSECONDS),
+  SECONDS(TimeUnit.SECONDS),
+  /**
+   * Microseconds.
+   *
+   * @since 2.1
+   */
+  MICROS(TimeUnit.MICROSECONDS);
+
+  private final TimeUnit timeUnit;
+
+  MeasureUnit(TimeUnit timeUnit) {
+    this.timeUnit = timeUnit;
+  }
+
+  /**
+   * Gets the equivalent {@linkplain TimeUnit}.
+   *
+   * @return time unit
+   * @since 2.1
+   */
+  public TimeUnit toTimeUnit() {
+    return timeUnit;
+  }
+
+  /**
+   * Converts nanos to this unit truncating the fractional part.
+   *
+   * @param nanos time in nanos
+   * @return time in this unit
+   * @since 2.1
+   */
+  public long fromNanos(long nanos) {
+    return timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Converts nanos to this unit keeping the fractional part.
+   *
+   * @param nanos time in nanos
+   * @return time in this unit
+   * @since 2.1
+   */
+  public double fromNanosFractional(long nanos) {
+    return (double) nanos / timeUnit.toNanos(1);
+  }
+
+  /**
+   * Converts time in this unit to nanos.
+   *
+   * @param time time in this unit
+   * @return time in nanos, saturated to {@linkplain Long#MAX_VALUE} or {@linkplain Long#MIN_VALUE}
+   *     on overflow
+   * @since 2.1
+   */
+  public long toNanos(long time) {
+    return timeUnit.toNanos(time);
+  }
 }
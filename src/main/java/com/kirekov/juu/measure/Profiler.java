@@ -1,11 +1,13 @@
 package com.kirekov.juu.measure;
 
-import static com.kirekov.juu.measure.MeasureConverter.millisToSeconds;
-
-import java.util.function.Supplier;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
- * Measures time between object instantiating and stopping measuring. The class is not thread-safe.
+ * Measures time between object instantiating and stopping measuring. Every unit is measured with
+ * the monotonic {@linkplain System#nanoTime()} clock, so the result is not affected by wall-clock
+ * adjustments. The class is not thread-safe.
  *
  * @since 0.1
  */
@@ -13,10 +15,15 @@ public final class Profiler {
 
   private static final long STILL_MEASURING = -1L;
 
-  private final Supplier<Long> stopMeasuringSupplier;
+  private final long startPoint;
   private final MeasureUnit measureUnit;
 
+  private final ResourceUsage startResourceUsage;
+  private final Object event;
+
   private long measuringResult = STILL_MEASURING;
+  private long elapsedNanos = STILL_MEASURING;
+  private ResourceUsage resourceUsage;
 
   /**
    * Instantiates new {@link Profiler} object and starts measuring in millis.
@@ -24,11 +31,7 @@ public final class Profiler {
    * @return new object with millis measuring
    */
   public static Profiler startMeasuringInMillis() {
-    final long startPoint = System.currentTimeMillis();
-    return new Profiler(
-        () -> System.currentTimeMillis() - startPoint,
-        MeasureUnit.MILLIS
-    );
+    return new Profiler(System.nanoTime(), MeasureUnit.MILLIS);
   }
 
   /**
@@ -37,11 +40,17 @@ public final class Profiler {
    * @return new object with nanos measuring
    */
   public static Profiler startMeasuringInNanos() {
-    final long startPoint = System.nanoTime();
-    return new Profiler(
-        () -> System.nanoTime() - startPoint,
-        MeasureUnit.NANOS
-    );
+    return new Profiler(System.nanoTime(), MeasureUnit.NANOS);
+  }
+
+  /**
+   * Instantiates new {@link Profiler} object and starts measuring in micros.
+   *
+   * @return new object with micros measuring
+   * @since 2.1
+   */
+  public static Profiler startMeasuringInMicros() {
+    return new Profiler(System.nanoTime(), MeasureUnit.MICROS);
   }
 
   /**
@@ -51,16 +60,32 @@ public final class Profiler {
    * @since 1.1
    */
   public static Profiler startMeasuringInSeconds() {
-    final long startPoint = System.currentTimeMillis();
-    return new Profiler(
-        () -> millisToSeconds(System.currentTimeMillis() - startPoint),
-        MeasureUnit.SECONDS
-    );
+    return new Profiler(System.nanoTime(), MeasureUnit.SECONDS);
   }
 
-  private Profiler(Supplier<Long> stopMeasuringSupplier, MeasureUnit measureUnit) {
-    this.stopMeasuringSupplier = stopMeasuringSupplier;
+  /**
+   * Instantiates new {@link Profiler} object and starts measuring in nanos together with CPU time,
+   * user time and bytes allocated by the current thread. The profiler must be stopped by the same
+   * thread.
+   *
+   * @return new object with nanos measuring
+   * @see Profiler#getResourceUsage()
+   * @since 2.1
+   */
+  public static Profiler startMeasuringWithResourceUsage() {
+    final ResourceUsage startResourceUsage = ResourceUsage.current();
+    return new Profiler(System.nanoTime(), MeasureUnit.NANOS, startResourceUsage);
+  }
+
+  private Profiler(long startPoint, MeasureUnit measureUnit) {
+    this(startPoint, measureUnit, null);
+  }
+
+  private Profiler(long startPoint, MeasureUnit measureUnit, ResourceUsage startResourceUsage) {
+    this.startPoint = startPoint;
     this.measureUnit = measureUnit;
+    this.startResourceUsage = startResourceUsage;
+    this.event = FlightRecorderEvents.beginExecution();
   }
 
   /**
@@ -79,7 +104,56 @@ public final class Profiler {
    */
   public long stopMeasuring() {
     if (measuringResult == STILL_MEASURING) {
-      measuringResult = stopMeasuringSupplier.get();
+      elapsedNanos = System.nanoTime() - startPoint;
+      measuringResult = measureUnit.fromNanos(elapsedNanos);
+      if (startResourceUsage != null) {
+        resourceUsage = ResourceUsage.current().since(startResourceUsage);
+      }
+      FlightRecorderEvents.commitExecution(event, FlightRecorderEvents.PROFILER, null, true);
+    }
+    return measuringResult;
+  }
+
+  /**
+   * Stops measuring and returns time with the nanosecond precision regardless of {@linkplain
+   * Profiler#getMeasureUnit()}. Multiple calls don't affect the result.
+   *
+   * @return measured time
+   * @since 2.1
+   */
+  public Duration stopMeasuringAsDuration() {
+    stopMeasuring();
+    return Duration.ofNanos(elapsedNanos);
+  }
+
+  /**
+   * Gets resources consumed by the thread between the start and the stop of measuring.
+   *
+   * @return resource usage if the profiler has been started with {@link
+   *     Profiler#startMeasuringWithResourceUsage()} and stopped, otherwise empty
+   * @since 2.1
+   */
+  public Optional<ResourceUsage> getResourceUsage() {
+    return Optional.ofNullable(resourceUsage);
+  }
+
+  /**
+   * Stops measuring and records the time into the given recorder in {@linkplain MeasureUnit#NANOS}
+   * regardless of {@linkplain Profiler#getMeasureUnit()}, as {@linkplain
+   * Measure#recordInto(LatencyRecorder)} does. The time is recorded only once, multiple calls don't
+   * affect neither the result nor the recorder.
+   *
+   * @param recorder the recorder to record time into, e.g. {@linkplain LatencyHistogram}. Cannot
+   *                 be null
+   * @return measured time in the profiler's {@linkplain MeasureUnit}
+   * @throws NullPointerException if recorder is null
+   * @since 2.1
+   */
+  public long stopMeasuring(LatencyRecorder recorder) {
+    Objects.requireNonNull(recorder);
+    if (measuringResult == STILL_MEASURING) {
+      stopMeasuring();
+      recorder.record(elapsedNanos);
     }
     return measuringResult;
   }
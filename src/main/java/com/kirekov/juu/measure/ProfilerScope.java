@@ -0,0 +1,76 @@
+package com.kirekov.juu.measure;
+
+import java.util.Objects;
+
+/**
+ * Opened profiling scope of {@linkplain ScopedProfiler}. It is supposed to be used in
+ * try-with-resources statement. The scope is confined to the thread that opened it.
+ *
+ * <p>Scope instances are reused by the profiler, so the reference must not be used after the
+ * scope is closed.</p>
+ *
+ * @see ScopedProfiler#scope(String)
+ * @since 2.1
+ */
+public final class ProfilerScope implements AutoCloseable {
+
+  private final ScopedProfiler.ThreadState state;
+  private final CallNode node;
+
+  private long startNanos;
+  private long lastMarkNanos;
+  private Object event;
+
+  ProfilerScope(ScopedProfiler.ThreadState state, CallNode node) {
+    this.state = state;
+    this.node = node;
+  }
+
+  void open(long nanos) {
+    startNanos = nanos;
+    lastMarkNanos = nanos;
+    event = FlightRecorderEvents.beginExecution();
+  }
+
+  /**
+   * Gets the name of the scope.
+   *
+   * @return scope name
+   */
+  public String getName() {
+    return node.getName();
+  }
+
+  /**
+   * Records the time passed since the previous lap or the scope start as the lap with the given
+   * name.
+   *
+   * @param name the name of the lap. Cannot be null
+   * @return the time of the lap in {@linkplain MeasureUnit#NANOS}
+   * @throws NullPointerException if {@code name} is null
+   */
+  public long lap(String name) {
+    Objects.requireNonNull(name, "lap name cannot be null");
+    final long now = System.nanoTime();
+    final long lapNanos = now - lastMarkNanos;
+    lastMarkNanos = now;
+    synchronized (state) {
+      node.lap(name).record(lapNanos);
+    }
+    return lapNanos;
+  }
+
+  /**
+   * Closes the scope and records its time.
+   *
+   * @throws IllegalStateException if nested scopes are still opened
+   */
+  @Override
+  public void close() {
+    final long elapsed = System.nanoTime() - startNanos;
+    state.close(node, elapsed);
+    FlightRecorderEvents.commitExecution(
+        event, FlightRecorderEvents.SCOPED_PROFILER, node.getName(), true);
+    event = null;
+  }
+}
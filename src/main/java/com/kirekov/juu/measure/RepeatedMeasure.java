@@ -0,0 +1,156 @@
+package com.kirekov.juu.measure;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A class for measuring function execution time statistically. The function is executed for
+ * several warmup iterations that are discarded and then for several measurement iterations. Each
+ * iteration invokes the function {@code operationsPerInvocation} times and produces one sample
+ * which is the average time of a single operation. The {@linkplain ClockCalibration clock overhead}
+ * is subtracted from every iteration. The results of the function are consumed in a way that
+ * prevents JIT compiler from eliminating the computation as dead code.
+ *
+ * <p>Instances are immutable. Every configuration method returns new object.</p>
+ *
+ * @param <T> type of function return result
+ * @see Measure#repeat(Supplier)
+ * @see ExecutionStatistics
+ * @since 2.1
+ */
+public final class RepeatedMeasure<T> {
+
+  private static final int DEFAULT_WARMUP_ITERATIONS = 5;
+  private static final int DEFAULT_MEASUREMENT_ITERATIONS = 10;
+  private static final long NO_TIME_BUDGET = Long.MAX_VALUE;
+
+  private final Supplier<T> supplier;
+  private final int warmupIterations;
+  private final int measurementIterations;
+  private final int operationsPerInvocation;
+  private final long timeBudgetNanos;
+
+  RepeatedMeasure(Supplier<T> supplier) {
+    this(supplier, DEFAULT_WARMUP_ITERATIONS, DEFAULT_MEASUREMENT_ITERATIONS, 1, NO_TIME_BUDGET);
+  }
+
+  private RepeatedMeasure(
+      Supplier<T> supplier,
+      int warmupIterations,
+      int measurementIterations,
+      int operationsPerInvocation,
+      long timeBudgetNanos
+  ) {
+    this.supplier = supplier;
+    this.warmupIterations = warmupIterations;
+    this.measurementIterations = measurementIterations;
+    this.operationsPerInvocation = operationsPerInvocation;
+    this.timeBudgetNanos = timeBudgetNanos;
+  }
+
+  /**
+   * Sets the count of warmup iterations. Default value is 5.
+   *
+   * @param iterations warmup iterations count. Cannot be negative
+   * @return new measure with the given setting
+   * @throws IllegalArgumentException if {@code iterations} is negative
+   */
+  public RepeatedMeasure<T> warmupIterations(int iterations) {
+    if (iterations < 0) {
+      throw new IllegalArgumentException(
+          String.format("Warmup iterations count is less than zero: %s", iterations));
+    }
+    return new RepeatedMeasure<>(
+        supplier, iterations, measurementIterations, operationsPerInvocation, timeBudgetNanos);
+  }
+
+  /**
+   * Sets the count of measurement iterations. Default value is 10.
+   *
+   * @param iterations measurement iterations count. Must be positive
+   * @return new measure with the given setting
+   * @throws IllegalArgumentException if {@code iterations} is not positive
+   */
+  public RepeatedMeasure<T> measurementIterations(int iterations) {
+    if (iterations <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Measurement iterations count is not positive: %s", iterations));
+    }
+    return new RepeatedMeasure<>(
+        supplier, warmupIterations, iterations, operationsPerInvocation, timeBudgetNanos);
+  }
+
+  /**
+   * Sets how many times the function is invoked during one iteration. Default value is 1. Increase
+   * it if a single invocation is too short to be measured precisely.
+   *
+   * @param operations operations count. Must be positive
+   * @return new measure with the given setting
+   * @throws IllegalArgumentException if {@code operations} is not positive
+   */
+  public RepeatedMeasure<T> operationsPerInvocation(int operations) {
+    if (operations <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Operations per invocation count is not positive: %s", operations));
+    }
+    return new RepeatedMeasure<>(
+        supplier, warmupIterations, measurementIterations, operations, timeBudgetNanos);
+  }
+
+  /**
+   * Limits the total time of warmup and measurement. When the budget is exhausted, the remaining
+   * iterations are skipped. At least one measurement iteration is always executed. By default, the
+   * time is not limited.
+   *
+   * @param budget the time budget. Must be positive
+   * @param unit   the unit of {@code budget}. Cannot be null
+   * @return new measure with the given setting
+   * @throws NullPointerException     if {@code unit} is null
+   * @throws IllegalArgumentException if {@code budget} is not positive
+   */
+  public RepeatedMeasure<T> timeBudget(long budget, TimeUnit unit) {
+    Objects.requireNonNull(unit, "time unit cannot be null");
+    if (budget <= 0) {
+      throw new IllegalArgumentException(String.format("Time budget is not positive: %s", budget));
+    }
+    return new RepeatedMeasure<>(
+        supplier, warmupIterations, measurementIterations, operationsPerInvocation,
+        unit.toNanos(budget));
+  }
+
+  /**
+   * Executes warmup and measurement iterations and gets the statistics measured in {@linkplain
+   * MeasureUnit#NANOS} per operation.
+   *
+   * @return statistics of measurement iterations
+   */
+  public ExecutionStatistics run() {
+    final ClockCalibration clock = ClockCalibration.get();
+    final Blackhole blackhole = new Blackhole();
+    final long start = System.nanoTime();
+    for (int i = 0; i < warmupIterations && !isBudgetExhausted(start); i++) {
+      iteration(blackhole, clock);
+    }
+    final double[] samples = new double[measurementIterations];
+    int count = 0;
+    do {
+      samples[count++] = iteration(blackhole, clock);
+    } while (count < measurementIterations && !isBudgetExhausted(start));
+    final double[] measured = new double[count];
+    System.arraycopy(samples, 0, measured, 0, count);
+    return ExecutionStatistics.of(measured, MeasureUnit.NANOS);
+  }
+
+  private double iteration(Blackhole blackhole, ClockCalibration clock) {
+    final long start = System.nanoTime();
+    for (int i = 0; i < operationsPerInvocation; i++) {
+      blackhole.consume(supplier.get());
+    }
+    return (double) clock.correct(System.nanoTime() - start) / operationsPerInvocation;
+  }
+
+  private boolean isBudgetExhausted(long start) {
+    return System.nanoTime() - start >= timeBudgetNanos;
+  }
+}
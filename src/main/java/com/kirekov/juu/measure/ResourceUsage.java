@@ -0,0 +1,141 @@
+package com.kirekov.juu.measure;
+
+/**
+ * A class which contains resources consumed by the current thread during the execution: CPU time,
+ * user time and allocated bytes. Together with wall-clock time they show whether the execution was
+ * slow because of waiting, computation or allocation.
+ *
+ * <p>If the JVM does not support a counter, the corresponding value is {@linkplain
+ * ResourceUsage#UNSUPPORTED}.</p>
+ *
+ * @see ExecutionResult#getResourceUsage()
+ * @see Profiler#getResourceUsage()
+ * @since 2.1
+ */
+public final class ResourceUsage {
+
+  /**
+   * The value of the counter that is not supported by the JVM.
+   */
+  public static final long UNSUPPORTED = -1L;
+
+  private final long cpuTimeNanos;
+  private final long userTimeNanos;
+  private final long allocatedBytes;
+
+  /**
+   * Instantiates object.
+   *
+   * @param cpuTimeNanos   CPU time in nanos or {@linkplain ResourceUsage#UNSUPPORTED}
+   * @param userTimeNanos  CPU time in user mode in nanos or {@linkplain ResourceUsage#UNSUPPORTED}
+   * @param allocatedBytes allocated bytes or {@linkplain ResourceUsage#UNSUPPORTED}
+   */
+  public ResourceUsage(long cpuTimeNanos, long userTimeNanos, long allocatedBytes) {
+    this.cpuTimeNanos = cpuTimeNanos;
+    this.userTimeNanos = userTimeNanos;
+    this.allocatedBytes = allocatedBytes;
+  }
+
+  /**
+   * Captures current counters of the current thread.
+   */
+  static ResourceUsage current() {
+    return new ResourceUsage(
+        ThreadResources.cpuTimeNanos(),
+        ThreadResources.userTimeNanos(),
+        ThreadResources.allocatedBytes()
+    );
+  }
+
+  /**
+   * Gets the difference between this state of counters and the earlier one.
+   */
+  ResourceUsage since(ResourceUsage earlier) {
+    return new ResourceUsage(
+        delta(cpuTimeNanos, earlier.cpuTimeNanos),
+        delta(userTimeNanos, earlier.userTimeNanos),
+        delta(allocatedBytes, earlier.allocatedBytes)
+    );
+  }
+
+  /**
+   * Gets CPU time consumed by the thread.
+   *
+   * @return CPU time in nanos or {@linkplain ResourceUsage#UNSUPPORTED}
+   */
+  public long getCpuTimeNanos() {
+    return cpuTimeNanos;
+  }
+
+  /**
+   * Gets CPU time consumed by the thread in user mode.
+   *
+   * @return user time in nanos or {@linkplain ResourceUsage#UNSUPPORTED}
+   */
+  public long getUserTimeNanos() {
+    return userTimeNanos;
+  }
+
+  /**
+   * Gets the count of bytes allocated by the thread.
+   *
+   * @return allocated bytes or {@linkplain ResourceUsage#UNSUPPORTED}
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /**
+   * Whether CPU and user time are supported.
+   *
+   * @return true if CPU time is measured, otherwise false
+   */
+  public boolean isCpuTimeSupported() {
+    return cpuTimeNanos != UNSUPPORTED;
+  }
+
+  /**
+   * Whether allocated bytes are supported.
+   *
+   * @return true if allocated bytes are measured, otherwise false
+   */
+  public boolean isAllocatedBytesSupported() {
+    return allocatedBytes != UNSUPPORTED;
+  }
+
+  private static long delta(long current, long earlier) {
+    if (current == UNSUPPORTED || earlier == UNSUPPORTED) {
+      return UNSUPPORTED;
+    }
+    return Math.max(0, current - earlier);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ResourceUsage that = (ResourceUsage) o;
+    return cpuTimeNanos == that.cpuTimeNanos
+        && userTimeNanos == that.userTimeNanos
+        && allocatedBytes == that.allocatedBytes;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Long.hashCode(cpuTimeNanos);
+    result = 31 * result + Long.hashCode(userTimeNanos);
+    return 31 * result + Long.hashCode(allocatedBytes);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "ResourceUsage{cpu=%dns, user=%dns, allocated=%dB}",
+        cpuTimeNanos, userTimeNanos, allocatedBytes
+    );
+  }
+}
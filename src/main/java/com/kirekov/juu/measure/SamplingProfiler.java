@@ -0,0 +1,330 @@
+package com.kirekov.juu.measure;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * In-process sampling profiler. While running, it periodically takes stack traces of the selected
+ * threads and aggregates them into a trie of frames. The result is exported in the collapsed stack
+ * format, one line per unique stack, which is accepted by flame graph tools:
+ *
+ * <pre>{@code
+ * java.lang.Thread.run;com.example.Server.handle;com.example.Dao.query 42
+ * }</pre>
+ *
+ * <p>The profiler can be started and stopped any number of times through the API, e.g. from an
+ * admin endpoint, and needs no agent. Samples are accumulated across runs until
+ * {@linkplain SamplingProfiler#reset()} is called.</p>
+ *
+ * <p>Memory is bounded: stacks deeper than {@code maxDepth} keep only their innermost frames, and
+ * once the trie has {@code maxNodes} frames, new stacks are attributed to the deepest already known
+ * frame. A sample whose outermost frame is not known yet is attributed to the {@code [truncated]}
+ * frame, which is created beyond the limit, so the counts of the collapsed output always sum up to
+ * {@linkplain SamplingProfiler#getSampleCount()}. Such samples are counted by {@linkplain
+ * SamplingProfiler#getTruncatedSampleCount()}.</p>
+ *
+ * <p>Threads are sampled whatever their state is, so the profile shows wall-clock time: threads
+ * that are {@code WAITING}, {@code TIMED_WAITING} or {@code BLOCKED} contribute samples of the
+ * frames they wait in, e.g. idle pool threads parked in their queues. For a profile of running
+ * code, filter the threads by their state at the moment of sampling:</p>
+ *
+ * <pre>{@code
+ * profiler.threadFilter(thread -> thread.getState() == Thread.State.RUNNABLE);
+ * }</pre>
+ *
+ * <p>Overhead. Taking a stack trace brings the sampled thread to a safepoint, so every sample
+ * pauses the thread for a moment, and the pause grows with the stack depth. The overhead depends on
+ * the count of sampled threads, their stack depth and the interval, so it is measured rather than
+ * assumed: {@linkplain SamplingProfiler#getSamplingTimeNanos()} divided by the duration of the run
+ * is the share of one core spent by the sampler. The overhead is the highest when the sampler
+ * thread competes with the sampled threads for the same core. Because of safepoint bias, samples
+ * are attributed to safepoint polls, so the profile shows hot methods rather than hot lines.
+ * Select only the interesting threads with the thread filter and keep the interval reasonable to
+ * limit the overhead.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @see Profiler
+ * @see ScopedProfiler
+ * @since 2.1
+ */
+public final class SamplingProfiler implements AutoCloseable {
+
+  private static final long DEFAULT_INTERVAL_MILLIS = 10;
+  private static final int DEFAULT_MAX_DEPTH = 128;
+  private static final int DEFAULT_MAX_NODES = 100_000;
+  private static final String SAMPLER_THREAD_NAME = "sampling-profiler";
+  /**
+   * The frame which samples are attributed to when the trie is full and their outermost frame is
+   * not in it.
+   */
+  static final String TRUNCATED_FRAME = "[truncated]";
+
+  private final FrameNode root = new FrameNode("");
+
+  private long intervalNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_INTERVAL_MILLIS);
+  private Predicate<Thread> threadFilter = thread -> true;
+  private int maxDepth = DEFAULT_MAX_DEPTH;
+  private int maxNodes = DEFAULT_MAX_NODES;
+
+  private ScheduledExecutorService sampler;
+  private Thread samplerThread;
+  private int nodes;
+  private long samples;
+  private long truncatedSamples;
+  private long samplingTimeNanos;
+
+  /**
+   * Sets the interval between samples. The default is 10 milliseconds.
+   *
+   * @param interval the interval. Must be positive
+   * @param unit     unit of {@code interval}. Cannot be null
+   * @return this profiler
+   * @throws IllegalArgumentException if {@code interval} is not positive
+   * @throws NullPointerException     if {@code unit} is null
+   * @throws IllegalStateException    if the profiler is running
+   */
+  public synchronized SamplingProfiler interval(long interval, TimeUnit unit) {
+    Objects.requireNonNull(unit, "unit cannot be null");
+    if (interval <= 0) {
+      throw new IllegalArgumentException(String.format("Interval is not positive: %s", interval));
+    }
+    checkNotRunning();
+    this.intervalNanos = unit.toNanos(interval);
+    return this;
+  }
+
+  /**
+   * Sets the filter of threads to sample. By default, all threads are sampled except the sampler
+   * itself, including waiting ones. The filter is applied on every sample, so it can check the
+   * current state of the thread.
+   *
+   * @param threadFilter the filter. Cannot be null
+   * @return this profiler
+   * @throws NullPointerException  if {@code threadFilter} is null
+   * @throws IllegalStateException if the profiler is running
+   */
+  public synchronized SamplingProfiler threadFilter(Predicate<Thread> threadFilter) {
+    Objects.requireNonNull(threadFilter, "threadFilter cannot be null");
+    checkNotRunning();
+    this.threadFilter = threadFilter;
+    return this;
+  }
+
+  /**
+   * Sets the maximum count of frames kept for a stack. The default is 128.
+   *
+   * @param maxDepth the maximum depth. Must be positive
+   * @return this profiler
+   * @throws IllegalArgumentException if {@code maxDepth} is not positive
+   * @throws IllegalStateException    if the profiler is running
+   */
+  public synchronized SamplingProfiler maxDepth(int maxDepth) {
+    if (maxDepth <= 0) {
+      throw new IllegalArgumentException(String.format("Max depth is not positive: %s", maxDepth));
+    }
+    checkNotRunning();
+    this.maxDepth = maxDepth;
+    return this;
+  }
+
+  /**
+   * Sets the maximum count of frames kept in the trie. The default is 100 000.
+   *
+   * @param maxNodes the maximum count of frames. Must be positive
+   * @return this profiler
+   * @throws IllegalArgumentException if {@code maxNodes} is not positive
+   * @throws IllegalStateException    if the profiler is running
+   */
+  public synchronized SamplingProfiler maxNodes(int maxNodes) {
+    if (maxNodes <= 0) {
+      throw new IllegalArgumentException(String.format("Max nodes is not positive: %s", maxNodes));
+    }
+    checkNotRunning();
+    this.maxNodes = maxNodes;
+    return this;
+  }
+
+  /**
+   * Starts sampling in a background daemon thread. Does nothing if the profiler is running.
+   *
+   * @return this profiler
+   */
+  public synchronized SamplingProfiler start() {
+    if (sampler == null) {
+      sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, SAMPLER_THREAD_NAME);
+        thread.setDaemon(true);
+        samplerThread = thread;
+        return thread;
+      });
+      sampler.scheduleAtFixedRate(this::sample, 0, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+    return this;
+  }
+
+  /**
+   * Stops sampling. Collected samples are kept. Does nothing if the profiler is not running.
+   */
+  public void stop() {
+    final ScheduledExecutorService stopped;
+    synchronized (this) {
+      stopped = sampler;
+      sampler = null;
+    }
+    if (stopped != null) {
+      stopped.shutdownNow();
+      try {
+        stopped.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Stops sampling.
+   *
+   * @see SamplingProfiler#stop()
+   */
+  @Override
+  public void close() {
+    stop();
+  }
+
+  /**
+   * Whether the profiler is sampling.
+   *
+   * @return true if running, otherwise false
+   */
+  public synchronized boolean isRunning() {
+    return sampler != null;
+  }
+
+  /**
+   * Gets the count of collected stack samples. Every sampled thread produces one sample per tick.
+   *
+   * @return count of samples
+   */
+  public synchronized long getSampleCount() {
+    return samples;
+  }
+
+  /**
+   * Gets the count of samples that have been cut because of {@code maxDepth} or {@code maxNodes}.
+   *
+   * @return count of truncated samples
+   */
+  public synchronized long getTruncatedSampleCount() {
+    return truncatedSamples;
+  }
+
+  /**
+   * Gets the total time the sampler thread spent on taking and aggregating samples. Divided by the
+   * duration of the run, it gives the share of one core spent on profiling. It includes the time
+   * the sampler waited for sampled threads to reach a safepoint, but not the pauses of those
+   * threads themselves.
+   *
+   * @return time in nanos
+   */
+  public synchronized long getSamplingTimeNanos() {
+    return samplingTimeNanos;
+  }
+
+  /**
+   * Removes all collected samples. The profiler keeps running if it has been running.
+   */
+  public synchronized void reset() {
+    root.clear();
+    nodes = 0;
+    samples = 0;
+    truncatedSamples = 0;
+    samplingTimeNanos = 0;
+  }
+
+  /**
+   * Writes collected samples in the collapsed stack format. Frames are separated by semicolons
+   * from the outermost to the innermost one and followed by the count of samples.
+   *
+   * @param appendable the destination. Cannot be null
+   * @throws IOException          if {@code appendable} fails
+   * @throws NullPointerException if {@code appendable} is null
+   */
+  public synchronized void writeCollapsed(Appendable appendable) throws IOException {
+    Objects.requireNonNull(appendable, "appendable cannot be null");
+    root.writeChildrenCollapsed(appendable);
+  }
+
+  private void sample() {
+    final long start = System.nanoTime();
+    final Thread[] threads = liveThreads();
+    for (final Thread thread : threads) {
+      if (thread == null || thread == samplerThread || !threadFilter.test(thread)) {
+        continue;
+      }
+      final StackTraceElement[] stack = thread.getStackTrace();
+      if (stack.length > 0) {
+        record(stack);
+      }
+    }
+    synchronized (this) {
+      samplingTimeNanos += System.nanoTime() - start;
+    }
+  }
+
+  /**
+   * Adds the stack to the trie. The stack is ordered from the innermost frame to the outermost one
+   * as {@linkplain Thread#getStackTrace()} returns it.
+   */
+  synchronized void record(StackTraceElement[] stack) {
+    samples++;
+    final int depth = Math.min(stack.length, maxDepth);
+    boolean truncated = depth < stack.length;
+    FrameNode node = root;
+    for (int i = depth - 1; i >= 0; i--) {
+      final String frame = stack[i].getClassName() + '.' + stack[i].getMethodName();
+      FrameNode child = node.child(frame);
+      if (child == null) {
+        if (nodes >= maxNodes) {
+          truncated = true;
+          break;
+        }
+        child = node.addChild(frame);
+        nodes++;
+      }
+      node = child;
+    }
+    if (truncated) {
+      truncatedSamples++;
+    }
+    if (node == root) {
+      final FrameNode truncatedFrame = root.child(TRUNCATED_FRAME);
+      node = truncatedFrame == null ? root.addChild(TRUNCATED_FRAME) : truncatedFrame;
+    }
+    node.addSample();
+  }
+
+  private static Thread[] liveThreads() {
+    ThreadGroup group = Thread.currentThread().getThreadGroup();
+    while (group.getParent() != null) {
+      group = group.getParent();
+    }
+    Thread[] threads = new Thread[group.activeCount() + 1];
+    int count = group.enumerate(threads, true);
+    while (count == threads.length) {
+      threads = new Thread[threads.length * 2];
+      count = group.enumerate(threads, true);
+    }
+    return threads;
+  }
+
+  private void checkNotRunning() {
+    if (sampler != null) {
+      throw new IllegalStateException("Profiler cannot be configured while running");
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.kirekov.juu.measure;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Profiler with named nested scopes. Unlike {@linkplain Profiler} it aggregates measurements: every
+ * thread builds its own call tree of scopes, and {@linkplain ScopedProfiler#snapshot()} merges the
+ * trees of all threads into a single {@linkplain CallTree} with count, total, self and max time per
+ * path.
+ * <pre>{@code
+ * try (ProfilerScope request = profiler.scope("request")) {
+ *   try (ProfilerScope db = profiler.scope("db")) {
+ *     loadUser();
+ *   }
+ *   request.lap("loaded");
+ *   render();
+ * }
+ * }</pre>
+ *
+ * <p>The class is thread-safe. Once a path has been visited by a thread, opening and closing the
+ * scope at this path does not allocate memory. The tree of a thread is kept while the thread is
+ * alive. After the thread terminates, its tree is merged into the shared tree of terminated threads
+ * and released the next time a thread opens its first scope or a snapshot is taken.</p>
+ *
+ * @see ProfilerScope
+ * @see CallTree
+ * @since 2.1
+ */
+public final class ScopedProfiler {
+
+  private final Queue<ThreadState> states = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(() -> {
+    final ThreadState state = new ThreadState();
+    retireTerminatedThreads();
+    states.add(state);
+    return state;
+  });
+  /**
+   * Merged trees of terminated threads. Guards retiring of thread states, so the tree of a thread
+   * is never counted twice or skipped by a snapshot.
+   */
+  private final CallNode retired = new CallNode("", null);
+
+  /**
+   * Opens the scope nested in the currently opened scope of this thread.
+   *
+   * @param name the name of the scope. Cannot be null
+   * @return opened scope that must be closed by the same thread
+   * @throws NullPointerException if {@code name} is null
+   */
+  public ProfilerScope scope(String name) {
+    Objects.requireNonNull(name, "scope name cannot be null");
+    final ThreadState state = threadState.get();
+    final ProfilerScope scope = state.open(name);
+    scope.open(System.nanoTime());
+    return scope;
+  }
+
+  /**
+   * Merges call trees of all threads. Scopes that are still opened are not included.
+   *
+   * @return aggregated call tree
+   */
+  public CallTree snapshot() {
+    final CallNode merged = new CallNode("", null);
+    synchronized (retired) {
+      retireTerminatedThreads();
+      merged.mergeFrom(retired);
+      for (final ThreadState state : states) {
+        synchronized (state) {
+          merged.mergeFrom(state.root);
+        }
+      }
+    }
+    return new CallTree(merged.childrenToTree(""));
+  }
+
+  /**
+   * Resets statistics of all threads. Opened scopes stay opened.
+   */
+  public void reset() {
+    synchronized (retired) {
+      retired.clear();
+      for (final ThreadState state : states) {
+        synchronized (state) {
+          state.root.clear();
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the count of thread trees which are not merged into the tree of terminated threads yet.
+   */
+  int threadStates() {
+    return states.size();
+  }
+
+  private void retireTerminatedThreads() {
+    synchronized (retired) {
+      for (final ThreadState state : states) {
+        if (state.isTerminated()) {
+          synchronized (state) {
+            retired.mergeFrom(state.root);
+          }
+          states.remove(state);
+        }
+      }
+    }
+  }
+
+  /**
+   * The call tree of a single thread. The tree is modified by its thread only, but it is read by
+   * any thread that takes a snapshot. So, all access is guarded by the state itself.
+   */
+  static final class ThreadState {
+
+    private final CallNode root = new CallNode("", null);
+    private final WeakReference<Thread> owner = new WeakReference<>(Thread.currentThread());
+    private CallNode current = root;
+
+    boolean isTerminated() {
+      final Thread thread = owner.get();
+      return thread == null || !thread.isAlive();
+    }
+
+    synchronized ProfilerScope open(String name) {
+      current = current.child(name);
+      return current.scope(this);
+    }
+
+    synchronized void close(CallNode node, long elapsedNanos) {
+      if (current != node) {
+        throw new IllegalStateException(String.format(
+            "Scope '%s' is closed before nested scope '%s'", node.getName(), current.getName()));
+      }
+      node.record(elapsedNanos);
+      current = node.getParent();
+    }
+  }
+}
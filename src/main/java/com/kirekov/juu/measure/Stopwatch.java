@@ -0,0 +1,120 @@
+package com.kirekov.juu.measure;
+
+import com.kirekov.juu.collection.mutable.MutableLong;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Reusable timer for hot paths. Unlike {@linkplain Profiler} the same instance can be started many
+ * times, and none of its methods allocate memory or box values. Results are returned as primitives
+ * or written into caller-provided holders.
+ *
+ * <p>The time is read from the given {@linkplain LongSupplier} clock. By default, the clock is
+ * {@linkplain System#nanoTime()}, so the results are measured in
+ * {@linkplain MeasureUnit#NANOS}.</p>
+ *
+ * <p>The class is not thread-safe. Use {@linkplain Stopwatch#forCurrentThread()} to get the
+ * instance confined to the current thread.</p>
+ *
+ * @see Profiler
+ * @since 2.1
+ */
+public final class Stopwatch {
+
+  private static final ThreadLocal<Stopwatch> THREAD_STOPWATCH =
+      ThreadLocal.withInitial(Stopwatch::new);
+
+  private final LongSupplier clock;
+
+  private long startPoint;
+  private long lastMark;
+
+  /**
+   * Creates new stopwatch with {@linkplain System#nanoTime()} clock. The stopwatch is started.
+   */
+  public Stopwatch() {
+    this(System::nanoTime);
+  }
+
+  /**
+   * Creates new stopwatch with the given clock. The stopwatch is started.
+   *
+   * @param clock monotonic clock. Cannot be null
+   * @throws NullPointerException if {@code clock} is null
+   */
+  public Stopwatch(LongSupplier clock) {
+    this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+    start();
+  }
+
+  /**
+   * Gets the stopwatch confined to the current thread. Returns the same instance for the same
+   * thread every time.
+   *
+   * @return thread-local stopwatch with {@linkplain System#nanoTime()} clock
+   */
+  public static Stopwatch forCurrentThread() {
+    return THREAD_STOPWATCH.get();
+  }
+
+  /**
+   * Starts measuring from now. Can be called any number of times.
+   *
+   * @return this stopwatch
+   */
+  public Stopwatch start() {
+    startPoint = clock.getAsLong();
+    lastMark = startPoint;
+    return this;
+  }
+
+  /**
+   * Gets the time passed since the last start.
+   *
+   * @return elapsed time
+   */
+  public long elapsed() {
+    return clock.getAsLong() - startPoint;
+  }
+
+  /**
+   * Gets the time passed since the previous lap or the last start if there is no lap.
+   *
+   * @return lap time
+   */
+  public long lap() {
+    final long now = clock.getAsLong();
+    final long lap = now - lastMark;
+    lastMark = now;
+    return lap;
+  }
+
+  /**
+   * Writes the time passed since the last start into the given holder.
+   *
+   * @param holder the holder of the result. Cannot be null
+   * @return elapsed time
+   * @throws NullPointerException if {@code holder} is null
+   */
+  public long elapsedInto(MutableLong holder) {
+    Objects.requireNonNull(holder);
+    final long elapsed = elapsed();
+    holder.setValue(elapsed);
+    return elapsed;
+  }
+
+  /**
+   * Records the time passed since the last start into the given recorder.
+   *
+   * @param recorder the recorder to record time into, e.g. {@linkplain LatencyHistogram}. Cannot
+   *                 be null
+   * @return elapsed time
+   * @throws NullPointerException if {@code recorder} is null
+   */
+  public long elapsedInto(LatencyRecorder recorder) {
+    Objects.requireNonNull(recorder);
+    final long elapsed = elapsed();
+    recorder.record(elapsed);
+    return elapsed;
+  }
+}
@@ -0,0 +1,66 @@
+package com.kirekov.juu.measure;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads resource counters of the current thread. If the JVM does not support a counter or the
+ * counter is disabled, the corresponding method returns {@linkplain ResourceUsage#UNSUPPORTED}.
+ *
+ * <p>Allocated bytes are read from {@code com.sun.management.ThreadMXBean} which is available on
+ * HotSpot based JVMs only. If the class is absent, the counter is just disabled. The multi-release
+ * jar replaces the class with the implementation from {@code src/main/java17} which reads the
+ * counter of the current thread without looking it up by ID.</p>
+ */
+final class ThreadResources {
+
+  private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+  private static final boolean CPU_TIME_SUPPORTED = isCpuTimeSupported();
+  private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = allocationBean();
+
+  private ThreadResources() {
+  }
+
+  static long cpuTimeNanos() {
+    if (!CPU_TIME_SUPPORTED) {
+      return ResourceUsage.UNSUPPORTED;
+    }
+    return THREAD_BEAN.getCurrentThreadCpuTime();
+  }
+
+  static long userTimeNanos() {
+    if (!CPU_TIME_SUPPORTED) {
+      return ResourceUsage.UNSUPPORTED;
+    }
+    return THREAD_BEAN.getCurrentThreadUserTime();
+  }
+
+  static long allocatedBytes() {
+    if (ALLOCATION_BEAN == null) {
+      return ResourceUsage.UNSUPPORTED;
+    }
+    return ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  private static boolean isCpuTimeSupported() {
+    try {
+      return THREAD_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_BEAN.isThreadCpuTimeEnabled();
+    } catch (UnsupportedOperationException e) {
+      return false;
+    }
+  }
+
+  private static com.sun.management.ThreadMXBean allocationBean() {
+    try {
+      if (THREAD_BEAN instanceof com.sun.management.ThreadMXBean) {
+        final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREAD_BEAN;
+        if (bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+          return bean;
+        }
+      }
+      return null;
+    } catch (LinkageError | UnsupportedOperationException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.kirekov.juu.measure.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonically increasing count of events, e.g. processed requests or thrown exceptions.
+ *
+ * <p>The class is thread-safe. Increments are striped with {@linkplain LongAdder}, so they don't
+ * contend under high load.</p>
+ *
+ * @see MetricsRegistry#counter(String)
+ * @since 2.1
+ */
+public final class Counter {
+
+  private final LongAdder count = new LongAdder();
+
+  /**
+   * Increments the counter by one.
+   */
+  public void increment() {
+    count.increment();
+  }
+
+  /**
+   * Increments the counter by the given amount.
+   *
+   * @param amount the amount to add. Cannot be negative
+   * @throws IllegalArgumentException if {@code amount} is negative
+   */
+  public void add(long amount) {
+    if (amount < 0) {
+      throw new IllegalArgumentException(String.format("Amount is less than zero: %s", amount));
+    }
+    count.add(amount);
+  }
+
+  /**
+   * Gets the current count. Increments that happen concurrently may or may not be included.
+   *
+   * @return count
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "Counter{count=" + getCount() + "}";
+  }
+}
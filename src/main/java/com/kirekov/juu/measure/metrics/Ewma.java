@@ -0,0 +1,52 @@
+package com.kirekov.juu.measure.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exponentially weighted moving average of the rate in events per second. Events are accumulated
+ * in {@linkplain LongAdder} and folded into the average on every tick.
+ *
+ * <p>{@linkplain Ewma#update(long)} is thread-safe. {@linkplain Ewma#tick()} must be called by a
+ * single thread at a time at the fixed interval.</p>
+ */
+final class Ewma {
+
+  private static final double SECONDS_PER_MINUTE = 60.0;
+
+  private final double alpha;
+  private final double intervalSeconds;
+  private final LongAdder uncounted = new LongAdder();
+
+  private volatile boolean initialized;
+  private volatile double rate;
+
+  /**
+   * Creates new average.
+   *
+   * @param minutes      the period over which the average is computed
+   * @param tickInterval the interval between ticks in nanos
+   */
+  Ewma(int minutes, long tickInterval) {
+    this.intervalSeconds = (double) tickInterval / TimeUnit.SECONDS.toNanos(1);
+    this.alpha = 1 - Math.exp(-intervalSeconds / SECONDS_PER_MINUTE / minutes);
+  }
+
+  void update(long events) {
+    uncounted.add(events);
+  }
+
+  void tick() {
+    final double instantRate = uncounted.sumThenReset() / intervalSeconds;
+    if (initialized) {
+      rate += alpha * (instantRate - rate);
+    } else {
+      rate = instantRate;
+      initialized = true;
+    }
+  }
+
+  double getRate() {
+    return rate;
+  }
+}
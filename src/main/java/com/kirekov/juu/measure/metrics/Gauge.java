@@ -0,0 +1,20 @@
+package com.kirekov.juu.measure.metrics;
+
+/**
+ * Instantaneous value that is read on demand, e.g. the size of a queue or the count of open
+ * connections. The value is requested only on taking a snapshot, so it must be cheap to compute
+ * and thread-safe.
+ *
+ * @see MetricsRegistry#gauge(String, Gauge)
+ * @since 2.1
+ */
+@FunctionalInterface
+public interface Gauge {
+
+  /**
+   * Gets the current value.
+   *
+   * @return value
+   */
+  double getValue();
+}
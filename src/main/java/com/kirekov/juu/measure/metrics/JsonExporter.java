@@ -0,0 +1,122 @@
+package com.kirekov.juu.measure.metrics;
+
+import com.kirekov.juu.collection.immutable.ImmutableNavigableMap;
+import com.kirekov.juu.measure.HistogramSnapshot;
+import com.kirekov.juu.measure.JsonStrings;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * Renders metrics as a JSON object with fields {@code counters}, {@code gauges}, {@code meters}
+ * and {@code timers}. Each field is an object keyed by the metric name. Rates are in events per
+ * second, durations of timers are in nanos. Non-finite values are written as {@code null}.
+ *
+ * <pre>{@code
+ * {
+ *   "counters": {"requests": 10},
+ *   "gauges": {"queue.size": 3.0},
+ *   "meters": {"events": {"count": 5, "mean_rate": 1.0, "m1_rate": 0.8, ...}},
+ *   "timers": {"latency": {"count": 5, "min": 100, "max": 900, "mean": 420.0, "p50": 300, ...}}
+ * }
+ * }</pre>
+ *
+ * <p>The class is stateless and thread-safe.</p>
+ *
+ * @since 2.1
+ */
+public final class JsonExporter implements MetricsExporter {
+
+  private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void export(MetricsSnapshot snapshot, Writer writer) throws IOException {
+    Objects.requireNonNull(snapshot, "snapshot cannot be null");
+    Objects.requireNonNull(writer, "writer cannot be null");
+    writer.write("{\"counters\":{");
+    final ImmutableNavigableMap<String, Long> counters = snapshot.getCounters();
+    boolean first = true;
+    for (final String name : counters.navigableKeySet()) {
+      first = writeKey(writer, name, first);
+      writer.write(Long.toString(counters.get(name)));
+    }
+    writer.write("},\"gauges\":{");
+    final ImmutableNavigableMap<String, Double> gauges = snapshot.getGauges();
+    first = true;
+    for (final String name : gauges.navigableKeySet()) {
+      first = writeKey(writer, name, first);
+      writeDouble(writer, gauges.get(name));
+    }
+    writer.write("},\"meters\":{");
+    final ImmutableNavigableMap<String, MeterSnapshot> meters = snapshot.getMeters();
+    first = true;
+    for (final String name : meters.navigableKeySet()) {
+      first = writeKey(writer, name, first);
+      writeMeter(writer, meters.get(name));
+    }
+    writer.write("},\"timers\":{");
+    final ImmutableNavigableMap<String, HistogramSnapshot> timers = snapshot.getTimers();
+    first = true;
+    for (final String name : timers.navigableKeySet()) {
+      first = writeKey(writer, name, first);
+      writeTimer(writer, timers.get(name));
+    }
+    writer.write("}}");
+  }
+
+  private static void writeMeter(Writer writer, MeterSnapshot meter) throws IOException {
+    writer.write("{\"count\":");
+    writer.write(Long.toString(meter.getCount()));
+    writer.write(",\"mean_rate\":");
+    writeDouble(writer, meter.getMeanRate());
+    writer.write(",\"m1_rate\":");
+    writeDouble(writer, meter.getOneMinuteRate());
+    writer.write(",\"m5_rate\":");
+    writeDouble(writer, meter.getFiveMinuteRate());
+    writer.write(",\"m15_rate\":");
+    writeDouble(writer, meter.getFifteenMinuteRate());
+    writer.write('}');
+  }
+
+  private static void writeTimer(Writer writer, HistogramSnapshot timer) throws IOException {
+    writer.write("{\"count\":");
+    writer.write(Long.toString(timer.getTotalCount()));
+    writer.write(",\"min\":");
+    writer.write(Long.toString(timer.getMin()));
+    writer.write(",\"max\":");
+    writer.write(Long.toString(timer.getMax()));
+    writer.write(",\"mean\":");
+    writeDouble(writer, timer.getMean());
+    writer.write(",\"p50\":");
+    writer.write(Long.toString(timer.getValueAtPercentile(50)));
+    writer.write(",\"p90\":");
+    writer.write(Long.toString(timer.getValueAtPercentile(90)));
+    writer.write(",\"p99\":");
+    writer.write(Long.toString(timer.getValueAtPercentile(99)));
+    writer.write(",\"p999\":");
+    writer.write(Long.toString(timer.getValueAtPercentile(99.9)));
+    writer.write('}');
+  }
+
+  private static boolean writeKey(Writer writer, String key, boolean first) throws IOException {
+    if (!first) {
+      writer.write(',');
+    }
+    JsonStrings.write(writer, key);
+    writer.write(':');
+    return false;
+  }
+
+  private static void writeDouble(Writer writer, double value) throws IOException {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      writer.write("null");
+    } else {
+      writer.write(Double.toString(value));
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.kirekov.juu.measure.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures the rate of events, e.g. requests per second. Besides the total count and the mean rate
+ * the meter tracks exponentially weighted moving averages over 1, 5 and 15 minutes, which are the
+ * same as the load average of Unix systems.
+ *
+ * <p>The class is thread-safe and does not need a background thread. Moving averages are updated
+ * every 5 seconds by the thread that happens to mark or read the meter first after the interval
+ * passes.</p>
+ *
+ * @see MetricsRegistry#meter(String)
+ * @since 2.1
+ */
+public final class Meter {
+
+  private static final long TICK_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final LongSupplier clock;
+  private final long startTime;
+  private final AtomicLong lastTick;
+  private final LongAdder count = new LongAdder();
+  private final Ewma oneMinuteRate = new Ewma(1, TICK_INTERVAL);
+  private final Ewma fiveMinuteRate = new Ewma(5, TICK_INTERVAL);
+  private final Ewma fifteenMinuteRate = new Ewma(15, TICK_INTERVAL);
+
+  /**
+   * Creates new meter with {@linkplain System#nanoTime()} clock.
+   */
+  public Meter() {
+    this(System::nanoTime);
+  }
+
+  /**
+   * Creates new meter with the given clock in nanos.
+   *
+   * @param clock monotonic clock in nanos. Cannot be null
+   * @throws NullPointerException if {@code clock} is null
+   */
+  Meter(LongSupplier clock) {
+    this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+    this.startTime = clock.getAsLong();
+    this.lastTick = new AtomicLong(startTime);
+  }
+
+  /**
+   * Marks the occurrence of an event.
+   */
+  public void mark() {
+    mark(1);
+  }
+
+  /**
+   * Marks the occurrence of the given count of events.
+   *
+   * @param events the count of events. Cannot be negative
+   * @throws IllegalArgumentException if {@code events} is negative
+   */
+  public void mark(long events) {
+    if (events < 0) {
+      throw new IllegalArgumentException(String.format("Events is less than zero: %s", events));
+    }
+    tickIfNecessary();
+    count.add(events);
+    oneMinuteRate.update(events);
+    fiveMinuteRate.update(events);
+    fifteenMinuteRate.update(events);
+  }
+
+  /**
+   * Gets the count of marked events.
+   *
+   * @return count
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Gets the mean rate since the meter creation.
+   *
+   * @return events per second
+   */
+  public double getMeanRate() {
+    final long elapsed = clock.getAsLong() - startTime;
+    if (elapsed <= 0) {
+      return 0.0;
+    }
+    return getCount() * NANOS_PER_SECOND / elapsed;
+  }
+
+  /**
+   * Gets the moving average rate over the last minute.
+   *
+   * @return events per second
+   */
+  public double getOneMinuteRate() {
+    tickIfNecessary();
+    return oneMinuteRate.getRate();
+  }
+
+  /**
+   * Gets the moving average rate over the last 5 minutes.
+   *
+   * @return events per second
+   */
+  public double getFiveMinuteRate() {
+    tickIfNecessary();
+    return fiveMinuteRate.getRate();
+  }
+
+  /**
+   * Gets the moving average rate over the last 15 minutes.
+   *
+   * @return events per second
+   */
+  public double getFifteenMinuteRate() {
+    tickIfNecessary();
+    return fifteenMinuteRate.getRate();
+  }
+
+  /**
+   * Takes the snapshot of the current rates.
+   *
+   * @return snapshot
+   */
+  public MeterSnapshot snapshot() {
+    tickIfNecessary();
+    return new MeterSnapshot(
+        getCount(),
+        getMeanRate(),
+        oneMinuteRate.getRate(),
+        fiveMinuteRate.getRate(),
+        fifteenMinuteRate.getRate()
+    );
+  }
+
+  private void tickIfNecessary() {
+    final long oldTick = lastTick.get();
+    final long now = clock.getAsLong();
+    final long age = now - oldTick;
+    if (age > TICK_INTERVAL) {
+      final long newTick = now - age % TICK_INTERVAL;
+      if (lastTick.compareAndSet(oldTick, newTick)) {
+        final long requiredTicks = age / TICK_INTERVAL;
+        for (long i = 0; i < requiredTicks; i++) {
+          oneMinuteRate.tick();
+          fiveMinuteRate.tick();
+          fifteenMinuteRate.tick();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.kirekov.juu.measure.metrics;
+
+/**
+ * Immutable state of {@linkplain Meter} at some point of time. All rates are in events per second.
+ *
+ * @see Meter#snapshot()
+ * @since 2.1
+ */
+public final class MeterSnapshot {
+
+  private final long count;
+  private final double meanRate;
+  private final double oneMinuteRate;
+  private final double fiveMinuteRate;
+  private final double fifteenMinuteRate;
+
+  MeterSnapshot(
+      long count,
+      double meanRate,
+      double oneMinuteRate,
+      double fiveMinuteRate,
+      double fifteenMinuteRate
+  ) {
+    this.count = count;
+    this.meanRate = meanRate;
+    this.oneMinuteRate = oneMinuteRate;
+    this.fiveMinuteRate = fiveMinuteRate;
+    this.fifteenMinuteRate = fifteenMinuteRate;
+  }
+
+  /**
+   * Gets the count of marked events.
+   *
+   * @return count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Gets the mean rate since the meter creation.
+   *
+   * @return events per second
+   */
+  public double getMeanRate() {
+    return meanRate;
+  }
+
+  /**
+   * Gets the moving average rate over the last minute.
+   *
+   * @return events per second
+   */
+  public double getOneMinuteRate() {
+    return oneMinuteRate;
+  }
+
+  /**
+   * Gets the moving average rate over the last 5 minutes.
+   *
+   * @return events per second
+   */
+  public double getFiveMinuteRate() {
+    return fiveMinuteRate;
+  }
+
+  /**
+   * Gets the moving average rate over the last 15 minutes.
+   *
+   * @return events per second
+   */
+  public double getFifteenMinuteRate() {
+    return fifteenMinuteRate;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final MeterSnapshot that = (MeterSnapshot) o;
+    return count == that.count
+        && Double.compare(that.meanRate, meanRate) == 0
+        && Double.compare(that.oneMinuteRate, oneMinuteRate) == 0
+        && Double.compare(that.fiveMinuteRate, fiveMinuteRate) == 0
+        && Double.compare(that.fifteenMinuteRate, fifteenMinuteRate) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Long.hashCode(count);
+    result = 31 * result + Double.hashCode(meanRate);
+    result = 31 * result + Double.hashCode(oneMinuteRate);
+    result = 31 * result + Double.hashCode(fiveMinuteRate);
+    return 31 * result + Double.hashCode(fifteenMinuteRate);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "MeterSnapshot{count=%d, mean=%.3f/s, m1=%.3f/s, m5=%.3f/s, m15=%.3f/s}",
+        count, meanRate, oneMinuteRate, fiveMinuteRate, fifteenMinuteRate
+    );
+  }
+}
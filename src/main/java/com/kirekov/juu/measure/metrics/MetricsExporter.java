@@ -0,0 +1,53 @@
+package com.kirekov.juu.measure.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Renders {@linkplain MetricsSnapshot} in some text format. Implementations write the output
+ * straight into the destination metric by metric and don't build the whole document in memory.
+ *
+ * @see PrometheusExporter
+ * @see JsonExporter
+ * @since 2.1
+ */
+public interface MetricsExporter {
+
+  /**
+   * Gets the MIME type of the output including the charset.
+   *
+   * @return content type
+   */
+  String getContentType();
+
+  /**
+   * Writes the snapshot into the writer. The writer is not flushed or closed.
+   *
+   * @param snapshot the snapshot to export. Cannot be null
+   * @param writer   the destination. Cannot be null
+   * @throws IOException          if the writer fails
+   * @throws NullPointerException if {@code snapshot} or {@code writer} is null
+   */
+  void export(MetricsSnapshot snapshot, Writer writer) throws IOException;
+
+  /**
+   * Writes the snapshot into the stream in UTF-8. The stream is flushed but not closed.
+   *
+   * @param snapshot the snapshot to export. Cannot be null
+   * @param stream   the destination. Cannot be null
+   * @throws IOException          if the stream fails
+   * @throws NullPointerException if {@code snapshot} or {@code stream} is null
+   */
+  default void export(MetricsSnapshot snapshot, OutputStream stream) throws IOException {
+    Objects.requireNonNull(stream, "stream cannot be null");
+    final Writer writer =
+        new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+    export(snapshot, writer);
+    writer.flush();
+  }
+}
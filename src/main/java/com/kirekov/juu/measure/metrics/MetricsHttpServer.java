@@ -0,0 +1,148 @@
+package com.kirekov.juu.measure.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Embedded HTTP endpoint for scraping metrics of {@linkplain MetricsRegistry}. Built on the JDK
+ * {@code com.sun.net.httpserver} package, so it needs no dependencies.
+ *
+ * <ul>
+ *   <li>{@code GET /metrics} returns metrics in the Prometheus text format.</li>
+ *   <li>{@code GET /metrics.json} returns metrics as JSON.</li>
+ * </ul>
+ *
+ * <p>Requests are served by a single daemon thread, or by virtual threads on Java 21. Every request
+ * takes a fresh snapshot of the registry and streams it into the response with chunked encoding.
+ * Taking a snapshot does not block recording threads.</p>
+ *
+ * <pre>{@code
+ * try (MetricsHttpServer server = MetricsHttpServer.start(registry, 9100)) {
+ *   ...
+ * }
+ * }</pre>
+ *
+ * @see PrometheusExporter
+ * @see JsonExporter
+ * @since 2.1
+ */
+public final class MetricsHttpServer implements AutoCloseable {
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  private MetricsHttpServer(HttpServer server, ExecutorService executor) {
+    this.server = server;
+    this.executor = executor;
+  }
+
+  /**
+   * Starts the server on all interfaces.
+   *
+   * @param registry the registry to export. Cannot be null
+   * @param port     the port to listen. Zero means any free port
+   * @return started server
+   * @throws NullPointerException if {@code registry} is null
+   * @throws UncheckedIOException if the server cannot be bound
+   */
+  public static MetricsHttpServer start(MetricsRegistry registry, int port) {
+    return start(registry, new InetSocketAddress(port));
+  }
+
+  /**
+   * Starts the server on the given address.
+   *
+   * @param registry the registry to export. Cannot be null
+   * @param address  the address to listen. Cannot be null
+   * @return started server
+   * @throws NullPointerException if {@code registry} or {@code address} is null
+   * @throws UncheckedIOException if the server cannot be bound
+   */
+  public static MetricsHttpServer start(MetricsRegistry registry, InetSocketAddress address) {
+    Objects.requireNonNull(registry, "registry cannot be null");
+    Objects.requireNonNull(address, "address cannot be null");
+    final HttpServer server;
+    try {
+      server = HttpServer.create(address, 0);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    server.createContext("/metrics", exchange -> {
+      final String path = exchange.getRequestURI().getPath();
+      if ("/metrics".equals(path)) {
+        respond(exchange, registry, new PrometheusExporter());
+      } else if ("/metrics.json".equals(path)) {
+        respond(exchange, registry, new JsonExporter());
+      } else {
+        reject(exchange, HttpURLConnection.HTTP_NOT_FOUND);
+      }
+    });
+    final ExecutorService executor = MetricsServerExecutor.create();
+    server.setExecutor(executor);
+    server.start();
+    return new MetricsHttpServer(server, executor);
+  }
+
+  /**
+   * Gets the address the server listens to.
+   *
+   * @return address
+   */
+  public InetSocketAddress getAddress() {
+    return server.getAddress();
+  }
+
+  /**
+   * Gets the port the server listens to. Useful if the server has been started on port zero.
+   *
+   * @return port
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Stops the server immediately and releases its thread.
+   */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private static void respond(
+      HttpExchange exchange,
+      MetricsRegistry registry,
+      MetricsExporter exporter
+  ) throws IOException {
+    if (!"GET".equals(exchange.getRequestMethod())) {
+      reject(exchange, HttpURLConnection.HTTP_BAD_METHOD);
+      return;
+    }
+    try {
+      final MetricsSnapshot snapshot = registry.snapshot();
+      exchange.getResponseHeaders().set("Content-Type", exporter.getContentType());
+      exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, 0);
+      try (OutputStream body = exchange.getResponseBody()) {
+        exporter.export(snapshot, body);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private static void reject(HttpExchange exchange, int status) throws IOException {
+    try {
+      exchange.sendResponseHeaders(status, -1);
+    } finally {
+      exchange.close();
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.kirekov.juu.measure.metrics;
+
+import com.kirekov.juu.measure.HistogramSnapshot;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Named collection of metrics: {@linkplain Counter}, {@linkplain Gauge}, {@linkplain Meter} and
+ * {@linkplain Timer}. A metric is created on the first request and the same instance is returned
+ * for the same name afterwards, so hot paths may either keep the reference or look it up every
+ * time.
+ *
+ * <p>The class is thread-safe. Lookups of existing metrics are lock-free. Taking a snapshot does
+ * not block recording threads.</p>
+ *
+ * <pre>{@code
+ * MetricsRegistry registry = new MetricsRegistry();
+ * registry.counter("requests").increment();
+ * Result result = Measure.executionTime(() -> handle(request))
+ *     .recordInto(registry.timer("request.latency"));
+ * }</pre>
+ *
+ * @see MetricsSnapshot
+ * @since 2.1
+ */
+public final class MetricsRegistry {
+
+  private final ConcurrentMap<String, Object> metrics = new ConcurrentHashMap<>();
+
+  /**
+   * Gets the counter with the given name or creates new one.
+   *
+   * @param name the name of the counter. Cannot be null
+   * @return counter
+   * @throws NullPointerException     if {@code name} is null
+   * @throws IllegalArgumentException if {@code name} is registered as a metric of another type
+   */
+  public Counter counter(String name) {
+    return getOrCreate(name, Counter.class, Counter::new);
+  }
+
+  /**
+   * Gets the meter with the given name or creates new one.
+   *
+   * @param name the name of the meter. Cannot be null
+   * @return meter
+   * @throws NullPointerException     if {@code name} is null
+   * @throws IllegalArgumentException if {@code name} is registered as a metric of another type
+   */
+  public Meter meter(String name) {
+    return getOrCreate(name, Meter.class, Meter::new);
+  }
+
+  /**
+   * Gets the timer with the given name or creates new one which distinguishes durations up to one
+   * hour.
+   *
+   * @param name the name of the timer. Cannot be null
+   * @return timer
+   * @throws NullPointerException     if {@code name} is null
+   * @throws IllegalArgumentException if {@code name} is registered as a metric of another type
+   */
+  public Timer timer(String name) {
+    return getOrCreate(name, Timer.class, Timer::new);
+  }
+
+  /**
+   * Registers the gauge with the given name. If a gauge with this name is already registered, the
+   * previous one is kept and returned.
+   *
+   * @param name  the name of the gauge. Cannot be null
+   * @param gauge the gauge. Cannot be null
+   * @return registered gauge
+   * @throws NullPointerException     if {@code name} or {@code gauge} is null
+   * @throws IllegalArgumentException if {@code name} is registered as a metric of another type
+   */
+  public Gauge gauge(String name, Gauge gauge) {
+    Objects.requireNonNull(gauge, "gauge cannot be null");
+    return getOrCreate(name, Gauge.class, () -> gauge);
+  }
+
+  /**
+   * Removes the metric with the given name.
+   *
+   * @param name the name of the metric. Cannot be null
+   * @return true if the metric has been removed, otherwise false
+   * @throws NullPointerException if {@code name} is null
+   */
+  public boolean remove(String name) {
+    Objects.requireNonNull(name, "name cannot be null");
+    return metrics.remove(name) != null;
+  }
+
+  /**
+   * Takes the snapshot of all registered metrics. Values that are recorded concurrently may or may
+   * not be included. Metrics registered concurrently may or may not be included.
+   *
+   * @return snapshot
+   */
+  public MetricsSnapshot snapshot() {
+    final Map<String, Long> counters = new TreeMap<>();
+    final Map<String, Double> gauges = new TreeMap<>();
+    final Map<String, MeterSnapshot> meters = new TreeMap<>();
+    final Map<String, HistogramSnapshot> timers = new TreeMap<>();
+    for (final Map.Entry<String, Object> entry : metrics.entrySet()) {
+      final String name = entry.getKey();
+      final Object metric = entry.getValue();
+      if (metric instanceof Counter) {
+        counters.put(name, ((Counter) metric).getCount());
+      } else if (metric instanceof Gauge) {
+        gauges.put(name, ((Gauge) metric).getValue());
+      } else if (metric instanceof Meter) {
+        meters.put(name, ((Meter) metric).snapshot());
+      } else if (metric instanceof Timer) {
+        timers.put(name, ((Timer) metric).snapshot());
+      }
+    }
+    return new MetricsSnapshot(counters, gauges, meters, timers);
+  }
+
+  private <M> M getOrCreate(String name, Class<M> type, Supplier<M> factory) {
+    Objects.requireNonNull(name, "name cannot be null");
+    Object metric = metrics.get(name);
+    if (metric == null) {
+      metric = metrics.computeIfAbsent(name, key -> factory.get());
+    }
+    if (!type.isInstance(metric)) {
+      throw new IllegalArgumentException(String.format(
+          "Metric '%s' is already registered as %s", name, metric.getClass().getSimpleName()));
+    }
+    return type.cast(metric);
+  }
+}
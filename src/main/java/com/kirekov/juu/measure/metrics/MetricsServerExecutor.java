@@ -0,0 +1,30 @@
+package com.kirekov.juu.measure.metrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the executor that serves requests of {@linkplain MetricsHttpServer}. This Java 8 version
+ * serves them by a single daemon thread. The multi-release jar replaces the class with the
+ * implementation from {@code src/main/java21} which serves every request by a virtual thread.
+ */
+final class MetricsServerExecutor {
+
+  static final String THREAD_NAME = "metrics-http-server";
+
+  private MetricsServerExecutor() {
+  }
+
+  /**
+   * Creates new executor. It is shut down when the server is closed.
+   *
+   * @return executor
+   */
+  static ExecutorService create() {
+    return Executors.newSingleThreadExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, THREAD_NAME);
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+}
@@ -0,0 +1,89 @@
+package com.kirekov.juu.measure.metrics;
+
+import com.kirekov.juu.collection.immutable.ImmutableNavigableMap;
+import com.kirekov.juu.collection.immutable.ImmutableTreeMap;
+import com.kirekov.juu.measure.HistogramSnapshot;
+import java.util.Map;
+
+/**
+ * Immutable state of all metrics of {@linkplain MetricsRegistry} at some point of time. Metrics
+ * are grouped by type and sorted by name.
+ *
+ * @see MetricsRegistry#snapshot()
+ * @since 2.1
+ */
+public final class MetricsSnapshot {
+
+  private final ImmutableNavigableMap<String, Long> counters;
+  private final ImmutableNavigableMap<String, Double> gauges;
+  private final ImmutableNavigableMap<String, MeterSnapshot> meters;
+  private final ImmutableNavigableMap<String, HistogramSnapshot> timers;
+
+  MetricsSnapshot(
+      Map<String, Long> counters,
+      Map<String, Double> gauges,
+      Map<String, MeterSnapshot> meters,
+      Map<String, HistogramSnapshot> timers
+  ) {
+    this.counters = ImmutableTreeMap.of(counters);
+    this.gauges = ImmutableTreeMap.of(gauges);
+    this.meters = ImmutableTreeMap.of(meters);
+    this.timers = ImmutableTreeMap.of(timers);
+  }
+
+  /**
+   * Gets counts of counters.
+   *
+   * @return counts by name
+   */
+  public ImmutableNavigableMap<String, Long> getCounters() {
+    return counters;
+  }
+
+  /**
+   * Gets values of gauges.
+   *
+   * @return values by name
+   */
+  public ImmutableNavigableMap<String, Double> getGauges() {
+    return gauges;
+  }
+
+  /**
+   * Gets snapshots of meters.
+   *
+   * @return snapshots by name
+   */
+  public ImmutableNavigableMap<String, MeterSnapshot> getMeters() {
+    return meters;
+  }
+
+  /**
+   * Gets snapshots of timers. Durations are in {@linkplain
+   * com.kirekov.juu.measure.MeasureUnit#NANOS}.
+   *
+   * @return snapshots by name
+   */
+  public ImmutableNavigableMap<String, HistogramSnapshot> getTimers() {
+    return timers;
+  }
+
+  /**
+   * Whether the snapshot contains no metrics.
+   *
+   * @return true if there are no metrics, otherwise false
+   */
+  public boolean isEmpty() {
+    return counters.isEmpty() && gauges.isEmpty() && meters.isEmpty() && timers.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return "MetricsSnapshot{"
+        + "counters=" + counters.size()
+        + ", gauges=" + gauges.size()
+        + ", meters=" + meters.size()
+        + ", timers=" + timers.size()
+        + '}';
+  }
+}
@@ -0,0 +1,191 @@
+package com.kirekov.juu.measure.metrics;
+
+import com.kirekov.juu.collection.immutable.Pair;
+import com.kirekov.juu.measure.HistogramSnapshot;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Renders metrics in the Prometheus text exposition format of version 0.0.4. Characters that are
+ * not allowed in Prometheus names are replaced with underscores, e.g. {@code request.latency}
+ * becomes {@code request_latency}. So different metrics may end up with the same name, e.g.
+ * {@code a.b} and {@code a_b}, or counter {@code a} and gauge {@code a_total}. Prometheus rejects
+ * such output, so the exporter checks all names before writing anything and fails instead.
+ *
+ * <ul>
+ *   <li>{@linkplain Counter} is exported as counter {@code <name>_total}.</li>
+ *   <li>{@linkplain Gauge} is exported as gauge {@code <name>}.</li>
+ *   <li>{@linkplain Meter} is exported as counter {@code <name>_total} and gauge
+ *   {@code <name>_rate} with label {@code window} equal to {@code mean}, {@code 1m}, {@code 5m}
+ *   or {@code 15m}.</li>
+ *   <li>{@linkplain Timer} is exported as summary {@code <name>_seconds} with quantiles 0.5, 0.9,
+ *   0.99 and 0.999.</li>
+ * </ul>
+ *
+ * <p>The class is stateless and thread-safe.</p>
+ *
+ * @since 2.1
+ */
+public final class PrometheusExporter implements MetricsExporter {
+
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+  private static final double NANOS_PER_SECOND = 1e9;
+  private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+  private static final double PERCENT = 100.0;
+
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalArgumentException if names of different metrics are the same after replacing
+   *                                  invalid characters
+   */
+  @Override
+  public void export(MetricsSnapshot snapshot, Writer writer) throws IOException {
+    Objects.requireNonNull(snapshot, "snapshot cannot be null");
+    Objects.requireNonNull(writer, "writer cannot be null");
+    checkNoCollisions(snapshot);
+    for (final String name : snapshot.getCounters().navigableKeySet()) {
+      writeType(writer, name, "_total", "counter");
+      writeSample(writer, name, "_total", null, format(snapshot.getCounters().get(name)));
+    }
+    for (final String name : snapshot.getGauges().navigableKeySet()) {
+      writeType(writer, name, "", "gauge");
+      writeSample(writer, name, "", null, format(snapshot.getGauges().get(name)));
+    }
+    for (final String name : snapshot.getMeters().navigableKeySet()) {
+      final MeterSnapshot meter = snapshot.getMeters().get(name);
+      writeType(writer, name, "_total", "counter");
+      writeSample(writer, name, "_total", null, format(meter.getCount()));
+      writeType(writer, name, "_rate", "gauge");
+      writeRate(writer, name, "mean", meter.getMeanRate());
+      writeRate(writer, name, "1m", meter.getOneMinuteRate());
+      writeRate(writer, name, "5m", meter.getFiveMinuteRate());
+      writeRate(writer, name, "15m", meter.getFifteenMinuteRate());
+    }
+    for (final String name : snapshot.getTimers().navigableKeySet()) {
+      final HistogramSnapshot timer = snapshot.getTimers().get(name);
+      writeType(writer, name, "_seconds", "summary");
+      for (final double quantile : QUANTILES) {
+        final long nanos = timer.getValueAtPercentile(quantile * PERCENT);
+        writeSample(
+            writer,
+            name,
+            "_seconds",
+            Pair.of("quantile", Double.toString(quantile)),
+            format(nanos / NANOS_PER_SECOND)
+        );
+      }
+      final double sum = timer.getMean() * timer.getTotalCount() / NANOS_PER_SECOND;
+      writeSample(writer, name, "_seconds_sum", null, format(sum));
+      writeSample(writer, name, "_seconds_count", null, format(timer.getTotalCount()));
+    }
+  }
+
+  private static void checkNoCollisions(MetricsSnapshot snapshot) {
+    final Map<String, String> owners = new HashMap<>();
+    for (final String name : snapshot.getCounters().navigableKeySet()) {
+      claim(owners, name, "_total");
+    }
+    for (final String name : snapshot.getGauges().navigableKeySet()) {
+      claim(owners, name, "");
+    }
+    for (final String name : snapshot.getMeters().navigableKeySet()) {
+      claim(owners, name, "_total");
+      claim(owners, name, "_rate");
+    }
+    for (final String name : snapshot.getTimers().navigableKeySet()) {
+      claim(owners, name, "_seconds");
+      claim(owners, name, "_seconds_sum");
+      claim(owners, name, "_seconds_count");
+    }
+  }
+
+  private static void claim(Map<String, String> owners, String name, String suffix) {
+    final String exported = sanitize(name) + suffix;
+    final String owner = owners.putIfAbsent(exported, name);
+    if (owner != null) {
+      throw new IllegalArgumentException(String.format(
+          "Metrics '%s' and '%s' are both exported as '%s'", owner, name, exported));
+    }
+  }
+
+  private static void writeType(Writer writer, String name, String suffix, String type)
+      throws IOException {
+    writer.write("# TYPE ");
+    writeName(writer, name, suffix);
+    writer.write(' ');
+    writer.write(type);
+    writer.write('\n');
+  }
+
+  private static void writeRate(Writer writer, String name, String window, double rate)
+      throws IOException {
+    writeSample(writer, name, "_rate", Pair.of("window", window), format(rate));
+  }
+
+  private static void writeSample(
+      Writer writer,
+      String name,
+      String suffix,
+      Pair<String, String> label,
+      String value
+  ) throws IOException {
+    writeName(writer, name, suffix);
+    if (label != null) {
+      writer.write('{');
+      writer.write(label.getKey());
+      writer.write("=\"");
+      writer.write(label.getValue());
+      writer.write("\"}");
+    }
+    writer.write(' ');
+    writer.write(value);
+    writer.write('\n');
+  }
+
+  private static void writeName(Writer writer, String name, String suffix) throws IOException {
+    for (int i = 0; i < name.length(); i++) {
+      writer.write(sanitize(name.charAt(i), i));
+    }
+    writer.write(suffix);
+  }
+
+  private static String sanitize(String name) {
+    final char[] chars = new char[name.length()];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = sanitize(name.charAt(i), i);
+    }
+    return new String(chars);
+  }
+
+  private static char sanitize(char c, int index) {
+    final boolean valid = c >= 'a' && c <= 'z'
+        || c >= 'A' && c <= 'Z'
+        || c == '_'
+        || c == ':'
+        || c >= '0' && c <= '9' && index > 0;
+    return valid ? c : '_';
+  }
+
+  private static String format(long value) {
+    return Long.toString(value);
+  }
+
+  private static String format(double value) {
+    if (Double.isNaN(value)) {
+      return "NaN";
+    }
+    if (Double.isInfinite(value)) {
+      return value > 0 ? "+Inf" : "-Inf";
+    }
+    return Double.toString(value);
+  }
+}
@@ -0,0 +1,116 @@
+package com.kirekov.juu.measure.metrics;
+
+import com.kirekov.juu.lambda.Action;
+import com.kirekov.juu.measure.HistogramSnapshot;
+import com.kirekov.juu.measure.LatencyHistogram;
+import com.kirekov.juu.measure.LatencyRecorder;
+import com.kirekov.juu.measure.Measure;
+import com.kirekov.juu.measure.MeasureUnit;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Distribution of durations in {@linkplain MeasureUnit#NANOS} backed by {@linkplain
+ * LatencyHistogram}. The count of recorded durations is the throughput and percentiles of the
+ * distribution are the latency.
+ *
+ * <p>The timer is a {@linkplain LatencyRecorder}, so results of {@linkplain
+ * Measure#recordInto(LatencyRecorder)} and {@linkplain
+ * com.kirekov.juu.measure.Profiler#stopMeasuring(LatencyRecorder)} can be recorded into it
+ * directly.</p>
+ *
+ * <p>The class is thread-safe. Recording is lock-free and allocation-free.</p>
+ *
+ * @see MetricsRegistry#timer(String)
+ * @since 2.1
+ */
+public final class Timer implements LatencyRecorder {
+
+  private static final long DEFAULT_HIGHEST_TRACKABLE_NANOS = TimeUnit.HOURS.toNanos(1);
+  private static final int DEFAULT_SIGNIFICANT_DIGITS = 2;
+
+  private final LatencyHistogram histogram;
+
+  /**
+   * Creates new timer which distinguishes durations up to one hour with 2 significant digits.
+   */
+  public Timer() {
+    this(DEFAULT_HIGHEST_TRACKABLE_NANOS, DEFAULT_SIGNIFICANT_DIGITS);
+  }
+
+  /**
+   * Creates new timer.
+   *
+   * @param highestTrackableNanos the longest duration that can be distinguished. Must be at least 2
+   * @param significantDigits     the count of significant decimal digits. Must be between 1 and 5
+   * @throws IllegalArgumentException if any argument is out of range
+   */
+  public Timer(long highestTrackableNanos, int significantDigits) {
+    this.histogram = new LatencyHistogram(highestTrackableNanos, significantDigits);
+  }
+
+  /**
+   * Records the duration.
+   *
+   * @param nanos duration in nanos. Cannot be negative
+   * @throws IllegalArgumentException if {@code nanos} is negative
+   */
+  @Override
+  public void record(long nanos) {
+    histogram.record(nanos);
+  }
+
+  /**
+   * Records the duration in the given unit.
+   *
+   * @param duration duration. Cannot be negative
+   * @param unit     unit of {@code duration}. Cannot be null
+   * @throws IllegalArgumentException if {@code duration} is negative
+   * @throws NullPointerException     if {@code unit} is null
+   */
+  public void record(long duration, TimeUnit unit) {
+    Objects.requireNonNull(unit, "unit cannot be null");
+    histogram.record(unit.toNanos(duration));
+  }
+
+  /**
+   * Executes the function and records its duration.
+   *
+   * @param supplier the function to execute. Cannot be null
+   * @param <T>      the type of the result
+   * @return function result
+   * @throws NullPointerException if {@code supplier} is null
+   */
+  public <T> T time(Supplier<T> supplier) {
+    return Measure.executionTime(supplier).recordInto(this);
+  }
+
+  /**
+   * Executes the action and records its duration.
+   *
+   * @param action the action to execute. Cannot be null
+   * @throws NullPointerException if {@code action} is null
+   */
+  public void time(Action action) {
+    Measure.executionTime(action).recordInto(this);
+  }
+
+  /**
+   * Gets the count of recorded durations.
+   *
+   * @return count
+   */
+  public long getCount() {
+    return histogram.snapshot().getTotalCount();
+  }
+
+  /**
+   * Takes the snapshot of all durations recorded since the timer creation.
+   *
+   * @return snapshot in nanos
+   */
+  public HistogramSnapshot snapshot() {
+    return histogram.snapshot();
+  }
+}
@@ -0,0 +1,276 @@
+package com.kirekov.juu.measure.regression;
+
+import com.kirekov.juu.measure.ExecutionStatistics;
+import com.kirekov.juu.measure.MeasureUnit;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Keeps {@linkplain ExecutionStatistics} of named benchmarks in a local CSV file, so they outlive
+ * the process and can serve as a baseline for {@linkplain RegressionComparator}. Results are keyed
+ * by the benchmark name and {@linkplain EnvironmentFingerprint}, so a file shared between machines
+ * never compares results measured in different environments.
+ *
+ * <pre>{@code
+ * BenchmarkStore store = BenchmarkStore.open(Paths.get("benchmarks.csv"));
+ * store.put("parse", Measure.repeat(this::parse).run());
+ * store.save();
+ * }</pre>
+ *
+ * <p>The file starts with the format version line. Then every environment is described in a
+ * comment line, followed by one row per result with the name, the environment ID, the measure unit
+ * and the samples separated by semicolons:</p>
+ * <pre>
+ * # juu-benchmarks v1
+ * # environment 5c1ba3c0f54e2d1a java=1.8.0_292 ...
+ * name,environment,unit,samples
+ * parse,5c1ba3c0f54e2d1a,NANOS,101.5;102.0;110.25
+ * </pre>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @see RegressionComparator
+ * @since 2.1
+ */
+public final class BenchmarkStore {
+
+  /**
+   * The version of the file format written by this class.
+   */
+  public static final int FORMAT_VERSION = 1;
+
+  private static final String VERSION_PREFIX = "# juu-benchmarks v";
+  private static final String ENVIRONMENT_PREFIX = "# environment ";
+  private static final String HEADER = "name,environment,unit,samples";
+  private static final int COLUMNS = 4;
+
+  private final Path file;
+  private final EnvironmentFingerprint environment;
+  private final Map<String, String> environments = new TreeMap<>();
+  private final Map<String, Map<String, ExecutionStatistics>> results = new TreeMap<>();
+
+  private BenchmarkStore(Path file, EnvironmentFingerprint environment) {
+    this.file = file;
+    this.environment = environment;
+    environments.put(environment.getId(), environment.getDescription());
+  }
+
+  /**
+   * Opens the store for {@linkplain EnvironmentFingerprint#current()}. If the file exists, the
+   * stored results are loaded.
+   *
+   * @param file the file of the store. Cannot be null
+   * @return store
+   * @throws IOException          if the file cannot be read or has unsupported format
+   * @throws NullPointerException if {@code file} is null
+   */
+  public static BenchmarkStore open(Path file) throws IOException {
+    return open(file, EnvironmentFingerprint.current());
+  }
+
+  /**
+   * Opens the store for the given environment. If the file exists, the stored results are loaded.
+   *
+   * @param file        the file of the store. Cannot be null
+   * @param environment the environment that keys results. Cannot be null
+   * @return store
+   * @throws IOException          if the file cannot be read or has unsupported format
+   * @throws NullPointerException if {@code file} or {@code environment} is null
+   */
+  public static BenchmarkStore open(Path file, EnvironmentFingerprint environment)
+      throws IOException {
+    Objects.requireNonNull(file, "file cannot be null");
+    Objects.requireNonNull(environment, "environment cannot be null");
+    final BenchmarkStore store = new BenchmarkStore(file, environment);
+    if (Files.exists(file)) {
+      store.load();
+    }
+    return store;
+  }
+
+  /**
+   * Gets the file of the store.
+   *
+   * @return file
+   */
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * Gets the environment that keys results of this store.
+   *
+   * @return environment
+   */
+  public EnvironmentFingerprint getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * Gets the statistics of the benchmark measured in the environment of this store.
+   *
+   * @param name the name of the benchmark. Cannot be null
+   * @return statistics or empty if there is no result
+   * @throws NullPointerException if {@code name} is null
+   */
+  public synchronized Optional<ExecutionStatistics> get(String name) {
+    Objects.requireNonNull(name, "name cannot be null");
+    final Map<String, ExecutionStatistics> byEnvironment = results.get(name);
+    if (byEnvironment == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(byEnvironment.get(environment.getId()));
+  }
+
+  /**
+   * Puts the statistics of the benchmark measured in the environment of this store. The previous
+   * result is replaced. The change is not written until {@linkplain BenchmarkStore#save()}.
+   *
+   * @param name       the name of the benchmark. Cannot be null
+   * @param statistics the statistics. Cannot be null
+   * @throws NullPointerException if {@code name} or {@code statistics} is null
+   */
+  public synchronized void put(String name, ExecutionStatistics statistics) {
+    Objects.requireNonNull(name, "name cannot be null");
+    Objects.requireNonNull(statistics, "statistics cannot be null");
+    results.computeIfAbsent(name, key -> new TreeMap<>()).put(environment.getId(), statistics);
+  }
+
+  /**
+   * Writes all results into the file. Results of other environments that have been loaded are
+   * kept. The file is replaced only after the new content is completely written.
+   *
+   * @throws IOException if the file cannot be written
+   */
+  public synchronized void save() throws IOException {
+    final Path directory = file.toAbsolutePath().getParent();
+    if (directory != null) {
+      Files.createDirectories(directory);
+    }
+    final Path temporary = Files.createTempFile(
+        directory, String.valueOf(file.getFileName()), ".tmp");
+    try {
+      try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+        write(writer);
+      }
+      Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  private void write(BufferedWriter writer) throws IOException {
+    writer.write(VERSION_PREFIX + FORMAT_VERSION);
+    writer.newLine();
+    for (final Map.Entry<String, String> entry : environments.entrySet()) {
+      writer.write(ENVIRONMENT_PREFIX + entry.getKey() + ' '
+          + entry.getValue().replace('\n', ' ').replace('\r', ' '));
+      writer.newLine();
+    }
+    writer.write(HEADER);
+    writer.newLine();
+    for (final Map.Entry<String, Map<String, ExecutionStatistics>> byName : results.entrySet()) {
+      for (final Map.Entry<String, ExecutionStatistics> entry : byName.getValue().entrySet()) {
+        writer.write(quote(byName.getKey()));
+        writer.write(',');
+        writer.write(entry.getKey());
+        writer.write(',');
+        writer.write(entry.getValue().getMeasureUnit().name());
+        writer.write(',');
+        final double[] samples = entry.getValue().getSamples();
+        for (int i = 0; i < samples.length; i++) {
+          if (i > 0) {
+            writer.write(';');
+          }
+          writer.write(Double.toString(samples[i]));
+        }
+        writer.newLine();
+      }
+    }
+  }
+
+  private void load() throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      final String version = reader.readLine();
+      if (version == null || !version.equals(VERSION_PREFIX + FORMAT_VERSION)) {
+        throw new IOException(String.format("Unsupported benchmark file format: %s", version));
+      }
+      int number = 1;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        number++;
+        if (line.startsWith(ENVIRONMENT_PREFIX)) {
+          final String rest = line.substring(ENVIRONMENT_PREFIX.length());
+          final int space = rest.indexOf(' ');
+          if (space > 0) {
+            environments.putIfAbsent(rest.substring(0, space), rest.substring(space + 1));
+          }
+        } else if (!line.isEmpty() && !line.startsWith("#") && !line.equals(HEADER)) {
+          loadRow(line, number);
+        }
+      }
+    }
+  }
+
+  private void loadRow(String line, int number) throws IOException {
+    final List<String> columns = split(line);
+    if (columns.size() != COLUMNS) {
+      throw new IOException(String.format("Malformed line %d: %s", number, line));
+    }
+    try {
+      final MeasureUnit unit = MeasureUnit.valueOf(columns.get(2));
+      final String[] values = columns.get(3).split(";");
+      final double[] samples = new double[values.length];
+      for (int i = 0; i < values.length; i++) {
+        samples[i] = Double.parseDouble(values[i]);
+      }
+      results.computeIfAbsent(columns.get(0), key -> new TreeMap<>())
+          .put(columns.get(1), ExecutionStatistics.of(samples, unit));
+    } catch (IllegalArgumentException e) {
+      throw new IOException(String.format("Malformed line %d: %s", number, line), e);
+    }
+  }
+
+  private static String quote(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0 && !value.startsWith("#")) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"").replace('\n', ' ').replace('\r', ' ') + '"';
+  }
+
+  private static List<String> split(String line) {
+    final List<String> columns = new ArrayList<>();
+    final StringBuilder column = new StringBuilder();
+    boolean quoted = false;
+    int i = 0;
+    while (i < line.length()) {
+      final char c = line.charAt(i);
+      if (quoted && c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+        column.append('"');
+        i++;
+      } else if (c == '"') {
+        quoted = !quoted;
+      } else if (c == ',' && !quoted) {
+        columns.add(column.toString());
+        column.setLength(0);
+      } else {
+        column.append(c);
+      }
+      i++;
+    }
+    columns.add(column.toString());
+    return columns;
+  }
+}
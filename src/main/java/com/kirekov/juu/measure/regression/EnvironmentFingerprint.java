@@ -0,0 +1,121 @@
+package com.kirekov.juu.measure.regression;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes the environment where benchmarks run: JVM version and vendor, operating system,
+ * processor count and JVM flags that affect performance ({@code -X} and {@code -XX} options).
+ * Results measured in different environments are not comparable, so {@linkplain BenchmarkStore}
+ * keys them by {@linkplain EnvironmentFingerprint#getId()}.
+ *
+ * @since 2.1
+ */
+public final class EnvironmentFingerprint {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final int BYTE_MASK = 0xFF;
+
+  private final String description;
+  private final String id;
+
+  private EnvironmentFingerprint(String description) {
+    this.description = description;
+    this.id = String.format("%016x", fnv1a(description));
+  }
+
+  /**
+   * Gets the fingerprint of the running JVM.
+   *
+   * @return current fingerprint
+   */
+  public static EnvironmentFingerprint current() {
+    final List<String> flags = new ArrayList<>();
+    for (final String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+      if (argument.startsWith("-X")) {
+        flags.add(argument);
+      }
+    }
+    Collections.sort(flags);
+    return of(String.format(
+        "java=%s %s; vm=%s; os=%s %s; cpus=%d; flags=%s",
+        System.getProperty("java.version"),
+        System.getProperty("java.vendor"),
+        System.getProperty("java.vm.name"),
+        System.getProperty("os.name"),
+        System.getProperty("os.arch"),
+        Runtime.getRuntime().availableProcessors(),
+        String.join(" ", flags)
+    ));
+  }
+
+  /**
+   * Creates the fingerprint from the arbitrary description. Useful for grouping results by a
+   * custom key, e.g. the CI runner type.
+   *
+   * @param description the description of the environment. Cannot be null
+   * @return fingerprint
+   * @throws NullPointerException if {@code description} is null
+   */
+  public static EnvironmentFingerprint of(String description) {
+    Objects.requireNonNull(description, "description cannot be null");
+    return new EnvironmentFingerprint(description);
+  }
+
+  /**
+   * Gets the human-readable description of the environment.
+   *
+   * @return description
+   */
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Gets the stable hash of the description as 16 hex digits.
+   *
+   * @return ID
+   */
+  public String getId() {
+    return id;
+  }
+
+  private static long fnv1a(String value) {
+    long hash = FNV_OFFSET_BASIS;
+    for (final byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & BYTE_MASK;
+      hash *= FNV_PRIME;
+    }
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final EnvironmentFingerprint that = (EnvironmentFingerprint) o;
+    return description.equals(that.description);
+  }
+
+  @Override
+  public int hashCode() {
+    return description.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "EnvironmentFingerprint{"
+        + "id=" + id
+        + ", description='" + description + '\''
+        + '}';
+  }
+}
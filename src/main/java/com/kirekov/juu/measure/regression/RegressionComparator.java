@@ -0,0 +1,141 @@
+package com.kirekov.juu.measure.regression;
+
+import com.kirekov.juu.measure.ExecutionStatistics;
+import java.util.Objects;
+
+/**
+ * Compares current benchmark results against baselines and flags regressions. The mean of the
+ * current result may exceed the baseline mean by the relative {@code threshold} plus the noise
+ * which is the combined error of both means at the confidence level. So benchmarks with high
+ * dispersion need a larger slowdown to fail than stable ones.
+ *
+ * <pre>{@code
+ * BenchmarkStore store = BenchmarkStore.open(Paths.get("benchmarks.csv"));
+ * RegressionResult result = new RegressionComparator(0.1)
+ *     .compare(store, "parse", Measure.repeat(this::parse).run());
+ * assertTrue(result.isPassed(), result.getMessage());
+ * }</pre>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @see BenchmarkStore
+ * @see RegressionResult
+ * @since 2.1
+ */
+public final class RegressionComparator {
+
+  private static final double DEFAULT_CONFIDENCE_LEVEL = 0.99;
+
+  private final double threshold;
+  private final double confidenceLevel;
+
+  /**
+   * Creates new comparator with 0.99 confidence level.
+   *
+   * @param threshold the allowed relative slowdown, e.g. 0.1 for 10%. Cannot be negative
+   * @throws IllegalArgumentException if {@code threshold} is negative
+   */
+  public RegressionComparator(double threshold) {
+    this(threshold, DEFAULT_CONFIDENCE_LEVEL);
+  }
+
+  /**
+   * Creates new comparator.
+   *
+   * @param threshold       the allowed relative slowdown, e.g. 0.1 for 10%. Cannot be negative
+   * @param confidenceLevel the confidence level of the noise. Must be between 0 and 1 exclusively
+   * @throws IllegalArgumentException if {@code threshold} is negative or {@code confidenceLevel} is
+   *                                  out of range
+   */
+  public RegressionComparator(double threshold, double confidenceLevel) {
+    if (!(threshold >= 0) || Double.isInfinite(threshold)) {
+      throw new IllegalArgumentException(
+          String.format("Threshold is less than zero: %s", threshold));
+    }
+    if (!(confidenceLevel > 0 && confidenceLevel < 1)) {
+      throw new IllegalArgumentException(
+          String.format("Confidence level is out of range: %s", confidenceLevel));
+    }
+    this.threshold = threshold;
+    this.confidenceLevel = confidenceLevel;
+  }
+
+  /**
+   * Gets the allowed relative slowdown.
+   *
+   * @return threshold
+   */
+  public double getThreshold() {
+    return threshold;
+  }
+
+  /**
+   * Gets the confidence level of the noise.
+   *
+   * @return confidence level
+   */
+  public double getConfidenceLevel() {
+    return confidenceLevel;
+  }
+
+  /**
+   * Compares the current result against the baseline stored for the environment of the store. If
+   * there is no baseline, the result passes.
+   *
+   * @param store   the store with baselines. Cannot be null
+   * @param name    the name of the benchmark. Cannot be null
+   * @param current the current result. Cannot be null
+   * @return result of the comparison
+   * @throws NullPointerException     if any argument is null
+   * @throws IllegalArgumentException if the results are measured in different units
+   */
+  public RegressionResult compare(
+      BenchmarkStore store,
+      String name,
+      ExecutionStatistics current
+  ) {
+    Objects.requireNonNull(store, "store cannot be null");
+    Objects.requireNonNull(name, "name cannot be null");
+    Objects.requireNonNull(current, "current cannot be null");
+    return store.get(name)
+        .map(baseline -> compare(name, baseline, current))
+        .orElseGet(() -> new RegressionResult(name, null, current, Double.NaN, Double.NaN));
+  }
+
+  /**
+   * Compares the current result against the baseline.
+   *
+   * @param name     the name of the benchmark. Cannot be null
+   * @param baseline the baseline result. Cannot be null
+   * @param current  the current result. Cannot be null
+   * @return result of the comparison
+   * @throws NullPointerException     if any argument is null
+   * @throws IllegalArgumentException if the results are measured in different units
+   */
+  public RegressionResult compare(
+      String name,
+      ExecutionStatistics baseline,
+      ExecutionStatistics current
+  ) {
+    Objects.requireNonNull(name, "name cannot be null");
+    Objects.requireNonNull(baseline, "baseline cannot be null");
+    Objects.requireNonNull(current, "current cannot be null");
+    if (baseline.getMeasureUnit() != current.getMeasureUnit()) {
+      throw new IllegalArgumentException(String.format(
+          "Measure units are different: %s and %s",
+          baseline.getMeasureUnit(), current.getMeasureUnit()));
+    }
+    final double baselineError = meanError(baseline);
+    final double currentError = meanError(current);
+    final double noise =
+        Math.sqrt(baselineError * baselineError + currentError * currentError);
+    final double relativeChange = (current.getMean() - baseline.getMean()) / baseline.getMean();
+    final double allowedChange = threshold + noise / baseline.getMean();
+    return new RegressionResult(name, baseline, current, relativeChange, allowedChange);
+  }
+
+  private double meanError(ExecutionStatistics statistics) {
+    final double error = statistics.getMeanError(confidenceLevel);
+    return Double.isNaN(error) ? 0 : error;
+  }
+}
@@ -0,0 +1,119 @@
+package com.kirekov.juu.measure.regression;
+
+import com.kirekov.juu.measure.ExecutionStatistics;
+import java.util.Optional;
+
+/**
+ * The result of comparing a benchmark against its baseline.
+ *
+ * @see RegressionComparator
+ * @since 2.1
+ */
+public final class RegressionResult {
+
+  private static final double PERCENT = 100.0;
+
+  private final String name;
+  private final ExecutionStatistics baseline;
+  private final ExecutionStatistics current;
+  private final double relativeChange;
+  private final double allowedChange;
+
+  RegressionResult(
+      String name,
+      ExecutionStatistics baseline,
+      ExecutionStatistics current,
+      double relativeChange,
+      double allowedChange
+  ) {
+    this.name = name;
+    this.baseline = baseline;
+    this.current = current;
+    this.relativeChange = relativeChange;
+    this.allowedChange = allowedChange;
+  }
+
+  /**
+   * Gets the name of the benchmark.
+   *
+   * @return name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the baseline result.
+   *
+   * @return baseline or empty if there was no baseline
+   */
+  public Optional<ExecutionStatistics> getBaseline() {
+    return Optional.ofNullable(baseline);
+  }
+
+  /**
+   * Gets the current result.
+   *
+   * @return current result
+   */
+  public ExecutionStatistics getCurrent() {
+    return current;
+  }
+
+  /**
+   * Gets the relative change of the mean. Positive values mean that the benchmark became slower.
+   *
+   * @return change, e.g. 0.15 for 15% slowdown, or {@linkplain Double#NaN} if there was no baseline
+   */
+  public double getRelativeChange() {
+    return relativeChange;
+  }
+
+  /**
+   * Gets the maximum relative slowdown that is not considered a regression. It is the threshold
+   * plus the noise of both results.
+   *
+   * @return allowed change or {@linkplain Double#NaN} if there was no baseline
+   */
+  public double getAllowedChange() {
+    return allowedChange;
+  }
+
+  /**
+   * Whether the benchmark became slower than allowed.
+   *
+   * @return true if regressed, otherwise false
+   */
+  public boolean isRegression() {
+    return relativeChange > allowedChange;
+  }
+
+  /**
+   * Whether the benchmark has no regression or there was no baseline.
+   *
+   * @return true if passed, otherwise false
+   */
+  public boolean isPassed() {
+    return !isRegression();
+  }
+
+  /**
+   * Gets the human-readable description of the result, e.g. for assertion messages.
+   *
+   * @return message
+   */
+  public String getMessage() {
+    if (baseline == null) {
+      return String.format("%s: no baseline, mean %.3f %s", name, current.getMean(),
+          current.getMeasureUnit());
+    }
+    return String.format("%s: %s, mean %.3f -> %.3f %s (%+.1f%%, allowed %+.1f%%)",
+        name, isRegression() ? "REGRESSION" : "ok", baseline.getMean(), current.getMean(),
+        current.getMeasureUnit(), relativeChange * PERCENT, allowedChange * PERCENT);
+  }
+
+  @Override
+  public String toString() {
+    return "RegressionResult{" + getMessage() + '}';
+  }
+}
@@ -0,0 +1,128 @@
+package com.kirekov.juu.measure.trace;
+
+import com.kirekov.juu.collection.immutable.ImmutableMap;
+import com.kirekov.juu.measure.JsonStrings;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Writes spans in the Chrome trace event JSON format. The file can be opened in {@code
+ * chrome://tracing}, Perfetto UI or Speedscope to see how the time of a request splits across
+ * threads and asynchronous stages.
+ *
+ * <p>Every ended span becomes a complete event ({@code "ph":"X"}) on the row of the thread that
+ * started it. Trace, span and parent IDs and attributes are put into {@code args}. Spans that are
+ * not ended are skipped.</p>
+ *
+ * @see RingBufferSpanExporter#snapshot()
+ * @since 2.1
+ */
+public final class ChromeTraceExporter {
+
+  private static final double NANOS_PER_MICRO = 1000.0;
+
+  private ChromeTraceExporter() {
+  }
+
+  /**
+   * Writes spans into the file in UTF-8. The file is created or truncated.
+   *
+   * @param spans the spans. Cannot be null
+   * @param file  the destination file. Cannot be null
+   * @throws IOException          if the file cannot be written
+   * @throws NullPointerException if {@code spans} or {@code file} is null
+   */
+  public static void write(Iterable<Span> spans, Path file) throws IOException {
+    Objects.requireNonNull(file, "file cannot be null");
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      write(spans, writer);
+    }
+  }
+
+  /**
+   * Writes spans into the writer. The writer is not flushed or closed.
+   *
+   * @param spans  the spans. Cannot be null
+   * @param writer the destination. Cannot be null
+   * @throws IOException          if the writer fails
+   * @throws NullPointerException if {@code spans} or {@code writer} is null
+   */
+  public static void write(Iterable<Span> spans, Writer writer) throws IOException {
+    Objects.requireNonNull(spans, "spans cannot be null");
+    Objects.requireNonNull(writer, "writer cannot be null");
+    long origin = Long.MAX_VALUE;
+    final Map<Long, String> threads = new HashMap<>();
+    for (final Span span : spans) {
+      origin = Math.min(origin, span.getStartNanos());
+      threads.put(span.getThreadId(), span.getThreadName());
+    }
+    writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+    boolean first = true;
+    for (final Map.Entry<Long, String> thread : threads.entrySet()) {
+      first = writeSeparator(writer, first);
+      writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":");
+      writer.write(Long.toString(thread.getKey()));
+      writer.write(",\"args\":{\"name\":");
+      JsonStrings.write(writer, thread.getValue());
+      writer.write("}}");
+    }
+    for (final Span span : spans) {
+      final Optional<Long> duration = span.getDurationNanos();
+      if (duration.isPresent()) {
+        first = writeSeparator(writer, first);
+        writeSpan(writer, span, duration.get(), origin);
+      }
+    }
+    writer.write("]}");
+  }
+
+  private static void writeSpan(Writer writer, Span span, long duration, long origin)
+      throws IOException {
+    writer.write("{\"name\":");
+    JsonStrings.write(writer, span.getName());
+    writer.write(",\"cat\":\"span\",\"ph\":\"X\",\"pid\":1,\"tid\":");
+    writer.write(Long.toString(span.getThreadId()));
+    writer.write(",\"ts\":");
+    writer.write(Double.toString((span.getStartNanos() - origin) / NANOS_PER_MICRO));
+    writer.write(",\"dur\":");
+    writer.write(Double.toString(duration / NANOS_PER_MICRO));
+    writer.write(",\"args\":{\"trace_id\":");
+    JsonStrings.write(writer, span.getContext().getTraceId());
+    writer.write(",\"span_id\":");
+    JsonStrings.write(writer, span.getContext().getSpanId());
+    if (span.getParent().isPresent()) {
+      writer.write(",\"parent_id\":");
+      JsonStrings.write(writer, span.getParent().get().getSpanId());
+    }
+    final ImmutableMap<String, Object> attributes = span.getAttributes();
+    for (final String key : attributes.keySet()) {
+      writer.write(',');
+      JsonStrings.write(writer, key);
+      writer.write(':');
+      final Object value = attributes.get(key);
+      if (value instanceof String) {
+        JsonStrings.write(writer, (String) value);
+      } else if (value instanceof Double && !Double.isFinite((Double) value)) {
+        writer.write("null");
+      } else {
+        writer.write(value.toString());
+      }
+    }
+    writer.write("}}");
+  }
+
+  private static boolean writeSeparator(Writer writer, boolean first) throws IOException {
+    if (!first) {
+      writer.write(',');
+    }
+    return false;
+  }
+}
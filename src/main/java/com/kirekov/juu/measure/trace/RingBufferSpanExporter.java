@@ -0,0 +1,144 @@
+package com.kirekov.juu.measure.trace;
+
+import com.kirekov.juu.collection.immutable.Immutable;
+import com.kirekov.juu.collection.immutable.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the latest ended spans in a fixed-size ring buffer. When the buffer is full, the oldest
+ * spans are overwritten, so the memory footprint is bounded and tracing never blocks the
+ * application.
+ *
+ * <p>The class is thread-safe. Exporting is lock-free: a writer claims a slot with a single atomic
+ * increment. Spans can be read either with {@linkplain RingBufferSpanExporter#snapshot()} or
+ * consumed exactly once with {@linkplain RingBufferSpanExporter#drain(Consumer)}. Readers never
+ * block writers.</p>
+ *
+ * @since 2.1
+ */
+public final class RingBufferSpanExporter implements SpanExporter {
+
+  private final AtomicReferenceArray<Entry> entries;
+  private final int mask;
+  private final AtomicLong head = new AtomicLong();
+
+  private long drained;
+  private long dropped;
+
+  /**
+   * Creates new exporter.
+   *
+   * @param capacity the count of retained spans. It is rounded up to the power of two. Must be
+   *                 positive
+   * @throws IllegalArgumentException if {@code capacity} is not positive
+   */
+  public RingBufferSpanExporter(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Capacity is not positive: %s", capacity));
+    }
+    final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.entries = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  @Override
+  public void export(Span span) {
+    Objects.requireNonNull(span, "span cannot be null");
+    final long sequence = head.getAndIncrement();
+    entries.set((int) (sequence & mask), new Entry(sequence, span));
+  }
+
+  /**
+   * Gets the count of retained spans.
+   *
+   * @return capacity
+   */
+  public int getCapacity() {
+    return entries.length();
+  }
+
+  /**
+   * Gets the count of spans exported since the creation.
+   *
+   * @return count of spans
+   */
+  public long getExportedCount() {
+    return head.get();
+  }
+
+  /**
+   * Gets the count of spans that have been overwritten before {@linkplain
+   * RingBufferSpanExporter#drain(Consumer)} consumed them.
+   *
+   * @return count of dropped spans
+   */
+  public synchronized long getDroppedCount() {
+    return dropped;
+  }
+
+  /**
+   * Gets the retained spans from the oldest to the newest. Spans are not removed from the buffer.
+   *
+   * @return retained spans
+   */
+  public ImmutableList<Span> snapshot() {
+    final long end = head.get();
+    final List<Span> spans = new ArrayList<>();
+    for (long sequence = Math.max(0, end - entries.length()); sequence < end; sequence++) {
+      final Entry entry = entries.get((int) (sequence & mask));
+      if (entry != null && entry.sequence == sequence) {
+        spans.add(entry.span);
+      }
+    }
+    return Immutable.listOf(spans);
+  }
+
+  /**
+   * Passes spans exported since the previous call to the consumer from the oldest to the newest.
+   * Every span is consumed at most once.
+   *
+   * @param consumer the consumer. Cannot be null
+   * @return count of consumed spans
+   * @throws NullPointerException if {@code consumer} is null
+   */
+  public synchronized int drain(Consumer<? super Span> consumer) {
+    Objects.requireNonNull(consumer, "consumer cannot be null");
+    final long end = head.get();
+    final long oldest = Math.max(drained, end - entries.length());
+    dropped += oldest - drained;
+    int consumed = 0;
+    long sequence = oldest;
+    for (; sequence < end; sequence++) {
+      final Entry entry = entries.get((int) (sequence & mask));
+      if (entry == null || entry.sequence < sequence) {
+        // the writer has claimed the slot but not published the span yet
+        break;
+      }
+      if (entry.sequence == sequence) {
+        consumer.accept(entry.span);
+        consumed++;
+      } else {
+        dropped++;
+      }
+    }
+    drained = sequence;
+    return consumed;
+  }
+
+  private static final class Entry {
+
+    private final long sequence;
+    private final Span span;
+
+    private Entry(long sequence, Span span) {
+      this.sequence = sequence;
+      this.span = span;
+    }
+  }
+}
@@ -0,0 +1,242 @@
+package com.kirekov.juu.measure.trace;
+
+import com.kirekov.juu.collection.immutable.ImmutableMap;
+import com.kirekov.juu.collection.immutable.ImmutableTreeMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Timed operation within a trace. A span is started by {@linkplain Tracer}, becomes the current
+ * span of the starting thread and is ended by {@linkplain Span#end()} or {@linkplain
+ * Span#close()}. Ending restores the context that was current before the span started and passes
+ * the span to the exporter of the tracer.
+ *
+ * <pre>{@code
+ * try (Span span = tracer.startSpan("load user")) {
+ *   span.setAttribute("user.id", id);
+ *   return repository.find(id);
+ * }
+ * }</pre>
+ *
+ * <p>The class is thread-safe. A span may be ended by any thread, but the context is restored
+ * only if it is ended by the thread that started it.</p>
+ *
+ * @see Tracer
+ * @since 2.1
+ */
+public final class Span implements AutoCloseable {
+
+  private static final long NOT_ENDED = -1L;
+
+  private final Tracer tracer;
+  private final String name;
+  private final SpanContext context;
+  private final SpanContext parent;
+  private final SpanContext previous;
+  private final String threadName;
+  private final long threadId;
+  private final long startEpochMillis;
+  private final long startNanos;
+  private final Map<String, Object> attributes = new TreeMap<>();
+
+  private long endNanos = NOT_ENDED;
+
+  Span(Tracer tracer, String name, SpanContext context, SpanContext parent) {
+    this.tracer = tracer;
+    this.name = name;
+    this.context = context;
+    this.parent = parent;
+    this.threadName = Thread.currentThread().getName();
+    this.threadId = Thread.currentThread().getId();
+    this.startEpochMillis = System.currentTimeMillis();
+    this.startNanos = System.nanoTime();
+    this.previous = TraceContext.attach(context);
+  }
+
+  /**
+   * Gets the name of the span.
+   *
+   * @return name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the identity of the span.
+   *
+   * @return context
+   */
+  public SpanContext getContext() {
+    return context;
+  }
+
+  /**
+   * Gets the identity of the parent span.
+   *
+   * @return parent context or empty if the span is the root of the trace
+   */
+  public Optional<SpanContext> getParent() {
+    return Optional.ofNullable(parent);
+  }
+
+  /**
+   * Gets the name of the thread that started the span.
+   *
+   * @return thread name
+   */
+  public String getThreadName() {
+    return threadName;
+  }
+
+  /**
+   * Gets the ID of the thread that started the span.
+   *
+   * @return thread ID
+   */
+  public long getThreadId() {
+    return threadId;
+  }
+
+  /**
+   * Gets the wall-clock time of the start.
+   *
+   * @return milliseconds since the epoch
+   */
+  public long getStartEpochMillis() {
+    return startEpochMillis;
+  }
+
+  /**
+   * Gets the start on the {@linkplain System#nanoTime()} scale. Useful for ordering spans of the
+   * same JVM.
+   *
+   * @return start in nanos
+   */
+  public long getStartNanos() {
+    return startNanos;
+  }
+
+  /**
+   * Gets the duration of the span.
+   *
+   * @return duration in nanos or empty if the span is not ended
+   */
+  public synchronized Optional<Long> getDurationNanos() {
+    if (endNanos == NOT_ENDED) {
+      return Optional.empty();
+    }
+    return Optional.of(endNanos - startNanos);
+  }
+
+  /**
+   * Whether the span is ended.
+   *
+   * @return true if ended, otherwise false
+   */
+  public synchronized boolean isEnded() {
+    return endNanos != NOT_ENDED;
+  }
+
+  /**
+   * Sets the attribute. The previous value of the same key is replaced.
+   *
+   * @param key   the key. Cannot be null
+   * @param value the value. Cannot be null
+   * @return this span
+   * @throws NullPointerException if {@code key} or {@code value} is null
+   */
+  public synchronized Span setAttribute(String key, String value) {
+    return putAttribute(key, Objects.requireNonNull(value, "value cannot be null"));
+  }
+
+  /**
+   * Sets the attribute. The previous value of the same key is replaced.
+   *
+   * @param key   the key. Cannot be null
+   * @param value the value
+   * @return this span
+   * @throws NullPointerException if {@code key} is null
+   */
+  public synchronized Span setAttribute(String key, long value) {
+    return putAttribute(key, value);
+  }
+
+  /**
+   * Sets the attribute. The previous value of the same key is replaced.
+   *
+   * @param key   the key. Cannot be null
+   * @param value the value
+   * @return this span
+   * @throws NullPointerException if {@code key} is null
+   */
+  public synchronized Span setAttribute(String key, double value) {
+    return putAttribute(key, value);
+  }
+
+  /**
+   * Sets the attribute. The previous value of the same key is replaced.
+   *
+   * @param key   the key. Cannot be null
+   * @param value the value
+   * @return this span
+   * @throws NullPointerException if {@code key} is null
+   */
+  public synchronized Span setAttribute(String key, boolean value) {
+    return putAttribute(key, value);
+  }
+
+  /**
+   * Gets the attributes sorted by key. Values are {@linkplain String}, {@linkplain Long},
+   * {@linkplain Double} or {@linkplain Boolean}.
+   *
+   * @return attributes
+   */
+  public synchronized ImmutableMap<String, Object> getAttributes() {
+    return ImmutableTreeMap.of(attributes);
+  }
+
+  /**
+   * Ends the span and passes it to the exporter. Multiple calls don't affect the span.
+   */
+  public void end() {
+    synchronized (this) {
+      if (endNanos != NOT_ENDED) {
+        return;
+      }
+      endNanos = System.nanoTime();
+    }
+    if (Thread.currentThread().getId() == threadId
+        && TraceContext.current().filter(context::equals).isPresent()) {
+      TraceContext.attach(previous);
+    }
+    tracer.export(this);
+  }
+
+  /**
+   * Ends the span.
+   *
+   * @see Span#end()
+   */
+  @Override
+  public void close() {
+    end();
+  }
+
+  private Span putAttribute(String key, Object value) {
+    Objects.requireNonNull(key, "key cannot be null");
+    attributes.put(key, value);
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "Span{"
+        + "name='" + name + '\''
+        + ", context=" + context
+        + ", durationNanos=" + getDurationNanos().map(String::valueOf).orElse("running")
+        + '}';
+  }
+}
@@ -0,0 +1,113 @@
+package com.kirekov.juu.measure.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable identity of {@linkplain Span}: the 128-bit trace ID shared by all spans of a trace and
+ * the 64-bit span ID. IDs are rendered as lowercase hex strings of the W3C Trace Context format.
+ *
+ * @see TraceContext#current()
+ * @since 2.1
+ */
+public final class SpanContext {
+
+  private static final int HEX_LONG_LENGTH = 16;
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final int HEX_SHIFT = 4;
+  private static final int HEX_MASK = 0xF;
+
+  private final long traceIdHigh;
+  private final long traceIdLow;
+  private final long spanId;
+
+  private SpanContext(long traceIdHigh, long traceIdLow, long spanId) {
+    this.traceIdHigh = traceIdHigh;
+    this.traceIdLow = traceIdLow;
+    this.spanId = spanId;
+  }
+
+  static SpanContext newTrace() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    return new SpanContext(random.nextLong(), nonZero(random), nonZero(random));
+  }
+
+  SpanContext newChild() {
+    return new SpanContext(traceIdHigh, traceIdLow, nonZero(ThreadLocalRandom.current()));
+  }
+
+  /**
+   * Gets the ID of the trace.
+   *
+   * @return 32 hex digits
+   */
+  public String getTraceId() {
+    final char[] chars = new char[HEX_LONG_LENGTH * 2];
+    writeHex(chars, 0, traceIdHigh);
+    writeHex(chars, HEX_LONG_LENGTH, traceIdLow);
+    return new String(chars);
+  }
+
+  /**
+   * Gets the ID of the span.
+   *
+   * @return 16 hex digits
+   */
+  public String getSpanId() {
+    final char[] chars = new char[HEX_LONG_LENGTH];
+    writeHex(chars, 0, spanId);
+    return new String(chars);
+  }
+
+  /**
+   * Whether the given context belongs to the same trace.
+   *
+   * @param other the other context. Cannot be null
+   * @return true if trace IDs are equal, otherwise false
+   * @throws NullPointerException if {@code other} is null
+   */
+  public boolean isSameTrace(SpanContext other) {
+    return traceIdHigh == other.traceIdHigh && traceIdLow == other.traceIdLow;
+  }
+
+  private static long nonZero(ThreadLocalRandom random) {
+    long value;
+    do {
+      value = random.nextLong();
+    } while (value == 0);
+    return value;
+  }
+
+  private static void writeHex(char[] chars, int offset, long value) {
+    long remaining = value;
+    for (int i = HEX_LONG_LENGTH - 1; i >= 0; i--) {
+      chars[offset + i] = HEX_DIGITS[(int) remaining & HEX_MASK];
+      remaining >>>= HEX_SHIFT;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final SpanContext that = (SpanContext) o;
+    return traceIdHigh == that.traceIdHigh
+        && traceIdLow == that.traceIdLow
+        && spanId == that.spanId;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Long.hashCode(traceIdHigh);
+    result = 31 * result + Long.hashCode(traceIdLow);
+    return 31 * result + Long.hashCode(spanId);
+  }
+
+  @Override
+  public String toString() {
+    return getTraceId() + "-" + getSpanId();
+  }
+}
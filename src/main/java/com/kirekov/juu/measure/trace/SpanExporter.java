@@ -0,0 +1,20 @@
+package com.kirekov.juu.measure.trace;
+
+/**
+ * Receives spans of {@linkplain Tracer} when they end. The exporter is called in the thread that
+ * ends the span, so implementations must be thread-safe and fast. Slow work like writing files
+ * should happen elsewhere, e.g. after draining {@linkplain RingBufferSpanExporter}.
+ *
+ * @see RingBufferSpanExporter
+ * @since 2.1
+ */
+@FunctionalInterface
+public interface SpanExporter {
+
+  /**
+   * Accepts the ended span.
+   *
+   * @param span the ended span
+   */
+  void export(Span span);
+}
@@ -0,0 +1,152 @@
+package com.kirekov.juu.measure.trace;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Holds the context of the current span in a thread-local and propagates it across threads.
+ * Wrappers capture the context of the calling thread and make it current in the thread that
+ * executes the task, restoring the previous context afterwards.
+ *
+ * <pre>{@code
+ * Executor executor = TraceContext.wrap(Executors.newFixedThreadPool(4));
+ * CompletableFuture.supplyAsync(this::loadUser, executor)
+ *     .thenApplyAsync(TraceContext.wrapFunction(this::render), executor);
+ * }</pre>
+ *
+ * <p>The same wrappers work for virtual threads, e.g. {@code
+ * Thread.ofVirtual().start(TraceContext.wrap(task))}.</p>
+ *
+ * @see Tracer
+ * @since 2.1
+ */
+public final class TraceContext {
+
+  private static final ThreadLocal<SpanContext> CURRENT = new ThreadLocal<>();
+
+  private TraceContext() {
+  }
+
+  /**
+   * Gets the context of the current span of this thread.
+   *
+   * @return current context or empty if there is no active span
+   */
+  public static Optional<SpanContext> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /**
+   * Wraps the task, so it runs with the context that is current at the moment of wrapping.
+   *
+   * @param runnable the task. Cannot be null
+   * @return wrapped task
+   * @throws NullPointerException if {@code runnable} is null
+   */
+  public static Runnable wrap(Runnable runnable) {
+    Objects.requireNonNull(runnable, "runnable cannot be null");
+    final SpanContext captured = CURRENT.get();
+    return () -> {
+      final SpanContext previous = attach(captured);
+      try {
+        runnable.run();
+      } finally {
+        attach(previous);
+      }
+    };
+  }
+
+  /**
+   * Wraps the task, so it runs with the context that is current at the moment of wrapping.
+   *
+   * @param callable the task. Cannot be null
+   * @param <T>      the type of the result
+   * @return wrapped task
+   * @throws NullPointerException if {@code callable} is null
+   */
+  public static <T> Callable<T> wrap(Callable<T> callable) {
+    Objects.requireNonNull(callable, "callable cannot be null");
+    final SpanContext captured = CURRENT.get();
+    return () -> {
+      final SpanContext previous = attach(captured);
+      try {
+        return callable.call();
+      } finally {
+        attach(previous);
+      }
+    };
+  }
+
+  /**
+   * Wraps the supplier, e.g. for {@linkplain java.util.concurrent.CompletableFuture#supplyAsync},
+   * so it runs with the context that is current at the moment of wrapping.
+   *
+   * @param supplier the supplier. Cannot be null
+   * @param <T>      the type of the result
+   * @return wrapped supplier
+   * @throws NullPointerException if {@code supplier} is null
+   */
+  public static <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+    Objects.requireNonNull(supplier, "supplier cannot be null");
+    final SpanContext captured = CURRENT.get();
+    return () -> {
+      final SpanContext previous = attach(captured);
+      try {
+        return supplier.get();
+      } finally {
+        attach(previous);
+      }
+    };
+  }
+
+  /**
+   * Wraps the function, e.g. for {@linkplain
+   * java.util.concurrent.CompletableFuture#thenApplyAsync}, so it runs with the context that is
+   * current at the moment of wrapping.
+   *
+   * @param function the function. Cannot be null
+   * @param <T>      the type of the argument
+   * @param <R>      the type of the result
+   * @return wrapped function
+   * @throws NullPointerException if {@code function} is null
+   */
+  public static <T, R> Function<T, R> wrapFunction(Function<T, R> function) {
+    Objects.requireNonNull(function, "function cannot be null");
+    final SpanContext captured = CURRENT.get();
+    return argument -> {
+      final SpanContext previous = attach(captured);
+      try {
+        return function.apply(argument);
+      } finally {
+        attach(previous);
+      }
+    };
+  }
+
+  /**
+   * Wraps the executor, so every submitted task runs with the context that is current at the
+   * moment of submission.
+   *
+   * @param executor the executor. Cannot be null
+   * @return wrapped executor
+   * @throws NullPointerException if {@code executor} is null
+   */
+  public static Executor wrap(Executor executor) {
+    Objects.requireNonNull(executor, "executor cannot be null");
+    return runnable -> executor.execute(wrap(runnable));
+  }
+
+  static SpanContext attach(SpanContext context) {
+    final SpanContext previous = CURRENT.get();
+    if (context == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(context);
+    }
+    return previous;
+  }
+}
@@ -0,0 +1,73 @@
+package com.kirekov.juu.measure.trace;
+
+import java.util.Objects;
+
+/**
+ * Starts spans and passes ended ones to {@linkplain SpanExporter}. A new span is the child of the
+ * current span of the thread, see {@linkplain TraceContext}, or the root of a new trace if there
+ * is no current span.
+ *
+ * <pre>{@code
+ * RingBufferSpanExporter exporter = new RingBufferSpanExporter(4096);
+ * Tracer tracer = new Tracer(exporter);
+ * try (Span request = tracer.startSpan("request")) {
+ *   CompletableFuture.runAsync(TraceContext.wrap(() -> {
+ *     try (Span query = tracer.startSpan("query")) {
+ *       ...
+ *     }
+ *   }), executor).join();
+ * }
+ * ChromeTraceExporter.write(exporter.snapshot(), Paths.get("trace.json"));
+ * }</pre>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @see Span
+ * @since 2.1
+ */
+public final class Tracer {
+
+  private final SpanExporter exporter;
+
+  /**
+   * Creates new tracer.
+   *
+   * @param exporter the exporter of ended spans. Cannot be null
+   * @throws NullPointerException if {@code exporter} is null
+   */
+  public Tracer(SpanExporter exporter) {
+    this.exporter = Objects.requireNonNull(exporter, "exporter cannot be null");
+  }
+
+  /**
+   * Starts the span as the child of the current span or as the root of a new trace. The span
+   * becomes current for this thread until it ends.
+   *
+   * @param name the name of the span. Cannot be null
+   * @return started span
+   * @throws NullPointerException if {@code name} is null
+   */
+  public Span startSpan(String name) {
+    Objects.requireNonNull(name, "name cannot be null");
+    final SpanContext parent = TraceContext.current().orElse(null);
+    final SpanContext context = parent == null ? SpanContext.newTrace() : parent.newChild();
+    return new Span(this, name, context, parent);
+  }
+
+  /**
+   * Starts the span as the root of a new trace regardless of the current span. The span becomes
+   * current for this thread until it ends.
+   *
+   * @param name the name of the span. Cannot be null
+   * @return started span
+   * @throws NullPointerException if {@code name} is null
+   */
+  public Span startRootSpan(String name) {
+    Objects.requireNonNull(name, "name cannot be null");
+    return new Span(this, name, SpanContext.newTrace(), null);
+  }
+
+  void export(Span span) {
+    exporter.export(span);
+  }
+}
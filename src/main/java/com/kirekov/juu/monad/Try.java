@@ -191,6 +191,7 @@ public final class Try<T> implements Streaming<T> {
       try {
         return valueSupplier.get();
       } catch (Exception e) {
+        TryEvents.failure(e);
         return defaultValueSupplier.get();
       }
     });
@@ -207,6 +208,7 @@ public final class Try<T> implements Streaming<T> {
     try {
       return valueSupplier.get();
     } catch (Exception e) {
+      TryEvents.failure(e);
       return other;
     }
   }
@@ -224,6 +226,7 @@ public final class Try<T> implements Streaming<T> {
     try {
       return valueSupplier.get();
     } catch (Exception e) {
+      TryEvents.failure(e);
       return defaultValueSupplier.get();
     }
   }
@@ -242,6 +245,7 @@ public final class Try<T> implements Streaming<T> {
     try {
       return valueSupplier.get();
     } catch (Exception e) {
+      TryEvents.failure(e);
       return defaultValueFunction.apply(e);
     }
   }
@@ -256,6 +260,7 @@ public final class Try<T> implements Streaming<T> {
     try {
       return valueSupplier.get();
     } catch (Exception e) {
+      TryEvents.failure(e);
       return throwException(e);
     }
   }
@@ -275,6 +280,7 @@ public final class Try<T> implements Streaming<T> {
     try {
       return valueSupplier.get();
     } catch (Exception e) {
+      TryEvents.failure(e);
       throw exceptionSupplier.get();
     }
   }
@@ -290,6 +296,7 @@ public final class Try<T> implements Streaming<T> {
     try {
       return Stream.of(valueSupplier.get());
     } catch (Exception e) {
+      TryEvents.failure(e);
       return Stream.empty();
     }
   }
@@ -0,0 +1,21 @@
+package com.kirekov.juu.monad;
+
+/**
+ * Emits Java Flight Recorder events for failures of {@linkplain Try}. The JFR API is available
+ * since Java 11, so this Java 8 version does nothing. The multi-release jar replaces the class with
+ * the implementation from {@code src/main/java11} when running on Java 11 or newer.
+ */
+final class TryEvents {
+
+  private TryEvents() {
+  }
+
+  /**
+   * Emits the failure event if JFR is recording it.
+   *
+   * @param exception the exception that broke the pipeline
+   */
+  static void failure(Exception exception) {
+    // JFR is not available on Java 8
+  }
+}
@@ -0,0 +1,32 @@
+package com.kirekov.juu.measure;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of an execution measured by {@linkplain Measure}, {@linkplain Profiler} or
+ * {@linkplain ScopedProfiler}. The duration and the thread are recorded by JFR.
+ */
+@Name("com.kirekov.juu.Execution")
+@Label("Execution")
+@Category({"Java Useful Utils", "Measure"})
+@Description("Execution measured by Measure, Profiler or ScopedProfiler")
+@StackTrace(false)
+final class ExecutionEvent extends Event {
+
+  @Label("Source")
+  @Description("Measuring class")
+  String source;
+
+  @Label("Name")
+  @Description("Name of the profiler scope")
+  String name;
+
+  @Label("Success")
+  @Description("Whether the execution completed normally")
+  boolean success;
+}
@@ -0,0 +1,97 @@
+package com.kirekov.juu.measure;
+
+import jdk.jfr.EventType;
+
+/**
+ * Emits Java Flight Recorder events for executions measured by {@linkplain Measure}, {@linkplain
+ * Profiler} and {@linkplain ScopedProfiler}. This is the Java 11 version of the class from the
+ * multi-release jar.
+ *
+ * <p>Whether JFR is recording {@code com.kirekov.juu.Execution} events is read from the cached
+ * {@linkplain EventType}, so no event is allocated while the event is disabled. When the
+ * runtime has no {@code jdk.jfr} module, the event classes are never loaded and the methods do
+ * nothing.</p>
+ */
+final class FlightRecorderEvents {
+
+  static final String MEASURE = "Measure";
+  static final String PROFILER = "Profiler";
+  static final String SCOPED_PROFILER = "ScopedProfiler";
+
+  private static final boolean PRESENT = isFlightRecorderPresent();
+
+  private FlightRecorderEvents() {
+  }
+
+  /**
+   * Starts the execution event if JFR is recording it.
+   *
+   * @return the started event or null if the event is disabled
+   */
+  static Object beginExecution() {
+    if (!PRESENT || !Types.EXECUTION.isEnabled()) {
+      return null;
+    }
+    final ExecutionEvent event = new ExecutionEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Commits the event started by {@linkplain FlightRecorderEvents#beginExecution()}.
+   *
+   * @param event   the started event or null
+   * @param source  the measuring class
+   * @param name    the name of the execution or null
+   * @param success whether the execution completed normally
+   */
+  static void commitExecution(Object event, String source, String name, boolean success) {
+    if (event == null) {
+      return;
+    }
+    final ExecutionEvent execution = (ExecutionEvent) event;
+    execution.end();
+    if (execution.shouldCommit()) {
+      execution.source = source;
+      execution.name = name;
+      execution.success = success;
+      execution.commit();
+    }
+  }
+
+  /**
+   * Whether the events can be emitted.
+   *
+   * @return false if the runtime has no {@code jdk.jfr} module, otherwise true
+   */
+  static boolean isPresent() {
+    return PRESENT;
+  }
+
+  /**
+   * Whether the {@code jdk.jfr} module is present. A runtime may be linked without it, e.g. by
+   * jlink, and then loading an event class throws {@linkplain NoClassDefFoundError}.
+   */
+  private static boolean isFlightRecorderPresent() {
+    if (!ModuleLayer.boot().findModule("jdk.jfr").isPresent()) {
+      return false;
+    }
+    try {
+      Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * Holds the event types. The class is loaded only if {@code jdk.jfr} is present.
+   */
+  private static final class Types {
+
+    static final EventType EXECUTION = EventType.getEventType(ExecutionEvent.class);
+
+    private Types() {
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.kirekov.juu.monad;
+
+import jdk.jfr.EventType;
+
+/**
+ * Emits Java Flight Recorder events for failures of {@linkplain Try}. This is the Java 11 version
+ * of the class from the multi-release jar.
+ *
+ * <p>Whether JFR is recording {@code com.kirekov.juu.TryFailure} events is read from the cached
+ * {@linkplain EventType}, so no event is allocated while the event is disabled. When the
+ * runtime has no {@code jdk.jfr} module, the event classes are never loaded and failures are not
+ * reported.</p>
+ */
+final class TryEvents {
+
+  private static final boolean PRESENT = isFlightRecorderPresent();
+
+  private TryEvents() {
+  }
+
+  /**
+   * Emits the failure event if JFR is recording it.
+   *
+   * @param exception the exception that broke the pipeline
+   */
+  static void failure(Exception exception) {
+    if (!PRESENT || !Types.FAILURE.isEnabled()) {
+      return;
+    }
+    final TryFailureEvent event = new TryFailureEvent();
+    if (event.shouldCommit()) {
+      event.exceptionClass = exception.getClass();
+      event.message = exception.getMessage();
+      event.commit();
+    }
+  }
+
+  /**
+   * Whether the {@code jdk.jfr} module is present. A runtime may be linked without it, e.g. by
+   * jlink, and then loading an event class throws {@linkplain NoClassDefFoundError}.
+   */
+  private static boolean isFlightRecorderPresent() {
+    if (!ModuleLayer.boot().findModule("jdk.jfr").isPresent()) {
+      return false;
+    }
+    try {
+      Class.forName("jdk.jfr.Event", false, TryEvents.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * Holds the event types. The class is loaded only if {@code jdk.jfr} is present.
+   */
+  private static final class Types {
+
+    static final EventType FAILURE = EventType.getEventType(TryFailureEvent.class);
+
+    private Types() {
+    }
+  }
+}
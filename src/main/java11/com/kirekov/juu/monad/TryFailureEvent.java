@@ -0,0 +1,24 @@
+package com.kirekov.juu.monad;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of the exception that broke the pipeline of {@linkplain Try}. The thread and the stack
+ * trace of the terminal operation are recorded by JFR.
+ */
+@Name("com.kirekov.juu.TryFailure")
+@Label("Try Failure")
+@Category({"Java Useful Utils", "Monad"})
+@Description("Exception caught by Try")
+final class TryFailureEvent extends Event {
+
+  @Label("Exception Class")
+  Class<?> exceptionClass;
+
+  @Label("Message")
+  String message;
+}
@@ -0,0 +1,29 @@
+package com.kirekov.juu.measure.metrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the executor that serves requests of {@linkplain MetricsHttpServer}. This is the Java 21
+ * version of the class from the multi-release jar.
+ *
+ * <p>Every request is served by a new virtual thread, so concurrent scrapes do not queue up behind
+ * each other and an idle server does not hold a platform thread.</p>
+ */
+final class MetricsServerExecutor {
+
+  static final String THREAD_NAME = "metrics-http-server";
+
+  private MetricsServerExecutor() {
+  }
+
+  /**
+   * Creates new executor. It is shut down when the server is closed.
+   *
+   * @return executor
+   */
+  static ExecutorService create() {
+    return Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name(THREAD_NAME + "-", 0).factory());
+  }
+}
@@ -1,5 +1,6 @@
 package com.kirekov.juu.collection.immutable;
 
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -1145,4 +1146,15 @@ class ImmutableArrayListTest {
     assertEquals(list1, list2);
     assertNotEquals(list1, list3);
   }
-}
\ No newline at end of file
+
+  @Test
+  void getDoesNotAllocate() {
+    List<Integer> mutable = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      mutable.add(i);
+    }
+    ImmutableList<Integer> list = new ImmutableArrayList<>(mutable);
+    assertAllocatesAtMost(0, () -> list.get(42));
+    assertAllocatesAtMost(0, () -> list.get(-1));
+  }
+}
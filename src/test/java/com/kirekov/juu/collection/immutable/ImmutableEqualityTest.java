@@ -0,0 +1,177 @@
+package com.kirekov.juu.collection.immutable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ImmutableEqualityTest {
+
+  @Test
+  void listsAreEqualAcrossImplementations() {
+    final List<Integer> expected = Arrays.asList(1, 2);
+    final ImmutableList<Integer> array = new ImmutableArrayList<>(expected);
+    final ImmutableList<Integer> small = Immutable.listOf(1, 2);
+    final ImmutableList<Integer> fromSet = ImmutableTreeSet.of(Arrays.asList(2, 1)).toList();
+
+    assertEquals(array, small);
+    assertEquals(small, array);
+    assertEquals(array, fromSet);
+    assertEquals(expected.hashCode(), array.hashCode());
+    assertEquals(expected.hashCode(), small.hashCode());
+    assertNotEquals(array, Immutable.listOf(2, 1));
+    assertNotEquals(array, Immutable.setOf(1, 2));
+  }
+
+  @Test
+  void setsAreEqualAcrossImplementations() {
+    final HashSet<Integer> expected = new HashSet<>();
+    for (int i = 0; i < 20; i++) {
+      expected.add(i * 7);
+    }
+    final ImmutableSet<Integer> hash = new ImmutableHashSet<>(expected);
+    final ImmutableSet<Integer> tree = ImmutableTreeSet.of(expected, Comparator.reverseOrder());
+    final ImmutableSet<Integer> boxed = ImmutableIntHashSet.of(expected).boxed();
+
+    assertEquals(hash, tree);
+    assertEquals(tree, hash);
+    assertEquals(hash, boxed);
+    assertEquals(boxed, tree);
+    assertEquals(expected.hashCode(), hash.hashCode());
+    assertEquals(expected.hashCode(), tree.hashCode());
+    assertEquals(expected.hashCode(), boxed.hashCode());
+    assertEquals(Immutable.setOf(1, 2), ImmutableTreeSet.of(Arrays.asList(2, 1)));
+    assertNotEquals(hash, tree.filter(i -> i > 0));
+    assertNotEquals(hash, hash.toList());
+  }
+
+  @Test
+  void mapsAreEqualAcrossImplementations() {
+    final Map<Integer, String> expected = new HashMap<>();
+    for (int i = 0; i < 20; i++) {
+      expected.put(i, String.valueOf(i));
+    }
+    final ImmutableMap<Integer, String> hash = new ImmutableHashMap<>(expected);
+    final ImmutableMap<Integer, String> tree = ImmutableTreeMap.of(expected);
+    final ImmutableMap<Integer, String> perfect = Immutable.staticMapOf(expected);
+    final ImmutableMap<Integer, String> boxed = ImmutableInt2ObjectHashMap.of(expected).boxed();
+
+    assertEquals(hash, tree);
+    assertEquals(tree, perfect);
+    assertEquals(perfect, hash);
+    assertEquals(boxed, hash);
+    assertEquals(hash, boxed);
+    assertEquals(expected.hashCode(), hash.hashCode());
+    assertEquals(expected.hashCode(), tree.hashCode());
+    assertEquals(expected.hashCode(), perfect.hashCode());
+    assertEquals(Immutable.mapOf(expected), ImmutableTreeMap.of(hash.toMutableMap()));
+  }
+
+  @Test
+  void distinguishesNullValuesFromAbsentKeys() {
+    final Map<String, String> withNull = new HashMap<>();
+    withNull.put("a", null);
+    final Map<String, String> withOther = new HashMap<>();
+    withOther.put("b", null);
+
+    assertNotEquals(Immutable.mapOf(withNull), ImmutableTreeMap.of(withOther));
+    assertNotEquals(new ImmutableHashMap<>(withNull), ImmutableTreeMap.of(withOther));
+    assertEquals(new ImmutableHashMap<>(withNull), ImmutableTreeMap.of(withNull));
+  }
+
+  @Test
+  void cachesHashCodes() {
+    final AtomicInteger calls = new AtomicInteger();
+    final List<CountingHash> elements = Arrays.asList(
+        new CountingHash(calls), new CountingHash(calls), new CountingHash(calls)
+    );
+    final ImmutableList<CountingHash> list = new ImmutableArrayList<>(elements);
+    final ImmutableSet<CountingHash> set = new ImmutableHashSet<>(elements);
+    calls.set(0);
+
+    final int listHash = list.hashCode();
+    final int setHash = set.hashCode();
+    assertEquals(6, calls.get());
+
+    assertEquals(listHash, list.hashCode());
+    assertEquals(setHash, set.hashCode());
+    assertEquals(6, calls.get());
+  }
+
+  @Test
+  void rejectsDifferentCachedHashesWithoutComparingElements() {
+    final AtomicInteger comparisons = new AtomicInteger();
+    final ImmutableList<CountingEquals> first = new ImmutableArrayList<>(Arrays.asList(
+        new CountingEquals(1, comparisons), new CountingEquals(2, comparisons)
+    ));
+    final ImmutableList<CountingEquals> second = new ImmutableArrayList<>(Arrays.asList(
+        new CountingEquals(1, comparisons), new CountingEquals(3, comparisons)
+    ));
+    final ImmutableSet<CountingEquals> firstSet = new ImmutableHashSet<>(first);
+    final ImmutableSet<CountingEquals> secondSet = new ImmutableHashSet<>(second);
+    first.hashCode();
+    second.hashCode();
+    firstSet.hashCode();
+    secondSet.hashCode();
+    comparisons.set(0);
+
+    assertNotEquals(first, second);
+    assertNotEquals(firstSet, secondSet);
+    assertEquals(0, comparisons.get());
+
+    assertEquals(first, new ImmutableArrayList<>(Arrays.asList(
+        new CountingEquals(1, comparisons), new CountingEquals(2, comparisons)
+    )));
+    assertTrue(comparisons.get() > 0);
+  }
+
+  private static final class CountingHash {
+
+    private final AtomicInteger calls;
+
+    private CountingHash(AtomicInteger calls) {
+      this.calls = calls;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+      calls.incrementAndGet();
+      return 1;
+    }
+  }
+
+  private static final class CountingEquals {
+
+    private final int value;
+    private final AtomicInteger comparisons;
+
+    private CountingEquals(int value, AtomicInteger comparisons) {
+      this.value = value;
+      this.comparisons = comparisons;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      comparisons.incrementAndGet();
+      return o instanceof CountingEquals && ((CountingEquals) o).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+      return value;
+    }
+  }
+}
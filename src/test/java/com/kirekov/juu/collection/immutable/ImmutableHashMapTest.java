@@ -1,8 +1,10 @@
 package com.kirekov.juu.collection.immutable;
 
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
@@ -326,4 +328,45 @@ class ImmutableHashMapTest {
     assertFalse(map.notContainsPair(Pair.of("1", 1)));
     assertTrue(map.notContainsPair(Pair.of("2", 1)));
   }
-}
\ No newline at end of file
+
+  @Test
+  void getDoesNotAllocate() {
+    Map<String, Integer> mutable = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      mutable.put(String.valueOf(i), i);
+    }
+    ImmutableMap<String, Integer> map = new ImmutableHashMap<>(mutable);
+    assertAllocatesAtMost(0, () -> map.get("42"));
+    assertAllocatesAtMost(0, () -> map.get("missing"));
+  }
+
+  @Test
+  void bloomFilterRejectsMostAbsentKeys() {
+    Map<String, Integer> mutable = new HashMap<>();
+    for (int i = 0; i < 10_000; i++) {
+      mutable.put("key" + i, i);
+    }
+    ImmutableHashMap<String, Integer> map =
+        ImmutableHashMap.withBloomFilter(mutable, 0.001, true);
+
+    for (int i = 0; i < 10_000; i++) {
+      assertEquals(i, map.get("key" + i));
+      assertTrue(map.containsKey("key" + i));
+    }
+    assertEquals(0, map.getBloomFilterHits());
+    for (int i = 0; i < 10_000; i++) {
+      assertFalse(map.containsKey("missing" + i));
+      assertNull(map.get("missing" + i));
+    }
+
+    assertTrue(map.getBloomFilterHits() > 19_900, String.valueOf(map.getBloomFilterHits()));
+    assertEquals(new ImmutableHashMap<>(mutable), map);
+    assertAllocatesAtMost(0, () -> map.get("missing"));
+
+    final ImmutableHashMap<String, Integer> uncounted =
+        ImmutableHashMap.withBloomFilter(mutable, 0.001);
+    assertNull(uncounted.get("missing"));
+    assertFalse(uncounted.containsKey("missing"));
+    assertEquals(0, uncounted.getBloomFilterHits());
+  }
+}
@@ -4,10 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -261,4 +263,34 @@ class ImmutableHashSetTest {
     assertEquals(immutableSet1, immutableSet2);
     assertNotEquals(immutableSet1, immutableSet3);
   }
-}
\ No newline at end of file
+
+  @Test
+  void bloomFilterRejectsMostAbsentElements() {
+    final Set<String> elements = new HashSet<>();
+    for (int i = 0; i < 100_000; i++) {
+      elements.add("present-" + i);
+    }
+    final ImmutableHashSet<String> set = ImmutableHashSet.withBloomFilter(elements, 0.01, true);
+
+    for (final String element : elements) {
+      assertTrue(set.contains(element), element);
+    }
+    assertEquals(0, set.getBloomFilterHits());
+    for (int i = 0; i < 100_000; i++) {
+      assertFalse(set.contains("absent-" + i));
+    }
+
+    assertTrue(set.getBloomFilterHits() > 98_000, String.valueOf(set.getBloomFilterHits()));
+    assertFalse(set.contains(null));
+    assertEquals(elements.size(), set.size());
+    assertEquals(new ImmutableHashSet<>(elements), set);
+    assertEquals(0, new ImmutableHashSet<>(elements).getBloomFilterHits());
+    final ImmutableHashSet<String> uncounted = ImmutableHashSet.withBloomFilter(elements, 0.01);
+    assertFalse(uncounted.contains("absent"));
+    assertEquals(0, uncounted.getBloomFilterHits());
+    assertThrows(IllegalArgumentException.class,
+        () -> ImmutableHashSet.withBloomFilter(elements, 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> ImmutableHashSet.withBloomFilter(elements, 1));
+  }
+}
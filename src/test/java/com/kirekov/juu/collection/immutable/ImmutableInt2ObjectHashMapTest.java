@@ -0,0 +1,109 @@
+package com.kirekov.juu.collection.immutable;
+
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ImmutableInt2ObjectHashMapTest {
+
+  @Test
+  void getsSameValuesAsHashMap() {
+    final Random random = new Random(42);
+    final Map<Integer, String> expected = new HashMap<>();
+    for (int i = 0; i < 10_000; i++) {
+      final int key = random.nextInt(100_000) - 50_000;
+      expected.put(key, "value" + key);
+    }
+
+    final ImmutableInt2ObjectMap<String> map = ImmutableInt2ObjectHashMap.of(expected);
+
+    assertEquals(expected.size(), map.size());
+    for (int key = -60_000; key < 60_000; key++) {
+      assertEquals(expected.get(key), map.get(key));
+      assertEquals(expected.containsKey(key), map.containsKey(key));
+    }
+    assertEquals(expected.hashCode(), map.hashCode());
+    assertEquals(expected, map.boxed().toMutableMap());
+  }
+
+  @Test
+  void supportsZeroKeyAndNullValues() {
+    final Map<Integer, String> source = new HashMap<>();
+    source.put(0, "zero");
+    source.put(1, null);
+
+    final ImmutableInt2ObjectMap<String> map = ImmutableInt2ObjectHashMap.of(source);
+
+    assertEquals("zero", map.get(0));
+    assertTrue(map.containsKey(1));
+    assertNull(map.get(1));
+    assertEquals("default", map.getOrDefault(2, "default"));
+    assertNull(map.getOrDefault(1, "default"));
+    assertTrue(map.containsValue(null));
+    assertTrue(map.containsValue("zero"));
+    assertFalse(map.containsValue("one"));
+    assertEquals(ImmutableIntHashSet.of(0, 1), map.keySet());
+    assertEquals(source.hashCode(), map.hashCode());
+  }
+
+  @Test
+  void isEqualToMapWithSameEntries() {
+    final Map<Integer, String> source = new HashMap<>();
+    source.put(1, "a");
+    source.put(2, "b");
+    final ImmutableInt2ObjectMap<String> map = ImmutableInt2ObjectHashMap.of(source);
+
+    assertEquals(map, ImmutableInt2ObjectHashMap.of(new HashMap<>(source)));
+    source.put(2, "c");
+    assertNotEquals(map, ImmutableInt2ObjectHashMap.of(source));
+    source.remove(2);
+    assertNotEquals(map, ImmutableInt2ObjectHashMap.of(source));
+  }
+
+  @Test
+  void boxedViewBehavesLikeImmutableMap() {
+    final Map<Integer, String> source = new HashMap<>();
+    source.put(1, "a");
+    source.put(0, "b");
+    final ImmutableMap<Integer, String> boxed = ImmutableInt2ObjectHashMap.of(source).boxed();
+
+    assertEquals(2, boxed.size());
+    assertEquals("a", boxed.get(1));
+    assertNull(boxed.get(1L));
+    assertTrue(boxed.containsKey(0));
+    assertFalse(boxed.containsKey("0"));
+    assertEquals(Immutable.setOf(0, 1), Immutable.setOf(boxed.keySet()));
+    assertTrue(boxed.containsPair(Pair.of(1, "a")));
+    assertEquals(source.hashCode(), boxed.hashCode());
+    final Map<Integer, String> consumed = new HashMap<>();
+    boxed.forEach(consumed::put);
+    assertEquals(source, consumed);
+  }
+
+  @Test
+  void getDoesNotAllocate() {
+    final Map<Integer, String> source = new HashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      source.put(i * 7, String.valueOf(i));
+    }
+    final ImmutableInt2ObjectMap<String> map = ImmutableInt2ObjectHashMap.of(source);
+    assertAllocatesAtMost(0, () -> map.get(70));
+    assertAllocatesAtMost(0, () -> map.get(71));
+  }
+
+  @Test
+  void rejectsNullKeys() {
+    final Map<Integer, String> source = new HashMap<>();
+    source.put(null, "null");
+    assertThrows(NullPointerException.class, () -> ImmutableInt2ObjectHashMap.of(source));
+  }
+}
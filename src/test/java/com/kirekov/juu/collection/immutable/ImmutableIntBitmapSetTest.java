@@ -0,0 +1,233 @@
+package com.kirekov.juu.collection.immutable;
+
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ImmutableIntBitmapSetTest {
+
+  @Test
+  void containsSameValuesAsTreeSet() {
+    final int[] values = mixedValues(new Random(42));
+    final TreeSet<Integer> expected = toTreeSet(values);
+
+    final ImmutableIntBitmapSet set = ImmutableIntBitmapSet.of(values);
+
+    assertEquals(expected.size(), set.size());
+    for (int value = -200_000; value < 400_000; value++) {
+      assertEquals(expected.contains(value), set.contains(value), String.valueOf(value));
+    }
+    assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), set.toArray());
+    assertEquals(expected.hashCode(), set.hashCode());
+    assertEquals(expected.toString().replace('[', '{').replace(']', '}'), set.toString());
+  }
+
+  @Test
+  void iteratesInAscendingOrderAcrossSign() {
+    final ImmutableIntBitmapSet set = ImmutableIntBitmapSet.of(
+        Integer.MAX_VALUE, 0, -1, Integer.MIN_VALUE, 65_536, -65_537, 0
+    );
+    final int[] consumed = new int[set.size()];
+    final int[] index = {0};
+    set.forEach(value -> consumed[index[0]++] = value);
+
+    final int[] expected = {Integer.MIN_VALUE, -65_537, -1, 0, 65_536, Integer.MAX_VALUE};
+    assertArrayEquals(expected, set.toArray());
+    assertArrayEquals(expected, consumed);
+  }
+
+  @Test
+  void ranksAndSelectsValues() {
+    final int[] values = mixedValues(new Random(7));
+    final int[] sorted = toTreeSet(values).stream().mapToInt(Integer::intValue).toArray();
+
+    final ImmutableIntBitmapSet set = ImmutableIntBitmapSet.of(values);
+
+    for (int i = 0; i < sorted.length; i++) {
+      assertEquals(sorted[i], set.select(i));
+      assertEquals(i + 1, set.rank(sorted[i]));
+    }
+    assertEquals(0, set.rank(Integer.MIN_VALUE));
+    assertEquals(sorted.length, set.rank(Integer.MAX_VALUE));
+    for (int value = -200_000; value < 400_000; value += 97) {
+      final int position = Arrays.binarySearch(sorted, value);
+      final int expected = position >= 0 ? position + 1 : -position - 1;
+      assertEquals(expected, set.rank(value), String.valueOf(value));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> set.select(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> set.select(sorted.length));
+  }
+
+  @Test
+  void computesSetAlgebra() {
+    final Random random = new Random(13);
+    final int[] first = mixedValues(random);
+    final int[] second = mixedValues(random);
+    final ImmutableIntBitmapSet a = ImmutableIntBitmapSet.of(first);
+    final ImmutableIntBitmapSet b = ImmutableIntBitmapSet.of(second);
+
+    assertAlgebra(first, second, ImmutableIntBitmapSet::and, (x, y) -> {
+      x.retainAll(y);
+      return x;
+    }, a, b);
+    assertAlgebra(first, second, ImmutableIntBitmapSet::or, (x, y) -> {
+      x.addAll(y);
+      return x;
+    }, a, b);
+    assertAlgebra(first, second, ImmutableIntBitmapSet::andNot, (x, y) -> {
+      x.removeAll(y);
+      return x;
+    }, a, b);
+    assertAlgebra(first, second, ImmutableIntBitmapSet::xor, (x, y) -> {
+      final TreeSet<Integer> common = new TreeSet<>(x);
+      common.retainAll(y);
+      x.addAll(y);
+      x.removeAll(common);
+      return x;
+    }, a, b);
+  }
+
+  @Test
+  void returnsEmptySetForDisjointAlgebra() {
+    final ImmutableIntBitmapSet a = ImmutableIntBitmapSet.range(0, 100_000);
+    final ImmutableIntBitmapSet b = ImmutableIntBitmapSet.range(100_000, 200_000);
+
+    assertTrue(a.and(b).isEmpty());
+    assertTrue(a.andNot(a).isEmpty());
+    assertTrue(a.xor(a).isEmpty());
+    assertEquals(ImmutableIntBitmapSet.range(0, 200_000), a.or(b));
+    assertEquals(ImmutableIntBitmapSet.range(0, 200_000), a.xor(b));
+  }
+
+  @Test
+  void storesRangesCompactly() {
+    final ImmutableIntBitmapSet set = ImmutableIntBitmapSet.range(-1_000_000, 50_000_000);
+
+    assertEquals(51_000_000, set.size());
+    assertTrue(set.contains(-1_000_000));
+    assertTrue(set.contains(49_999_999));
+    assertFalse(set.contains(50_000_000));
+    assertFalse(set.contains(-1_000_001));
+    assertEquals(-1_000_000 + 12_345_678, set.select(12_345_678));
+    assertEquals(1_000_001, set.rank(0));
+    assertTrue(set.serializedSizeInBytes() < 16 * 1024);
+    assertTrue(ImmutableIntBitmapSet.range(5, 5).isEmpty());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ImmutableIntBitmapSet.range(Integer.MIN_VALUE, Integer.MAX_VALUE)
+    );
+  }
+
+  @Test
+  void storesDenseValuesInBitmaps() {
+    final int[] values = IntStream.range(0, 1_000_000).filter(value -> value % 3 != 0).toArray();
+
+    final ImmutableIntBitmapSet set = ImmutableIntBitmapSet.of(values);
+
+    assertEquals(values.length, set.size());
+    assertTrue(set.serializedSizeInBytes() < values.length / 4);
+    assertEquals(ImmutableIntHashSet.of(values), set);
+  }
+
+  @Test
+  void writesAndReadsSerializedForm() {
+    final ImmutableIntBitmapSet set = ImmutableIntBitmapSet.of(mixedValues(new Random(3)));
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(set.serializedSizeInBytes() + 8);
+    buffer.putInt(42);
+
+    set.writeTo(buffer);
+    buffer.putInt(43);
+    buffer.flip();
+    assertEquals(42, buffer.getInt());
+    final ImmutableIntBitmapSet read = ImmutableIntBitmapSet.read(buffer);
+
+    assertEquals(43, buffer.getInt());
+    assertEquals(set, read);
+    assertArrayEquals(set.toArray(), read.toArray());
+    assertTrue(Arrays.equals(set.toByteArray(), read.toByteArray()));
+    assertEquals(set.serializedSizeInBytes(), set.toByteArray().length);
+    assertTrue(ImmutableIntBitmapSet.read(ByteBuffer.wrap(ImmutableIntBitmapSet.of().toByteArray()))
+        .isEmpty());
+  }
+
+  @Test
+  void rejectsMalformedSerializedForm() {
+    final byte[] bytes = ImmutableIntBitmapSet.of(1, 2, 3).toByteArray();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ImmutableIntBitmapSet.read(ByteBuffer.wrap(bytes, 0, bytes.length - 1))
+    );
+    bytes[0]++;
+    assertThrows(IllegalArgumentException.class,
+        () -> ImmutableIntBitmapSet.read(ByteBuffer.wrap(bytes)));
+  }
+
+  @Test
+  void interoperatesWithOtherSets() {
+    final ImmutableSet<Integer> boxed = Immutable.setOf(1, 70_000, -5);
+
+    final ImmutableIntBitmapSet set = ImmutableIntBitmapSet.of(boxed);
+
+    assertEquals(boxed.toMutableSet(), set.boxed().toMutableSet());
+    assertEquals(Immutable.setOf(-4, 2, 70_001), set.boxed().map(value -> value + 1));
+    assertEquals(ImmutableIntHashSet.of(1, 70_000, -5), set);
+    assertEquals(set, ImmutableIntHashSet.of(1, 70_000, -5));
+    assertSame(set, ImmutableIntBitmapSet.of((ImmutableIntSet) set));
+    assertEquals(set, ImmutableIntBitmapSet.of(ImmutableIntHashSet.of(-5, 1, 70_000)));
+  }
+
+  @Test
+  void doesNotAllocateOnContains() {
+    final ImmutableIntBitmapSet set = ImmutableIntBitmapSet.of(mixedValues(new Random(5)));
+
+    assertAllocatesAtMost(0, () -> set.contains(123_456));
+    assertAllocatesAtMost(0, () -> set.rank(123_456) > 0);
+  }
+
+  /**
+   * Generates values that fill array, bitmap and run containers.
+   */
+  private static int[] mixedValues(Random random) {
+    return IntStream.concat(
+        IntStream.concat(
+            random.ints(2_000, -200_000, 0),
+            random.ints(50_000, 65_536, 131_072)
+        ),
+        IntStream.concat(
+            IntStream.range(200_000, 260_000),
+            random.ints(3_000, 300_000, 400_000)
+        )
+    ).toArray();
+  }
+
+  private static TreeSet<Integer> toTreeSet(int[] values) {
+    return Arrays.stream(values).boxed().collect(Collectors.toCollection(TreeSet::new));
+  }
+
+  private static void assertAlgebra(int[] first, int[] second,
+      BinaryOperator<ImmutableIntBitmapSet> operation,
+      BinaryOperator<TreeSet<Integer>> expectedOperation,
+      ImmutableIntBitmapSet a, ImmutableIntBitmapSet b) {
+    final Set<Integer> expected = expectedOperation.apply(toTreeSet(first), toTreeSet(second));
+
+    final ImmutableIntBitmapSet result = operation.apply(a, b);
+
+    assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), result.toArray());
+    assertEquals(expected.size(), result.size());
+  }
+}
@@ -0,0 +1,130 @@
+package com.kirekov.juu.collection.immutable;
+
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class ImmutableIntHashSetTest {
+
+  @Test
+  void containsSameValuesAsHashSet() {
+    final Random random = new Random(42);
+    final int[] values = random.ints(10_000, -50_000, 50_000).toArray();
+    final Set<Integer> expected = Arrays.stream(values).boxed().collect(Collectors.toSet());
+
+    final ImmutableIntSet set = ImmutableIntHashSet.of(values);
+
+    assertEquals(expected.size(), set.size());
+    for (int value = -60_000; value < 60_000; value++) {
+      assertEquals(expected.contains(value), set.contains(value), String.valueOf(value));
+    }
+    assertEquals(expected.hashCode(), set.hashCode());
+    assertEquals(expected, set.stream().boxed().collect(Collectors.toSet()));
+  }
+
+  @Test
+  void containsZeroAndExtremeValues() {
+    final ImmutableIntSet set = ImmutableIntHashSet.of(0, Integer.MIN_VALUE, Integer.MAX_VALUE, 0);
+
+    assertEquals(3, set.size());
+    assertTrue(set.contains(0));
+    assertTrue(set.contains(Integer.MIN_VALUE));
+    assertTrue(set.contains(Integer.MAX_VALUE));
+    assertTrue(set.notContains(1));
+    assertFalse(ImmutableIntHashSet.of(1, 2).contains(0));
+  }
+
+  @Test
+  void iteratesOverAllValues() {
+    final ImmutableIntSet set = ImmutableIntHashSet.of(5, 0, -3, 5);
+    final Set<Integer> iterated = new HashSet<>();
+    final PrimitiveIterator.OfInt iterator = set.iterator();
+    while (iterator.hasNext()) {
+      iterated.add(iterator.nextInt());
+    }
+    final Set<Integer> consumed = new HashSet<>();
+    set.forEach(consumed::add);
+
+    assertEquals(new HashSet<>(Arrays.asList(5, 0, -3)), iterated);
+    assertEquals(iterated, consumed);
+    final int[] array = set.toArray();
+    Arrays.sort(array);
+    assertArrayEquals(new int[]{-3, 0, 5}, array);
+  }
+
+  @Test
+  void createsEmptySet() {
+    final ImmutableIntSet set = ImmutableIntHashSet.of();
+
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains(0));
+    assertFalse(set.iterator().hasNext());
+    assertEquals("{}", set.toString());
+    assertEquals(0, set.hashCode());
+  }
+
+  @Test
+  void createsFromBoxedValues() {
+    assertEquals(ImmutableIntHashSet.of(1, 2, 3), ImmutableIntHashSet.of(Arrays.asList(3, 2, 1)));
+    assertThrows(
+        NullPointerException.class,
+        () -> ImmutableIntHashSet.of(Arrays.asList(1, null))
+    );
+  }
+
+  @Test
+  void isEqualToSetWithSameValues() {
+    final ImmutableIntSet set = ImmutableIntHashSet.of(1, 2, 3);
+
+    assertEquals(set, ImmutableIntHashSet.of(3, 2, 1));
+    assertEquals(set.hashCode(), ImmutableIntHashSet.of(3, 2, 1).hashCode());
+    assertNotEquals(set, ImmutableIntHashSet.of(1, 2));
+    assertNotEquals(set, ImmutableIntHashSet.of(1, 2, 4));
+    assertNotEquals(set, Immutable.setOf(1, 2, 3));
+  }
+
+  @Test
+  void boxedViewBehavesLikeImmutableSet() {
+    final ImmutableSet<Integer> boxed = ImmutableIntHashSet.of(1, 2, 3).boxed();
+
+    assertEquals(3, boxed.size());
+    assertTrue(boxed.contains(2));
+    assertFalse(boxed.contains(4));
+    assertFalse(boxed.contains(2L));
+    assertFalse(boxed.contains(null));
+    assertEquals(ImmutableIntHashSet.of(2, 3).boxed(), boxed.filter(value -> value > 1));
+    assertEquals(Immutable.setOf("1", "2", "3"), boxed.map(String::valueOf));
+    assertEquals(Immutable.setOf(1, 2, 3, 4), boxed.concatWith(Arrays.asList(3, 4)));
+    assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)).hashCode(), boxed.hashCode());
+    assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)), boxed.toMutableSet());
+    assertThrows(UnsupportedOperationException.class, () -> boxed.iterator().remove());
+  }
+
+  @Test
+  void containsDoesNotAllocate() {
+    final ImmutableIntSet set = ImmutableIntHashSet.of(new Random(1).ints(1000).toArray());
+    assertAllocatesAtMost(0, () -> set.contains(42));
+    assertAllocatesAtMost(0, () -> set.contains(0));
+  }
+
+  @Test
+  void rejectsNull() {
+    assertThrows(NullPointerException.class, () -> ImmutableIntHashSet.of((int[]) null));
+    assertThrows(
+        NullPointerException.class,
+        () -> ImmutableIntHashSet.of(1).forEach(null)
+    );
+  }
+}
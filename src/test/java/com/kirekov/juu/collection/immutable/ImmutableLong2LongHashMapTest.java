@@ -0,0 +1,115 @@
+package com.kirekov.juu.collection.immutable;
+
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ImmutableLong2LongHashMapTest {
+
+  @Test
+  void getsSameValuesAsHashMap() {
+    final Random random = new Random(42);
+    final long[] keys = random.longs(10_000, -50_000, 50_000).toArray();
+    final long[] values = random.longs(10_000).toArray();
+    final Map<Long, Long> expected = new HashMap<>();
+    for (int i = 0; i < keys.length; i++) {
+      expected.put(keys[i], values[i]);
+    }
+
+    final ImmutableLong2LongMap map = ImmutableLong2LongHashMap.of(keys, values);
+
+    assertEquals(expected.size(), map.size());
+    for (long key = -60_000; key < 60_000; key++) {
+      assertEquals(expected.getOrDefault(key, -1L), map.getOrDefault(key, -1));
+      assertEquals(expected.containsKey(key), map.containsKey(key));
+    }
+    assertEquals(expected.hashCode(), map.hashCode());
+    assertEquals(expected, map.boxed().toMutableMap());
+    assertEquals(map, ImmutableLong2LongHashMap.of(expected));
+  }
+
+  @Test
+  void supportsZeroKey() {
+    final ImmutableLong2LongMap map = ImmutableLong2LongHashMap.of(
+        new long[]{0, 1, 0},
+        new long[]{10, 11, 12}
+    );
+
+    assertEquals(2, map.size());
+    assertEquals(12, map.get(0));
+    assertEquals(11, map.get(1));
+    assertTrue(map.containsValue(12));
+    assertFalse(map.containsValue(10));
+    assertEquals(ImmutableLongHashSet.of(0, 1), map.keySet());
+    final long[] sorted = map.values();
+    Arrays.sort(sorted);
+    assertArrayEquals(new long[]{11, 12}, sorted);
+  }
+
+  @Test
+  void throwsIfKeyIsAbsent() {
+    final ImmutableLong2LongMap map = ImmutableLong2LongHashMap.of(new long[]{1}, new long[]{2});
+
+    assertThrows(NoSuchElementException.class, () -> map.get(0));
+    assertThrows(NoSuchElementException.class, () -> map.get(3));
+    assertEquals(-1, map.getOrDefault(3, -1));
+  }
+
+  @Test
+  void isEqualToMapWithSameEntries() {
+    final ImmutableLong2LongMap map = ImmutableLong2LongHashMap.of(
+        new long[]{1, 2},
+        new long[]{3, 4}
+    );
+
+    assertEquals(map, ImmutableLong2LongHashMap.of(new long[]{2, 1}, new long[]{4, 3}));
+    assertNotEquals(map, ImmutableLong2LongHashMap.of(new long[]{1, 2}, new long[]{3, 5}));
+    assertNotEquals(map, ImmutableLong2LongHashMap.of(new long[]{1}, new long[]{3}));
+  }
+
+  @Test
+  void boxedViewBehavesLikeImmutableMap() {
+    final ImmutableMap<Long, Long> boxed = ImmutableLong2LongHashMap.of(
+        new long[]{1, 2},
+        new long[]{3, 4}
+    ).boxed();
+
+    assertEquals(Long.valueOf(3), boxed.get(1L));
+    assertNull(boxed.get(5L));
+    assertNull(boxed.get(1));
+    assertTrue(boxed.containsValue(4L));
+    assertFalse(boxed.containsValue(4));
+    assertEquals(Immutable.setOf(1L, 2L), Immutable.setOf(boxed.keySet()));
+    assertTrue(boxed.containsPair(Pair.of(2L, 4L)));
+  }
+
+  @Test
+  void getDoesNotAllocate() {
+    final Random random = new Random(1);
+    final long[] keys = random.longs(1000).toArray();
+    final ImmutableLong2LongMap map = ImmutableLong2LongHashMap.of(keys, new long[1000]);
+    final long key = keys[500];
+    assertAllocatesAtMost(0, () -> map.get(key));
+    assertAllocatesAtMost(0, () -> map.getOrDefault(key + 1, 5));
+  }
+
+  @Test
+  void rejectsArraysOfDifferentLength() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ImmutableLong2LongHashMap.of(new long[1], new long[2])
+    );
+  }
+}
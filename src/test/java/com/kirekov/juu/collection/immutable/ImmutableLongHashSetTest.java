@@ -0,0 +1,133 @@
+package com.kirekov.juu.collection.immutable;
+
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class ImmutableLongHashSetTest {
+
+  @Test
+  void containsSameValuesAsHashSet() {
+    final Random random = new Random(42);
+    final long[] values = random.longs(10_000, -50_000, 50_000).toArray();
+    final Set<Long> expected = Arrays.stream(values).boxed().collect(Collectors.toSet());
+
+    final ImmutableLongSet set = ImmutableLongHashSet.of(values);
+
+    assertEquals(expected.size(), set.size());
+    for (long value = -60_000; value < 60_000; value++) {
+      assertEquals(expected.contains(value), set.contains(value), String.valueOf(value));
+    }
+    assertEquals(expected.hashCode(), set.hashCode());
+    assertEquals(expected, set.stream().boxed().collect(Collectors.toSet()));
+  }
+
+  @Test
+  void containsZeroAndExtremeValues() {
+    final ImmutableLongSet set = ImmutableLongHashSet.of(0, Long.MIN_VALUE, Long.MAX_VALUE, 0);
+
+    assertEquals(3, set.size());
+    assertTrue(set.contains(0));
+    assertTrue(set.contains(Long.MIN_VALUE));
+    assertTrue(set.contains(Long.MAX_VALUE));
+    assertTrue(set.notContains(1));
+    assertFalse(ImmutableLongHashSet.of(1, 2).contains(0));
+  }
+
+  @Test
+  void iteratesOverAllValues() {
+    final ImmutableLongSet set = ImmutableLongHashSet.of(5, 0, -3, 5);
+    final Set<Long> iterated = new HashSet<>();
+    final PrimitiveIterator.OfLong iterator = set.iterator();
+    while (iterator.hasNext()) {
+      iterated.add(iterator.nextLong());
+    }
+    final Set<Long> consumed = new HashSet<>();
+    set.forEach(consumed::add);
+
+    assertEquals(new HashSet<>(Arrays.asList(5L, 0L, -3L)), iterated);
+    assertEquals(iterated, consumed);
+    final long[] array = set.toArray();
+    Arrays.sort(array);
+    assertArrayEquals(new long[]{-3, 0, 5}, array);
+  }
+
+  @Test
+  void createsEmptySet() {
+    final ImmutableLongSet set = ImmutableLongHashSet.of();
+
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains(0));
+    assertFalse(set.iterator().hasNext());
+    assertEquals("{}", set.toString());
+    assertEquals(0, set.hashCode());
+  }
+
+  @Test
+  void createsFromBoxedValues() {
+    assertEquals(
+        ImmutableLongHashSet.of(1, 2, 3),
+        ImmutableLongHashSet.of(Arrays.asList(3L, 2L, 1L))
+    );
+    assertThrows(
+        NullPointerException.class,
+        () -> ImmutableLongHashSet.of(Arrays.asList(1L, null))
+    );
+  }
+
+  @Test
+  void isEqualToSetWithSameValues() {
+    final ImmutableLongSet set = ImmutableLongHashSet.of(1, 2, 3);
+
+    assertEquals(set, ImmutableLongHashSet.of(3, 2, 1));
+    assertEquals(set.hashCode(), ImmutableLongHashSet.of(3, 2, 1).hashCode());
+    assertNotEquals(set, ImmutableLongHashSet.of(1, 2));
+    assertNotEquals(set, ImmutableLongHashSet.of(1, 2, 4));
+    assertNotEquals(set, Immutable.setOf(1L, 2L, 3L));
+  }
+
+  @Test
+  void boxedViewBehavesLikeImmutableSet() {
+    final ImmutableSet<Long> boxed = ImmutableLongHashSet.of(1, 2, 3).boxed();
+
+    assertEquals(3, boxed.size());
+    assertTrue(boxed.contains(2L));
+    assertFalse(boxed.contains(4L));
+    assertFalse(boxed.contains(2));
+    assertFalse(boxed.contains(null));
+    assertEquals(ImmutableLongHashSet.of(2, 3).boxed(), boxed.filter(value -> value > 1));
+    assertEquals(Immutable.setOf("1", "2", "3"), boxed.map(String::valueOf));
+    assertEquals(Immutable.setOf(1L, 2L, 3L, 4L), boxed.concatWith(Arrays.asList(3L, 4L)));
+    assertEquals(new HashSet<>(Arrays.asList(1L, 2L, 3L)).hashCode(), boxed.hashCode());
+    assertEquals(new HashSet<>(Arrays.asList(1L, 2L, 3L)), boxed.toMutableSet());
+    assertThrows(UnsupportedOperationException.class, () -> boxed.iterator().remove());
+  }
+
+  @Test
+  void containsDoesNotAllocate() {
+    final ImmutableLongSet set = ImmutableLongHashSet.of(new Random(1).longs(1000).toArray());
+    assertAllocatesAtMost(0, () -> set.contains(42L));
+    assertAllocatesAtMost(0, () -> set.contains(0L));
+  }
+
+  @Test
+  void rejectsNull() {
+    assertThrows(NullPointerException.class, () -> ImmutableLongHashSet.of((long[]) null));
+    assertThrows(
+        NullPointerException.class,
+        () -> ImmutableLongHashSet.of(1).forEach(null)
+    );
+  }
+}
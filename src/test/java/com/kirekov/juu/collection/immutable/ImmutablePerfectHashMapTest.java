@@ -0,0 +1,146 @@
+package com.kirekov.juu.collection.immutable;
+
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ImmutablePerfectHashMapTest {
+
+  @Test
+  void getsSameValuesAsHashMap() {
+    final Random random = new Random(42);
+    final Map<String, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 100_000; i++) {
+      expected.put("key-" + random.nextLong(), i);
+    }
+
+    final ImmutablePerfectHashMap<String, Integer> map = ImmutablePerfectHashMap.of(expected);
+
+    assertEquals(expected.size(), map.size());
+    expected.forEach((key, value) -> assertEquals(value, map.get(key), key));
+    for (int i = 0; i < 10_000; i++) {
+      final String missing = "missing-" + random.nextLong();
+      assertNull(map.get(missing));
+      assertFalse(map.containsKey(missing));
+    }
+    assertEquals(expected, map.toMutableMap());
+    assertEquals(expected.hashCode(), map.hashCode());
+  }
+
+  @Test
+  void buildsMapsOfAnySize() {
+    for (int size = 0; size < 50; size++) {
+      final Map<Integer, String> expected = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        expected.put(i * 31, String.valueOf(i));
+      }
+
+      final ImmutablePerfectHashMap<Integer, String> map = ImmutablePerfectHashMap.of(expected);
+
+      assertEquals(size, map.size());
+      expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+      assertFalse(map.containsKey(-1));
+      assertFalse(map.containsKey(null));
+      assertEquals(expected.keySet(), map.keySet().toMutableSet());
+    }
+  }
+
+  @Test
+  void permitsNullValues() {
+    final Map<String, String> source = new HashMap<>();
+    source.put("a", null);
+    source.put("b", "B");
+
+    final ImmutablePerfectHashMap<String, String> map = ImmutablePerfectHashMap.of(source);
+
+    assertTrue(map.containsKey("a"));
+    assertNull(map.get("a"));
+    assertEquals("default", map.getOrDefault("c", "default"));
+    assertNull(map.getOrDefault("a", "default"));
+    assertTrue(map.containsValue(null));
+    assertTrue(map.containsValue("B"));
+    assertFalse(map.containsValue("C"));
+  }
+
+  @Test
+  void keepsKeysWithEqualHashCodes() {
+    final Map<String, Integer> source = new HashMap<>();
+    source.put("Aa", 1);
+    source.put("BB", 2);
+    source.put("C#", 3);
+    source.put("other", 4);
+
+    final ImmutablePerfectHashMap<String, Integer> map = ImmutablePerfectHashMap.of(source);
+
+    assertEquals(4, map.size());
+    source.forEach((key, value) -> assertEquals(value, map.get(key), key));
+    assertFalse(map.containsKey("D\u0004"));
+    assertTrue(map.containsValue(3));
+    assertEquals(source, map.toMutableMap());
+    assertEquals(source.hashCode(), map.hashCode());
+    assertEquals(map, ImmutablePerfectHashMap.of(new HashMap<>(source)));
+  }
+
+  @Test
+  void derivesCollectionsFromArraysOnDemand() {
+    final Map<String, Integer> source = new HashMap<>();
+    source.put("Aa", 1);
+    source.put("BB", 2);
+    source.put("other", null);
+
+    final ImmutablePerfectHashMap<String, Integer> map = ImmutablePerfectHashMap.of(source);
+
+    assertEquals(Immutable.setOf(source.keySet()), map.keySet());
+    assertSame(map.keySet(), map.keySet());
+    assertEquals(new HashSet<>(source.values()), map.values().toMutableSet());
+    assertSame(map.values(), map.values());
+    assertEquals(ImmutableMapUtils.toPairSet(source.entrySet()), map.pairSet());
+    assertSame(map.pairSet(), map.pairSet());
+  }
+
+  @Test
+  void rejectsNullKeys() {
+    assertThrows(
+        NullPointerException.class,
+        () -> ImmutablePerfectHashMap.of(Collections.singletonMap(null, 1))
+    );
+  }
+
+  @Test
+  void comparesMapsByContent() {
+    final Map<String, Integer> source = new HashMap<>();
+    source.put("one", 1);
+    source.put("two", 2);
+    final Map<String, Integer> other = new HashMap<>(source);
+    other.put("two", 3);
+
+    assertEquals(ImmutablePerfectHashMap.of(source), ImmutablePerfectHashMap.of(source));
+    assertNotEquals(ImmutablePerfectHashMap.of(source), ImmutablePerfectHashMap.of(other));
+    assertEquals(2, ImmutablePerfectHashMap.of(source).pairSet().size());
+    assertEquals(3, ImmutablePerfectHashMap.of(source).values().stream().mapToInt(v -> v).sum());
+  }
+
+  @Test
+  void doesNotAllocateOnGet() {
+    final Map<String, String> source = new HashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      source.put("key" + i, "value" + i);
+    }
+    final ImmutablePerfectHashMap<String, String> map = ImmutablePerfectHashMap.of(source);
+
+    assertAllocatesAtMost(0, () -> map.get("key500"));
+    assertAllocatesAtMost(0, () -> map.get("absent"));
+  }
+}
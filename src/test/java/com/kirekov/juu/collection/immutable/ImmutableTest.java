@@ -184,4 +184,30 @@ class ImmutableTest {
     assertEquals(4, map.get("4"));
     assertEquals(5, map.get("5"));
   }
-}
\ No newline at end of file
+
+  @Test
+  void primitiveSetOf() {
+    final ImmutableIntSet ints = Immutable.intSetOf(1, 2, 2);
+    final ImmutableLongSet longs = Immutable.longSetOf(1L, 2L, 2L);
+
+    assertEquals(2, ints.size());
+    assertTrue(ints.contains(2));
+    assertEquals(2, longs.size());
+    assertTrue(longs.contains(2L));
+  }
+
+  @Test
+  void staticMapOf() {
+    final Map<String, Integer> source = new HashMap<>();
+    source.put("one", 1);
+    source.put("two", 2);
+    final Map<String, Integer> collisions = new HashMap<>();
+    collisions.put("Aa", 1);
+    collisions.put("BB", 2);
+
+    assertTrue(Immutable.staticMapOf(source) instanceof ImmutablePerfectHashMap);
+    assertEquals(2, Immutable.staticMapOf(source).get("two"));
+    assertEquals(2, Immutable.staticMapOf(collisions).get("BB"));
+    assertEquals(Immutable.emptyMap(), Immutable.staticMapOf(new HashMap<>()));
+  }
+}
@@ -1,5 +1,6 @@
 package com.kirekov.juu.collection.immutable;
 
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -1164,4 +1165,15 @@ class ImmutableTreeMapTest {
 
     assertNotEquals(immutableMap1, map1);
   }
-}
\ No newline at end of file
+
+  @Test
+  void floorKeyAllocatesOnlyOptional() {
+    NavigableMap<Integer, Integer> mutable = new TreeMap<>();
+    for (int i = 0; i < 100; i++) {
+      mutable.put(i * 2, i);
+    }
+    ImmutableNavigableMap<Integer, Integer> map = ImmutableTreeMap.of(mutable);
+    // 16 bytes for Optional with compressed oops and 24 bytes without them
+    assertAllocatesAtMost(24, () -> map.floorKey(41));
+  }
+}
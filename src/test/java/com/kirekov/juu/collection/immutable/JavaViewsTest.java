@@ -0,0 +1,154 @@
+package com.kirekov.juu.collection.immutable;
+
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+class JavaViewsTest {
+
+  @Test
+  void listViewDelegatesToSource() {
+    final ImmutableList<String> source = Immutable.listOf("a", "b", "c");
+
+    final List<String> view = source.asJavaList();
+
+    assertEquals(Arrays.asList("a", "b", "c"), view);
+    assertEquals(Arrays.asList("a", "b", "c").hashCode(), view.hashCode());
+    assertTrue(view instanceof RandomAccess);
+    assertTrue(view.contains("b"));
+    assertEquals(2, view.indexOf("c"));
+    assertThrows(IndexOutOfBoundsException.class, () -> view.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> view.get(3));
+    assertEquals(Arrays.asList("b", "c"), view.subList(1, 3));
+  }
+
+  @Test
+  void listViewRejectsMutation() {
+    final List<String> view = Immutable.listOf("a", "b", "c").asJavaList();
+
+    assertThrows(UnsupportedOperationException.class, () -> view.add("d"));
+    assertThrows(UnsupportedOperationException.class, () -> view.set(0, "d"));
+    assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    assertThrows(UnsupportedOperationException.class, view::clear);
+    final Iterator<String> iterator = view.iterator();
+    iterator.next();
+    assertThrows(UnsupportedOperationException.class, iterator::remove);
+    assertEquals(3, view.size());
+  }
+
+  @Test
+  void setViewDelegatesToSource() {
+    final ImmutableSet<Integer> source = Immutable.setOf(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+    final Set<Integer> view = source.asJavaSet();
+
+    assertEquals(source.toMutableSet(), view);
+    assertEquals(view, source.toMutableSet());
+    assertTrue(view.contains(10));
+    assertFalse(view.contains(11));
+    assertThrows(UnsupportedOperationException.class, () -> view.add(11));
+    assertThrows(UnsupportedOperationException.class, () -> view.remove(1));
+    assertThrows(UnsupportedOperationException.class, () -> view.removeIf(i -> i > 5));
+    assertEquals(10, view.size());
+  }
+
+  @Test
+  void mapViewDelegatesToSource() {
+    final Map<String, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 20; i++) {
+      expected.put("key" + i, i);
+    }
+    expected.put("null", null);
+    final ImmutableMap<String, Integer> source = Immutable.mapOf(expected);
+
+    final Map<String, Integer> view = source.asJavaMap();
+
+    assertEquals(expected, view);
+    assertEquals(view, expected);
+    assertEquals(expected.hashCode(), view.hashCode());
+    assertEquals(5, view.get("key5"));
+    assertNull(view.get("absent"));
+    assertTrue(view.containsKey("null"));
+    assertEquals(-1, view.getOrDefault("absent", -1));
+    assertNull(view.getOrDefault("null", -1));
+    assertEquals(expected.keySet(), view.keySet());
+    assertTrue(view.entrySet().contains(new AbstractMap.SimpleEntry<>("key1", 1)));
+  }
+
+  @Test
+  void mapViewRejectsMutation() {
+    final Map<String, Integer> view = Immutable.mapOf("a", 1, "b", 2).asJavaMap();
+
+    assertThrows(UnsupportedOperationException.class, () -> view.put("c", 3));
+    assertThrows(UnsupportedOperationException.class, () -> view.remove("a"));
+    assertThrows(UnsupportedOperationException.class, view::clear);
+    assertThrows(UnsupportedOperationException.class, () -> view.keySet().remove("a"));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> view.entrySet().iterator().next().setValue(5)
+    );
+    assertEquals(2, view.size());
+  }
+
+  @Test
+  void navigableMapViewDelegatesToTreeMap() {
+    final TreeMap<Integer, String> expected = new TreeMap<>();
+    for (int i = 0; i < 10; i++) {
+      expected.put(i * 10, String.valueOf(i));
+    }
+    final ImmutableTreeMap<Integer, String> source = ImmutableTreeMap.of(expected);
+
+    final NavigableMap<Integer, String> view = source.asJavaNavigableMap();
+
+    assertEquals(expected, view);
+    assertEquals("2", view.get(20));
+    assertNull(view.get(25));
+    assertTrue(view.containsKey(90));
+    assertFalse(view.containsKey(null));
+    assertNull(((Map<?, ?>) view).get("not comparable with integers"));
+    assertEquals("-", view.getOrDefault(25, "-"));
+    assertAllocatesAtMost(0, () -> view.get(30));
+    assertEquals(Integer.valueOf(20), view.floorKey(25));
+    assertEquals(Integer.valueOf(30), view.ceilingKey(25));
+    assertEquals(expected.headMap(40), view.headMap(40));
+    assertEquals(expected.descendingMap(), view.descendingMap());
+    assertEquals(Arrays.asList(0, 10, 20), Arrays.asList(view.keySet().toArray()).subList(0, 3));
+    assertThrows(UnsupportedOperationException.class, () -> view.put(5, "5"));
+    assertThrows(UnsupportedOperationException.class, view::pollFirstEntry);
+    assertThrows(UnsupportedOperationException.class, () -> view.headMap(40).clear());
+    assertEquals(10, source.size());
+  }
+
+  @Test
+  void factoriesReturnViewedCollections() {
+    final ImmutableList<Integer> list = Immutable.listOf(1, 2, 3);
+    final ImmutableSet<Integer> set = Immutable.setOf(1, 2, 3);
+    final ImmutableMap<Integer, Integer> map = Immutable.mapOf(1, 2, 3, 4);
+    final ImmutableTreeMap<Integer, Integer> treeMap = ImmutableTreeMap.of(map.toMutableMap());
+
+    assertSame(list, Immutable.listOf(list));
+    assertSame(list, Immutable.listOf(list.asJavaList()));
+    assertSame(set, Immutable.setOf(set));
+    assertSame(set, Immutable.setOf(set.asJavaSet()));
+    assertSame(map, Immutable.mapOf(map.asJavaMap()));
+    assertSame(treeMap, Immutable.mapOf(treeMap.asJavaNavigableMap()));
+    assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)), Immutable.setOf(list).toMutableSet());
+  }
+}
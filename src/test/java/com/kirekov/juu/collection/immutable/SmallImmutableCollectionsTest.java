@@ -0,0 +1,196 @@
+package com.kirekov.juu.collection.immutable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class SmallImmutableCollectionsTest {
+
+  @Test
+  void createsFieldBackedListsOfOneAndTwoElements() {
+    final ImmutableList<String> one = Immutable.listOf("a");
+    final ImmutableList<String> two = Immutable.listOf("a", "b");
+
+    assertTrue(one instanceof SmallImmutableList.List1);
+    assertTrue(two instanceof SmallImmutableList.List2);
+    assertTrue(Immutable.listOf("a", "b", "c") instanceof ImmutableArrayList);
+    assertEquals("b", two.get(1));
+    assertEquals("b", two.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> two.get(2));
+    assertEquals(1, two.indexOf("b").getAsInt());
+    assertFalse(one.indexOf("b").isPresent());
+    assertEquals(Arrays.asList("a", "b"), two.stream().collect(Collectors.toList()));
+  }
+
+  @Test
+  void smallListsBehaveLikeArrayLists() {
+    final ImmutableList<Integer> small = Immutable.listOf(1, 2);
+    final ImmutableList<Integer> array = new ImmutableArrayList<>(Arrays.asList(1, 2));
+
+    assertEquals(array, small);
+    assertEquals(small, array);
+    assertEquals(array.hashCode(), small.hashCode());
+    assertEquals(array.toString(), small.toString());
+    assertNotEquals(Immutable.listOf(2, 1), small);
+    assertEquals(array.map(i -> i * 10), small.map(i -> i * 10));
+    assertEquals(array.concatWith(small), small.concatWith(array));
+    assertEquals(Immutable.listOf(Arrays.asList(1, 2)), small);
+  }
+
+  @Test
+  void createsInlineSetsRemovingDuplicates() {
+    final ImmutableSet<String> set = Immutable.setOf("a", "b", "a", null);
+
+    assertTrue(set instanceof SmallImmutableSet);
+    assertEquals(3, set.size());
+    assertTrue(set.contains("a"));
+    assertTrue(set.contains(null));
+    assertFalse(set.contains("c"));
+    assertEquals(new HashSet<>(Arrays.asList("a", "b", null)), set.toMutableSet());
+    assertTrue(Immutable.setOf(1, 2, 3, 4, 5, 6, 7, 8, 9) instanceof ImmutableHashSet);
+  }
+
+  @Test
+  void smallSetsBehaveLikeHashSets() {
+    final ImmutableSet<Integer> small = Immutable.setOf(3, 1, 2);
+    final ImmutableSet<Integer> hash = new ImmutableHashSet<>(Arrays.asList(1, 2, 3));
+
+    assertEquals(hash, small);
+    assertEquals(small, hash);
+    assertEquals(hash.hashCode(), small.hashCode());
+    assertNotEquals(Immutable.setOf(1, 2), small);
+    assertEquals(hash.filter(i -> i > 1), small.filter(i -> i > 1));
+    assertEquals(Immutable.setOf(1, 2, 3, 4), small.concatWith(Arrays.asList(4, 1)));
+  }
+
+  @Test
+  void createsInlineMapsWithLastValueWinning() {
+    final ImmutableMap<String, Integer> map = Immutable.mapOf("a", 1, "b", 2, "a", 3);
+
+    assertTrue(map instanceof SmallImmutableMap);
+    assertEquals(2, map.size());
+    assertEquals(3, map.get("a"));
+    assertNull(map.get("c"));
+    assertEquals(5, map.getOrDefault("c", 5));
+    assertTrue(map.containsValue(2));
+    assertFalse(map.containsValue(1));
+    assertEquals(Immutable.setOf("a", "b"), map.keySet());
+    assertEquals(Immutable.setOf(Pair.of("a", 3), Pair.of("b", 2)), map.pairSet());
+  }
+
+  @Test
+  void smallMapsBehaveLikeHashMaps() {
+    final Map<String, Integer> source = new LinkedHashMap<>();
+    source.put("one", 1);
+    source.put("two", null);
+    source.put(null, 3);
+    final ImmutableMap<String, Integer> small = Immutable.mapOf(source);
+    final ImmutableMap<String, Integer> hash = new ImmutableHashMap<>(source);
+
+    assertTrue(small instanceof SmallImmutableMap);
+    assertEquals(hash, small);
+    assertEquals(small, hash);
+    assertEquals(source.hashCode(), small.hashCode());
+    assertEquals(source.toString(), small.toString());
+    assertEquals(source, small.toMutableMap());
+    assertTrue(small.containsKey("two"));
+    assertEquals(3, small.get(null));
+    assertNotEquals(Immutable.mapOf("one", 1), small);
+
+    final Map<Integer, Integer> large = new HashMap<>();
+    for (int i = 0; i < 9; i++) {
+      large.put(i, i);
+    }
+    assertTrue(Immutable.mapOf(large) instanceof ImmutableHashMap);
+  }
+
+  @Test
+  void usesIteratedEntriesRatherThanReportedSize() {
+    final Map<String, Integer> one = new HashMap<>();
+    one.put("a", 1);
+    final Map<Integer, Integer> twelve = new HashMap<>();
+    for (int i = 0; i < 12; i++) {
+      twelve.put(i, i);
+    }
+
+    final ImmutableMap<String, Integer> shrunk = Immutable.mapOf(new MisreportedMap<>(one, 2));
+    final ImmutableMap<Integer, Integer> grown = Immutable.mapOf(new MisreportedMap<>(twelve, 2));
+
+    assertEquals(1, shrunk.size());
+    assertFalse(shrunk.containsKey(null));
+    assertEquals(one, shrunk.toMutableMap());
+    assertEquals(twelve, grown.toMutableMap());
+    final List<Pair<Integer, Integer>> pairs = new ArrayList<>();
+    twelve.forEach((key, value) -> pairs.add(Pair.of(key, value)));
+    assertEquals(twelve, Immutable.mapOf(new MisreportedCollection<>(pairs, 1)).toMutableMap());
+    assertEquals(
+        Arrays.asList(1, 2, 3),
+        Immutable.listOf(new MisreportedCollection<>(Arrays.asList(1, 2, 3), 2)).toMutableList()
+    );
+    assertEquals(twelve.keySet(),
+        Immutable.setOf(new MisreportedCollection<>(twelve.keySet(), 1)).toMutableSet());
+  }
+
+  /**
+   * Map whose {@code size()} disagrees with its entries, like a concurrent map that is modified.
+   */
+  private static final class MisreportedMap<K, V> extends AbstractMap<K, V> {
+
+    private final Map<K, V> entries;
+    private final int reportedSize;
+
+    private MisreportedMap(Map<K, V> entries, int reportedSize) {
+      this.entries = entries;
+      this.reportedSize = reportedSize;
+    }
+
+    @Override
+    public int size() {
+      return reportedSize;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+      return entries.entrySet();
+    }
+  }
+
+  private static final class MisreportedCollection<T> extends AbstractCollection<T> {
+
+    private final Collection<T> elements;
+    private final int reportedSize;
+
+    private MisreportedCollection(Collection<T> elements, int reportedSize) {
+      this.elements = elements;
+      this.reportedSize = reportedSize;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return elements.iterator();
+    }
+
+    @Override
+    public int size() {
+      return reportedSize;
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.kirekov.juu.lambda;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kirekov.juu.collection.immutable.Immutable;
+import com.kirekov.juu.collection.immutable.ImmutableList;
+import com.kirekov.juu.collection.immutable.ImmutableMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class BatchingFunctionTest {
+
+  private final List<ImmutableList<Integer>> batches = new CopyOnWriteArrayList<>();
+
+  private final Function<ImmutableList<Integer>, ImmutableMap<Integer, String>> loader = keys -> {
+    batches.add(keys);
+    final Map<Integer, String> result = new HashMap<>();
+    for (final Integer key : keys) {
+      if (key >= 0) {
+        result.put(key, "value" + key);
+      }
+    }
+    return Immutable.mapOf(result);
+  };
+
+  @Test
+  void throwsIfArgumentsAreInvalid() {
+    assertThrows(NullPointerException.class,
+        () -> new BatchingFunction<Integer, String>(null, 1, 1, TimeUnit.MILLISECONDS));
+    assertThrows(NullPointerException.class,
+        () -> new BatchingFunction<>(loader, 1, 1, null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new BatchingFunction<>(loader, 0, 1, TimeUnit.MILLISECONDS));
+    assertThrows(IllegalArgumentException.class,
+        () -> new BatchingFunction<>(loader, 1, -1, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void singleCallIsFlushedAfterDelay() {
+    try (BatchingFunction<Integer, String> function =
+        new BatchingFunction<>(loader, 100, 10, TimeUnit.MILLISECONDS)) {
+      assertEquals("value1", function.apply(1));
+      assertNull(function.apply(-1));
+      assertEquals(2, batches.size());
+    }
+  }
+
+  @Test
+  void concurrentCallsAreCoalescedIntoBatches() throws InterruptedException {
+    final int batchSize = 10;
+    final int callsCount = 100;
+    try (BatchingFunction<Integer, String> function =
+        new BatchingFunction<>(loader, batchSize, 1, TimeUnit.MINUTES)) {
+      final CountDownLatch start = new CountDownLatch(1);
+      final List<String> results = new CopyOnWriteArrayList<>();
+      final List<Thread> threads = new ArrayList<>();
+      for (int i = 0; i < callsCount; i++) {
+        final int key = i;
+        final Thread thread = new Thread(() -> {
+          try {
+            start.await();
+            results.add(function.apply(key));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+        thread.start();
+        threads.add(thread);
+      }
+      start.countDown();
+      for (final Thread thread : threads) {
+        thread.join();
+      }
+      assertEquals(callsCount, results.size());
+      assertEquals(callsCount / batchSize, batches.size());
+      for (int i = 0; i < callsCount; i++) {
+        assertTrue(results.contains("value" + i));
+      }
+    }
+  }
+
+  @Test
+  void sameKeysAreDeduplicatedWithinBatch() throws InterruptedException {
+    try (BatchingFunction<Integer, String> function =
+        new BatchingFunction<>(loader, 2, 1, TimeUnit.MINUTES)) {
+      final List<String> results = new CopyOnWriteArrayList<>();
+      final List<Thread> threads = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        final Thread thread = new Thread(() -> results.add(function.apply(7)));
+        thread.start();
+        threads.add(thread);
+      }
+      await().until(() -> threads.stream().allMatch(t -> t.getState() == Thread.State.WAITING));
+
+      assertEquals("value8", function.apply(8));
+      for (final Thread thread : threads) {
+        thread.join();
+      }
+      assertEquals(5, results.size());
+      assertTrue(results.stream().allMatch("value7"::equals));
+      assertEquals(1, batches.size());
+      assertEquals(Immutable.listOf(7, 8), batches.get(0));
+    }
+  }
+
+  @Test
+  void flushBySizeCancelsScheduledFlush() throws InterruptedException {
+    try (BatchingFunction<Integer, String> function =
+        new BatchingFunction<>(loader, 2, 1, TimeUnit.MINUTES)) {
+      for (int i = 0; i < 20; i++) {
+        final int key = i * 2;
+        final Thread thread = new Thread(() -> function.apply(key));
+        thread.start();
+        await().until(() -> thread.getState() == Thread.State.WAITING);
+        function.apply(key + 1);
+        thread.join();
+      }
+      assertEquals(20, batches.size());
+      assertEquals(0, function.scheduledFlushes());
+    }
+  }
+
+  @Test
+  void loaderExceptionIsPropagated() {
+    try (BatchingFunction<Integer, String> function = new BatchingFunction<>(keys -> {
+      throw new IllegalStateException("backend is down");
+    }, 1, 1, TimeUnit.MILLISECONDS)) {
+      final IllegalStateException exception =
+          assertThrows(IllegalStateException.class, () -> function.apply(1));
+      assertEquals("backend is down", exception.getMessage());
+    }
+  }
+
+  @Test
+  void throwsIfClosed() {
+    final BatchingFunction<Integer, String> function =
+        new BatchingFunction<>(loader, 1, 1, TimeUnit.MILLISECONDS);
+    function.close();
+    assertThrows(IllegalStateException.class, () -> function.apply(1));
+  }
+}
@@ -0,0 +1,102 @@
+package com.kirekov.juu.lambda;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kirekov.juu.collection.immutable.ImmutableMap;
+import com.kirekov.juu.measure.ExecutionResult;
+import com.kirekov.juu.measure.MeasureUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LazyInitializerTest {
+
+  @Test
+  void throwsIfExecutorIsNull() {
+    assertThrows(NullPointerException.class, () -> new LazyInitializer(null));
+  }
+
+  @Test
+  void initializesWholeGraph() {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final Lazy<Integer> config = Lazy.of("config", () -> 1);
+      final Lazy<Integer> database = Lazy.of("database", () -> 2).dependsOn(config);
+      final Lazy<Integer> cache = Lazy.of("cache", () -> 3).dependsOn(config);
+      final Lazy<Integer> service = Lazy.of("service", () -> database.get() + cache.get())
+          .dependsOn(database, cache);
+
+      final ImmutableMap<Lazy<?>, ExecutionResult<?>> results =
+          new LazyInitializer(executor).initialize(service);
+
+      assertEquals(4, results.size());
+      assertEquals(5, results.get(service).getResult());
+      assertEquals(MeasureUnit.NANOS, results.get(config).getMeasureUnit());
+      assertTrue(config.isInitialized());
+      assertTrue(database.isInitialized());
+      assertTrue(cache.isInitialized());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void initializesIndependentValuesInParallel() {
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final CountDownLatch latch = new CountDownLatch(2);
+      final Lazy<Boolean> first = Lazy.of("first", () -> awaitOther(latch));
+      final Lazy<Boolean> second = Lazy.of("second", () -> awaitOther(latch));
+
+      final ImmutableMap<Lazy<?>, ExecutionResult<?>> results =
+          new LazyInitializer(executor).initialize(first, second);
+
+      assertEquals(true, results.get(first).getResult());
+      assertEquals(true, results.get(second).getResult());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void throwsOnCycleBeforeInitialization() {
+    final Lazy<Integer> first = Lazy.of("first", () -> 1);
+    final Lazy<Integer> second = Lazy.of("second", () -> 2).dependsOn(first);
+    final Lazy<Integer> third = Lazy.of("third", () -> 3).dependsOn(second);
+    first.dependsOn(third);
+
+    final IllegalStateException exception = assertThrows(
+        IllegalStateException.class,
+        () -> new LazyInitializer(Runnable::run).initialize(first)
+    );
+    assertEquals("Cyclic dependency: first -> third -> second -> first", exception.getMessage());
+    assertTrue(!first.isInitialized() && !second.isInitialized() && !third.isInitialized());
+  }
+
+  @Test
+  void rethrowsInitializationException() {
+    final Lazy<Integer> failing = Lazy.of("failing", () -> {
+      throw new IllegalArgumentException("failed");
+    });
+    final Lazy<Integer> dependent = Lazy.of("dependent", () -> 1).dependsOn(failing);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new LazyInitializer(Runnable::run).initialize(dependent)
+    );
+  }
+
+  private static boolean awaitOther(CountDownLatch latch) {
+    latch.countDown();
+    try {
+      return latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.kirekov.juu.lambda;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class LazyTest {
+
+  @Test
+  void throwsIfArgumentsAreNull() {
+    assertThrows(NullPointerException.class, () -> Lazy.of(null, () -> 1));
+    assertThrows(NullPointerException.class, () -> Lazy.of("name", null));
+    assertThrows(NullPointerException.class, () -> Lazy.of("name", () -> 1).dependsOn(null, null));
+  }
+
+  @Test
+  void calculatesValueOnlyOnce() {
+    final AtomicInteger counter = new AtomicInteger();
+    final Lazy<Integer> lazy = Lazy.of("counter", counter::incrementAndGet);
+
+    assertFalse(lazy.isInitialized());
+    assertEquals(1, lazy.get());
+    assertEquals(1, lazy.get());
+    assertTrue(lazy.isInitialized());
+  }
+
+  @Test
+  void forcesDependenciesFirst() {
+    final StringBuilder order = new StringBuilder();
+    final Lazy<String> first = Lazy.of("first", () -> {
+      order.append("first;");
+      return "1";
+    });
+    final Lazy<String> second = Lazy.of("second", () -> {
+      order.append("second;");
+      return "2";
+    }).dependsOn(first);
+
+    assertEquals("2", second.get());
+    assertEquals("first;second;", order.toString());
+  }
+
+  @Test
+  void throwsOnCyclicDependency() {
+    final Lazy<Integer> first = Lazy.of("first", () -> 1);
+    final Lazy<Integer> second = Lazy.of("second", () -> 2).dependsOn(first);
+    first.dependsOn(second);
+
+    assertThrows(IllegalStateException.class, first::get);
+  }
+
+  @Test
+  void throwsIfSupplierReadsItself() {
+    final AtomicReference<Lazy<Integer>> self = new AtomicReference<>();
+    self.set(Lazy.of("self", () -> self.get().get() + 1));
+
+    assertThrows(IllegalStateException.class, self.get()::get);
+    assertFalse(self.get().isInitialized());
+  }
+
+  @Test
+  void failsInsteadOfDeadlockingWhenCycleIsForcedFromTwoThreads() throws InterruptedException {
+    final CountDownLatch start = new CountDownLatch(1);
+    final Lazy<Integer> first = Lazy.of("first", () -> 1);
+    final Lazy<Integer> second = Lazy.of("second", () -> 2).dependsOn(first);
+    first.dependsOn(second);
+    final AtomicReference<Throwable> firstError = new AtomicReference<>();
+    final AtomicReference<Throwable> secondError = new AtomicReference<>();
+    final Thread firstThread = forceAfter(start, first, firstError);
+    final Thread secondThread = forceAfter(start, second, secondError);
+
+    start.countDown();
+    firstThread.join(5_000);
+    secondThread.join(5_000);
+
+    assertFalse(firstThread.isAlive());
+    assertFalse(secondThread.isAlive());
+    assertTrue(firstError.get() instanceof IllegalStateException);
+    assertTrue(secondError.get() instanceof IllegalStateException);
+  }
+
+  @Test
+  void forcesSharedDependencyOnceFromSeveralThreads() throws InterruptedException {
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicInteger counter = new AtomicInteger();
+    final Lazy<Integer> shared = Lazy.of("shared", counter::incrementAndGet);
+    final Lazy<Integer> first = Lazy.of("first", () -> 1).dependsOn(shared);
+    final Lazy<Integer> second = Lazy.of("second", () -> 2).dependsOn(shared);
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    final Thread firstThread = forceAfter(start, first, error);
+    final Thread secondThread = forceAfter(start, second, error);
+
+    start.countDown();
+    firstThread.join(5_000);
+    secondThread.join(5_000);
+
+    assertNull(error.get());
+    assertEquals(1, counter.get());
+    assertTrue(first.isInitialized());
+    assertTrue(second.isInitialized());
+  }
+
+  @Test
+  void throwsIfDependencyIsAddedAfterInitialization() {
+    final Lazy<Integer> lazy = Lazy.of("lazy", () -> 1);
+    lazy.get();
+
+    assertThrows(IllegalStateException.class, () -> lazy.dependsOn(Lazy.of("other", () -> 2)));
+  }
+
+  private static Thread forceAfter(
+      CountDownLatch start, Lazy<?> lazy, AtomicReference<Throwable> error) {
+    final Thread thread = new Thread(() -> {
+      try {
+        start.await();
+        lazy.get();
+      } catch (InterruptedException | RuntimeException e) {
+        error.set(e);
+      }
+    });
+    thread.setDaemon(true);
+    thread.start();
+    return thread;
+  }
+}
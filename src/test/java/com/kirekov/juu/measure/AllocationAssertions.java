@@ -0,0 +1,111 @@
+package com.kirekov.juu.measure;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.kirekov.juu.lambda.Action;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Assertions on the count of bytes that a function allocates on the heap. They guard hot paths
+ * against allocation regressions on every build, which is much cheaper than running JMH.
+ *
+ * <p>The function is invoked enough times to be compiled by JIT before the measurement, so escape
+ * analysis is already applied. Then the allocation counter of the current thread is read around
+ * several rounds of invocations. The bytes allocated by reading the counter itself are subtracted
+ * and the smallest round is taken, so a rare unrelated allocation does not fail the test.</p>
+ *
+ * <pre>{@code
+ * assertAllocatesAtMost(0, () -> map.get("key"));
+ * }</pre>
+ *
+ * <p>If the JVM cannot count allocated bytes, the assertions abort the test as skipped.</p>
+ */
+public final class AllocationAssertions {
+
+  private static final int WARMUP_OPERATIONS = 20_000;
+  private static final int MEASURED_OPERATIONS = 10_000;
+  private static final int ROUNDS = 5;
+  private static final int CALIBRATION_READS = 16;
+
+  /**
+   * Results are written into a volatile field, so they escape for sure. Comparing them with other
+   * references is not enough, because JIT knows that a new object equals nothing else.
+   */
+  @SuppressWarnings("unused")
+  private static volatile Object sink;
+
+  private AllocationAssertions() {
+  }
+
+  /**
+   * Asserts that the function allocates at most the given count of bytes per invocation. The
+   * result of the function escapes, so its allocation is counted too.
+   *
+   * @param bytes    allowed bytes per invocation. Cannot be negative
+   * @param supplier the function. Cannot be null
+   * @throws IllegalArgumentException if {@code bytes} is negative
+   * @throws NullPointerException     if {@code supplier} is null
+   */
+  public static void assertAllocatesAtMost(long bytes, Supplier<?> supplier) {
+    Objects.requireNonNull(supplier, "supplier cannot be null");
+    if (bytes < 0) {
+      throw new IllegalArgumentException(
+          String.format("Allowed bytes count is less than zero: %s", bytes));
+    }
+    assumeTrue(
+        ThreadResources.allocatedBytes() != ResourceUsage.UNSUPPORTED,
+        "The JVM does not support counting of allocated bytes"
+    );
+    final double allocated = allocatedBytesPerOperation(supplier);
+    assertTrue(
+        allocated <= bytes,
+        String.format(
+            "Expected at most %d bytes allocated per operation, but was %.2f", bytes, allocated)
+    );
+  }
+
+  /**
+   * Asserts that the action allocates at most the given count of bytes per invocation.
+   *
+   * @param bytes  allowed bytes per invocation. Cannot be negative
+   * @param action the action. Cannot be null
+   * @throws IllegalArgumentException if {@code bytes} is negative
+   * @throws NullPointerException     if {@code action} is null
+   */
+  public static void assertAllocatesAtMost(long bytes, Action action) {
+    Objects.requireNonNull(action, "action cannot be null");
+    assertAllocatesAtMost(bytes, () -> {
+      action.execute();
+      return null;
+    });
+  }
+
+  static double allocatedBytesPerOperation(Supplier<?> supplier) {
+    for (int i = 0; i < WARMUP_OPERATIONS; i++) {
+      sink = supplier.get();
+    }
+    final long overhead = counterOverhead();
+    long allocated = Long.MAX_VALUE;
+    for (int round = 0; round < ROUNDS; round++) {
+      final long before = ThreadResources.allocatedBytes();
+      for (int i = 0; i < MEASURED_OPERATIONS; i++) {
+        sink = supplier.get();
+      }
+      final long after = ThreadResources.allocatedBytes();
+      allocated = Math.min(allocated, after - before - overhead);
+    }
+    return (double) Math.max(0, allocated) / MEASURED_OPERATIONS;
+  }
+
+  private static long counterOverhead() {
+    long overhead = Long.MAX_VALUE;
+    for (int i = 0; i < CALIBRATION_READS; i++) {
+      final long before = ThreadResources.allocatedBytes();
+      final long after = ThreadResources.allocatedBytes();
+      overhead = Math.min(overhead, after - before);
+    }
+    return Math.max(0, overhead);
+  }
+}
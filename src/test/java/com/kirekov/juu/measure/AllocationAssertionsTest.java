@@ -0,0 +1,49 @@
+package com.kirekov.juu.measure;
+
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.kirekov.juu.lambda.Action;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class AllocationAssertionsTest {
+
+  @Test
+  void passesIfNothingIsAllocated() {
+    final String value = "value";
+    assertAllocatesAtMost(0, value::length);
+    assertAllocatesAtMost(0, () -> value);
+  }
+
+  @Test
+  void failsIfAllocatedMore() {
+    assertThrows(AssertionError.class, () -> assertAllocatesAtMost(64, () -> new long[64]));
+  }
+
+  @Test
+  void measuresArraySize() {
+    assumeTrue(ThreadResources.allocatedBytes() != ResourceUsage.UNSUPPORTED);
+    final double allocated = AllocationAssertions.allocatedBytesPerOperation(() -> new long[64]);
+    assertTrue(allocated >= 64 * Long.BYTES, String.valueOf(allocated));
+    assertTrue(allocated <= 64 * Long.BYTES + 32, String.valueOf(allocated));
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> assertAllocatesAtMost(-1, () -> 1)
+    );
+    assertThrows(
+        NullPointerException.class,
+        () -> assertAllocatesAtMost(0, (Supplier<?>) null)
+    );
+    assertThrows(
+        NullPointerException.class,
+        () -> assertAllocatesAtMost(0, (Action) null)
+    );
+  }
+}
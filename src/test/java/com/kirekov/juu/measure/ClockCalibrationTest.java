@@ -0,0 +1,36 @@
+package com.kirekov.juu.measure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ClockCalibrationTest {
+
+  @Test
+  void calibratesOnce() {
+    final ClockCalibration calibration = ClockCalibration.get();
+
+    assertSame(calibration, ClockCalibration.get());
+    assertTrue(calibration.getOverheadNanos() >= 0, calibration.toString());
+    assertTrue(calibration.getGranularityNanos() > 0, calibration.toString());
+    assertTrue(calibration.getGranularityNanos() < TimeUnit.MILLISECONDS.toNanos(50),
+        calibration.toString());
+    assertTrue(calibration.isBelowResolution(0));
+    assertFalse(calibration.isBelowResolution(TimeUnit.SECONDS.toNanos(1)));
+  }
+
+  @Test
+  void correctsAndFlagsShortDurations() {
+    final ClockCalibration calibration = new ClockCalibration(25, 40);
+
+    assertEquals(400, calibration.getResolutionNanos());
+    assertTrue(calibration.isBelowResolution(399));
+    assertFalse(calibration.isBelowResolution(400));
+    assertEquals(75, calibration.correct(100));
+    assertEquals(0, calibration.correct(10));
+  }
+}
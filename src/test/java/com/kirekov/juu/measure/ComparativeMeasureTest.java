@@ -0,0 +1,80 @@
+package com.kirekov.juu.measure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.kirekov.juu.lambda.Action;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class ComparativeMeasureTest {
+
+  @Test
+  void throwsIfArgumentsAreInvalid() {
+    assertThrows(NullPointerException.class, () -> Measure.compare(null, () -> 1));
+    assertThrows(NullPointerException.class, () -> Measure.compare(() -> 1, null));
+    assertThrows(NullPointerException.class, () -> Measure.compare((Action) null, () -> {
+    }));
+    final ComparativeMeasure measure = Measure.compare(() -> 1, () -> 2);
+    assertThrows(IllegalArgumentException.class, () -> measure.warmupIterations(-1));
+    assertThrows(IllegalArgumentException.class, () -> measure.measurementIterations(0));
+    assertThrows(IllegalArgumentException.class, () -> measure.operationsPerInvocation(0));
+    assertThrows(IllegalArgumentException.class, () -> measure.confidenceLevel(0));
+  }
+
+  @Test
+  void interleavesIterations() {
+    final List<String> calls = new ArrayList<>();
+    final ComparisonResult result = Measure.compare(() -> calls.add("a"), () -> calls.add("b"))
+        .warmupIterations(1)
+        .measurementIterations(3)
+        .operationsPerInvocation(2)
+        .confidenceLevel(0.9)
+        .run();
+
+    assertEquals(
+        "[a, a, b, b, a, a, b, b, b, b, a, a, a, a, b, b]",
+        calls.toString());
+    assertEquals(3, result.getBaseline().getSampleCount());
+    assertEquals(3, result.getCandidate().getSampleCount());
+    assertEquals(0.9, result.getConfidenceLevel());
+  }
+
+  @Test
+  void detectsFasterCandidate() {
+    final ComparisonResult result = Measure.compare(() -> sleep(6), () -> sleep(2))
+        .warmupIterations(0)
+        .measurementIterations(12)
+        .run();
+
+    assertTrue(result.getSpeedup() > 1.5, result.toString());
+    assertTrue(result.isCandidateFaster(), result.toString());
+  }
+
+  @Test
+  void comparesAllocations() {
+    final Supplier<Object> allocating = () -> new long[128];
+    final ComparisonResult result = Measure.compare(() -> 1, allocating)
+        .warmupIterations(2)
+        .measurementIterations(6)
+        .operationsPerInvocation(100)
+        .run();
+
+    assumeTrue(!Double.isNaN(result.getCandidateAllocatedBytes()));
+    assertTrue(result.getCandidateAllocatedBytes() >= 128 * Long.BYTES, result.toString());
+    assertTrue(result.getBaselineAllocatedBytes() < 128, result.toString());
+  }
+
+  private static void sleep(long millis) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.kirekov.juu.measure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ComparisonResultTest {
+
+  private static final double[] SLOW = {20, 21, 22, 23, 24, 25, 26, 27};
+  private static final double[] FAST = {10, 11, 12, 13, 14, 15, 16, 17};
+
+  @Test
+  void throwsIfArgumentsAreInvalid() {
+    final ExecutionStatistics nanos = ExecutionStatistics.of(SLOW, MeasureUnit.NANOS);
+    final ExecutionStatistics millis = ExecutionStatistics.of(FAST, MeasureUnit.MILLIS);
+
+    assertThrows(NullPointerException.class, () -> ComparisonResult.of(null, nanos, 0, 0, 0.9));
+    assertThrows(NullPointerException.class, () -> ComparisonResult.of(nanos, null, 0, 0, 0.9));
+    assertThrows(IllegalArgumentException.class,
+        () -> ComparisonResult.of(nanos, nanos, 0, 0, 1));
+    assertThrows(IllegalArgumentException.class,
+        () -> ComparisonResult.of(nanos, millis, 0, 0, 0.9));
+  }
+
+  @Test
+  void throwsIfTimeIsNotPositive() {
+    final ExecutionStatistics slow = ExecutionStatistics.of(SLOW, MeasureUnit.NANOS);
+    final ExecutionStatistics zero = ExecutionStatistics.of(
+        new double[]{0, 0, 1, 2}, MeasureUnit.NANOS);
+
+    final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> ComparisonResult.of(slow, zero, 0, 0, 0.9));
+    assertTrue(exception.getMessage().contains("operationsPerInvocation"));
+    assertThrows(IllegalArgumentException.class,
+        () -> ComparisonResult.of(zero, slow, 0, 0, 0.9));
+  }
+
+  @Test
+  void detectsFasterCandidate() {
+    final ComparisonResult result = ComparisonResult.of(
+        ExecutionStatistics.of(SLOW, MeasureUnit.NANOS),
+        ExecutionStatistics.of(FAST, MeasureUnit.NANOS),
+        16, 0, 0.99);
+
+    assertEquals(23.5 / 13.5, result.getSpeedup(), 1e-9);
+    assertTrue(result.getSpeedupConfidenceInterval().getKey() > 1);
+    assertTrue(result.getSpeedupConfidenceInterval().getKey() <= result.getSpeedup());
+    assertTrue(result.getSpeedupConfidenceInterval().getValue() >= result.getSpeedup());
+    assertTrue(result.isSignificant());
+    assertTrue(result.isCandidateFaster());
+    assertFalse(result.isCandidateSlower());
+    assertEquals(16, result.getBaselineAllocatedBytes());
+    assertEquals(0, result.getCandidateAllocatedBytes());
+  }
+
+  @Test
+  void detectsSlowerCandidate() {
+    final ComparisonResult result = ComparisonResult.of(
+        ExecutionStatistics.of(FAST, MeasureUnit.NANOS),
+        ExecutionStatistics.of(SLOW, MeasureUnit.NANOS),
+        Double.NaN, Double.NaN, 0.99);
+
+    assertTrue(result.getSpeedup() < 1);
+    assertTrue(result.isCandidateSlower());
+    assertFalse(result.isCandidateFaster());
+  }
+
+  @Test
+  void doesNotReportNoise() {
+    final ComparisonResult result = ComparisonResult.of(
+        ExecutionStatistics.of(new double[]{10, 12, 14, 16, 18, 20}, MeasureUnit.NANOS),
+        ExecutionStatistics.of(new double[]{11, 13, 15, 17, 19, 21}, MeasureUnit.NANOS),
+        0, 0, 0.99);
+
+    assertFalse(result.isSignificant());
+    assertFalse(result.isCandidateFaster());
+    assertFalse(result.isCandidateSlower());
+    assertTrue(result.getSpeedupConfidenceInterval().getKey() < 1);
+    assertTrue(result.getSpeedupConfidenceInterval().getValue() > 1);
+  }
+
+  @Test
+  void computesMannWhitneyPValue() {
+    final double[] low = {1, 2, 3, 4, 5};
+    final double[] high = {6, 7, 8, 9, 10};
+    assertEquals(0.0122, ComparisonResult.mannWhitneyPValue(low, high), 1e-4);
+    assertEquals(0.0122, ComparisonResult.mannWhitneyPValue(high, low), 1e-4);
+    assertEquals(1, ComparisonResult.mannWhitneyPValue(new double[]{5, 5}, new double[]{5, 5}));
+    assertEquals(1, ComparisonResult.mannWhitneyPValue(low, low), 1e-6);
+  }
+
+  @Test
+  void approximatesNormalCdf() {
+    assertEquals(0.5, ComparisonResult.normalCdf(0), 1e-7);
+    assertEquals(0.975, ComparisonResult.normalCdf(1.959964), 1e-6);
+    assertEquals(0.025, ComparisonResult.normalCdf(-1.959964), 1e-6);
+  }
+
+  @Test
+  void isEqualToTheSameComparison() {
+    final ComparisonResult result = ComparisonResult.of(
+        ExecutionStatistics.of(SLOW, MeasureUnit.NANOS),
+        ExecutionStatistics.of(FAST, MeasureUnit.NANOS),
+        1, 2, 0.95);
+    final ComparisonResult same = ComparisonResult.of(
+        ExecutionStatistics.of(SLOW, MeasureUnit.NANOS),
+        ExecutionStatistics.of(FAST, MeasureUnit.NANOS),
+        1, 2, 0.95);
+
+    assertEquals(result, same);
+    assertEquals(result.hashCode(), same.hashCode());
+    assertEquals(result.getSpeedupConfidenceInterval(), same.getSpeedupConfidenceInterval());
+    assertNotEquals(result, ComparisonResult.of(
+        ExecutionStatistics.of(SLOW, MeasureUnit.NANOS),
+        ExecutionStatistics.of(FAST, MeasureUnit.NANOS),
+        1, 2, 0.99));
+    assertTrue(result.toString().contains("speedup="));
+  }
+}
@@ -0,0 +1,99 @@
+package com.kirekov.juu.measure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kirekov.juu.collection.immutable.Pair;
+import org.junit.jupiter.api.Test;
+
+class ExecutionStatisticsTest {
+
+  private static final double DELTA = 1e-9;
+
+  @Test
+  void throwsIfArgumentsAreInvalid() {
+    assertThrows(NullPointerException.class,
+        () -> ExecutionStatistics.of(null, MeasureUnit.NANOS));
+    assertThrows(NullPointerException.class,
+        () -> ExecutionStatistics.of(new double[]{1}, null));
+    assertThrows(IllegalArgumentException.class,
+        () -> ExecutionStatistics.of(new double[0], MeasureUnit.NANOS));
+  }
+
+  @Test
+  void calculatesDescriptiveStatistics() {
+    final ExecutionStatistics statistics =
+        ExecutionStatistics.of(new double[]{4, 2, 5, 1, 3}, MeasureUnit.NANOS);
+
+    assertEquals(5, statistics.getSampleCount());
+    assertEquals(1, statistics.getMin(), DELTA);
+    assertEquals(5, statistics.getMax(), DELTA);
+    assertEquals(3, statistics.getMean(), DELTA);
+    assertEquals(Math.sqrt(2.5), statistics.getStandardDeviation(), DELTA);
+    assertEquals(MeasureUnit.NANOS, statistics.getMeasureUnit());
+  }
+
+  @Test
+  void calculatesPercentiles() {
+    final double[] samples = new double[101];
+    for (int i = 0; i < samples.length; i++) {
+      samples[i] = 100 - i;
+    }
+    final ExecutionStatistics statistics = ExecutionStatistics.of(samples, MeasureUnit.NANOS);
+
+    assertEquals(0, statistics.getPercentile(0), DELTA);
+    assertEquals(50, statistics.getP50(), DELTA);
+    assertEquals(90, statistics.getP90(), DELTA);
+    assertEquals(99, statistics.getP99(), DELTA);
+    assertEquals(99.9, statistics.getP999(), DELTA);
+    assertEquals(100, statistics.getPercentile(100), DELTA);
+    assertThrows(IllegalArgumentException.class, () -> statistics.getPercentile(101));
+  }
+
+  @Test
+  void calculatesConfidenceInterval() {
+    final ExecutionStatistics statistics =
+        ExecutionStatistics.of(new double[]{10, 12, 14, 16, 18, 20}, MeasureUnit.NANOS);
+    final Pair<Double, Double> interval = statistics.getConfidenceInterval(0.95);
+
+    // t(0.975, 5) = 2.5706
+    final double expectedError = 2.5706 * statistics.getStandardDeviation() / Math.sqrt(6);
+    assertEquals(15 - expectedError, interval.getKey(), 1e-2);
+    assertEquals(15 + expectedError, interval.getValue(), 1e-2);
+    assertThrows(IllegalArgumentException.class, () -> statistics.getConfidenceInterval(1));
+  }
+
+  @Test
+  void approximatesQuantiles() {
+    assertEquals(1.959964, ExecutionStatistics.normalQuantile(0.975), 1e-6);
+    assertEquals(-2.326348, ExecutionStatistics.normalQuantile(0.01), 1e-6);
+    assertEquals(2.228, ExecutionStatistics.studentQuantile(0.975, 10), 1e-3);
+    assertEquals(2.042, ExecutionStatistics.studentQuantile(0.975, 30), 1e-3);
+  }
+
+  @Test
+  void calculatesStudentQuantilesForFewDegreesOfFreedom() {
+    assertEquals(12.7062, ExecutionStatistics.studentQuantile(0.975, 1), 1e-4);
+    assertEquals(4.3027, ExecutionStatistics.studentQuantile(0.975, 2), 1e-4);
+    assertEquals(3.1824, ExecutionStatistics.studentQuantile(0.975, 3), 1e-4);
+    assertEquals(2.5706, ExecutionStatistics.studentQuantile(0.975, 5), 1e-4);
+    assertEquals(63.6567, ExecutionStatistics.studentQuantile(0.995, 1), 1e-4);
+    assertEquals(9.9248, ExecutionStatistics.studentQuantile(0.995, 2), 1e-4);
+    assertEquals(4.0321, ExecutionStatistics.studentQuantile(0.995, 5), 1e-4);
+    assertEquals(-2.5706, ExecutionStatistics.studentQuantile(0.025, 5), 1e-4);
+    assertEquals(0, ExecutionStatistics.studentQuantile(0.5, 4), 1e-12);
+    assertEquals(2.6259, ExecutionStatistics.studentQuantile(0.995, 100), 1e-4);
+    assertEquals(0.025, ExecutionStatistics.studentUpperTail(2.5706, 5), 1e-5);
+  }
+
+  @Test
+  void singleSampleHasNoDispersion() {
+    final ExecutionStatistics statistics =
+        ExecutionStatistics.of(new double[]{7}, MeasureUnit.NANOS);
+
+    assertEquals(0, statistics.getStandardDeviation(), DELTA);
+    assertEquals(7, statistics.getP999(), DELTA);
+    assertTrue(Double.isNaN(statistics.getMeanError(0.99)));
+  }
+}
@@ -0,0 +1,153 @@
+package com.kirekov.juu.measure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  private static final long HOUR_IN_NANOS = 3_600_000_000_000L;
+
+  @Test
+  void throwsIfSettingsAreInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(1, 2));
+    assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(1000, 0));
+    assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(1000, 6));
+    assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(1000, 2, 0));
+  }
+
+  @Test
+  void throwsIfValueIsNegative() {
+    final LatencyHistogram histogram = new LatencyHistogram(1000, 2);
+    assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+  }
+
+  @Test
+  void emptySnapshotReturnsZeros() {
+    final HistogramSnapshot snapshot = new LatencyHistogram(1000, 2).snapshot();
+
+    assertTrue(snapshot.isEmpty());
+    assertEquals(0, snapshot.getMin());
+    assertEquals(0, snapshot.getMax());
+    assertEquals(0, snapshot.getValueAtPercentile(99));
+  }
+
+  @Test
+  void smallValuesAreRecordedPrecisely() {
+    final LatencyHistogram histogram = new LatencyHistogram(HOUR_IN_NANOS, 3);
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i);
+    }
+    final HistogramSnapshot snapshot = histogram.snapshot();
+
+    assertEquals(1000, snapshot.getTotalCount());
+    assertEquals(1, snapshot.getMin());
+    assertEquals(1000, snapshot.getMax());
+    assertEquals(500, snapshot.getValueAtPercentile(50));
+    assertEquals(990, snapshot.getValueAtPercentile(99));
+    assertEquals(999, snapshot.getValueAtPercentile(99.9));
+    assertEquals(500.5, snapshot.getMean(), 1e-9);
+  }
+
+  @Test
+  void largeValuesKeepRelativePrecision() {
+    final LatencyHistogram histogram = new LatencyHistogram(HOUR_IN_NANOS, 2);
+    final long[] values = {12_345, 1_234_567, 98_765_432_109L};
+    for (final long value : values) {
+      histogram.record(value);
+    }
+    final HistogramSnapshot snapshot = histogram.snapshot();
+
+    assertEquals(values[0], snapshot.getMin(), values[0] / 100.0);
+    assertEquals(values[1], snapshot.getValueAtPercentile(50), values[1] / 100.0);
+    assertEquals(values[2], snapshot.getMax(), values[2] / 100.0);
+    assertEquals(1, snapshot.getCountAtValue(values[1]));
+  }
+
+  @Test
+  void valuesAboveHighestAreClamped() {
+    final LatencyHistogram histogram = new LatencyHistogram(1000, 2);
+    histogram.record(1_000_000);
+
+    assertEquals(1000, histogram.snapshot().getMax(), 1000 / 100.0);
+  }
+
+  @Test
+  void recordsConcurrently() throws InterruptedException {
+    final LatencyHistogram histogram = new LatencyHistogram(HOUR_IN_NANOS, 2, 4);
+    final List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      final Thread thread = new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          histogram.record(i);
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(80_000, histogram.snapshot().getTotalCount());
+  }
+
+  @Test
+  void snapshotsAreMergeable() {
+    final LatencyHistogram first = new LatencyHistogram(1000, 2);
+    final LatencyHistogram second = new LatencyHistogram(1000, 2);
+    first.record(10);
+    second.record(20);
+    second.record(30);
+    final HistogramSnapshot merged = first.snapshot().merge(second.snapshot());
+
+    assertEquals(3, merged.getTotalCount());
+    assertEquals(10, merged.getMin());
+    assertEquals(30, merged.getMax());
+    assertThrows(IllegalArgumentException.class,
+        () -> merged.merge(new LatencyHistogram(1000, 3).snapshot()));
+  }
+
+  @Test
+  void intervalSnapshotContainsOnlyNewValues() {
+    final LatencyHistogram histogram = new LatencyHistogram(1000, 2);
+    histogram.record(10);
+    histogram.record(20);
+    assertEquals(2, histogram.intervalSnapshot().getTotalCount());
+
+    histogram.record(30);
+    final HistogramSnapshot interval = histogram.intervalSnapshot();
+    assertEquals(1, interval.getTotalCount());
+    assertEquals(30, interval.getMin());
+    assertEquals(3, histogram.snapshot().getTotalCount());
+  }
+
+  @Test
+  void measureAndProfilerRecordIntoHistogram() {
+    final LatencyHistogram histogram = new LatencyHistogram(HOUR_IN_NANOS, 2);
+    final int result = Measure.executionTime(() -> 42).recordInto(histogram);
+    final Profiler profiler = Profiler.startMeasuringInNanos();
+    final long time = profiler.stopMeasuring(histogram);
+
+    assertEquals(42, result);
+    assertEquals(time, profiler.stopMeasuring(histogram));
+    assertEquals(2, histogram.snapshot().getTotalCount());
+  }
+
+  @Test
+  void profilerRecordsNanosRegardlessOfMeasureUnit() throws InterruptedException {
+    final LatencyHistogram histogram = new LatencyHistogram(HOUR_IN_NANOS, 2);
+    final Profiler profiler = Profiler.startMeasuringInMillis();
+    Thread.sleep(5);
+
+    final long millis = profiler.stopMeasuring(histogram);
+
+    assertTrue(millis >= 5);
+    assertTrue(histogram.snapshot().getMin() >= 4_000_000);
+    assertEquals(1, histogram.snapshot().getTotalCount());
+  }
+}
@@ -59,4 +59,17 @@ class MeasureConverterTest {
     assertEquals(nanos, convertedNanos);
   }
 
-}
\ No newline at end of file
+  @Test
+  void nanosToMicrosAndBack() {
+    assertEquals(123, MeasureConverter.nanosToMicros(123_999));
+    assertEquals(123_000, MeasureConverter.microsToNanos(123));
+  }
+
+  @Test
+  void measureUnitConvertsNanos() {
+    assertEquals(1, MeasureUnit.MICROS.fromNanos(1999));
+    assertEquals(1.999, MeasureUnit.MICROS.fromNanosFractional(1999), 1e-12);
+    assertEquals(2_000_000_000L, MeasureUnit.SECONDS.toNanos(2));
+    assertEquals(0, MeasureUnit.MILLIS.fromNanos(999_999));
+  }
+}
@@ -4,6 +4,7 @@ import static com.kirekov.juu.measure.MeasureConverter.nanosToMillis;
 import static com.kirekov.juu.measure.MeasureConverter.secondsToMillis;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -132,4 +133,41 @@ class MeasureTest {
         }).inSeconds();
     assertEquals(MeasureUnit.SECONDS, executionResult.getMeasureUnit());
   }
-}
\ No newline at end of file
+
+  @Test
+  void inMicrosKeepsFractionalTime() {
+    final ExecutionResult<Void> result = Measure.executionTime(() -> sleep(3)).inMicros();
+
+    assertEquals(MeasureUnit.MICROS, result.getMeasureUnit());
+    assertTrue(result.getTime() >= 3000);
+    assertEquals(result.getTime(), (long) result.getFractionalTime());
+    assertEquals(result.getDuration().toNanos() / 1000, result.getTime());
+    assertFalse(result.isBelowResolution());
+  }
+
+  @Test
+  void inSecondsDoesNotTruncateDuration() {
+    final ExecutionResult<Void> result = Measure.executionTime(() -> sleep(5)).inSeconds();
+
+    assertEquals(0, result.getTime());
+    assertTrue(result.getFractionalTime() >= 0.005);
+    assertTrue(result.getDuration().toMillis() >= 5);
+  }
+
+  @Test
+  void publicConstructorDerivesDuration() {
+    final ExecutionResult<Integer> result = new ExecutionResult<>(1, 3, MeasureUnit.MILLIS);
+
+    assertEquals(java.time.Duration.ofMillis(3), result.getDuration());
+    assertEquals(3.0, result.getFractionalTime());
+    assertEquals(result, new ExecutionResult<>(1, 3, MeasureUnit.MILLIS));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -65,4 +65,16 @@ class ProfilerTest {
     assertTrue(secondsToMillis(res) >= 1000);
   }
 
-}
\ No newline at end of file
+  @Test
+  void measuresInMicrosWithDuration() {
+    Profiler profiler = Profiler.startMeasuringInMicros();
+    await().pollDelay(Duration.ONE_HUNDRED_MILLISECONDS).until(() -> true);
+    java.time.Duration duration = profiler.stopMeasuringAsDuration();
+    long micros = profiler.stopMeasuring();
+
+    assertEquals(MeasureUnit.MICROS, profiler.getMeasureUnit());
+    assertTrue(micros >= 100_000);
+    assertEquals(duration.toNanos() / 1000, micros);
+    assertEquals(duration, profiler.stopMeasuringAsDuration());
+  }
+}
@@ -0,0 +1,76 @@
+package com.kirekov.juu.measure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kirekov.juu.lambda.Action;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class RepeatedMeasureTest {
+
+  @Test
+  void throwsNullPointerIfArgumentIsNull() {
+    assertThrows(NullPointerException.class, () -> Measure.repeat((Supplier<Integer>) null));
+    assertThrows(NullPointerException.class, () -> Measure.repeat((Action) null));
+  }
+
+  @Test
+  void throwsIfSettingsAreInvalid() {
+    final RepeatedMeasure<Integer> measure = Measure.repeat(() -> 1);
+
+    assertThrows(IllegalArgumentException.class, () -> measure.warmupIterations(-1));
+    assertThrows(IllegalArgumentException.class, () -> measure.measurementIterations(0));
+    assertThrows(IllegalArgumentException.class, () -> measure.operationsPerInvocation(0));
+    assertThrows(IllegalArgumentException.class, () -> measure.timeBudget(0, TimeUnit.SECONDS));
+    assertThrows(NullPointerException.class, () -> measure.timeBudget(1, null));
+  }
+
+  @Test
+  void executesWarmupAndMeasurementIterations() {
+    final AtomicInteger counter = new AtomicInteger();
+    final ExecutionStatistics statistics = Measure.repeat(counter::incrementAndGet)
+        .warmupIterations(3)
+        .measurementIterations(7)
+        .operationsPerInvocation(11)
+        .run();
+
+    assertEquals((3 + 7) * 11, counter.get());
+    assertEquals(7, statistics.getSampleCount());
+    assertEquals(MeasureUnit.NANOS, statistics.getMeasureUnit());
+  }
+
+  @Test
+  void measuresTimePerOperation() {
+    final ExecutionStatistics statistics = Measure.repeat(() -> sleep(10))
+        .warmupIterations(0)
+        .measurementIterations(3)
+        .operationsPerInvocation(2)
+        .run();
+
+    assertTrue(statistics.getMin() >= TimeUnit.MILLISECONDS.toNanos(10));
+    assertTrue(statistics.getMax() < TimeUnit.MILLISECONDS.toNanos(20 * 10));
+  }
+
+  @Test
+  void stopsWhenTimeBudgetIsExhausted() {
+    final ExecutionStatistics statistics = Measure.repeat(() -> sleep(20))
+        .warmupIterations(100)
+        .measurementIterations(100)
+        .timeBudget(50, TimeUnit.MILLISECONDS)
+        .run();
+
+    assertEquals(1, statistics.getSampleCount());
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
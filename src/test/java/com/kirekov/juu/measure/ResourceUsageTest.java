@@ -0,0 +1,70 @@
+package com.kirekov.juu.measure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ResourceUsageTest {
+
+  @Test
+  void calculatesDelta() {
+    final ResourceUsage before = new ResourceUsage(100, 50, 1000);
+    final ResourceUsage after = new ResourceUsage(250, 80, 5000);
+
+    assertEquals(new ResourceUsage(150, 30, 4000), after.since(before));
+  }
+
+  @Test
+  void unsupportedCountersStayUnsupported() {
+    final ResourceUsage before = new ResourceUsage(ResourceUsage.UNSUPPORTED, 50, 1000);
+    final ResourceUsage after = new ResourceUsage(
+        ResourceUsage.UNSUPPORTED, 80, ResourceUsage.UNSUPPORTED);
+    final ResourceUsage delta = after.since(before);
+
+    assertFalse(delta.isCpuTimeSupported());
+    assertFalse(delta.isAllocatedBytesSupported());
+    assertEquals(30, delta.getUserTimeNanos());
+  }
+
+  @Test
+  void measureCapturesAllocatedBytes() {
+    final ExecutionResult<long[]> result =
+        Measure.executionTime(() -> new long[1024]).inNanosWithResourceUsage();
+    final ResourceUsage usage = result.getResourceUsage().get();
+
+    assertEquals(MeasureUnit.NANOS, result.getMeasureUnit());
+    if (usage.isAllocatedBytesSupported()) {
+      assertTrue(usage.getAllocatedBytes() >= 1024 * Long.BYTES);
+    }
+    if (usage.isCpuTimeSupported()) {
+      assertTrue(usage.getCpuTimeNanos() >= 0);
+    }
+  }
+
+  @Test
+  void profilerCapturesResourceUsageAfterStop() {
+    final Profiler profiler = Profiler.startMeasuringWithResourceUsage();
+    assertFalse(profiler.getResourceUsage().isPresent());
+
+    final long[] array = new long[1024];
+    profiler.stopMeasuring();
+
+    assertEquals(1024, array.length);
+    assertTrue(profiler.getResourceUsage().isPresent());
+    assertEquals(MeasureUnit.NANOS, profiler.getMeasureUnit());
+    assertFalse(Profiler.startMeasuringInNanos().getResourceUsage().isPresent());
+  }
+
+  @Test
+  void executionResultsWithDifferentUsageAreNotEqual() {
+    final ExecutionResult<Integer> plain = new ExecutionResult<>(1, 10, MeasureUnit.NANOS);
+    final ExecutionResult<Integer> withUsage = new ExecutionResult<>(
+        1, 10, MeasureUnit.NANOS, new ResourceUsage(1, 1, 1));
+
+    assertNotEquals(plain, withUsage);
+    assertFalse(plain.getResourceUsage().isPresent());
+  }
+}
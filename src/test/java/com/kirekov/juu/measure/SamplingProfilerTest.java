@@ -0,0 +1,150 @@
+package com.kirekov.juu.measure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SamplingProfilerTest {
+
+  private static final String WORKER_NAME = "sampled-worker";
+
+  @Test
+  void throwsIfArgumentsAreInvalid() {
+    final SamplingProfiler profiler = new SamplingProfiler();
+    assertThrows(IllegalArgumentException.class, () -> profiler.interval(0, TimeUnit.SECONDS));
+    assertThrows(NullPointerException.class, () -> profiler.interval(1, null));
+    assertThrows(NullPointerException.class, () -> profiler.threadFilter(null));
+    assertThrows(IllegalArgumentException.class, () -> profiler.maxDepth(0));
+    assertThrows(IllegalArgumentException.class, () -> profiler.maxNodes(-1));
+  }
+
+  @Test
+  void cannotBeConfiguredWhileRunning() {
+    try (SamplingProfiler profiler = new SamplingProfiler().start()) {
+      assertTrue(profiler.isRunning());
+      assertThrows(IllegalStateException.class, () -> profiler.maxDepth(10));
+      profiler.stop();
+      assertFalse(profiler.isRunning());
+      profiler.maxDepth(10);
+    }
+  }
+
+  @Test
+  void samplesSelectedThreads() throws Exception {
+    final CountDownLatch stop = new CountDownLatch(1);
+    final Thread worker = new Thread(() -> parkInKnownMethod(stop), WORKER_NAME);
+    worker.start();
+    final SamplingProfiler profiler = new SamplingProfiler()
+        .interval(1, TimeUnit.MILLISECONDS)
+        .threadFilter(thread -> WORKER_NAME.equals(thread.getName()));
+    try {
+      profiler.start();
+      awaitSamples(profiler, 5);
+      profiler.stop();
+    } finally {
+      stop.countDown();
+      worker.join();
+    }
+    final String collapsed = collapsed(profiler);
+
+    assertTrue(collapsed.contains(SamplingProfilerTest.class.getName() + ".lambda$"));
+    assertTrue(collapsed.contains(".parkInKnownMethod;"));
+    long total = 0;
+    for (final String line : collapsed.split("\n")) {
+      total += Long.parseLong(line.substring(line.lastIndexOf(' ') + 1));
+    }
+    assertEquals(profiler.getSampleCount(), total);
+    assertTrue(profiler.getSamplingTimeNanos() > 0);
+  }
+
+  @Test
+  void boundsTrieAndResets() throws Exception {
+    final CountDownLatch stop = new CountDownLatch(1);
+    final Thread worker = new Thread(() -> parkInKnownMethod(stop), WORKER_NAME);
+    worker.start();
+    final SamplingProfiler profiler = new SamplingProfiler()
+        .interval(1, TimeUnit.MILLISECONDS)
+        .maxDepth(2)
+        .threadFilter(thread -> thread == worker);
+    try {
+      profiler.start();
+      awaitSamples(profiler, 3);
+      profiler.stop();
+    } finally {
+      stop.countDown();
+      worker.join();
+    }
+
+    for (final String line : collapsed(profiler).split("\n")) {
+      assertEquals(1, line.chars().filter(c -> c == ';').count(), line);
+    }
+    assertEquals(profiler.getSampleCount(), profiler.getTruncatedSampleCount());
+
+    profiler.reset();
+    assertEquals(0, profiler.getSampleCount());
+    assertEquals("", collapsed(profiler));
+  }
+
+  @Test
+  void keepsInnermostFramesOfDeepStacks() throws IOException {
+    final SamplingProfiler profiler = new SamplingProfiler().maxDepth(2);
+
+    profiler.record(stack("Inner.run", "Middle.run", "Outer.run"));
+    profiler.record(stack("Inner.run"));
+
+    assertEquals("Inner.run 1\nMiddle.run;Inner.run 1\n", collapsed(profiler));
+    assertEquals(1, profiler.getTruncatedSampleCount());
+  }
+
+  @Test
+  void attributesSamplesToTruncatedFrameWhenTrieIsFull() throws IOException {
+    final SamplingProfiler profiler = new SamplingProfiler().maxNodes(1);
+
+    profiler.record(stack("First.inner", "First.outer"));
+    profiler.record(stack("Second.inner", "Second.outer"));
+    profiler.record(stack("Third.outer"));
+
+    assertEquals("First.outer 1\n[truncated] 2\n", collapsed(profiler));
+    assertEquals(3, profiler.getSampleCount());
+    assertEquals(3, profiler.getTruncatedSampleCount());
+  }
+
+  private static StackTraceElement[] stack(String... frames) {
+    final StackTraceElement[] stack = new StackTraceElement[frames.length];
+    for (int i = 0; i < frames.length; i++) {
+      final int dot = frames[i].lastIndexOf('.');
+      stack[i] = new StackTraceElement(
+          frames[i].substring(0, dot), frames[i].substring(dot + 1), null, -1);
+    }
+    return stack;
+  }
+
+  private static void parkInKnownMethod(CountDownLatch stop) {
+    try {
+      stop.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void awaitSamples(SamplingProfiler profiler, long samples)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (profiler.getSampleCount() < samples && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertTrue(profiler.getSampleCount() >= samples);
+  }
+
+  private static String collapsed(SamplingProfiler profiler) throws IOException {
+    final StringBuilder builder = new StringBuilder();
+    profiler.writeCollapsed(builder);
+    return builder.toString();
+  }
+}
@@ -0,0 +1,158 @@
+package com.kirekov.juu.measure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ScopedProfilerTest {
+
+  @Test
+  void throwsIfNameIsNull() {
+    final ScopedProfiler profiler = new ScopedProfiler();
+    assertThrows(NullPointerException.class, () -> profiler.scope(null));
+  }
+
+  @Test
+  void buildsCallTree() {
+    final ScopedProfiler profiler = new ScopedProfiler();
+    for (int i = 0; i < 3; i++) {
+      try (ProfilerScope request = profiler.scope("request")) {
+        try (ProfilerScope db = profiler.scope("db")) {
+          sleep(5);
+          db.lap("queried");
+        }
+        request.lap("loaded");
+        try (ProfilerScope render = profiler.scope("render")) {
+          sleep(1);
+          assertEquals("render", render.getName());
+        }
+      }
+    }
+    final CallTree tree = profiler.snapshot();
+
+    final CallTreeNode request = tree.find("request").get();
+    final CallTreeNode db = tree.find("request", "db").get();
+    final CallTreeNode render = tree.find("request", "render").get();
+    assertEquals(3, request.getCount());
+    assertEquals(3, db.getCount());
+    assertEquals("request/db", db.getPath());
+    assertEquals(2, request.getChildren().size());
+    assertTrue(db.getTotalNanos() >= TimeUnit.MILLISECONDS.toNanos(15));
+    assertTrue(db.getMaxNanos() >= TimeUnit.MILLISECONDS.toNanos(5));
+    assertEquals(
+        request.getTotalNanos() - db.getTotalNanos() - render.getTotalNanos(),
+        request.getSelfNanos()
+    );
+    assertEquals(3, request.getLaps().get(0).getCount());
+    assertFalse(tree.find("request", "absent").isPresent());
+  }
+
+  @Test
+  void mergesTreesOfAllThreads() throws InterruptedException {
+    final ScopedProfiler profiler = new ScopedProfiler();
+    final List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      final Thread thread = new Thread(() -> {
+        for (int i = 0; i < 10; i++) {
+          try (ProfilerScope outer = profiler.scope("outer")) {
+            try (ProfilerScope inner = profiler.scope("inner")) {
+              assertEquals("outer/inner", outer.getName() + "/" + inner.getName());
+            }
+          }
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    final CallTree tree = profiler.snapshot();
+
+    assertEquals(40, tree.find("outer").get().getCount());
+    assertEquals(40, tree.find("outer", "inner").get().getCount());
+  }
+
+  @Test
+  void releasesStatesOfTerminatedThreads() throws InterruptedException {
+    final ScopedProfiler profiler = new ScopedProfiler();
+    for (int t = 0; t < 10; t++) {
+      final Thread thread = new Thread(() -> {
+        try (ProfilerScope scope = profiler.scope("task")) {
+          assertEquals("task", scope.getName());
+        }
+      });
+      thread.start();
+      thread.join();
+    }
+    try (ProfilerScope scope = profiler.scope("main")) {
+      assertEquals("main", scope.getName());
+    }
+
+    assertEquals(1, profiler.threadStates());
+    assertEquals(10, profiler.snapshot().find("task").get().getCount());
+    assertEquals(1, profiler.snapshot().find("main").get().getCount());
+    profiler.reset();
+    assertTrue(profiler.snapshot().getRoots().isEmpty());
+  }
+
+  @Test
+  void throwsIfScopesAreClosedOutOfOrder() {
+    final ScopedProfiler profiler = new ScopedProfiler();
+    final ProfilerScope outer = profiler.scope("outer");
+    final ProfilerScope inner = profiler.scope("inner");
+
+    assertThrows(IllegalStateException.class, outer::close);
+    inner.close();
+    outer.close();
+    assertEquals(1, profiler.snapshot().find("outer").get().getCount());
+  }
+
+  @Test
+  void resetClearsStatistics() {
+    final ScopedProfiler profiler = new ScopedProfiler();
+    try (ProfilerScope scope = profiler.scope("scope")) {
+      assertEquals("scope", scope.getName());
+    }
+    profiler.reset();
+
+    assertTrue(profiler.snapshot().getRoots().isEmpty());
+  }
+
+  @Test
+  void exportsTree() throws IOException {
+    final ScopedProfiler profiler = new ScopedProfiler();
+    try (ProfilerScope outer = profiler.scope("outer")) {
+      try (ProfilerScope inner = profiler.scope("inner, with comma")) {
+        outer.lap("mark");
+        assertEquals("inner, with comma", inner.getName());
+      }
+    }
+    final CallTree tree = profiler.snapshot();
+    final StringBuilder csv = new StringBuilder();
+    tree.writeCsv(csv);
+    final String[] lines = csv.toString().split("\n");
+
+    assertEquals("path,count,total_nanos,self_nanos,max_nanos", lines[0]);
+    assertTrue(lines[1].startsWith("outer,1,"));
+    assertTrue(lines[2].startsWith("outer@mark,1,"));
+    assertTrue(lines[3].startsWith("\"outer/inner, with comma\",1,"));
+    assertEquals(2, tree.flatten().size());
+    assertTrue(tree.toString().contains("  inner, with comma count=1"));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
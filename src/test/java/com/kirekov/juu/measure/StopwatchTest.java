@@ -0,0 +1,107 @@
+package com.kirekov.juu.measure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.kirekov.juu.collection.mutable.MutableLong;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class StopwatchTest {
+
+  private static final int ITERATIONS = 100_000;
+
+  @Test
+  void throwsIfClockIsNull() {
+    assertThrows(NullPointerException.class, () -> new Stopwatch(null));
+  }
+
+  @Test
+  void measuresWithGivenClock() {
+    final AtomicLong clock = new AtomicLong(100);
+    final Stopwatch stopwatch = new Stopwatch(clock::get);
+
+    clock.set(110);
+    assertEquals(10, stopwatch.lap());
+    clock.set(125);
+    assertEquals(15, stopwatch.lap());
+    assertEquals(25, stopwatch.elapsed());
+
+    final MutableLong holder = new MutableLong(0);
+    stopwatch.start();
+    clock.set(200);
+    assertEquals(75, stopwatch.elapsedInto(holder));
+    assertEquals(75, holder.getValue());
+  }
+
+  @Test
+  void recordsIntoHistogram() {
+    final AtomicLong clock = new AtomicLong();
+    final Stopwatch stopwatch = new Stopwatch(clock::get);
+    final LatencyHistogram histogram = new LatencyHistogram(1000, 2);
+    clock.set(42);
+
+    assertEquals(42, stopwatch.elapsedInto(histogram));
+    assertEquals(42, histogram.snapshot().getMax());
+  }
+
+  @Test
+  void returnsSameInstanceForCurrentThread() {
+    assertSame(Stopwatch.forCurrentThread(), Stopwatch.forCurrentThread());
+  }
+
+  @Test
+  void measureWritesTimeIntoHolder() {
+    final MutableLong time = new MutableLong(-1);
+    final int result = Measure.executionTimeInNanos(() -> 5, time);
+
+    assertEquals(5, result);
+    assertTrue(time.getValue() >= 0);
+    assertTrue(Measure.executionTimeInNanos(() -> {
+    }) >= 0);
+  }
+
+  @Test
+  void measuringDoesNotAllocate() {
+    final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    assumeTrue(bean instanceof com.sun.management.ThreadMXBean,
+        "Allocated bytes counter is not supported");
+    final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+    assumeTrue(threadBean.isThreadAllocatedMemorySupported()
+        && threadBean.isThreadAllocatedMemoryEnabled(), "Allocated bytes counter is disabled");
+
+    final Stopwatch stopwatch = Stopwatch.forCurrentThread();
+    final LatencyHistogram histogram = new LatencyHistogram(1_000_000_000L, 2, 1);
+    final MutableLong holder = new MutableLong(0);
+    final Supplier<Integer> supplier = () -> 1;
+    final long threadId = Thread.currentThread().getId();
+    runMeasurements(stopwatch, histogram, holder, supplier);
+
+    final long before = threadBean.getThreadAllocatedBytes(threadId);
+    runMeasurements(stopwatch, histogram, holder, supplier);
+    final long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+    // allow for the allocation of getThreadAllocatedBytes call itself
+    assertTrue(allocated < 1024, "Allocated " + allocated + " bytes");
+  }
+
+  private static void runMeasurements(
+      Stopwatch stopwatch,
+      LatencyHistogram histogram,
+      MutableLong holder,
+      Supplier<Integer> supplier
+  ) {
+    for (int i = 0; i < ITERATIONS; i++) {
+      stopwatch.start();
+      stopwatch.lap();
+      stopwatch.elapsedInto(holder);
+      stopwatch.elapsedInto(histogram);
+      Measure.executionTimeInNanos(supplier, holder);
+    }
+  }
+}
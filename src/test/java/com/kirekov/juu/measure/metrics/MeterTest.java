@@ -0,0 +1,62 @@
+package com.kirekov.juu.measure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class MeterTest {
+
+  private static final double DELTA = 1e-9;
+
+  @Test
+  void throwsIfEventsAreNegative() {
+    final Meter meter = new Meter();
+    assertThrows(IllegalArgumentException.class, () -> meter.mark(-1));
+  }
+
+  @Test
+  void countsEventsAndMeanRate() {
+    final AtomicLong clock = new AtomicLong();
+    final Meter meter = new Meter(clock::get);
+    meter.mark();
+    meter.mark(9);
+    clock.set(TimeUnit.SECONDS.toNanos(2));
+
+    assertEquals(10, meter.getCount());
+    assertEquals(5.0, meter.getMeanRate(), DELTA);
+  }
+
+  @Test
+  void ratesAreZeroBeforeFirstTick() {
+    final AtomicLong clock = new AtomicLong();
+    final Meter meter = new Meter(clock::get);
+    meter.mark(100);
+
+    assertEquals(0.0, meter.getOneMinuteRate(), DELTA);
+    assertEquals(0.0, meter.getFifteenMinuteRate(), DELTA);
+  }
+
+  @Test
+  void movingAveragesDecay() {
+    final AtomicLong clock = new AtomicLong();
+    final Meter meter = new Meter(clock::get);
+    meter.mark(50);
+    clock.set(TimeUnit.SECONDS.toNanos(6));
+
+    assertEquals(10.0, meter.getOneMinuteRate(), DELTA);
+    assertEquals(10.0, meter.getFiveMinuteRate(), DELTA);
+    assertEquals(10.0, meter.getFifteenMinuteRate(), DELTA);
+
+    clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+    final MeterSnapshot snapshot = meter.snapshot();
+    // one minute average decays by e after one minute without events
+    assertEquals(10.0 / Math.E, snapshot.getOneMinuteRate(), 1e-6);
+    assertTrue(snapshot.getFiveMinuteRate() > snapshot.getOneMinuteRate());
+    assertTrue(snapshot.getFifteenMinuteRate() > snapshot.getFiveMinuteRate());
+    assertEquals(50, snapshot.getCount());
+  }
+}
@@ -0,0 +1,126 @@
+package com.kirekov.juu.measure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class MetricsExporterTest {
+
+  @Test
+  void throwsIfSnapshotIsNull() {
+    assertThrows(NullPointerException.class,
+        () -> new PrometheusExporter().export(null, new StringWriter()));
+    assertThrows(NullPointerException.class,
+        () -> new JsonExporter().export(null, new StringWriter()));
+  }
+
+  @Test
+  void exportsPrometheusTextFormat() throws IOException {
+    final StringWriter writer = new StringWriter();
+    new PrometheusExporter().export(registry().snapshot(), writer);
+    final String text = writer.toString();
+
+    assertTrue(text.contains("# TYPE http_requests_total counter\nhttp_requests_total 3\n"));
+    assertTrue(text.contains("# TYPE queue_size gauge\nqueue_size 7.0\n"));
+    assertTrue(text.contains("# TYPE events_total counter\nevents_total 2\n"));
+    assertTrue(text.contains("events_rate{window=\"1m\"} "));
+    assertTrue(text.contains("# TYPE latency_seconds summary\n"));
+    assertTrue(text.contains("latency_seconds{quantile=\"0.99\"} "));
+    assertTrue(text.contains("latency_seconds_count 1\n"));
+  }
+
+  @Test
+  void rejectsNamesThatCollideInPrometheus() {
+    final MetricsRegistry dotted = new MetricsRegistry();
+    dotted.counter("a.b").increment();
+    dotted.counter("a_b").increment();
+    final MetricsRegistry suffixed = new MetricsRegistry();
+    suffixed.counter("hits").increment();
+    suffixed.gauge("hits_total", () -> 1);
+    final StringWriter writer = new StringWriter();
+
+    final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> new PrometheusExporter().export(dotted.snapshot(), writer));
+    assertTrue(exception.getMessage().contains("a_b_total"), exception.getMessage());
+    assertThrows(IllegalArgumentException.class,
+        () -> new PrometheusExporter().export(suffixed.snapshot(), writer));
+    assertEquals("", writer.toString());
+  }
+
+  @Test
+  void exportsJson() throws IOException {
+    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    new JsonExporter().export(registry().snapshot(), stream);
+    final String json = new String(stream.toByteArray(), StandardCharsets.UTF_8);
+
+    assertTrue(json.startsWith("{\"counters\":{\"http.requests\":3},\"gauges\":{"));
+    assertTrue(json.contains("\"queue\\\"size\":7.0"));
+    assertTrue(json.contains("\"events\":{\"count\":2,"));
+    assertTrue(json.contains("\"latency\":{\"count\":1,\"min\":1000,"));
+    assertTrue(json.endsWith("}}"));
+  }
+
+  @Test
+  void exportsEmptyJson() throws IOException {
+    final StringWriter writer = new StringWriter();
+    new JsonExporter().export(new MetricsRegistry().snapshot(), writer);
+
+    assertEquals("{\"counters\":{},\"gauges\":{},\"meters\":{},\"timers\":{}}", writer.toString());
+  }
+
+  @Test
+  void servesMetricsOverHttp() throws IOException {
+    final MetricsRegistry registry = registry();
+    final InetSocketAddress address = new InetSocketAddress("localhost", 0);
+    try (MetricsHttpServer server = MetricsHttpServer.start(registry, address)) {
+      final String base = "http://localhost:" + server.getPort();
+
+      final HttpURLConnection text = open(base + "/metrics");
+      assertEquals(200, text.getResponseCode());
+      assertTrue(text.getContentType().startsWith("text/plain"));
+      assertTrue(read(text).contains("http_requests_total 3"));
+
+      registry.counter("http.requests").increment();
+      final HttpURLConnection json = open(base + "/metrics.json");
+      assertEquals(200, json.getResponseCode());
+      assertTrue(read(json).contains("\"http.requests\":4"));
+
+      assertEquals(404, open(base + "/metrics/absent").getResponseCode());
+    }
+  }
+
+  private static MetricsRegistry registry() {
+    final MetricsRegistry registry = new MetricsRegistry();
+    registry.counter("http.requests").add(3);
+    registry.gauge("queue\"size", () -> 7);
+    registry.meter("events").mark(2);
+    registry.timer("latency").record(1000);
+    return registry;
+  }
+
+  private static HttpURLConnection open(String url) throws IOException {
+    return (HttpURLConnection) new URL(url).openConnection();
+  }
+
+  private static String read(HttpURLConnection connection) throws IOException {
+    final ByteArrayOutputStream result = new ByteArrayOutputStream();
+    try (InputStream stream = connection.getInputStream()) {
+      final byte[] buffer = new byte[1024];
+      int read;
+      while ((read = stream.read(buffer)) != -1) {
+        result.write(buffer, 0, read);
+      }
+    }
+    return new String(result.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,106 @@
+package com.kirekov.juu.measure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kirekov.juu.measure.HistogramSnapshot;
+import com.kirekov.juu.measure.Measure;
+import com.kirekov.juu.measure.Profiler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MetricsRegistryTest {
+
+  @Test
+  void throwsIfNameIsNull() {
+    final MetricsRegistry registry = new MetricsRegistry();
+    assertThrows(NullPointerException.class, () -> registry.counter(null));
+    assertThrows(NullPointerException.class, () -> registry.gauge("gauge", null));
+  }
+
+  @Test
+  void returnsSameMetricForSameName() {
+    final MetricsRegistry registry = new MetricsRegistry();
+
+    assertSame(registry.counter("counter"), registry.counter("counter"));
+    assertSame(registry.meter("meter"), registry.meter("meter"));
+    assertSame(registry.timer("timer"), registry.timer("timer"));
+    final Gauge gauge = () -> 1.0;
+    assertSame(gauge, registry.gauge("gauge", gauge));
+    assertSame(gauge, registry.gauge("gauge", () -> 2.0));
+  }
+
+  @Test
+  void throwsIfNameIsRegisteredWithAnotherType() {
+    final MetricsRegistry registry = new MetricsRegistry();
+    registry.counter("metric");
+
+    assertThrows(IllegalArgumentException.class, () -> registry.timer("metric"));
+    assertTrue(registry.remove("metric"));
+    assertFalse(registry.remove("metric"));
+    registry.timer("metric");
+  }
+
+  @Test
+  void countsConcurrently() throws InterruptedException {
+    final MetricsRegistry registry = new MetricsRegistry();
+    final List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      final Thread thread = new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          registry.counter("requests").increment();
+          registry.meter("throughput").mark();
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(40_000, registry.counter("requests").getCount());
+    assertEquals(40_000, registry.meter("throughput").getCount());
+  }
+
+  @Test
+  void measureAndProfilerRecordIntoTimer() {
+    final MetricsRegistry registry = new MetricsRegistry();
+    final Timer timer = registry.timer("latency");
+    final int result = Measure.executionTime(() -> 42).recordInto(timer);
+    final Profiler profiler = Profiler.startMeasuringInNanos();
+    profiler.stopMeasuring(timer);
+    timer.time(() -> {
+    });
+    timer.record(5, TimeUnit.MILLISECONDS);
+
+    assertEquals(42, result);
+    assertEquals(4, timer.getCount());
+    assertTrue(timer.snapshot().getMax() >= TimeUnit.MILLISECONDS.toNanos(4));
+  }
+
+  @Test
+  void takesSortedSnapshot() {
+    final MetricsRegistry registry = new MetricsRegistry();
+    registry.counter("b.counter").add(3);
+    registry.counter("a.counter").increment();
+    registry.gauge("queue.size", () -> 7);
+    registry.meter("events").mark(2);
+    registry.timer("latency").record(100);
+
+    final MetricsSnapshot snapshot = registry.snapshot();
+    assertEquals("a.counter", snapshot.getCounters().firstKey().get());
+    assertEquals(Long.valueOf(3), snapshot.getCounters().get("b.counter"));
+    assertEquals(Double.valueOf(7), snapshot.getGauges().get("queue.size"));
+    assertEquals(2, snapshot.getMeters().get("events").getCount());
+    final HistogramSnapshot latency = snapshot.getTimers().get("latency");
+    assertEquals(1, latency.getTotalCount());
+    assertFalse(snapshot.isEmpty());
+    assertTrue(new MetricsRegistry().snapshot().isEmpty());
+  }
+}
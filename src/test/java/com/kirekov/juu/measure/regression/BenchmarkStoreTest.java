@@ -0,0 +1,126 @@
+package com.kirekov.juu.measure.regression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kirekov.juu.measure.ExecutionStatistics;
+import com.kirekov.juu.measure.MeasureUnit;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class BenchmarkStoreTest {
+
+  private static final EnvironmentFingerprint LAPTOP = EnvironmentFingerprint.of("laptop");
+  private static final EnvironmentFingerprint SERVER = EnvironmentFingerprint.of("server");
+
+  @Test
+  void fingerprintsCurrentEnvironment() {
+    final EnvironmentFingerprint current = EnvironmentFingerprint.current();
+
+    assertEquals(current, EnvironmentFingerprint.current());
+    assertEquals(16, current.getId().length());
+    assertTrue(current.getDescription().contains(System.getProperty("java.version")));
+    assertTrue(current.getDescription()
+        .contains("cpus=" + Runtime.getRuntime().availableProcessors()));
+    assertNotEquals(LAPTOP.getId(), SERVER.getId());
+    assertThrows(NullPointerException.class, () -> EnvironmentFingerprint.of(null));
+  }
+
+  @Test
+  void persistsResultsByEnvironment() throws IOException {
+    final Path directory = Files.createTempDirectory("juu");
+    final Path file = directory.resolve("nested").resolve("benchmarks.csv");
+    try {
+      final ExecutionStatistics parse = statistics(MeasureUnit.NANOS, 101.5, 0.1, 1e-9, 7);
+      final BenchmarkStore laptop = BenchmarkStore.open(file, LAPTOP);
+      assertFalse(laptop.get("parse").isPresent());
+      laptop.put("parse", parse);
+      laptop.put("name, \"quoted\"", statistics(MeasureUnit.MILLIS, 3));
+      laptop.save();
+
+      final BenchmarkStore server = BenchmarkStore.open(file, SERVER);
+      assertFalse(server.get("parse").isPresent());
+      server.put("parse", statistics(MeasureUnit.NANOS, 50));
+      server.save();
+
+      final BenchmarkStore reopened = BenchmarkStore.open(file, LAPTOP);
+      assertEquals(Optional.of(parse), reopened.get("parse"));
+      assertEquals(
+          Optional.of(statistics(MeasureUnit.MILLIS, 3)), reopened.get("name, \"quoted\""));
+      assertEquals(
+          Optional.of(statistics(MeasureUnit.NANOS, 50)),
+          BenchmarkStore.open(file, SERVER).get("parse"));
+
+      final String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+      assertTrue(content.startsWith("# juu-benchmarks v1"));
+      assertTrue(content.contains("# environment " + LAPTOP.getId() + " laptop"));
+      assertTrue(content.contains("# environment " + SERVER.getId() + " server"));
+    } finally {
+      deleteRecursively(directory);
+    }
+  }
+
+  @Test
+  void rejectsUnsupportedFiles() throws IOException {
+    final Path file = Files.createTempFile("juu", ".csv");
+    try {
+      write(file, "# juu-benchmarks v999", "name,environment,unit,samples");
+      assertThrows(IOException.class, () -> BenchmarkStore.open(file, LAPTOP));
+
+      write(file, "# juu-benchmarks v1", "parse," + LAPTOP.getId() + ",NANOS");
+      assertThrows(IOException.class, () -> BenchmarkStore.open(file, LAPTOP));
+
+      write(file, "# juu-benchmarks v1", "parse," + LAPTOP.getId() + ",PARSECS,1.0");
+      assertThrows(IOException.class, () -> BenchmarkStore.open(file, LAPTOP));
+
+      write(file, "# juu-benchmarks v1", "parse," + LAPTOP.getId() + ",NANOS,1.0;x");
+      assertThrows(IOException.class, () -> BenchmarkStore.open(file, LAPTOP));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  void throwsIfArgumentsAreNull() throws IOException {
+    final Path file = Files.createTempFile("juu", ".csv");
+    Files.delete(file);
+    final BenchmarkStore store = BenchmarkStore.open(file, LAPTOP);
+
+    assertThrows(NullPointerException.class, () -> BenchmarkStore.open(null, LAPTOP));
+    assertThrows(NullPointerException.class, () -> BenchmarkStore.open(file, null));
+    assertThrows(NullPointerException.class, () -> store.get(null));
+    assertThrows(NullPointerException.class, () -> store.put("a", null));
+    assertEquals(file, store.getFile());
+    assertEquals(LAPTOP, store.getEnvironment());
+  }
+
+  private static ExecutionStatistics statistics(MeasureUnit unit, double... samples) {
+    return ExecutionStatistics.of(samples, unit);
+  }
+
+  private static void write(Path file, String... lines) throws IOException {
+    Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+  }
+
+  private static void deleteRecursively(Path directory) throws IOException {
+    final Path nested = directory.resolve("nested");
+    if (Files.exists(nested)) {
+      try (Stream<Path> files = Files.list(nested)) {
+        for (final Path file : (Iterable<Path>) files::iterator) {
+          Files.delete(file);
+        }
+      }
+      Files.delete(nested);
+    }
+    Files.delete(directory);
+  }
+}
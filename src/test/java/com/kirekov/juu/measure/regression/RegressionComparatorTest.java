@@ -0,0 +1,87 @@
+package com.kirekov.juu.measure.regression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kirekov.juu.measure.ExecutionStatistics;
+import com.kirekov.juu.measure.MeasureUnit;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class RegressionComparatorTest {
+
+  @Test
+  void throwsIfArgumentsAreInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> new RegressionComparator(-0.1));
+    assertThrows(IllegalArgumentException.class, () -> new RegressionComparator(Double.NaN));
+    assertThrows(IllegalArgumentException.class, () -> new RegressionComparator(0.1, 1));
+    final RegressionComparator comparator = new RegressionComparator(0.1);
+    final ExecutionStatistics nanos = statistics(MeasureUnit.NANOS, 1);
+    assertThrows(IllegalArgumentException.class,
+        () -> comparator.compare("a", nanos, statistics(MeasureUnit.MILLIS, 1)));
+    assertThrows(NullPointerException.class, () -> comparator.compare("a", null, nanos));
+  }
+
+  @Test
+  void flagsSlowdownAboveThreshold() {
+    final RegressionComparator comparator = new RegressionComparator(0.1);
+    final ExecutionStatistics baseline = statistics(MeasureUnit.NANOS, 100, 100, 100);
+
+    final RegressionResult slower = comparator.compare(
+        "parse", baseline, statistics(MeasureUnit.NANOS, 120, 120, 120));
+    assertTrue(slower.isRegression());
+    assertFalse(slower.isPassed());
+    assertEquals(0.2, slower.getRelativeChange(), 1e-9);
+    assertEquals(0.1, slower.getAllowedChange(), 1e-9);
+    assertTrue(slower.getMessage().contains("REGRESSION"), slower.getMessage());
+
+    final RegressionResult similar = comparator.compare(
+        "parse", baseline, statistics(MeasureUnit.NANOS, 105, 105, 105));
+    assertTrue(similar.isPassed(), similar.getMessage());
+
+    final RegressionResult faster = comparator.compare(
+        "parse", baseline, statistics(MeasureUnit.NANOS, 50));
+    assertTrue(faster.isPassed(), faster.getMessage());
+  }
+
+  @Test
+  void allowsMoreSlowdownForNoisyResults() {
+    final RegressionComparator comparator = new RegressionComparator(0.1);
+    final RegressionResult noisy = comparator.compare(
+        "parse",
+        statistics(MeasureUnit.NANOS, 60, 100, 140),
+        statistics(MeasureUnit.NANOS, 80, 120, 160));
+
+    assertEquals(0.2, noisy.getRelativeChange(), 1e-9);
+    assertTrue(noisy.getAllowedChange() > 0.2);
+    assertTrue(noisy.isPassed(), noisy.getMessage());
+  }
+
+  @Test
+  void passesWithoutBaseline() throws IOException {
+    final Path file = Files.createTempFile("juu", ".csv");
+    Files.delete(file);
+    final BenchmarkStore store = BenchmarkStore.open(file, EnvironmentFingerprint.of("ci"));
+    final RegressionComparator comparator = new RegressionComparator(0);
+    final ExecutionStatistics current = statistics(MeasureUnit.NANOS, 10);
+
+    final RegressionResult first = comparator.compare(store, "parse", current);
+    assertTrue(first.isPassed());
+    assertFalse(first.getBaseline().isPresent());
+    assertTrue(first.getMessage().contains("no baseline"));
+
+    store.put("parse", statistics(MeasureUnit.NANOS, 5));
+    final RegressionResult second = comparator.compare(store, "parse", current);
+    assertTrue(second.isRegression());
+    assertEquals(statistics(MeasureUnit.NANOS, 5), second.getBaseline().get());
+    assertEquals(current, second.getCurrent());
+  }
+
+  private static ExecutionStatistics statistics(MeasureUnit unit, double... samples) {
+    return ExecutionStatistics.of(samples, unit);
+  }
+}
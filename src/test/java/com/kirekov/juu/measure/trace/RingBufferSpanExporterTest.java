@@ -0,0 +1,77 @@
+package com.kirekov.juu.measure.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class RingBufferSpanExporterTest {
+
+  @Test
+  void roundsCapacityUp() {
+    assertThrows(IllegalArgumentException.class, () -> new RingBufferSpanExporter(0));
+    assertEquals(1, new RingBufferSpanExporter(1).getCapacity());
+    assertEquals(8, new RingBufferSpanExporter(5).getCapacity());
+    assertEquals(8, new RingBufferSpanExporter(8).getCapacity());
+  }
+
+  @Test
+  void overwritesOldestSpans() {
+    final RingBufferSpanExporter exporter = new RingBufferSpanExporter(4);
+    final Tracer tracer = new Tracer(exporter);
+    for (int i = 0; i < 6; i++) {
+      tracer.startRootSpan("span" + i).end();
+    }
+
+    assertEquals(6, exporter.getExportedCount());
+    assertEquals(4, exporter.snapshot().size());
+    assertEquals("span2", exporter.snapshot().get(0).getName());
+    assertEquals("span5", exporter.snapshot().get(3).getName());
+
+    final List<String> names = new ArrayList<>();
+    assertEquals(4, exporter.drain(span -> names.add(span.getName())));
+    assertEquals(2, exporter.getDroppedCount());
+    assertEquals("span2", names.get(0));
+    assertEquals(0, exporter.drain(span -> names.add(span.getName())));
+
+    tracer.startRootSpan("span6").end();
+    assertEquals(1, exporter.drain(span -> names.add(span.getName())));
+    assertEquals("span6", names.get(4));
+    assertEquals(2, exporter.getDroppedCount());
+  }
+
+  @Test
+  void drainsConcurrentExportsOnce() throws Exception {
+    final RingBufferSpanExporter exporter = new RingBufferSpanExporter(1 << 16);
+    final Tracer tracer = new Tracer(exporter);
+    final ExecutorService pool = Executors.newFixedThreadPool(4);
+    final List<Span> drained = new ArrayList<>();
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++) {
+        futures.add(pool.submit(() -> {
+          for (int i = 0; i < 1000; i++) {
+            tracer.startRootSpan("span").end();
+          }
+        }));
+        exporter.drain(drained::add);
+      }
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    exporter.drain(drained::add);
+
+    assertEquals(4000, exporter.getExportedCount());
+    assertEquals(4000, drained.size());
+    assertEquals(4000, drained.stream().distinct().count());
+    assertEquals(0, exporter.getDroppedCount());
+  }
+}
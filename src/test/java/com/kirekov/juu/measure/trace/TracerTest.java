@@ -0,0 +1,160 @@
+package com.kirekov.juu.measure.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TracerTest {
+
+  @Test
+  void throwsIfArgumentsAreNull() {
+    assertThrows(NullPointerException.class, () -> new Tracer(null));
+    final Tracer tracer = new Tracer(span -> {
+    });
+    assertThrows(NullPointerException.class, () -> tracer.startSpan(null));
+    assertThrows(NullPointerException.class, () -> tracer.startRootSpan(null));
+  }
+
+  @Test
+  void nestsSpansAndRestoresContext() {
+    final RingBufferSpanExporter exporter = new RingBufferSpanExporter(16);
+    final Tracer tracer = new Tracer(exporter);
+    assertFalse(TraceContext.current().isPresent());
+
+    final Span parent = tracer.startSpan("parent");
+    final Span child = tracer.startSpan("child");
+    assertEquals(Optional.of(child.getContext()), TraceContext.current());
+    assertEquals(Optional.of(parent.getContext()), child.getParent());
+    assertTrue(child.getContext().isSameTrace(parent.getContext()));
+    assertNotEquals(parent.getContext().getSpanId(), child.getContext().getSpanId());
+    assertEquals(32, child.getContext().getTraceId().length());
+    assertEquals(16, child.getContext().getSpanId().length());
+
+    child.close();
+    assertEquals(Optional.of(parent.getContext()), TraceContext.current());
+    parent.close();
+    assertFalse(TraceContext.current().isPresent());
+    assertFalse(parent.getParent().isPresent());
+    assertEquals(2, exporter.snapshot().size());
+    assertEquals("child", exporter.snapshot().get(0).getName());
+  }
+
+  @Test
+  void endsOnlyOnce() {
+    final RingBufferSpanExporter exporter = new RingBufferSpanExporter(4);
+    final Span span = new Tracer(exporter).startSpan("span");
+    assertFalse(span.getDurationNanos().isPresent());
+    span.end();
+    span.end();
+    assertTrue(span.isEnded());
+    assertTrue(span.getDurationNanos().get() >= 0);
+    assertEquals(1, exporter.getExportedCount());
+  }
+
+  @Test
+  void startsNewTraceForRootSpan() {
+    final Tracer tracer = new Tracer(span -> {
+    });
+    try (Span outer = tracer.startSpan("outer");
+        Span root = tracer.startRootSpan("root")) {
+      assertFalse(root.getParent().isPresent());
+      assertFalse(root.getContext().isSameTrace(outer.getContext()));
+    }
+  }
+
+  @Test
+  void keepsAttributes() {
+    final Span span = new Tracer(s -> {
+    }).startSpan("span");
+    span.setAttribute("b", 1L)
+        .setAttribute("a", "value")
+        .setAttribute("c", 0.5)
+        .setAttribute("d", true)
+        .setAttribute("b", 2L);
+    span.end();
+
+    assertEquals("value", span.getAttributes().get("a"));
+    assertEquals(2L, span.getAttributes().get("b"));
+    assertEquals(0.5, span.getAttributes().get("c"));
+    assertEquals(true, span.getAttributes().get("d"));
+    assertEquals("a", span.getAttributes().keySet().iterator().next());
+    assertThrows(NullPointerException.class, () -> span.setAttribute("e", null));
+  }
+
+  @Test
+  void propagatesContextAcrossThreads() throws Exception {
+    final RingBufferSpanExporter exporter = new RingBufferSpanExporter(16);
+    final Tracer tracer = new Tracer(exporter);
+    final ExecutorService pool = Executors.newFixedThreadPool(2);
+    try {
+      final Executor executor = TraceContext.wrap(pool);
+      final SpanContext parentContext;
+      final CompletableFuture<SpanContext> future;
+      try (Span parent = tracer.startSpan("request")) {
+        parentContext = parent.getContext();
+        future = CompletableFuture
+            .supplyAsync(TraceContext.wrapSupplier(() -> stage(tracer, "load")), executor)
+            .thenApplyAsync(TraceContext.wrapFunction(ignored -> stage(tracer, "render")),
+                executor);
+      }
+      final SpanContext render = future.get(10, TimeUnit.SECONDS);
+      assertTrue(render.isSameTrace(parentContext));
+      for (final Span span : exporter.snapshot()) {
+        assertTrue(span.getContext().isSameTrace(parentContext));
+        if (!"request".equals(span.getName())) {
+          assertEquals(Optional.of(parentContext), span.getParent());
+        }
+      }
+      pool.submit(() -> assertFalse(TraceContext.current().isPresent()))
+          .get(10, TimeUnit.SECONDS);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void writesChromeTrace() throws Exception {
+    final RingBufferSpanExporter exporter = new RingBufferSpanExporter(16);
+    final Tracer tracer = new Tracer(exporter);
+    final Span unfinished = tracer.startRootSpan("unfinished");
+    try (Span parent = tracer.startSpan("par\"ent")) {
+      tracer.startSpan("child").setAttribute("rows", 3L).end();
+      parent.setAttribute("ratio", Double.NaN);
+    }
+    final StringWriter writer = new StringWriter();
+    final List<Span> spans = new ArrayList<>();
+    exporter.snapshot().forEach(spans::add);
+    spans.add(unfinished);
+    ChromeTraceExporter.write(spans, writer);
+    final String json = writer.toString();
+
+    assertTrue(json.startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["));
+    assertTrue(json.contains("\"ph\":\"M\""));
+    assertTrue(json.contains("\"name\":\"par\\\"ent\""));
+    assertTrue(json.contains("\"parent_id\":\"" + spans.get(1).getContext().getSpanId() + "\""));
+    assertTrue(json.contains("\"rows\":3"));
+    assertTrue(json.contains("\"ratio\":null"));
+    assertFalse(json.contains("unfinished"));
+    assertEquals(2, json.split("\"ph\":\"X\"", -1).length - 1);
+    unfinished.end();
+  }
+
+  private static SpanContext stage(Tracer tracer, String name) {
+    try (Span span = tracer.startSpan(name)) {
+      return span.getContext();
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.kirekov.juu.monad;
 
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -160,4 +161,10 @@ class TryTest {
         }).stream().findFirst();
     assertFalse(opt.isPresent());
   }
-}
\ No newline at end of file
+
+  @Test
+  void orElseOnSuccessDoesNotAllocate() {
+    Try<Integer> success = Try.success(1000);
+    assertAllocatesAtMost(0, () -> success.orElse(0));
+  }
+}
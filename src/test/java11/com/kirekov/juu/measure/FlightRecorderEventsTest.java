@@ -0,0 +1,149 @@
+package com.kirekov.juu.measure;
+
+import static com.kirekov.juu.measure.AllocationAssertions.assertAllocatesAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.kirekov.juu.lambda.Action;
+import com.kirekov.juu.monad.Try;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+class FlightRecorderEventsTest {
+
+  private static final String EXECUTION = "com.kirekov.juu.Execution";
+  private static final String TRY_FAILURE = "com.kirekov.juu.TryFailure";
+
+  @Test
+  void emitsEventsWhileRecording() throws IOException {
+    final List<RecordedEvent> events = record(() -> {
+      Measure.executionTime(() -> 42).inNanos();
+      Profiler.startMeasuringInNanos().stopMeasuring();
+      final ScopedProfiler profiler = new ScopedProfiler();
+      try (ProfilerScope scope = profiler.scope("request")) {
+        assertEquals("request", scope.getName());
+      }
+      Try.of(() -> Integer.parseInt("not a number")).orElse(0);
+    });
+
+    final List<RecordedEvent> executions = ofType(events, EXECUTION);
+    assertEquals(3, executions.size());
+    assertEquals("Measure", executions.get(0).getString("source"));
+    assertTrue(executions.get(0).getBoolean("success"));
+    assertEquals("Profiler", executions.get(1).getString("source"));
+    assertEquals("request", executions.get(2).getString("name"));
+    assertEquals(Thread.currentThread().getName(),
+        executions.get(0).getThread().getJavaName());
+
+    final List<RecordedEvent> failures = ofType(events, TRY_FAILURE);
+    assertEquals(1, failures.size());
+    assertEquals(NumberFormatException.class.getName(),
+        failures.get(0).getClass("exceptionClass").getName());
+  }
+
+  @Test
+  void marksFailedExecutions() throws IOException {
+    final List<RecordedEvent> events = record(() -> {
+      try {
+        Measure.executionTime(() -> {
+          throw new IllegalStateException();
+        }).inNanos();
+      } catch (IllegalStateException e) {
+        // expected
+      }
+    });
+
+    final List<RecordedEvent> executions = ofType(events, EXECUTION);
+    assertEquals(1, executions.size());
+    assertFalse(executions.get(0).getBoolean("success"));
+  }
+
+  @Test
+  void emitsNothingWithoutRecording() throws IOException {
+    Measure.executionTime(() -> 42).inNanos();
+    final List<RecordedEvent> events = record(() -> {
+    });
+
+    assertTrue(ofType(events, EXECUTION).isEmpty());
+  }
+
+  @Test
+  void doesNotAllocateWhileNotRecording() {
+    final Action noop = () -> {
+    };
+
+    assertAllocatesAtMost(0, (Action) () -> Measure.executionTimeInNanos(noop));
+  }
+
+  @Test
+  void doesNothingWithoutFlightRecorderModule() throws IOException, InterruptedException {
+    final Process process = new ProcessBuilder(
+        Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+        "--limit-modules", "java.base,java.management",
+        "-cp", System.getProperty("java.class.path"),
+        WithoutFlightRecorder.class.getName()
+    ).redirectErrorStream(true).start();
+    final String output = new String(
+        process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+
+    assertTrue(process.waitFor(1, TimeUnit.MINUTES));
+    assertEquals(0, process.exitValue(), output);
+    assertEquals("present=false result=42 fallback=0", output);
+  }
+
+  private static List<RecordedEvent> record(Runnable runnable) throws IOException {
+    final Path file = Files.createTempFile("juu", ".jfr");
+    try {
+      try (Recording recording = new Recording()) {
+        recording.enable(EXECUTION);
+        recording.enable(TRY_FAILURE);
+        recording.start();
+        runnable.run();
+        recording.stop();
+        recording.dump(file);
+      }
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static List<RecordedEvent> ofType(List<RecordedEvent> events, String type) {
+    return events.stream()
+        .filter(event -> event.getEventType().getName().equals(type))
+        .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Runs the instrumented classes in a JVM whose module graph is limited to exclude
+   * {@code jdk.jfr}.
+   */
+  static final class WithoutFlightRecorder {
+
+    private WithoutFlightRecorder() {
+    }
+
+    public static void main(String[] args) {
+      final int result = Measure.executionTime(() -> 42).inNanos().getResult();
+      Profiler.startMeasuringInNanos().stopMeasuring();
+      try (ProfilerScope scope = new ScopedProfiler().scope("request")) {
+        scope.lap("done");
+      }
+      final int fallback = Try.of(() -> Integer.parseInt("not a number")).orElse(0);
+      System.out.println(String.format(
+          "present=%s result=%s fallback=%s", FlightRecorderEvents.isPresent(), result, fallback));
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.kirekov.juu.measure;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ThreadResourcesTest {
+
+  @SuppressWarnings("unused")
+  private static volatile Object sink;
+
+  @Test
+  void countsAllocationsOfCurrentThread() {
+    final long before = ThreadResources.allocatedBytes();
+    assumeTrue(before != ResourceUsage.UNSUPPORTED);
+    sink = new byte[1 << 20];
+    final long allocated = ThreadResources.allocatedBytes() - before;
+    assertTrue(allocated >= 1 << 20, String.valueOf(allocated));
+  }
+
+  @Test
+  void ignoresAllocationsOfOtherThreads() throws InterruptedException {
+    final long before = ThreadResources.allocatedBytes();
+    assumeTrue(before != ResourceUsage.UNSUPPORTED);
+    final Thread thread = new Thread(() -> sink = new byte[1 << 20]);
+    thread.start();
+    thread.join();
+    final long allocated = ThreadResources.allocatedBytes() - before;
+    assertTrue(allocated < 1 << 20, String.valueOf(allocated));
+  }
+}
@@ -0,0 +1,22 @@
+package com.kirekov.juu.measure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.Test;
+
+class MetricsServerExecutorTest {
+
+  @Test
+  void servesRequestsByVirtualThreads() throws ExecutionException, InterruptedException {
+    final ExecutorService executor = MetricsServerExecutor.create();
+    try {
+      final Thread thread = executor.submit(Thread::currentThread).get();
+      assertTrue(thread.isVirtual());
+      assertTrue(thread.getName().startsWith(MetricsServerExecutor.THREAD_NAME), thread.getName());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}